@@ -0,0 +1,12 @@
+// V001__auth_token_indexes.js
+// Refresh tokens and revoked access-token ids (RefreshTokenService, TokenRevocationList).
+// TTL indexes drop documents once expiresAt passes.
+
+db.refresh_tokens.createIndex({ tokenHash: 1 }, { unique: true });
+db.refresh_tokens.createIndex({ familyId: 1 });
+db.refresh_tokens.createIndex({ expiresAt: 1 }, { expireAfterSeconds: 0 });
+print("Created indexes on refresh_tokens");
+
+db.revoked_access_tokens.createIndex({ revokedAt: 1 });
+db.revoked_access_tokens.createIndex({ expiresAt: 1 }, { expireAfterSeconds: 0 });
+print("Created indexes on revoked_access_tokens");
@@ -0,0 +1,7 @@
+// V002__publish_job_indexes.js
+// Post-publish jobs (PublishJobRunner). Jobs are kept 30 days after creation.
+
+db.publish_jobs.createIndex({ status: 1, nextAttemptAt: 1 }, { name: "status_nextAttemptAt" });
+db.publish_jobs.createIndex({ versionId: 1 });
+db.publish_jobs.createIndex({ createdAt: 1 }, { expireAfterSeconds: 2592000 });
+print("Created indexes on publish_jobs");
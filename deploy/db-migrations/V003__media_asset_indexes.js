@@ -0,0 +1,5 @@
+// V003__media_asset_indexes.js
+// Media assets are content-addressed; sha256 is unique so identical uploads dedupe (MediaService).
+
+db.media_assets.createIndex({ sha256: 1 }, { unique: true });
+print("Created indexes on media_assets");
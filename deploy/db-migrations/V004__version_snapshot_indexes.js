@@ -0,0 +1,6 @@
+// V004__version_snapshot_indexes.js
+// Latest published version is read with sort { publishedAt: -1 } limit 1 on every public request
+// that misses the cache (PublishRepository.findTop1ByOrderByPublishedAtDesc); avoid a collection scan.
+
+db.version_snapshots.createIndex({ publishedAt: -1 });
+print("Created indexes on version_snapshots");
@@ -0,0 +1,6 @@
+// V005__webhook_delivery_indexes.js
+// Webhook delivery records (WebhookPublishTask). Kept 30 days after creation.
+
+db.webhook_deliveries.createIndex({ versionId: 1 });
+db.webhook_deliveries.createIndex({ createdAt: 1 }, { expireAfterSeconds: 2592000 });
+print("Created indexes on webhook_deliveries");
@@ -0,0 +1,6 @@
+// V006__page_view_rollup_indexes.js
+// Daily page-view rollups (PageViewAggregator). Kept about 400 days after the day they count.
+
+db.page_view_rollups.createIndex({ dimension: 1, day: 1 }, { name: "dimension_day" });
+db.page_view_rollups.createIndex({ day: 1 }, { expireAfterSeconds: 34560000 });
+print("Created indexes on page_view_rollups");
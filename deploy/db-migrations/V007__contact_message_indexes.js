@@ -0,0 +1,5 @@
+// V007__contact_message_indexes.js
+// Contact form messages (ContactService); admin list is newest first.
+
+db.contact_messages.createIndex({ createdAt: 1 });
+print("Created indexes on contact_messages");
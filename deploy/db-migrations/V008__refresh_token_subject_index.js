@@ -0,0 +1,5 @@
+// V008__refresh_token_subject_index.js
+// Logout without a refresh token revokes all of the caller's sessions (RefreshTokenService.logout).
+
+db.refresh_tokens.createIndex({ subject: 1 });
+print("Created subject index on refresh_tokens");
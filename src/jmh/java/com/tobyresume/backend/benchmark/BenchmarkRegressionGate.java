@@ -0,0 +1,89 @@
+package com.tobyresume.backend.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result with a baseline result and exits non-zero when any benchmark got slower
+ * than the allowed relative threshold. Run by the "benchmark" Maven profile after the benchmarks:
+ * args are result file, baseline file, threshold (0.25 = 25%). Without a baseline the check is
+ * skipped; CI records one from a passing run on the same agent, since scores only compare on the
+ * same hardware.
+ */
+public final class BenchmarkRegressionGate {
+
+    private BenchmarkRegressionGate() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("usage: BenchmarkRegressionGate <result.json> <baseline.json> <threshold>");
+            System.exit(2);
+        }
+        Path resultFile = Paths.get(args[0]);
+        Path baselineFile = Paths.get(args[1]);
+        double threshold = Double.parseDouble(args[2]);
+        if (!Files.isRegularFile(baselineFile)) {
+            System.out.println("No JMH baseline at " + baselineFile + "; regression check skipped.");
+            return;
+        }
+        List<String> regressions = compare(read(resultFile), read(baselineFile), threshold);
+        if (!regressions.isEmpty()) {
+            System.err.println("Benchmark regressions over " + Math.round(threshold * 100) + "%:");
+            regressions.forEach(r -> System.err.println("  " + r));
+            System.exit(1);
+        }
+        System.out.println("No benchmark regressions over " + Math.round(threshold * 100) + "%.");
+    }
+
+    /**
+     * Returns one line per regressed benchmark. Benchmarks missing from either side are ignored.
+     * Time modes regress when the score grows, throughput when it shrinks. A change that stays within
+     * the two runs' combined score error (JMH's 99.9% confidence interval) is noise, not a regression.
+     */
+    static List<String> compare(Map<String, Score> current, Map<String, Score> baseline, double threshold) {
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score before = baseline.get(entry.getKey());
+            Score now = entry.getValue();
+            if (before == null || before.value() <= 0 || !before.mode().equals(now.mode())) {
+                continue;
+            }
+            double change = (now.value() - before.value()) / before.value();
+            boolean worse = "thrpt".equals(now.mode()) ? change < -threshold : change > threshold;
+            boolean beyondError = Math.abs(now.value() - before.value()) > now.error() + before.error();
+            if (worse && beyondError) {
+                regressions.add(String.format("%s: %.3f -> %.3f %s (%+.1f%%)",
+                        entry.getKey(), before.value(), now.value(), now.unit(), change * 100));
+            }
+        }
+        return regressions;
+    }
+
+    static Map<String, Score> read(Path file) throws IOException {
+        JsonNode root = new ObjectMapper().readTree(file.toFile());
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : root) {
+            Map<String, String> params = new TreeMap<>();
+            run.path("params").fields().forEachRemaining(p -> params.put(p.getKey(), p.getValue().asText()));
+            String key = run.path("benchmark").asText() + (params.isEmpty() ? "" : params.toString());
+            JsonNode metric = run.path("primaryMetric");
+            double error = metric.path("scoreError").asDouble();
+            scores.put(key, new Score(run.path("mode").asText(), metric.path("score").asDouble(),
+                    Double.isFinite(error) ? error : 0, metric.path("scoreUnit").asText()));
+        }
+        return scores;
+    }
+
+    record Score(String mode, double value, double error, String unit) {}
+}
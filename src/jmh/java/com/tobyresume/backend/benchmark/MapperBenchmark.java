@@ -0,0 +1,73 @@
+package com.tobyresume.backend.benchmark;
+
+import com.tobyresume.backend.content.experience.ExperienceMapper;
+import com.tobyresume.backend.content.experience.ExperienceMapperImpl;
+import com.tobyresume.backend.content.experience.dto.ExperienceItemResponse;
+import com.tobyresume.backend.content.experience.model.ExperienceItem;
+import com.tobyresume.backend.content.project.ProjectMapper;
+import com.tobyresume.backend.content.project.ProjectMapperImpl;
+import com.tobyresume.backend.content.project.dto.ProjectItemResponse;
+import com.tobyresume.backend.content.project.model.ProjectItem;
+import com.tobyresume.backend.content.skill.SkillMapper;
+import com.tobyresume.backend.content.skill.SkillMapperImpl;
+import com.tobyresume.backend.content.skill.dto.SkillCategoryResponse;
+import com.tobyresume.backend.content.skill.model.SkillCategory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct entity → response mapping for the list endpoints (generated *MapperImpl classes).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"10", "100"})
+    int items;
+
+    private final ExperienceMapper experienceMapper = new ExperienceMapperImpl();
+    private final ProjectMapper projectMapper = new ProjectMapperImpl();
+    private final SkillMapper skillMapper = new SkillMapperImpl();
+
+    private List<ExperienceItem> experienceItems;
+    private List<ProjectItem> projectItems;
+    private List<SkillCategory> skillCategories;
+
+    @Setup
+    public void setUp() {
+        experienceItems = SyntheticContent.experienceItems(items);
+        projectItems = SyntheticContent.projectItems(items);
+        skillCategories = SyntheticContent.skillCategories(items);
+    }
+
+    @Benchmark
+    public List<ExperienceItemResponse> experienceItemsToResponses() {
+        return experienceMapper.itemsToResponses(experienceItems);
+    }
+
+    @Benchmark
+    public List<ProjectItemResponse> projectItemsToResponses() {
+        return projectMapper.itemsToResponses(projectItems);
+    }
+
+    @Benchmark
+    public List<SkillCategoryResponse> skillCategoriesToResponses() {
+        return skillMapper.categoriesToResponses(skillCategories);
+    }
+}
@@ -0,0 +1,129 @@
+package com.tobyresume.backend.benchmark;
+
+import com.tobyresume.backend.common.model.ContentState;
+import com.tobyresume.backend.common.model.Link;
+import com.tobyresume.backend.content.experience.model.ExperienceItem;
+import com.tobyresume.backend.content.experience.model.WorkExperience;
+import com.tobyresume.backend.content.hero.dto.HeroResponse;
+import com.tobyresume.backend.content.project.model.ProjectItem;
+import com.tobyresume.backend.content.skill.model.SkillCategory;
+import com.tobyresume.backend.content.skill.model.SkillItem;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deterministic draft content for benchmarks. Sizes come from the benchmarks' "items" parameter
+ * (-Djmh.items); text lengths are close to what the admin panel produces for a real CV.
+ */
+public final class SyntheticContent {
+
+    private static final int BULLETS_PER_ITEM = 5;
+    private static final int SKILLS_PER_CATEGORY = 8;
+
+    private SyntheticContent() {
+    }
+
+    public static WorkExperience workExperience(int items) {
+        WorkExperience section = new WorkExperience();
+        section.setId("bench-experience");
+        section.setContentState(ContentState.DRAFT);
+        section.setItems(experienceItems(items));
+        section.setCreatedAt(Instant.EPOCH);
+        section.setUpdatedAt(Instant.EPOCH);
+        return section;
+    }
+
+    public static List<ExperienceItem> experienceItems(int count) {
+        List<ExperienceItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ExperienceItem item = new ExperienceItem();
+            item.setItemId("exp-" + i);
+            item.setCompany(localized("Company " + i));
+            item.setRole(localized("Senior Software Engineer " + i));
+            item.setStartDate("2019-01");
+            item.setEndDate(i == 0 ? null : "2021-06");
+            item.setBulletPoints(localizedList("Delivered feature " + i + " that reduced page load time", BULLETS_PER_ITEM));
+            item.setTechUsed(List.of("Java", "Spring Boot", "MongoDB", "GraphQL", "Docker"));
+            item.setOrder(i);
+            items.add(item);
+        }
+        return items;
+    }
+
+    public static List<ProjectItem> projectItems(int count) {
+        List<ProjectItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ProjectItem item = new ProjectItem();
+            item.setItemId("prj-" + i);
+            item.setTitle(localized("Project " + i));
+            item.setDescription(localized(paragraph("Project " + i + " description")));
+            item.setTechStack(List.of("Java", "React", "PostgreSQL"));
+            Link link = new Link();
+            link.setLabel("GitHub");
+            link.setUrl("https://github.com/example/project-" + i);
+            item.setLinks(List.of(link));
+            item.setMediaIds(List.of("media-" + i));
+            item.setOrder(i);
+            items.add(item);
+        }
+        return items;
+    }
+
+    public static List<SkillCategory> skillCategories(int count) {
+        List<SkillCategory> categories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            SkillCategory category = new SkillCategory();
+            category.setCategoryId("cat-" + i);
+            category.setName(localized("Category " + i));
+            List<SkillItem> skills = new ArrayList<>(SKILLS_PER_CATEGORY);
+            for (int j = 0; j < SKILLS_PER_CATEGORY; j++) {
+                SkillItem skill = new SkillItem();
+                skill.setName("Skill " + i + "." + j);
+                skill.setLevel("Advanced");
+                skills.add(skill);
+            }
+            category.setItems(skills);
+            category.setOrder(i);
+            categories.add(category);
+        }
+        return categories;
+    }
+
+    public static HeroResponse hero() {
+        HeroResponse hero = new HeroResponse();
+        hero.setTagline(localized("Building reliable backends"));
+        hero.setBio(localized(paragraph("Bio")));
+        hero.setFullName(localized("Toby"));
+        hero.setTitle(localized("Backend Engineer"));
+        return hero;
+    }
+
+    public static Map<String, String> localized(String text) {
+        Map<String, String> map = new LinkedHashMap<>();
+        map.put("en", text);
+        map.put("vi", "[vi] " + text);
+        return map;
+    }
+
+    public static Map<String, List<String>> localizedList(String text, int count) {
+        List<String> en = new ArrayList<>(count);
+        List<String> vi = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            en.add(text + " (" + i + ")");
+            vi.add("[vi] " + text + " (" + i + ")");
+        }
+        Map<String, List<String>> map = new LinkedHashMap<>();
+        map.put("en", en);
+        map.put("vi", vi);
+        return map;
+    }
+
+    private static String paragraph(String prefix) {
+        return prefix + ": designed and shipped a service handling content publishing, search and"
+                + " localisation, with attention to latency, observability and operational cost.";
+    }
+}
@@ -0,0 +1,64 @@
+package com.tobyresume.backend.benchmark;
+
+import com.tobyresume.backend.common.validation.BulletPointsValidator;
+import com.tobyresume.backend.common.validation.LocaleKeysValidator;
+import com.tobyresume.backend.common.validation.ValidBulletPoints;
+import com.tobyresume.backend.content.experience.dto.ExperienceItemRequest;
+import com.tobyresume.backend.content.experience.model.ExperienceItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custom constraint validators run on every content write. The bullet-points validator is
+ * initialized from the annotation on ExperienceItemRequest so it uses the production limits.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidatorBenchmark {
+
+    @Param({"10", "100"})
+    int items;
+
+    private final BulletPointsValidator bulletPointsValidator = new BulletPointsValidator();
+    private final LocaleKeysValidator localeKeysValidator = new LocaleKeysValidator();
+
+    private List<ExperienceItem> experienceItems;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        ValidBulletPoints annotation = ExperienceItemRequest.class.getDeclaredField("bulletPoints")
+                .getAnnotation(ValidBulletPoints.class);
+        bulletPointsValidator.initialize(annotation);
+        experienceItems = SyntheticContent.experienceItems(items);
+    }
+
+    /** Validates every localized field of the section, as a full-section save does. */
+    @Benchmark
+    public void validateSection(Blackhole bh) {
+        for (ExperienceItem item : experienceItems) {
+            bh.consume(localeKeysValidator.isValid(item.getCompany(), null));
+            bh.consume(localeKeysValidator.isValid(item.getRole(), null));
+            Map<String, List<String>> bullets = item.getBulletPoints();
+            bh.consume(localeKeysValidator.isValid(bullets, null));
+            bh.consume(bulletPointsValidator.isValid(bullets, null));
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.tobyresume.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tobyresume.backend.security.jwt.JwtAuthFilter;
+import com.tobyresume.backend.security.jwt.JwtPrincipalCache;
+import com.tobyresume.backend.security.jwt.JwtTokenProvider;
+import com.tobyresume.backend.security.jwt.TokenRevocationList;
+import com.tobyresume.backend.security.oauth2.OAuth2FailureHandler;
+import com.tobyresume.backend.security.oauth2.OAuth2SuccessHandler;
+import com.tobyresume.backend.security.ratelimit.RateLimitFilter;
+import com.tobyresume.backend.security.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.config.oauth2.client.CommonOAuth2Provider;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.oauth2.client.registration.InMemoryClientRegistrationRepository;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Per-request cost of the security filters for a public POST /graphql, through the chains built by
+ * SecurityConfig in a servlet-less web context (no container, no MongoDB).
+ * {@code publicChain} goes through springSecurityFilterChain, which routes /graphql to publicReadFilterChain.
+ * {@code fullChain} sends the same request through securityFilterChain alone; that chain no longer
+ * permits /graphql, so it ends in the 401 entry point. {@code fullChainPermitted} uses /actuator/health,
+ * which the full chain permits, for the cost /graphql paid before it had its own chain.
+ * Rate limiting is disabled so every invocation reaches the end of the chain.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SecurityFilterChainBenchmark {
+
+    private static final String QUERY = "{\"query\":\"{ hero(locale: EN) { tagline } }\"}";
+
+    private AnnotationConfigWebApplicationContext context;
+    private Filter springSecurityFilterChain;
+    private Filter fullChainOnly;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.register(Collaborators.class, CorsConfig.class, SecurityConfig.class);
+        context.refresh();
+        springSecurityFilterChain = context.getBean("springSecurityFilterChain", Filter.class);
+        fullChainOnly = new FilterChainProxy(context.getBean("securityFilterChain", SecurityFilterChain.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse publicChain() throws Exception {
+        return run(springSecurityFilterChain, graphqlRequest());
+    }
+
+    @Benchmark
+    public MockHttpServletResponse fullChain() throws Exception {
+        return run(fullChainOnly, graphqlRequest());
+    }
+
+    @Benchmark
+    public MockHttpServletResponse fullChainPermitted() throws Exception {
+        return run(fullChainOnly, request("GET", "/actuator/health"));
+    }
+
+    private static MockHttpServletRequest graphqlRequest() {
+        MockHttpServletRequest request = request("POST", "/graphql");
+        request.setContentType("application/json");
+        request.addHeader("Origin", "http://localhost:3000");
+        request.setContent(QUERY.getBytes());
+        return request;
+    }
+
+    /** Sets the servlet path too; the MVC request matchers in SecurityConfig match on it. */
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+
+    private static MockHttpServletResponse run(Filter filter, MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain terminal = new MockFilterChain();
+        filter.doFilter(request, response, terminal);
+        return response;
+    }
+
+    /** Real filters over in-memory collaborators; only the Mongo-backed pieces are mocked. */
+    @Configuration
+    @EnableWebMvc
+    static class Collaborators {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        AppSecurityProperties appSecurityProperties() {
+            return new AppSecurityProperties();
+        }
+
+        @Bean
+        JwtAuthFilter jwtAuthFilter(AppSecurityProperties securityProperties, MeterRegistry meterRegistry) {
+            JwtTokenProvider tokenProvider = new JwtTokenProvider(
+                    "benchmark-secret-at-least-32-bytes-long", 900_000L, meterRegistry);
+            return new JwtAuthFilter(tokenProvider, new JwtPrincipalCache(securityProperties),
+                    mock(TokenRevocationList.class));
+        }
+
+        @Bean
+        RateLimitFilter rateLimitFilter() {
+            RateLimitProperties properties = new RateLimitProperties();
+            properties.setEnabled(false);
+            return new RateLimitFilter(new RateLimiter(properties), new ObjectMapper());
+        }
+
+        @Bean
+        OAuth2SuccessHandler oAuth2SuccessHandler() {
+            return mock(OAuth2SuccessHandler.class);
+        }
+
+        @Bean
+        OAuth2FailureHandler oAuth2FailureHandler(AppSecurityProperties securityProperties) {
+            return new OAuth2FailureHandler(securityProperties);
+        }
+
+        @Bean
+        ClientRegistrationRepository clientRegistrationRepository() {
+            return new InMemoryClientRegistrationRepository(CommonOAuth2Provider.GOOGLE.getBuilder("google")
+                    .clientId("benchmark")
+                    .clientSecret("benchmark")
+                    .build());
+        }
+    }
+}
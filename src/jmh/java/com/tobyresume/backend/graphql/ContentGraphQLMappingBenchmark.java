@@ -0,0 +1,95 @@
+package com.tobyresume.backend.graphql;
+
+import com.tobyresume.backend.benchmark.SyntheticContent;
+import com.tobyresume.backend.content.certification.CertificationService;
+import com.tobyresume.backend.content.education.EducationService;
+import com.tobyresume.backend.content.experience.ExperienceMapperImpl;
+import com.tobyresume.backend.content.experience.ExperienceService;
+import com.tobyresume.backend.content.hero.HeroService;
+import com.tobyresume.backend.content.project.ProjectMapperImpl;
+import com.tobyresume.backend.content.project.ProjectService;
+import com.tobyresume.backend.content.skill.SkillMapperImpl;
+import com.tobyresume.backend.content.skill.SkillService;
+import com.tobyresume.backend.content.sociallink.SocialLinkService;
+import com.tobyresume.backend.graphql.model.ExperienceItem;
+import com.tobyresume.backend.graphql.model.Locale;
+import com.tobyresume.backend.graphql.model.ProjectItem;
+import com.tobyresume.backend.graphql.model.SkillCategory;
+import com.tobyresume.backend.media.MediaUrlResolver;
+import com.tobyresume.backend.media.MediaUrlResolver.ResolvedMedia;
+import com.tobyresume.backend.settings.SettingsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ContentGraphQLController response mapping (localized fields, links, media) over stubbed services.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentGraphQLMappingBenchmark {
+
+    @Param({"10", "100"})
+    int items;
+
+    private ContentGraphQLController controller;
+
+    @Setup
+    public void setUp() {
+        ExperienceService experienceService = mock(ExperienceService.class);
+        ProjectService projectService = mock(ProjectService.class);
+        SkillService skillService = mock(SkillService.class);
+        MediaUrlResolver mediaUrlResolver = mock(MediaUrlResolver.class);
+        when(experienceService.listPublished())
+                .thenReturn(new ExperienceMapperImpl().itemsToResponses(SyntheticContent.experienceItems(items)));
+        when(projectService.listPublishedVisible())
+                .thenReturn(new ProjectMapperImpl().itemsToResponses(SyntheticContent.projectItems(items)));
+        when(skillService.listPublished())
+                .thenReturn(new SkillMapperImpl().categoriesToResponses(SyntheticContent.skillCategories(items)));
+        Map<String, ResolvedMedia> media = new HashMap<>();
+        for (int i = 0; i < items; i++) {
+            String id = "media-" + i;
+            media.put(id, new ResolvedMedia(id, "/api/public/media/" + id, 1600, 900, List.of(), null));
+        }
+        when(mediaUrlResolver.resolveAll(any())).thenReturn(media);
+        controller = new ContentGraphQLController(mock(HeroService.class), experienceService, projectService,
+                mock(EducationService.class), mock(CertificationService.class), mock(SocialLinkService.class),
+                skillService, mock(SettingsService.class), mediaUrlResolver);
+    }
+
+    @Benchmark
+    public List<ExperienceItem> experiences() {
+        return controller.experiences(Locale.VI);
+    }
+
+    @Benchmark
+    public List<ProjectItem> projects() {
+        return controller.projects(Locale.VI);
+    }
+
+    @Benchmark
+    public List<SkillCategory> skills() {
+        return controller.skills(Locale.VI);
+    }
+}
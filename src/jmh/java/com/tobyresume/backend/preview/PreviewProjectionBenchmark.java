@@ -0,0 +1,76 @@
+package com.tobyresume.backend.preview;
+
+import com.tobyresume.backend.benchmark.SyntheticContent;
+import com.tobyresume.backend.content.certification.CertificationService;
+import com.tobyresume.backend.content.education.EducationService;
+import com.tobyresume.backend.content.experience.ExperienceMapperImpl;
+import com.tobyresume.backend.content.experience.ExperienceService;
+import com.tobyresume.backend.content.hero.HeroService;
+import com.tobyresume.backend.content.project.ProjectMapperImpl;
+import com.tobyresume.backend.content.project.ProjectService;
+import com.tobyresume.backend.content.skill.SkillMapperImpl;
+import com.tobyresume.backend.content.skill.SkillService;
+import com.tobyresume.backend.content.sociallink.SocialLinkService;
+import com.tobyresume.backend.preview.dto.PreviewResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * PreviewService locale projection over stubbed section services. The stubs add a small constant
+ * per call (seven calls per preview); the "full" benchmark measures that floor.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PreviewProjectionBenchmark {
+
+    @Param({"10", "100"})
+    int items;
+
+    private PreviewService previewService;
+
+    @Setup
+    public void setUp() {
+        HeroService heroService = mock(HeroService.class);
+        ExperienceService experienceService = mock(ExperienceService.class);
+        ProjectService projectService = mock(ProjectService.class);
+        SkillService skillService = mock(SkillService.class);
+        when(heroService.getDraft()).thenReturn(SyntheticContent.hero());
+        when(experienceService.list())
+                .thenReturn(new ExperienceMapperImpl().itemsToResponses(SyntheticContent.experienceItems(items)));
+        when(projectService.list())
+                .thenReturn(new ProjectMapperImpl().itemsToResponses(SyntheticContent.projectItems(items)));
+        when(skillService.list())
+                .thenReturn(new SkillMapperImpl().categoriesToResponses(SyntheticContent.skillCategories(items)));
+        previewService = new PreviewService(heroService, experienceService, projectService,
+                mock(EducationService.class), mock(CertificationService.class), mock(SocialLinkService.class),
+                skillService);
+    }
+
+    @Benchmark
+    public PreviewResponse singleLocale() {
+        return previewService.getPreview("vi");
+    }
+
+    @Benchmark
+    public PreviewResponse full() {
+        return previewService.getPreview(null);
+    }
+}
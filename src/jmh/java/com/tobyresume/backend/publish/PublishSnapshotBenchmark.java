@@ -0,0 +1,64 @@
+package com.tobyresume.backend.publish;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.tobyresume.backend.benchmark.SyntheticContent;
+import com.tobyresume.backend.content.experience.model.WorkExperience;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publish copy and snapshot serialization (JSON round-trip per section), without Mongo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PublishSnapshotBenchmark {
+
+    @Param({"10", "100"})
+    int items;
+
+    private PublishService publishService;
+    private WorkExperience draft;
+
+    @Setup
+    public void setUp() {
+        // Same Jackson settings Spring Boot applies to the application ObjectMapper.
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        publishService = new PublishService(null, null, null, null, null, null, null, null,
+                objectMapper, event -> { }, ObservationRegistry.NOOP);
+        draft = SyntheticContent.workExperience(items);
+    }
+
+    @Benchmark
+    public WorkExperience cloneForPublish() {
+        return publishService.cloneForPublish(draft, WorkExperience.class);
+    }
+
+    @Benchmark
+    public Map<String, Object> sectionToSnapshotMap() {
+        return publishService.sectionToSnapshotMap(draft);
+    }
+}
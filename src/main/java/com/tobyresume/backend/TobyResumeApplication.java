@@ -1,9 +1,12 @@
 package com.tobyresume.backend;
 
+import com.tobyresume.backend.config.AppRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(AppRuntimeHints.class)
 public class TobyResumeApplication {
 
     public static void main(String[] args) {
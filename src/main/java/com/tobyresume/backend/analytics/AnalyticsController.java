@@ -0,0 +1,43 @@
+package com.tobyresume.backend.analytics;
+
+import com.tobyresume.backend.analytics.dto.AnalyticsDashboardResponse;
+import com.tobyresume.backend.analytics.dto.PageViewRequest;
+import com.tobyresume.backend.common.dto.ApiResponse;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Page-view analytics. POST /api/public/analytics/pageview is the public beacon (202, no body);
+ * GET /api/v1/analytics is the admin dashboard over daily rollups.
+ */
+@RestController
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    public AnalyticsController(AnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @PostMapping("/api/public/analytics/pageview")
+    public ResponseEntity<Void> pageView(@Valid @RequestBody PageViewRequest request,
+                                         @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent) {
+        analyticsService.record(request, userAgent);
+        return ResponseEntity.accepted().build();
+    }
+
+    @GetMapping("/api/v1/analytics")
+    public ResponseEntity<ApiResponse<AnalyticsDashboardResponse>> dashboard(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(ApiResponse.success(analyticsService.dashboard(from, to, limit)));
+    }
+}
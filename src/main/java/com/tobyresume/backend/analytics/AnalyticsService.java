@@ -0,0 +1,191 @@
+package com.tobyresume.backend.analytics;
+
+import com.tobyresume.backend.analytics.dto.AnalyticsDashboardResponse;
+import com.tobyresume.backend.analytics.dto.CountResponse;
+import com.tobyresume.backend.analytics.dto.PageViewRequest;
+import com.tobyresume.backend.analytics.model.PageViewRollup;
+import com.tobyresume.backend.analytics.model.RollupDimension;
+import com.tobyresume.backend.common.exception.ValidationException;
+import com.tobyresume.backend.config.AnalyticsProperties;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Page-view tracking (feature-extras: basic analytics). Beacons are normalized to low-cardinality,
+ * PII-free keys (path without query, referrer host only) and counted by PageViewAggregator; the
+ * dashboard reads the flushed daily rollups, so it lags by up to app.analytics.flush-interval-ms.
+ *
+ * @see docs/ai/requirements/feature-extras.md — Analytics / Visit Tracking
+ */
+@Service
+public class AnalyticsService {
+
+    static final String DIRECT = "(direct)";
+    static final String UNKNOWN = "(unknown)";
+
+    private static final int MAX_PATH_LENGTH = 200;
+    private static final int DEFAULT_DAYS = 30;
+    private static final int MAX_DAYS = 366;
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+    private static final Pattern LOCALE = Pattern.compile("[a-z]{2,3}(-[a-z0-9]{2,8})?");
+    private static final Pattern BOT = Pattern.compile("bot|crawl|spider|slurp|headless|lighthouse|preview",
+            Pattern.CASE_INSENSITIVE);
+
+    private final PageViewAggregator aggregator;
+    private final PageViewRollupRepository repository;
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+
+    public AnalyticsService(PageViewAggregator aggregator,
+                            PageViewRollupRepository repository,
+                            MongoTemplate mongoTemplate,
+                            AnalyticsProperties properties) {
+        this.aggregator = aggregator;
+        this.repository = repository;
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = properties.isEnabled();
+    }
+
+    /** Counts a page view unless tracking is off or the user agent looks like a bot. */
+    public void record(PageViewRequest request, String userAgent) {
+        if (!enabled || (userAgent != null && BOT.matcher(userAgent).find())) {
+            return;
+        }
+        aggregator.record(normalizePath(request.getPath()), normalizeReferrer(request.getReferrer()),
+                normalizeLocale(request.getLocale()));
+    }
+
+    /**
+     * Views per day and top keys between from and to (inclusive, yyyy-MM-dd, UTC). Defaults to the
+     * last 30 days.
+     */
+    public AnalyticsDashboardResponse dashboard(String from, String to, Integer limit) {
+        LocalDate end = parseDay(to, "to", LocalDate.now(ZoneOffset.UTC));
+        LocalDate start = parseDay(from, "from", end.minusDays(DEFAULT_DAYS - 1L));
+        if (start.isAfter(end)) {
+            throw new ValidationException("from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_DAYS) {
+            throw new ValidationException("range must be at most " + MAX_DAYS + " days");
+        }
+        int max = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        Instant fromInstant = start.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant toExclusive = end.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+        Map<LocalDate, Long> perDay = new HashMap<>();
+        for (PageViewRollup r : repository.findByDimensionAndDayGreaterThanEqualAndDayLessThanOrderByDayAsc(
+                RollupDimension.TOTAL, fromInstant, toExclusive)) {
+            perDay.merge(LocalDate.ofInstant(r.getDay(), ZoneOffset.UTC), r.getCount(), Long::sum);
+        }
+        List<CountResponse> daily = new ArrayList<>();
+        long total = 0;
+        for (LocalDate d = start; !d.isAfter(end); d = d.plusDays(1)) {
+            long count = perDay.getOrDefault(d, 0L);
+            daily.add(CountResponse.of(d.toString(), count));
+            total += count;
+        }
+
+        AnalyticsDashboardResponse response = new AnalyticsDashboardResponse();
+        response.setFrom(start);
+        response.setTo(end);
+        response.setTotalViews(total);
+        response.setDaily(daily);
+        response.setTopPages(top(RollupDimension.PAGE, fromInstant, toExclusive, max));
+        response.setTopReferrers(top(RollupDimension.REFERRER, fromInstant, toExclusive, max));
+        response.setLocales(top(RollupDimension.LOCALE, fromInstant, toExclusive, max));
+        return response;
+    }
+
+    /** Sums the dimension's daily rollups per value in Mongo (dimension_day index) and keeps the top n. */
+    private List<CountResponse> top(RollupDimension dimension, Instant from, Instant toExclusive, int n) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("dimension").is(dimension).and("day").gte(from).lt(toExclusive)),
+                Aggregation.group("value").sum("count").as("count"),
+                Aggregation.sort(Sort.by(Sort.Order.desc("count"), Sort.Order.asc("_id"))),
+                Aggregation.limit(n));
+        return mongoTemplate.aggregate(aggregation, PageViewRollup.class, Document.class).getMappedResults().stream()
+                .map(d -> CountResponse.of(d.getString("_id"), ((Number) d.get("count")).longValue()))
+                .toList();
+    }
+
+    static String normalizePath(String path) {
+        String p = path.trim();
+        if (!p.startsWith("/")) {
+            try {
+                p = URI.create(p).getRawPath();
+            } catch (IllegalArgumentException e) {
+                return UNKNOWN;
+            }
+            if (p == null || !p.startsWith("/")) {
+                return UNKNOWN;
+            }
+        }
+        int cut = indexOfAny(p, '?', '#');
+        if (cut >= 0) {
+            p = p.substring(0, cut);
+        }
+        if (p.length() > 1 && p.endsWith("/")) {
+            p = p.substring(0, p.length() - 1);
+        }
+        return p.length() > MAX_PATH_LENGTH ? p.substring(0, MAX_PATH_LENGTH) : p;
+    }
+
+    static String normalizeReferrer(String referrer) {
+        if (referrer == null || referrer.isBlank()) {
+            return DIRECT;
+        }
+        try {
+            String host = URI.create(referrer.trim()).getHost();
+            if (host == null) {
+                return UNKNOWN;
+            }
+            host = host.toLowerCase(Locale.ROOT);
+            return host.startsWith("www.") ? host.substring(4) : host;
+        } catch (IllegalArgumentException e) {
+            return UNKNOWN;
+        }
+    }
+
+    static String normalizeLocale(String locale) {
+        if (locale == null || locale.isBlank()) {
+            return UNKNOWN;
+        }
+        String l = locale.trim().toLowerCase(Locale.ROOT).replace('_', '-');
+        return LOCALE.matcher(l).matches() ? l : UNKNOWN;
+    }
+
+    private static LocalDate parseDay(String value, String name, LocalDate defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new ValidationException(name + " must be a date (yyyy-MM-dd)");
+        }
+    }
+
+    private static int indexOfAny(String s, char a, char b) {
+        int i = s.indexOf(a);
+        int j = s.indexOf(b);
+        return i < 0 ? j : (j < 0 ? i : Math.min(i, j));
+    }
+}
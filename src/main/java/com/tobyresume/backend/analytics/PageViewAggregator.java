@@ -0,0 +1,156 @@
+package com.tobyresume.backend.analytics;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.tobyresume.backend.analytics.model.PageViewRollup;
+import com.tobyresume.backend.analytics.model.RollupDimension;
+import com.tobyresume.backend.config.AnalyticsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts page views in memory and flushes them as one unordered bulk of $inc upserts per interval,
+ * so write volume depends on the number of distinct pages/referrers, not on traffic. Counters are
+ * LongAdders in a ConcurrentHashMap: hits on existing keys never lock, and the flush reads them with
+ * sumThenReset instead of swapping maps, so no increment is lost. Memory is capped by
+ * app.analytics.max-pending-keys; a failed flush puts its counts back for the next one.
+ */
+@Component
+public class PageViewAggregator {
+
+    private static final Logger log = LoggerFactory.getLogger(PageViewAggregator.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final int maxPendingKeys;
+    private final ConcurrentHashMap<RollupKey, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Counter dropped;
+
+    public PageViewAggregator(MongoTemplate mongoTemplate, AnalyticsProperties properties, MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.maxPendingKeys = properties.getMaxPendingKeys();
+        this.dropped = Counter.builder("analytics.pageviews.dropped")
+                .description("Page-view counts dropped because max-pending-keys was reached")
+                .register(meterRegistry);
+        Gauge.builder("analytics.pending.keys", counters, Map::size)
+                .description("Page-view counters waiting for the next flush")
+                .register(meterRegistry);
+    }
+
+    /** Counts one view of an already-normalized path, referrer host and locale for today (UTC). */
+    public void record(String path, String referrer, String locale) {
+        record(LocalDate.now(ZoneOffset.UTC), path, referrer, locale);
+    }
+
+    void record(LocalDate day, String path, String referrer, String locale) {
+        increment(new RollupKey(day, RollupDimension.TOTAL, ""));
+        increment(new RollupKey(day, RollupDimension.PAGE, path));
+        increment(new RollupKey(day, RollupDimension.REFERRER, referrer));
+        increment(new RollupKey(day, RollupDimension.LOCALE, locale));
+    }
+
+    private void increment(RollupKey key) {
+        LongAdder adder = counters.get(key);
+        if (adder == null) {
+            if (counters.size() >= maxPendingKeys) {
+                dropped.increment();
+                return;
+            }
+            adder = counters.computeIfAbsent(key, k -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.flush-interval-ms:10000}")
+    public void flush() {
+        Map<RollupKey, Long> batch = drain(LocalDate.now(ZoneOffset.UTC));
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<RollupKey, Long>> entries = new ArrayList<>(batch.entrySet());
+        try {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PageViewRollup.class);
+            Instant now = Instant.now();
+            for (Map.Entry<RollupKey, Long> e : entries) {
+                RollupKey key = e.getKey();
+                bulk.upsert(Query.query(Criteria.where("_id").is(key.id())), new Update()
+                        .inc("count", e.getValue())
+                        .set("updatedAt", now)
+                        .setOnInsert("day", key.day().atStartOfDay(ZoneOffset.UTC).toInstant())
+                        .setOnInsert("dimension", key.dimension())
+                        .setOnInsert("value", key.value()));
+            }
+            bulk.execute();
+            log.debug("Flushed {} page-view rollups", entries.size());
+        } catch (BulkOperationException e) {
+            // Unordered bulk: only the failed upserts are retried next time.
+            for (BulkWriteError error : e.getErrors()) {
+                Map.Entry<RollupKey, Long> failed = entries.get(error.getIndex());
+                restore(failed.getKey(), failed.getValue());
+            }
+            log.warn("Page-view flush: {} of {} upserts failed; retrying next flush", e.getErrors().size(), entries.size());
+        } catch (DataAccessException e) {
+            batch.forEach(this::restore);
+            log.warn("Page-view flush failed; {} rollups kept for next flush", entries.size(), e);
+        }
+    }
+
+    /**
+     * Takes the counts accumulated since the last flush. Counters of past days that saw no hits since
+     * the previous flush are removed, so the map only holds recent keys.
+     */
+    Map<RollupKey, Long> drain(LocalDate today) {
+        Map<RollupKey, Long> batch = new HashMap<>();
+        for (Map.Entry<RollupKey, LongAdder> e : counters.entrySet()) {
+            long count = e.getValue().sumThenReset();
+            if (count > 0) {
+                batch.put(e.getKey(), count);
+            } else if (e.getKey().day().isBefore(today)) {
+                counters.remove(e.getKey(), e.getValue());
+            }
+        }
+        return batch;
+    }
+
+    private void restore(RollupKey key, long count) {
+        counters.computeIfAbsent(key, k -> new LongAdder()).add(count);
+    }
+
+    int pendingKeys() {
+        return counters.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    /** Counter identity; id() is the rollup document id. */
+    record RollupKey(LocalDate day, RollupDimension dimension, String value) {
+
+        String id() {
+            return day + ":" + dimension + ":" + value;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.tobyresume.backend.analytics;
+
+import com.tobyresume.backend.analytics.model.PageViewRollup;
+import com.tobyresume.backend.analytics.model.RollupDimension;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Daily page-view rollups (page_view_rollups). Written by PageViewAggregator via MongoTemplate bulk upserts.
+ */
+public interface PageViewRollupRepository extends MongoRepository<PageViewRollup, String> {
+
+    List<PageViewRollup> findByDimensionAndDayGreaterThanEqualAndDayLessThanOrderByDayAsc(
+            RollupDimension dimension, Instant from, Instant toExclusive);
+}
@@ -0,0 +1,75 @@
+package com.tobyresume.backend.analytics.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Response for GET /api/v1/analytics: views per day (every day of the range, zeros included) and the
+ * top pages, referrer hosts and locales over the range. from and to are inclusive UTC days.
+ */
+public class AnalyticsDashboardResponse {
+
+    private LocalDate from;
+    private LocalDate to;
+    private long totalViews;
+    private List<CountResponse> daily;
+    private List<CountResponse> topPages;
+    private List<CountResponse> topReferrers;
+    private List<CountResponse> locales;
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public long getTotalViews() {
+        return totalViews;
+    }
+
+    public void setTotalViews(long totalViews) {
+        this.totalViews = totalViews;
+    }
+
+    public List<CountResponse> getDaily() {
+        return daily;
+    }
+
+    public void setDaily(List<CountResponse> daily) {
+        this.daily = daily;
+    }
+
+    public List<CountResponse> getTopPages() {
+        return topPages;
+    }
+
+    public void setTopPages(List<CountResponse> topPages) {
+        this.topPages = topPages;
+    }
+
+    public List<CountResponse> getTopReferrers() {
+        return topReferrers;
+    }
+
+    public void setTopReferrers(List<CountResponse> topReferrers) {
+        this.topReferrers = topReferrers;
+    }
+
+    public List<CountResponse> getLocales() {
+        return locales;
+    }
+
+    public void setLocales(List<CountResponse> locales) {
+        this.locales = locales;
+    }
+}
@@ -0,0 +1,33 @@
+package com.tobyresume.backend.analytics.dto;
+
+/**
+ * A key (day, page, referrer host or locale) with its page-view count.
+ */
+public class CountResponse {
+
+    private String key;
+    private long count;
+
+    public static CountResponse of(String key, long count) {
+        CountResponse r = new CountResponse();
+        r.key = key;
+        r.count = count;
+        return r;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,44 @@
+package com.tobyresume.backend.analytics.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Request body for POST /api/public/analytics/pageview (sent by the landing page, e.g. via sendBeacon).
+ */
+public class PageViewRequest {
+
+    @NotBlank(message = "path is required")
+    @Size(max = 2048, message = "path must be at most 2048 characters")
+    private String path;
+
+    @Size(max = 2048, message = "referrer must be at most 2048 characters")
+    private String referrer;
+
+    @Size(max = 35, message = "locale must be at most 35 characters")
+    private String locale;
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public String getReferrer() {
+        return referrer;
+    }
+
+    public void setReferrer(String referrer) {
+        this.referrer = referrer;
+    }
+
+    public String getLocale() {
+        return locale;
+    }
+
+    public void setLocale(String locale) {
+        this.locale = locale;
+    }
+}
@@ -0,0 +1,81 @@
+package com.tobyresume.backend.analytics.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Page views for one (day, dimension, value), e.g. (2026-10-19, PAGE, /projects). Written only by
+ * PageViewAggregator's batched $inc upserts; raw hits are never stored. The id is
+ * day:dimension:value. Kept about 400 days (TTL on day).
+ */
+@Document(collection = "page_view_rollups")
+@CompoundIndex(name = "dimension_day", def = "{'dimension': 1, 'day': 1}")
+public class PageViewRollup {
+
+    @Id
+    private String id;
+
+    /** Start of the UTC day. */
+    @Indexed(expireAfterSeconds = 34560000)
+    private Instant day;
+
+    private RollupDimension dimension;
+
+    private String value;
+
+    private long count;
+
+    private Instant updatedAt;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Instant getDay() {
+        return day;
+    }
+
+    public void setDay(Instant day) {
+        this.day = day;
+    }
+
+    public RollupDimension getDimension() {
+        return dimension;
+    }
+
+    public void setDimension(RollupDimension dimension) {
+        this.dimension = dimension;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
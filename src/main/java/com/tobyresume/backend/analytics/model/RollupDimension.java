@@ -0,0 +1,11 @@
+package com.tobyresume.backend.analytics.model;
+
+/**
+ * What a page-view rollup counts per day. TOTAL has an empty value.
+ */
+public enum RollupDimension {
+    TOTAL,
+    PAGE,
+    REFERRER,
+    LOCALE
+}
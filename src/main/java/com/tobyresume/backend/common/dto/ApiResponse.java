@@ -1,12 +1,14 @@
 package com.tobyresume.backend.common.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.tobyresume.backend.common.util.TraceIds;
 
 import java.time.Instant;
 
 /**
  * Unified REST response envelope. All REST endpoints return this shape.
- * On success: success=true, data set, no error. On error: success=false, error set, no data.
+ * On success: success=true, data set, no error. On error: success=false, error set, no data, and
+ * traceId of the request when tracing is active (to find the request's spans and logs).
  *
  * @see docs/ai/design/api-design.md §2
  */
@@ -18,20 +20,22 @@ public class ApiResponse<T> {
     private final T data;
     private final ErrorBody error;
     private final String timestamp;
+    private final String traceId;
 
-    private ApiResponse(boolean success, T data, ErrorBody error) {
+    private ApiResponse(boolean success, T data, ErrorBody error, String traceId) {
         this.success = success;
         this.data = data;
         this.error = error;
         this.timestamp = Instant.now().toString();
+        this.traceId = traceId;
     }
 
     public static <T> ApiResponse<T> success(T data) {
-        return new ApiResponse<>(true, data, null);
+        return new ApiResponse<>(true, data, null, null);
     }
 
     public static <T> ApiResponse<T> error(ErrorBody error) {
-        return new ApiResponse<>(false, null, error);
+        return new ApiResponse<>(false, null, error, TraceIds.current());
     }
 
     public boolean isSuccess() {
@@ -49,4 +53,8 @@ public class ApiResponse<T> {
     public String getTimestamp() {
         return timestamp;
     }
+
+    public String getTraceId() {
+        return traceId;
+    }
 }
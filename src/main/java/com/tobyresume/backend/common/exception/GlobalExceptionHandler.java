@@ -56,6 +56,12 @@ public class GlobalExceptionHandler {
         return response(HttpStatus.INTERNAL_SERVER_ERROR, "PUBLISH_FAILED", ex.getMessage(), null);
     }
 
+    @ExceptionHandler(TranslationFailedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTranslationFailed(TranslationFailedException ex) {
+        log.warn("Translation failed: {}", ex.getMessage());
+        return response(HttpStatus.BAD_GATEWAY, "TRANSLATION_FAILED", ex.getMessage(), null);
+    }
+
     /**
      * Jakarta Bean Validation (@Valid) failures on request body.
      */
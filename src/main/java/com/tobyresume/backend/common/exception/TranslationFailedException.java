@@ -0,0 +1,18 @@
+package com.tobyresume.backend.common.exception;
+
+/**
+ * Thrown when the translation provider fails or times out. Mapped to 502 with code TRANSLATION_FAILED;
+ * nothing is written to the draft in that case.
+ *
+ * @see docs/ai/requirements/feature-ai-services.md
+ */
+public class TranslationFailedException extends RuntimeException {
+
+    public TranslationFailedException(String message) {
+        super(message);
+    }
+
+    public TranslationFailedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
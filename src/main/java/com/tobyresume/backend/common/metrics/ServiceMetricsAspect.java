@@ -0,0 +1,50 @@
+package com.tobyresume.backend.common.metrics;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Observes every public method of the application's *Service beans as app.service.calls
+ * (tags: class, method, exception): a timer, and a span named Class.method when tracing is on.
+ * Only calls through the Spring proxy are seen, so a service calling its own methods is observed
+ * once at the entry point.
+ * Repository, Mongo command and GraphQL data-fetcher timings come from Boot's auto-configuration
+ * (spring.data.repository.invocations, mongodb.driver.commands, graphql.datafetcher).
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    static final String METRIC = "app.service.calls";
+
+    private final ObservationRegistry observationRegistry;
+
+    public ServiceMetricsAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("execution(public * com.tobyresume.backend..*Service.*(..))")
+    public Object observe(ProceedingJoinPoint pjp) throws Throwable {
+        String type = pjp.getSignature().getDeclaringType().getSimpleName();
+        String method = pjp.getSignature().getName();
+        Observation observation = Observation.createNotStarted(METRIC, observationRegistry)
+                .contextualName(type + "." + method)
+                .lowCardinalityKeyValue("class", type)
+                .lowCardinalityKeyValue("method", method)
+                .lowCardinalityKeyValue("exception", "none")
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return pjp.proceed();
+        } catch (Throwable t) {
+            observation.lowCardinalityKeyValue("exception", t.getClass().getSimpleName());
+            observation.error(t);
+            throw t;
+        } finally {
+            observation.stop();
+        }
+    }
+}
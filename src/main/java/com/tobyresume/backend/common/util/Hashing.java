@@ -0,0 +1,66 @@
+package com.tobyresume.backend.common.util;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 and HMAC-SHA256 helpers for cache keys and stored token digests. Raw secrets are never persisted; only their hash.
+ */
+public final class Hashing {
+
+    private Hashing() {
+    }
+
+    /**
+     * Returns a new SHA-256 MessageDigest. MessageDigest is not thread-safe; use one per call or stream.
+     */
+    public static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * SHA-256 of the UTF-8 bytes, URL-safe Base64 without padding (43 chars).
+     */
+    public static String sha256Base64Url(String value) {
+        byte[] digest = sha256().digest(value.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    /**
+     * SHA-256 of the UTF-8 bytes as lowercase hex (64 chars).
+     */
+    public static String sha256Hex(String value) {
+        return HexFormat.of().formatHex(sha256().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * SHA-256 of the bytes as lowercase hex (64 chars).
+     */
+    public static String sha256Hex(byte[] value) {
+        return HexFormat.of().formatHex(sha256().digest(value));
+    }
+
+    /**
+     * HMAC-SHA256 of the UTF-8 value keyed with secret, lowercase hex (64 chars). Use for low-entropy
+     * values (IPs, emails) whose plain hash could be reversed by enumeration.
+     */
+    public static String hmacSha256Hex(String secret, String value) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(mac.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.tobyresume.backend.common.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Tokenizer for content search and JD tailoring, so indexed text and queries produce the same terms.
+ * Lower-cases, strips diacritics (so Vietnamese text matches with or without accents), drops English
+ * stop words and keeps technology names such as "c++", "c#", "node.js" and ".net" intact.
+ */
+public final class TextAnalyzer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "about", "above", "after", "all", "also", "an", "and", "any", "are", "as", "at", "be", "been",
+            "being", "both", "but", "by", "can", "could", "do", "does", "each", "etc", "for", "from", "had",
+            "has", "have", "he", "her", "his", "how", "i", "if", "in", "into", "is", "it", "its", "job", "may",
+            "more", "most", "must", "my", "of", "on", "or", "other", "our", "out", "over", "per", "plus",
+            "role", "she", "should", "so", "such", "than", "that", "the", "their", "them", "then", "there",
+            "these", "they", "this", "those", "to", "up", "us", "using", "very", "was", "we", "well", "were",
+            "what", "when", "where", "which", "while", "who", "will", "with", "within", "work", "would",
+            "years", "you", "your");
+
+    private TextAnalyzer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFKD)).replaceAll("")
+                .toLowerCase(Locale.ROOT)
+                .replace('\u0111', 'd'); // đ has no decomposition
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i <= normalized.length(); i++) {
+            char c = i < normalized.length() ? normalized.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c) || c == '+' || c == '#'
+                    || (c == '.' && i + 1 < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i + 1)))) {
+                current.append(c);
+            } else if (!current.isEmpty()) {
+                add(tokens, current.toString());
+                current.setLength(0);
+            }
+        }
+        return tokens;
+    }
+
+    private static void add(List<String> tokens, String token) {
+        // "+" and "#" only belong to a term as a suffix (c++, c#); ".net" keeps its leading dot.
+        String term = token.replaceAll("^[+#]+", "");
+        if (term.isEmpty() || STOP_WORDS.contains(term) || term.chars().allMatch(Character::isDigit)) {
+            return;
+        }
+        if (term.length() == 1 && Character.isLetter(term.charAt(0)) && !"c".equals(term) && !"r".equals(term)) {
+            return;
+        }
+        tokens.add(term);
+    }
+}
@@ -0,0 +1,24 @@
+package com.tobyresume.backend.common.util;
+
+import org.slf4j.MDC;
+
+/**
+ * Current trace id for error responses. Micrometer Tracing puts it in the logging MDC for the
+ * duration of each observed request, so it matches the traceId field in the logs.
+ */
+public final class TraceIds {
+
+    private static final String MDC_KEY = "traceId";
+
+    private TraceIds() {
+    }
+
+    /**
+     * Returns the current trace id, or null outside a traced request (tracing off or not sampled
+     * into the MDC).
+     */
+    public static String current() {
+        String traceId = MDC.get(MDC_KEY);
+        return traceId == null || traceId.isEmpty() ? null : traceId;
+    }
+}
@@ -0,0 +1,47 @@
+package com.tobyresume.backend.common.util;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Merges values into the response's Vary header. Several layers (CORS, content negotiation) each
+ * need their own entries, and a plain setHeader from one would drop the others and let shared caches
+ * mix up responses.
+ */
+public final class VaryHeaders {
+
+    private VaryHeaders() {
+    }
+
+    /** Adds each value unless already present (case-insensitive); keeps a single combined header. */
+    public static void merge(HttpServletResponse response, String... values) {
+        Set<String> seen = new LinkedHashSet<>();
+        StringBuilder merged = new StringBuilder();
+        for (String header : response.getHeaders(HttpHeaders.VARY)) {
+            for (String token : header.split(",")) {
+                append(token.trim(), seen, merged);
+            }
+        }
+        int before = seen.size();
+        for (String value : values) {
+            append(value, seen, merged);
+        }
+        if (seen.size() != before) {
+            response.setHeader(HttpHeaders.VARY, merged.toString());
+        }
+    }
+
+    private static void append(String token, Set<String> seen, StringBuilder merged) {
+        if (token.isEmpty() || !seen.add(token.toLowerCase(Locale.ROOT))) {
+            return;
+        }
+        if (merged.length() > 0) {
+            merged.append(", ");
+        }
+        merged.append(token);
+    }
+}
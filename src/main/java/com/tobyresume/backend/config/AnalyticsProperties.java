@@ -0,0 +1,42 @@
+package com.tobyresume.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds app.analytics.*. Page views are counted in memory by PageViewAggregator and flushed to
+ * page_view_rollups every flush-interval-ms.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.analytics")
+public class AnalyticsProperties {
+
+    private boolean enabled = true;
+    private long flushIntervalMs = 10_000L;
+    /** Distinct (day, dimension, value) counters held between flushes; new keys beyond this are dropped. */
+    private int maxPendingKeys = 50_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = Math.max(1_000L, flushIntervalMs);
+    }
+
+    public int getMaxPendingKeys() {
+        return maxPendingKeys;
+    }
+
+    public void setMaxPendingKeys(int maxPendingKeys) {
+        this.maxPendingKeys = Math.max(100, maxPendingKeys);
+    }
+}
@@ -0,0 +1,84 @@
+package com.tobyresume.backend.config;
+
+import com.tobyresume.backend.common.model.BaseDocument;
+import com.tobyresume.backend.content.certification.model.Certification;
+import com.tobyresume.backend.content.education.model.Education;
+import com.tobyresume.backend.content.experience.model.WorkExperience;
+import com.tobyresume.backend.content.hero.model.Hero;
+import com.tobyresume.backend.content.project.model.Project;
+import com.tobyresume.backend.content.skill.model.Skill;
+import com.tobyresume.backend.content.sociallink.model.SocialLink;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Reflection and resource hints for the native image (mvn -Paot,native native:compile). Spring AOT
+ * covers beans, including the MapStruct mappers (componentModel = "spring", plain generated code),
+ * repositories and controller signatures; this adds what it cannot see:
+ * <ul>
+ *   <li>every class in a *.dto or *.model package, for Jackson binding, Mongo mapping and GraphQL
+ *       property fetching (also PublishService.cloneForPublish, which round-trips sections through JSON)</li>
+ *   <li>the public methods of the section documents, for the reflective setContentState call in
+ *       cloneForPublish</li>
+ *   <li>the GraphQL schema files</li>
+ *   <li>the JJWT implementation classes, which jjwt-api loads by name</li>
+ * </ul>
+ */
+public class AppRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String BASE_PACKAGE = "com.tobyresume.backend";
+
+    private static final Pattern BINDING_TYPES = Pattern.compile("com\\.tobyresume\\.backend\\..*\\.(dto|model)\\..*");
+
+    private static final List<Class<?>> PUBLISHED_SECTIONS = List.of(
+            Hero.class, WorkExperience.class, Project.class, Education.class, Skill.class,
+            Certification.class, SocialLink.class);
+
+    private static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        BindingReflectionHintsRegistrar binding = new BindingReflectionHintsRegistrar();
+        binding.registerReflectionHints(hints.reflection(), BaseDocument.class);
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new RegexPatternTypeFilter(BINDING_TYPES));
+        for (BeanDefinition candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {
+            binding.registerReflectionHints(hints.reflection(),
+                    ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+        }
+
+        for (Class<?> section : PUBLISHED_SECTIONS) {
+            hints.reflection().registerType(section, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+
+        hints.resources().registerPattern("graphql/*.graphqls");
+
+        for (String type : JJWT_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+    }
+}
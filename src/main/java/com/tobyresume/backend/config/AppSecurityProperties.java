@@ -6,13 +6,16 @@ import org.springframework.stereotype.Component;
 import java.util.List;
 
 /**
- * Binds app.security.* for OAuth2 and JWT. Used by OAuth2SuccessHandler and JwtTokenProvider.
+ * Binds app.security.* for OAuth2 and JWT. Used by OAuth2SuccessHandler, JwtTokenProvider and
+ * SecurityConfig (metrics scrape allow-list).
  */
 @Component
 @ConfigurationProperties(prefix = "app.security")
 public class AppSecurityProperties {
 
     private List<String> allowedAdmins = List.of();
+    /** Source networks allowed to scrape /actuator/prometheus (CIDR or single address). */
+    private List<String> metricsAllowedCidrs = List.of("127.0.0.1/32", "::1/128");
     private Jwt jwt = new Jwt();
     private Oauth2 oauth2 = new Oauth2();
 
@@ -24,6 +27,14 @@ public class AppSecurityProperties {
         this.allowedAdmins = allowedAdmins != null ? allowedAdmins : List.of();
     }
 
+    public List<String> getMetricsAllowedCidrs() {
+        return metricsAllowedCidrs;
+    }
+
+    public void setMetricsAllowedCidrs(List<String> metricsAllowedCidrs) {
+        this.metricsAllowedCidrs = metricsAllowedCidrs != null ? metricsAllowedCidrs : List.of();
+    }
+
     public Jwt getJwt() {
         return jwt;
     }
@@ -42,7 +53,14 @@ public class AppSecurityProperties {
 
     public static class Jwt {
         private String secret = "dev-jwt-secret-change-in-production";
-        private long expirationMs = 86400000L;
+        private long expirationMs = 900000L;
+        private long refreshExpirationMs = 1209600000L;
+        private long cacheMaxEntries = 1000L;
+        private long revocationSyncMs = 30000L;
+        /** Secure attribute of the refresh-token cookie; only disable for plain-http local setups. */
+        private boolean refreshCookieSecure = true;
+        /** SameSite attribute of the refresh-token cookie (Strict, Lax or None). */
+        private String refreshCookieSameSite = "Strict";
 
         public String getSecret() {
             return secret;
@@ -59,6 +77,47 @@ public class AppSecurityProperties {
         public void setExpirationMs(long expirationMs) {
             this.expirationMs = expirationMs;
         }
+
+        public long getRefreshExpirationMs() {
+            return refreshExpirationMs;
+        }
+
+        public void setRefreshExpirationMs(long refreshExpirationMs) {
+            this.refreshExpirationMs = refreshExpirationMs;
+        }
+
+        public long getRevocationSyncMs() {
+            return revocationSyncMs;
+        }
+
+        public void setRevocationSyncMs(long revocationSyncMs) {
+            this.revocationSyncMs = revocationSyncMs;
+        }
+
+        public long getCacheMaxEntries() {
+            return cacheMaxEntries;
+        }
+
+        public void setCacheMaxEntries(long cacheMaxEntries) {
+            this.cacheMaxEntries = Math.max(1, cacheMaxEntries);
+        }
+
+        public boolean isRefreshCookieSecure() {
+            return refreshCookieSecure;
+        }
+
+        public void setRefreshCookieSecure(boolean refreshCookieSecure) {
+            this.refreshCookieSecure = refreshCookieSecure;
+        }
+
+        public String getRefreshCookieSameSite() {
+            return refreshCookieSameSite;
+        }
+
+        public void setRefreshCookieSameSite(String refreshCookieSameSite) {
+            this.refreshCookieSameSite = refreshCookieSameSite != null && !refreshCookieSameSite.isBlank()
+                    ? refreshCookieSameSite : "Strict";
+        }
     }
 
     public static class Oauth2 {
@@ -0,0 +1,147 @@
+package com.tobyresume.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Binds app.contact.*. Notification email for new contact messages, sent by ContactNotifier. SMTP is
+ * configured here rather than under spring.mail so the choice is made at runtime (AOT freezes
+ * auto-configuration conditions at build time). A blank smtp-host disables notifications; messages
+ * are still stored.
+ *
+ * @see docs/ai/requirements/feature-extras.md — Contact Form / Messaging
+ */
+@Component
+@ConfigurationProperties(prefix = "app.contact")
+public class ContactProperties {
+
+    /** Admin address that receives notifications. */
+    private String notifyTo;
+    private String mailFrom;
+    private String smtpHost;
+    private int smtpPort = 587;
+    private String smtpUsername;
+    private String smtpPassword;
+    private boolean smtpStarttls = true;
+    private Duration smtpTimeout = Duration.ofSeconds(10);
+    /** Notifications waiting to be sent; beyond this they are dropped (the message is kept). */
+    private int queueCapacity = 500;
+    /** Notifications sent over one SMTP connection. */
+    private int batchSize = 20;
+    private int maxAttempts = 3;
+    /** Delay before the first retry of a failed batch; doubles on each further attempt. */
+    private Duration retryBackoff = Duration.ofSeconds(5);
+    /** Server-side key for the stored HMAC of the sender IP; blank = no IP is stored. */
+    private String ipHashSecret;
+
+    public String getNotifyTo() {
+        return notifyTo;
+    }
+
+    public void setNotifyTo(String notifyTo) {
+        this.notifyTo = notifyTo;
+    }
+
+    public String getMailFrom() {
+        return mailFrom;
+    }
+
+    public void setMailFrom(String mailFrom) {
+        this.mailFrom = mailFrom;
+    }
+
+    public String getSmtpHost() {
+        return smtpHost;
+    }
+
+    public void setSmtpHost(String smtpHost) {
+        this.smtpHost = smtpHost;
+    }
+
+    public int getSmtpPort() {
+        return smtpPort;
+    }
+
+    public void setSmtpPort(int smtpPort) {
+        this.smtpPort = smtpPort;
+    }
+
+    public String getSmtpUsername() {
+        return smtpUsername;
+    }
+
+    public void setSmtpUsername(String smtpUsername) {
+        this.smtpUsername = smtpUsername;
+    }
+
+    public String getSmtpPassword() {
+        return smtpPassword;
+    }
+
+    public void setSmtpPassword(String smtpPassword) {
+        this.smtpPassword = smtpPassword;
+    }
+
+    public boolean isSmtpStarttls() {
+        return smtpStarttls;
+    }
+
+    public void setSmtpStarttls(boolean smtpStarttls) {
+        this.smtpStarttls = smtpStarttls;
+    }
+
+    public Duration getSmtpTimeout() {
+        return smtpTimeout;
+    }
+
+    public void setSmtpTimeout(Duration smtpTimeout) {
+        this.smtpTimeout = smtpTimeout != null ? smtpTimeout : Duration.ofSeconds(10);
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = Math.max(1, queueCapacity);
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    public Duration getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    public void setRetryBackoff(Duration retryBackoff) {
+        this.retryBackoff = retryBackoff != null ? retryBackoff : Duration.ofSeconds(5);
+    }
+
+    public String getIpHashSecret() {
+        return ipHashSecret;
+    }
+
+    public void setIpHashSecret(String ipHashSecret) {
+        this.ipHashSecret = ipHashSecret;
+    }
+
+    /** True when an SMTP host and recipient are configured. */
+    public boolean isMailEnabled() {
+        return smtpHost != null && !smtpHost.isBlank() && notifyTo != null && !notifyTo.isBlank();
+    }
+}
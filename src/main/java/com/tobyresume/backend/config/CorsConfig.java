@@ -1,17 +1,23 @@
 package com.tobyresume.backend.config;
 
+import com.tobyresume.backend.security.cors.PrecomputedCorsProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.filter.CorsFilter;
 
 import java.util.Arrays;
 import java.util.List;
 
 /**
  * CORS configuration from app.cors.*. Allows Admin Panel and Landing Page origins.
+ * The corsFilter bean (picked up by both security chains via cors()) uses PrecomputedCorsProcessor,
+ * which compiles this configuration once and caches preflight decisions.
  *
  * @see docs/ai/design/api-design.md §1.2, phase1-mvp §10
  */
@@ -33,18 +39,41 @@ public class CorsConfig {
     @Value("${app.cors.max-age:3600}")
     private long maxAge;
 
+    @Value("${app.cors.preflight-cache-size:1024}")
+    private long preflightCacheSize;
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", buildConfiguration());
+        return source;
+    }
+
+    @Bean
+    public CorsFilter corsFilter(CorsConfigurationSource corsConfigurationSource, MeterRegistry meterRegistry) {
+        CorsFilter filter = new CorsFilter(corsConfigurationSource);
+        filter.setCorsProcessor(new PrecomputedCorsProcessor(buildConfiguration(), preflightCacheSize, meterRegistry));
+        return filter;
+    }
+
+    /**
+     * corsFilter runs inside the security chains; do not also register it as a servlet filter.
+     */
+    @Bean
+    public FilterRegistrationBean<CorsFilter> corsFilterRegistration(CorsFilter corsFilter) {
+        FilterRegistrationBean<CorsFilter> registration = new FilterRegistrationBean<>(corsFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    private CorsConfiguration buildConfiguration() {
         CorsConfiguration config = new CorsConfiguration();
         config.setAllowedOrigins(resolveAllowedOrigins());
         config.setAllowedMethods(splitComma(allowedMethods));
         config.setAllowedHeaders(splitComma(allowedHeaders));
         config.setAllowCredentials(allowCredentials);
         config.setMaxAge(maxAge);
-
-        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
-        source.registerCorsConfiguration("/**", config);
-        return source;
+        return config;
     }
 
     private List<String> resolveAllowedOrigins() {
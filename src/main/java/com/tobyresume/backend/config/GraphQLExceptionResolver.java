@@ -2,6 +2,7 @@ package com.tobyresume.backend.config;
 
 import com.tobyresume.backend.common.exception.ResourceNotFoundException;
 import com.tobyresume.backend.common.exception.ValidationException;
+import com.tobyresume.backend.common.util.TraceIds;
 import graphql.GraphqlErrorBuilder;
 import graphql.GraphQLError;
 import graphql.schema.DataFetchingEnvironment;
@@ -9,10 +10,12 @@ import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
- * Maps exceptions from GraphQL resolvers to GraphQL errors. No stack traces or internal class names.
+ * Maps exceptions from GraphQL resolvers to GraphQL errors. No stack traces or internal class names;
+ * the trace id (when tracing is active) is added to the extensions next to the code.
  *
  * @see docs/ai/design/phase1-mvp.md §9.3, api-design §8.4
  */
@@ -33,9 +36,15 @@ public class GraphQLExceptionResolver extends DataFetcherExceptionResolverAdapte
             code = "INTERNAL_ERROR";
             message = "An unexpected error occurred";
         }
+        Map<String, Object> extensions = new LinkedHashMap<>();
+        extensions.put("code", code);
+        String traceId = TraceIds.current();
+        if (traceId != null) {
+            extensions.put("traceId", traceId);
+        }
         return GraphqlErrorBuilder.newError(env)
                 .message(message)
-                .extensions(Map.of("code", code))
+                .extensions(extensions)
                 .build();
     }
 }
@@ -0,0 +1,102 @@
+package com.tobyresume.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Binds app.media.*. Storage volume, upload limits and resized variants for MediaService.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.media")
+public class MediaProperties {
+
+    private String storageDir = System.getProperty("java.io.tmpdir") + "/toby-resume/media";
+    private DataSize maxUploadSize = DataSize.ofMegabytes(10);
+    /** Images with more pixels are stored but not resized (decompression-bomb guard). */
+    private long maxPixels = 40_000_000L;
+    /** Variant name → max width in px. Variants are never upscaled. */
+    private Map<String, Integer> variants = defaultVariants();
+    private int workerThreads = 2;
+    /** Beyond this, variant generation runs on the uploading thread (back-pressure). */
+    private int queueCapacity = 50;
+    /** Metadata of READY assets kept in memory for serving. */
+    private long cacheMaxEntries = 10_000L;
+    /** Origin media URLs are built on; the public site is served from a different origin. */
+    private String publicBaseUrl = "http://localhost:8080";
+
+    public String getStorageDir() {
+        return storageDir;
+    }
+
+    public void setStorageDir(String storageDir) {
+        this.storageDir = storageDir;
+    }
+
+    public DataSize getMaxUploadSize() {
+        return maxUploadSize;
+    }
+
+    public void setMaxUploadSize(DataSize maxUploadSize) {
+        this.maxUploadSize = maxUploadSize != null ? maxUploadSize : DataSize.ofMegabytes(10);
+    }
+
+    public long getMaxPixels() {
+        return maxPixels;
+    }
+
+    public void setMaxPixels(long maxPixels) {
+        this.maxPixels = maxPixels;
+    }
+
+    public Map<String, Integer> getVariants() {
+        return variants;
+    }
+
+    public void setVariants(Map<String, Integer> variants) {
+        this.variants = variants != null ? variants : defaultVariants();
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = Math.max(1, workerThreads);
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = Math.max(1, queueCapacity);
+    }
+
+    public long getCacheMaxEntries() {
+        return cacheMaxEntries;
+    }
+
+    public void setCacheMaxEntries(long cacheMaxEntries) {
+        this.cacheMaxEntries = cacheMaxEntries;
+    }
+
+    public String getPublicBaseUrl() {
+        return publicBaseUrl;
+    }
+
+    public void setPublicBaseUrl(String publicBaseUrl) {
+        String base = publicBaseUrl != null ? publicBaseUrl.strip() : "";
+        this.publicBaseUrl = base.endsWith("/") ? base.substring(0, base.length() - 1) : base;
+    }
+
+    private static Map<String, Integer> defaultVariants() {
+        Map<String, Integer> defaults = new LinkedHashMap<>();
+        defaults.put("thumb", 320);
+        defaults.put("medium", 1024);
+        return defaults;
+    }
+}
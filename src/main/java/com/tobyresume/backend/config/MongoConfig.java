@@ -1,15 +1,36 @@
 package com.tobyresume.backend.config;
 
+import com.tobyresume.backend.diagnostics.MongoCommandProfiler;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
+import org.springframework.data.mongodb.observability.ContextProviderFactory;
+import org.springframework.data.mongodb.observability.MongoObservationCommandListener;
 
 /**
  * Enables MongoDB auditing so that {@link com.tobyresume.backend.common.model.BaseDocument}
- * subclasses get createdAt and updatedAt set automatically.
+ * subclasses get createdAt and updatedAt set automatically. Registers the Spring Data command
+ * listener so each Mongo command is an observation (a span under the calling service or request),
+ * and the query-shape profiler when app.mongo-profiler.enabled is true.
  *
  * @see docs/ai/design/database-design.md §4.2
  */
 @Configuration
 @EnableMongoAuditing
 public class MongoConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoObservationCustomizer(ObservationRegistry observationRegistry,
+                                                                          MongoCommandProfiler profiler,
+                                                                          MongoProfilerProperties profilerProperties) {
+        return builder -> {
+            builder.contextProvider(ContextProviderFactory.create(observationRegistry))
+                    .addCommandListener(new MongoObservationCommandListener(observationRegistry));
+            if (profilerProperties.isEnabled()) {
+                builder.addCommandListener(profiler);
+            }
+        };
+    }
 }
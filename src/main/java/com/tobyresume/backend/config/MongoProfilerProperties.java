@@ -0,0 +1,55 @@
+package com.tobyresume.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Binds app.mongo-profiler.*. Limits for MongoCommandProfiler (query shapes and slow commands kept
+ * in memory for GET /api/v1/diagnostics/mongo).
+ */
+@Component
+@ConfigurationProperties(prefix = "app.mongo-profiler")
+public class MongoProfilerProperties {
+
+    private boolean enabled = true;
+    /** Commands at or above this duration are kept in the slow-command log. */
+    private Duration slowThreshold = Duration.ofMillis(100);
+    /** Distinct query shapes tracked; new shapes beyond this are counted but not kept. */
+    private int maxShapes = 500;
+    /** Most recent slow commands kept. */
+    private int maxSlowCommands = 100;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    public void setSlowThreshold(Duration slowThreshold) {
+        this.slowThreshold = slowThreshold != null ? slowThreshold : Duration.ofMillis(100);
+    }
+
+    public int getMaxShapes() {
+        return maxShapes;
+    }
+
+    public void setMaxShapes(int maxShapes) {
+        this.maxShapes = Math.max(1, maxShapes);
+    }
+
+    public int getMaxSlowCommands() {
+        return maxSlowCommands;
+    }
+
+    public void setMaxSlowCommands(int maxSlowCommands) {
+        this.maxSlowCommands = Math.max(1, maxSlowCommands);
+    }
+}
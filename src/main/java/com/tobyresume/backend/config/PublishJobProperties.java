@@ -0,0 +1,65 @@
+package com.tobyresume.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Binds app.publish.jobs.*. Sizing and retry policy for PublishJobRunner.
+ *
+ * @see docs/ai/design/api-design.md §5.2
+ */
+@Component
+@ConfigurationProperties(prefix = "app.publish.jobs")
+public class PublishJobProperties {
+
+    private int workerThreads = 2;
+    /** Jobs waiting beyond this stay PENDING in Mongo and are picked up by the sweep. */
+    private int queueCapacity = 100;
+    private int maxAttempts = 5;
+    /** Delay before the first retry; doubles on each further attempt. */
+    private Duration retryBackoff = Duration.ofSeconds(30);
+    /** RUNNING jobs older than this are assumed abandoned (worker died) and re-queued. */
+    private Duration staleAfter = Duration.ofMinutes(10);
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = Math.max(1, workerThreads);
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = Math.max(1, queueCapacity);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    public Duration getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    public void setRetryBackoff(Duration retryBackoff) {
+        this.retryBackoff = retryBackoff != null ? retryBackoff : Duration.ofSeconds(30);
+    }
+
+    public Duration getStaleAfter() {
+        return staleAfter;
+    }
+
+    public void setStaleAfter(Duration staleAfter) {
+        this.staleAfter = staleAfter != null ? staleAfter : Duration.ofMinutes(10);
+    }
+}
@@ -0,0 +1,106 @@
+package com.tobyresume.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binds app.rate-limit.*. Each rule matches request paths and limits requests per client IP,
+ * optionally with a shared bucket for the whole route. Used by RateLimitFilter.
+ *
+ * @see docs/ai/requirements/feature-api-conventions.md — Rate Limiting
+ */
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private long maxTrackedClients = 100_000L;
+    private Duration idleEviction = Duration.ofMinutes(10);
+    private List<Rule> rules = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaxTrackedClients() {
+        return maxTrackedClients;
+    }
+
+    public void setMaxTrackedClients(long maxTrackedClients) {
+        this.maxTrackedClients = maxTrackedClients;
+    }
+
+    public Duration getIdleEviction() {
+        return idleEviction;
+    }
+
+    public void setIdleEviction(Duration idleEviction) {
+        this.idleEviction = idleEviction != null ? idleEviction : Duration.ofMinutes(10);
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<Rule> rules) {
+        this.rules = rules != null ? rules : new ArrayList<>();
+    }
+
+    public static class Rule {
+        private String name;
+        private List<String> paths = new ArrayList<>();
+        /** Requests allowed per client IP within refillPeriod. */
+        private long capacity = 60L;
+        private Duration refillPeriod = Duration.ofMinutes(1);
+        /** Requests allowed for the whole route within refillPeriod; 0 disables the route bucket. */
+        private long routeCapacity = 0L;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<String> getPaths() {
+            return paths;
+        }
+
+        public void setPaths(List<String> paths) {
+            this.paths = paths != null ? paths : new ArrayList<>();
+        }
+
+        public long getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(long capacity) {
+            this.capacity = capacity;
+        }
+
+        public Duration getRefillPeriod() {
+            return refillPeriod;
+        }
+
+        public void setRefillPeriod(Duration refillPeriod) {
+            this.refillPeriod = refillPeriod != null ? refillPeriod : Duration.ofMinutes(1);
+        }
+
+        public long getRouteCapacity() {
+            return routeCapacity;
+        }
+
+        public void setRouteCapacity(long routeCapacity) {
+            this.routeCapacity = routeCapacity;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.tobyresume.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background tasks (e.g. TokenRevocationList sync, publish job sweep) and @Async
+ * work on Spring Boot's applicationTaskExecutor.
+ */
+@Configuration
+@EnableScheduling
+@EnableAsync
+public class SchedulingConfig {
+}
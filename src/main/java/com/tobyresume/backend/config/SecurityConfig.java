@@ -5,19 +5,34 @@ import com.tobyresume.backend.security.HttpEnvelopeEntryPoint;
 import com.tobyresume.backend.security.jwt.JwtAuthFilter;
 import com.tobyresume.backend.security.oauth2.OAuth2FailureHandler;
 import com.tobyresume.backend.security.oauth2.OAuth2SuccessHandler;
+import com.tobyresume.backend.security.ratelimit.RateLimitFilter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.web.filter.CorsFilter;
+
+import java.util.List;
 
 /**
  * Phase C: OAuth2 login (Google/GitHub), JWT for /api/v1/**, stateless sessions.
- * Public: /graphql, /actuator/**, /oauth2/**, /login/oauth2/**.
+ * Public: /graphql, /api/public/**, /actuator/health/**, /actuator/info, /oauth2/**, /login/oauth2/**,
+ * POST/DELETE /api/v1/auth/refresh (authenticated by the refresh cookie or body token). /actuator/prometheus is limited to app.security.metrics-allowed-cidrs.
+ * RateLimitFilter runs before JwtAuthFilter so rejected requests skip token validation.
+ * Public read paths (/graphql, /api/public/**) get their own chain with only CORS and rate limiting:
+ * no JWT, OAuth2, session, request-cache, anonymous or authorization filters.
  *
  * @see docs/ai/design/phase1-mvp.md §7.3
  */
@@ -25,29 +40,64 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableWebSecurity
 public class SecurityConfig {
 
+    /** Paths served without authentication by {@link #publicReadFilterChain}. */
+    static final String[] PUBLIC_READ_PATHS = { "/graphql", "/graphql/**", "/api/public/**" };
+
     private final JwtAuthFilter jwtAuthFilter;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
     private final OAuth2FailureHandler oAuth2FailureHandler;
+    private final RateLimitFilter rateLimitFilter;
+    private final AppSecurityProperties securityProperties;
 
     public SecurityConfig(JwtAuthFilter jwtAuthFilter,
                           OAuth2SuccessHandler oAuth2SuccessHandler,
-                          OAuth2FailureHandler oAuth2FailureHandler) {
+                          OAuth2FailureHandler oAuth2FailureHandler,
+                          RateLimitFilter rateLimitFilter,
+                          AppSecurityProperties securityProperties) {
         this.jwtAuthFilter = jwtAuthFilter;
         this.oAuth2SuccessHandler = oAuth2SuccessHandler;
         this.oAuth2FailureHandler = oAuth2FailureHandler;
+        this.rateLimitFilter = rateLimitFilter;
+        this.securityProperties = securityProperties;
+    }
+
+    /**
+     * Lightweight chain for public traffic (most requests). Matched first; everything else falls
+     * through to {@link #securityFilterChain}.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain publicReadFilterChain(HttpSecurity http) throws Exception {
+        return http
+                .securityMatcher(PUBLIC_READ_PATHS)
+                .cors(Customizer.withDefaults())
+                .csrf(AbstractHttpConfigurer::disable)
+                .securityContext(AbstractHttpConfigurer::disable)
+                .sessionManagement(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .anonymous(AbstractHttpConfigurer::disable)
+                .servletApi(AbstractHttpConfigurer::disable)
+                .exceptionHandling(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .addFilterAfter(rateLimitFilter, CorsFilter.class)
+                .build();
     }
 
     @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         return http
                 .cors(Customizer.withDefaults())
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/graphql", "/graphql/**").permitAll()
-                        .requestMatchers("/actuator/**").permitAll()
+                        .requestMatchers("/actuator", "/actuator/health/**", "/actuator/info").permitAll()
+                        .requestMatchers("/actuator/prometheus").access(metricsScrapeAccess())
+                        .requestMatchers("/actuator/**").denyAll()
                         .requestMatchers("/oauth2/**", "/login/oauth2/**").permitAll()
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/v1/auth/refresh").permitAll()
+                        .requestMatchers(HttpMethod.DELETE, "/api/v1/auth/refresh").permitAll()
                         .requestMatchers("/api/v1/**").authenticated()
                         .anyRequest().denyAll())
                 .oauth2Login(oauth -> oauth
@@ -57,6 +107,37 @@ public class SecurityConfig {
                         .authenticationEntryPoint(new HttpEnvelopeEntryPoint())
                         .accessDeniedHandler(new HttpEnvelopeAccessDeniedHandler()))
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(rateLimitFilter, JwtAuthFilter.class)
                 .build();
     }
+
+    /**
+     * JwtAuthFilter and RateLimitFilter are @Components; stop Spring Boot from also registering them
+     * as servlet filters so they run only inside the security chains that add them.
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthFilter> jwtAuthFilterRegistration(JwtAuthFilter filter) {
+        FilterRegistrationBean<JwtAuthFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    /**
+     * Grants the Prometheus endpoint to the configured scrape networks only; metrics reveal traffic
+     * shape and must not be public.
+     */
+    private AuthorizationManager<RequestAuthorizationContext> metricsScrapeAccess() {
+        List<IpAddressMatcher> allowed = securityProperties.getMetricsAllowedCidrs().stream()
+                .map(IpAddressMatcher::new)
+                .toList();
+        return (authentication, context) -> new AuthorizationDecision(
+                allowed.stream().anyMatch(m -> m.matches(context.getRequest())));
+    }
 }
@@ -0,0 +1,41 @@
+package com.tobyresume.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds app.static-export.*. Directory the published content is exported to for a CDN or nginx.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.static-export")
+public class StaticExportProperties {
+
+    private boolean enabled = false;
+    private String dir = System.getProperty("java.io.tmpdir") + "/toby-resume/static";
+    /** Exported versions kept on disk, so clients holding the previous manifest still resolve files. */
+    private int keepVersions = 2;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDir() {
+        return dir;
+    }
+
+    public void setDir(String dir) {
+        this.dir = dir;
+    }
+
+    public int getKeepVersions() {
+        return keepVersions;
+    }
+
+    public void setKeepVersions(int keepVersions) {
+        this.keepVersions = Math.max(1, keepVersions);
+    }
+}
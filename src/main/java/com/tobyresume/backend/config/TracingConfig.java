@@ -0,0 +1,22 @@
+package com.tobyresume.backend.config;
+
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Span export beyond Boot's defaults. Spans go to an OTLP collector when
+ * management.otlp.tracing.endpoint is set (auto-configured); with app.tracing.log-spans=true they are
+ * also written to the application log, which is enough for local debugging without a collector.
+ * The flag is read at startup rather than as a bean condition so it also works in the AOT build.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public SpanExporter loggingSpanExporter(@Value("${app.tracing.log-spans:false}") boolean logSpans) {
+        return logSpans ? LoggingSpanExporter.create() : SpanExporter.composite();
+    }
+}
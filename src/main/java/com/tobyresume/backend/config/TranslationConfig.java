@@ -0,0 +1,40 @@
+package com.tobyresume.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tobyresume.backend.translation.DisabledTranslationProvider;
+import com.tobyresume.backend.translation.GeminiTranslationProvider;
+import com.tobyresume.backend.translation.StubTranslationProvider;
+import com.tobyresume.backend.translation.TranslationProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+/**
+ * Chooses the TranslationProvider from app.translation.provider (stub | gemini). A factory method
+ * instead of @ConditionalOnProperty on the providers: an AOT-processed build fixes bean conditions at
+ * build time, while this choice is still made when the application starts. Unset, the dev and test
+ * profiles get the stub; elsewhere translation is disabled (requests fail, startup does not), so
+ * production never silently serves placeholder translations.
+ */
+@Configuration
+public class TranslationConfig {
+
+    @Bean
+    public TranslationProvider translationProvider(TranslationProperties properties, ObjectMapper objectMapper,
+                                                   Environment environment) {
+        String provider = properties.getProvider();
+        if (provider == null || provider.isBlank()) {
+            return environment.acceptsProfiles(Profiles.of("dev", "test"))
+                    ? new StubTranslationProvider()
+                    : new DisabledTranslationProvider();
+        }
+        if ("stub".equals(provider)) {
+            return new StubTranslationProvider();
+        }
+        if ("gemini".equals(provider)) {
+            return new GeminiTranslationProvider(properties, objectMapper);
+        }
+        throw new IllegalStateException("Unknown app.translation.provider: " + provider + " (expected stub or gemini)");
+    }
+}
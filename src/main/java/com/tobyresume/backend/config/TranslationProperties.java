@@ -0,0 +1,94 @@
+package com.tobyresume.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Binds app.translation.*. Provider selection, Gemini settings and batching limits for TranslationService.
+ *
+ * @see docs/ai/requirements/feature-ai-services.md
+ */
+@Component
+@ConfigurationProperties(prefix = "app.translation")
+public class TranslationProperties {
+
+    /** "stub" (local, no network) or "gemini". Required outside the dev and test profiles. */
+    private String provider;
+    private String geminiApiKey;
+    private String geminiModel = "gemini-1.5-flash";
+    private String geminiBaseUrl = "https://generativelanguage.googleapis.com/v1beta";
+    /** Upper bound for one translate call, including waiting on a coalesced request. */
+    private Duration timeout = Duration.ofSeconds(60);
+    /** Strings per provider call. */
+    private int maxBatchSize = 50;
+    /** Source characters per provider call (keeps prompts within token limits). */
+    private int maxBatchChars = 8000;
+    /** Provider calls in flight at once during a whole-draft translation. */
+    private int bulkConcurrency = 3;
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public void setProvider(String provider) {
+        this.provider = provider;
+    }
+
+    public String getGeminiApiKey() {
+        return geminiApiKey;
+    }
+
+    public void setGeminiApiKey(String geminiApiKey) {
+        this.geminiApiKey = geminiApiKey;
+    }
+
+    public String getGeminiModel() {
+        return geminiModel;
+    }
+
+    public void setGeminiModel(String geminiModel) {
+        this.geminiModel = geminiModel;
+    }
+
+    public String getGeminiBaseUrl() {
+        return geminiBaseUrl;
+    }
+
+    public void setGeminiBaseUrl(String geminiBaseUrl) {
+        this.geminiBaseUrl = geminiBaseUrl;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout != null ? timeout : Duration.ofSeconds(60);
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+
+    public int getMaxBatchChars() {
+        return maxBatchChars;
+    }
+
+    public void setMaxBatchChars(int maxBatchChars) {
+        this.maxBatchChars = Math.max(1, maxBatchChars);
+    }
+
+    public int getBulkConcurrency() {
+        return bulkConcurrency;
+    }
+
+    public void setBulkConcurrency(int bulkConcurrency) {
+        this.bulkConcurrency = Math.max(1, bulkConcurrency);
+    }
+}
@@ -0,0 +1,98 @@
+package com.tobyresume.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binds app.webhooks.*. Receivers notified after each publish by WebhookPublishTask; retries follow
+ * app.publish.jobs (max-attempts, retry-backoff doubling per attempt).
+ */
+@Component
+@ConfigurationProperties(prefix = "app.webhooks")
+public class WebhookProperties {
+
+    private List<Endpoint> endpoints = new ArrayList<>();
+    /** Publishes within this window after the first are delivered once, for the latest version. */
+    private Duration coalesceWindow = Duration.ofSeconds(10);
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private Duration readTimeout = Duration.ofSeconds(10);
+    /** Receivers called in parallel. */
+    private int concurrency = 4;
+
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(List<Endpoint> endpoints) {
+        this.endpoints = endpoints != null ? endpoints : new ArrayList<>();
+    }
+
+    public Duration getCoalesceWindow() {
+        return coalesceWindow;
+    }
+
+    public void setCoalesceWindow(Duration coalesceWindow) {
+        this.coalesceWindow = coalesceWindow != null ? coalesceWindow : Duration.ZERO;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout != null ? connectTimeout : Duration.ofSeconds(5);
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(Duration readTimeout) {
+        this.readTimeout = readTimeout != null ? readTimeout : Duration.ofSeconds(10);
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    /** A receiver. With a secret, requests carry X-Webhook-Signature: sha256=HMAC(secret, body). */
+    public static class Endpoint {
+
+        private String name;
+        private String url;
+        private String secret;
+
+        /** Identifies the receiver in delivery records; defaults to the URL. */
+        public String getName() {
+            return name != null && !name.isBlank() ? name : url;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getSecret() {
+            return secret;
+        }
+
+        public void setSecret(String secret) {
+            this.secret = secret;
+        }
+    }
+}
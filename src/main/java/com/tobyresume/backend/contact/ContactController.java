@@ -0,0 +1,54 @@
+package com.tobyresume.backend.contact;
+
+import com.tobyresume.backend.common.dto.ApiResponse;
+import com.tobyresume.backend.contact.dto.ContactMessageResponse;
+import com.tobyresume.backend.contact.dto.ContactRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Contact form. POST /api/public/contact accepts a message (202; email is sent asynchronously);
+ * /api/v1/contact/messages lets the admin list messages and mark them read.
+ *
+ * @see docs/ai/requirements/feature-extras.md — Contact Form / Messaging
+ */
+@RestController
+public class ContactController {
+
+    private final ContactService contactService;
+
+    public ContactController(ContactService contactService) {
+        this.contactService = contactService;
+    }
+
+    @PostMapping("/api/public/contact")
+    public ResponseEntity<ApiResponse<Void>> submit(@Valid @RequestBody ContactRequest request,
+                                                    HttpServletRequest httpRequest) {
+        contactService.submit(request, httpRequest.getRemoteAddr());
+        return ResponseEntity.accepted().body(ApiResponse.success(null));
+    }
+
+    @GetMapping("/api/v1/contact/messages")
+    public ResponseEntity<ApiResponse<List<ContactMessageResponse>>> list(
+            @RequestParam(defaultValue = "false") boolean unreadOnly,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(ApiResponse.success(contactService.list(unreadOnly, limit)));
+    }
+
+    @PutMapping("/api/v1/contact/messages/{id}/read")
+    public ResponseEntity<ApiResponse<ContactMessageResponse>> markRead(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "true") boolean read) {
+        return ResponseEntity.ok(ApiResponse.success(contactService.markRead(id, read)));
+    }
+}
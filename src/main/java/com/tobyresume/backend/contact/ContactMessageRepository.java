@@ -0,0 +1,17 @@
+package com.tobyresume.backend.contact;
+
+import com.tobyresume.backend.contact.model.ContactMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+/**
+ * Contact form messages (contact_messages).
+ */
+public interface ContactMessageRepository extends MongoRepository<ContactMessage, String> {
+
+    List<ContactMessage> findAllByOrderByCreatedAtDesc(Pageable pageable);
+
+    List<ContactMessage> findByReadFalseOrderByCreatedAtDesc(Pageable pageable);
+}
@@ -0,0 +1,200 @@
+package com.tobyresume.backend.contact;
+
+import com.tobyresume.backend.config.ContactProperties;
+import com.tobyresume.backend.contact.model.ContactMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emails the admin about new contact messages without blocking the request: enqueue() only offers to
+ * a bounded queue, and one worker thread drains it in batches, each sent over a single SMTP
+ * connection. A failed batch is retried (only the messages that failed) with exponential backoff up to
+ * app.contact.max-attempts. When the queue is full the notification is dropped; the message itself is
+ * already stored and shows in the admin list.
+ */
+@Component
+public class ContactNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(ContactNotifier.class);
+
+    private final ContactProperties properties;
+    private final JavaMailSenderImpl mailSender;
+    private final BlockingQueue<ContactMessage> queue;
+    private final ExecutorService worker;
+    private final Counter sent;
+    private final Counter failed;
+    private final Counter dropped;
+
+    public ContactNotifier(ContactProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.sent = counter(meterRegistry, "sent");
+        this.failed = counter(meterRegistry, "failed");
+        this.dropped = counter(meterRegistry, "dropped");
+        Gauge.builder("contact.mail.queue.size", queue, BlockingQueue::size)
+                .description("Contact notifications waiting to be sent")
+                .register(meterRegistry);
+        if (!properties.isMailEnabled()) {
+            log.info("Contact email notifications disabled (app.contact.smtp-host or notify-to not set)");
+            this.mailSender = null;
+            this.worker = null;
+            return;
+        }
+        this.mailSender = createMailSender(properties);
+        this.worker = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "contact-mail");
+            t.setDaemon(true);
+            return t;
+        });
+        this.worker.execute(this::drainLoop);
+    }
+
+    /** Queues a notification; returns false if notifications are off or the queue is full. */
+    public boolean enqueue(ContactMessage message) {
+        if (mailSender == null) {
+            return false;
+        }
+        if (!queue.offer(message)) {
+            dropped.increment();
+            log.warn("Contact notification queue full; not emailing message {}", message.getId());
+            return false;
+        }
+        return true;
+    }
+
+    private void drainLoop() {
+        List<ContactMessage> batch = new ArrayList<>(properties.getBatchSize());
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batch.add(queue.take());
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                sendWithRetry(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void sendWithRetry(List<ContactMessage> batch) throws InterruptedException {
+        List<ContactMessage> pending = batch;
+        for (int attempt = 1; ; attempt++) {
+            pending = send(pending);
+            if (pending.isEmpty()) {
+                return;
+            }
+            if (attempt >= properties.getMaxAttempts()) {
+                failed.increment(pending.size());
+                log.error("Giving up emailing {} contact message(s) after {} attempts", pending.size(), attempt);
+                return;
+            }
+            Thread.sleep(properties.getRetryBackoff().toMillis() << (attempt - 1));
+        }
+    }
+
+    /** Sends the batch over one connection; returns the messages that failed. */
+    List<ContactMessage> send(List<ContactMessage> batch) {
+        List<MimeMessage> mails = new ArrayList<>(batch.size());
+        List<ContactMessage> built = new ArrayList<>(batch.size());
+        List<ContactMessage> failedMessages = new ArrayList<>();
+        for (ContactMessage m : batch) {
+            try {
+                mails.add(toMail(m));
+                built.add(m);
+            } catch (MessagingException e) {
+                log.warn("Could not build notification for contact message {}", m.getId(), e);
+            }
+        }
+        try {
+            mailSender.send(mails.toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            // Failed messages are keyed by the MimeMessage we passed; map them back.
+            for (int i = 0; i < mails.size(); i++) {
+                if (e.getFailedMessages().containsKey(mails.get(i))) {
+                    failedMessages.add(built.get(i));
+                }
+            }
+            if (failedMessages.isEmpty()) {
+                failedMessages.addAll(built);
+            }
+            log.warn("Contact notification: {} of {} failed: {}", failedMessages.size(), batch.size(), e.getMessage());
+        } catch (MailException e) {
+            failedMessages.addAll(built);
+            log.warn("Contact notification batch of {} failed: {}", batch.size(), e.getMessage());
+        }
+        sent.increment(mails.size() - failedMessages.size());
+        return failedMessages;
+    }
+
+    private MimeMessage toMail(ContactMessage m) throws MessagingException {
+        MimeMessage mail = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mail, StandardCharsets.UTF_8.name());
+        helper.setTo(properties.getNotifyTo());
+        helper.setFrom(properties.getMailFrom() != null && !properties.getMailFrom().isBlank()
+                ? properties.getMailFrom() : properties.getNotifyTo());
+        helper.setReplyTo(m.getEmail());
+        String subject = m.getSubject() != null && !m.getSubject().isBlank() ? m.getSubject() : "(no subject)";
+        helper.setSubject("[Contact] " + subject);
+        helper.setText("From: " + m.getName() + " <" + m.getEmail() + ">\n"
+                + "Received: " + m.getCreatedAt() + "\n\n" + m.getMessage());
+        return mail;
+    }
+
+    private static JavaMailSenderImpl createMailSender(ContactProperties properties) {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost(properties.getSmtpHost());
+        sender.setPort(properties.getSmtpPort());
+        sender.setUsername(properties.getSmtpUsername());
+        sender.setPassword(properties.getSmtpPassword());
+        sender.setDefaultEncoding(StandardCharsets.UTF_8.name());
+        String timeout = String.valueOf(properties.getSmtpTimeout().toMillis());
+        Properties javaMail = sender.getJavaMailProperties();
+        javaMail.put("mail.smtp.auth", String.valueOf(properties.getSmtpUsername() != null
+                && !properties.getSmtpUsername().isBlank()));
+        javaMail.put("mail.smtp.starttls.enable", String.valueOf(properties.isSmtpStarttls()));
+        javaMail.put("mail.smtp.connectiontimeout", timeout);
+        javaMail.put("mail.smtp.timeout", timeout);
+        javaMail.put("mail.smtp.writetimeout", timeout);
+        return sender;
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("contact.mail")
+                .tag("result", result)
+                .description("Contact notification emails by outcome")
+                .register(registry);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (worker == null) {
+            return;
+        }
+        worker.shutdownNow();
+        worker.awaitTermination(5, TimeUnit.SECONDS);
+        if (!queue.isEmpty()) {
+            log.warn("{} contact notification(s) not sent at shutdown", queue.size());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.tobyresume.backend.contact;
+
+import com.tobyresume.backend.common.exception.ResourceNotFoundException;
+import com.tobyresume.backend.common.util.Hashing;
+import com.tobyresume.backend.config.ContactProperties;
+import com.tobyresume.backend.contact.dto.ContactMessageResponse;
+import com.tobyresume.backend.contact.dto.ContactRequest;
+import com.tobyresume.backend.contact.model.ContactMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Contact form intake. Floods are stopped before this service by the "contact" rate-limit rule
+ * (per-IP and route-wide token buckets); honeypot submissions are accepted but discarded without a
+ * database write. Stored messages are emailed to the admin asynchronously by ContactNotifier. The
+ * sender IP is kept only as an HMAC keyed with app.contact.ip-hash-secret (a plain SHA-256 of an IPv4
+ * address is reversible by enumeration); without a secret no IP is stored.
+ *
+ * @see docs/ai/requirements/feature-extras.md — Contact Form / Messaging
+ */
+@Service
+public class ContactService {
+
+    private static final Logger log = LoggerFactory.getLogger(ContactService.class);
+
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 200;
+
+    private final ContactMessageRepository repository;
+    private final ContactNotifier notifier;
+    private final ContactProperties properties;
+
+    public ContactService(ContactMessageRepository repository, ContactNotifier notifier,
+                          ContactProperties properties) {
+        this.repository = repository;
+        this.notifier = notifier;
+        this.properties = properties;
+    }
+
+    /** Stores the message and queues the admin notification. Honeypot hits are silently dropped. */
+    public void submit(ContactRequest request, String clientIp) {
+        if (request.getWebsite() != null && !request.getWebsite().isBlank()) {
+            log.debug("Contact honeypot filled; dropping submission");
+            return;
+        }
+        ContactMessage message = new ContactMessage();
+        message.setName(clean(request.getName()));
+        message.setEmail(request.getEmail().trim());
+        message.setSubject(request.getSubject() != null ? clean(request.getSubject()) : null);
+        message.setMessage(request.getMessage().trim());
+        message.setIpHash(ipHash(clientIp));
+        message.setCreatedAt(Instant.now());
+        notifier.enqueue(repository.save(message));
+    }
+
+    public List<ContactMessageResponse> list(boolean unreadOnly, Integer limit) {
+        int max = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        PageRequest page = PageRequest.of(0, max);
+        List<ContactMessage> messages = unreadOnly
+                ? repository.findByReadFalseOrderByCreatedAtDesc(page)
+                : repository.findAllByOrderByCreatedAtDesc(page);
+        return messages.stream().map(ContactMessageResponse::from).toList();
+    }
+
+    public ContactMessageResponse markRead(String id, boolean read) {
+        ContactMessage message = repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Contact message not found: " + id));
+        if (message.isRead() != read) {
+            message.setRead(read);
+            message = repository.save(message);
+        }
+        return ContactMessageResponse.from(message);
+    }
+
+    private String ipHash(String clientIp) {
+        String secret = properties.getIpHashSecret();
+        if (clientIp == null || secret == null || secret.isBlank()) {
+            return null;
+        }
+        return Hashing.hmacSha256Hex(secret, clientIp);
+    }
+
+    /** Trims and strips control characters from single-line fields (they end up in email headers). */
+    private static String clean(String value) {
+        return value.replaceAll("\\p{Cntrl}", " ").trim();
+    }
+}
@@ -0,0 +1,87 @@
+package com.tobyresume.backend.contact.dto;
+
+import com.tobyresume.backend.contact.model.ContactMessage;
+
+import java.time.Instant;
+
+/**
+ * Contact message in the admin list (GET /api/v1/contact/messages).
+ */
+public class ContactMessageResponse {
+
+    private String id;
+    private String name;
+    private String email;
+    private String subject;
+    private String message;
+    private boolean read;
+    private Instant createdAt;
+
+    public static ContactMessageResponse from(ContactMessage m) {
+        ContactMessageResponse r = new ContactMessageResponse();
+        r.id = m.getId();
+        r.name = m.getName();
+        r.email = m.getEmail();
+        r.subject = m.getSubject();
+        r.message = m.getMessage();
+        r.read = m.isRead();
+        r.createdAt = m.getCreatedAt();
+        return r;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public boolean isRead() {
+        return read;
+    }
+
+    public void setRead(boolean read) {
+        this.read = read;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,70 @@
+package com.tobyresume.backend.contact.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Request body for POST /api/public/contact. website is a honeypot: hidden in the form, so only bots
+ * fill it in.
+ */
+public class ContactRequest {
+
+    @NotBlank(message = "name is required")
+    @Size(max = 100, message = "name must be at most 100 characters")
+    private String name;
+
+    @NotBlank(message = "email is required")
+    @Email(message = "email must be a valid email address")
+    @Size(max = 254, message = "email must be at most 254 characters")
+    private String email;
+
+    @Size(max = 200, message = "subject must be at most 200 characters")
+    private String subject;
+
+    @NotBlank(message = "message is required")
+    @Size(max = 5000, message = "message must be at most 5000 characters")
+    private String message;
+
+    private String website;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public String getWebsite() {
+        return website;
+    }
+
+    public void setWebsite(String website) {
+        this.website = website;
+    }
+}
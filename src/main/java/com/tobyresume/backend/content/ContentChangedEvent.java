@@ -0,0 +1,10 @@
+package com.tobyresume.backend.content;
+
+/**
+ * Published after content documents are modified by a direct Mongo update (e.g. the bulk draft
+ * translation), which bypasses repository save events. Listeners reload the section.
+ *
+ * @param documentType section document class (e.g. WorkExperience)
+ */
+public record ContentChangedEvent(Class<?> documentType) {
+}
@@ -0,0 +1,37 @@
+package com.tobyresume.backend.diagnostics;
+
+import com.tobyresume.backend.common.dto.ApiResponse;
+import com.tobyresume.backend.diagnostics.dto.MongoProfileResponse;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Admin diagnostics. GET returns Mongo query-shape timings and index suggestions; DELETE clears the
+ * collected statistics (e.g. before a load test).
+ */
+@RestController
+@Lazy
+@RequestMapping("/api/v1/diagnostics")
+public class DiagnosticsController {
+
+    private final MongoDiagnosticsService diagnosticsService;
+
+    public DiagnosticsController(MongoDiagnosticsService diagnosticsService) {
+        this.diagnosticsService = diagnosticsService;
+    }
+
+    @GetMapping("/mongo")
+    public ResponseEntity<ApiResponse<MongoProfileResponse>> mongoProfile() {
+        return ResponseEntity.ok(ApiResponse.success(diagnosticsService.report()));
+    }
+
+    @DeleteMapping("/mongo")
+    public ResponseEntity<ApiResponse<Void>> resetMongoProfile() {
+        diagnosticsService.reset();
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+}
@@ -0,0 +1,97 @@
+package com.tobyresume.backend.diagnostics;
+
+import com.tobyresume.backend.diagnostics.MongoCommandProfiler.ShapeSnapshot;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Suggests indexes for observed query shapes that no existing index supports. An index supports a
+ * shape when its leading keys are the equality fields (any order), followed by the sort fields in
+ * order (all directions equal or all reversed); with neither, the first key must be a range field.
+ * Suggestions follow the equality-sort-range rule. Shapes without a predicate (inserts, full reads)
+ * and shapes filtering only with other operators ($ne, $regex, $or, ...) are not advised.
+ */
+public final class IndexAdvisor {
+
+    private IndexAdvisor() {
+    }
+
+    /**
+     * @param indexes existing index keys per collection; each index is an ordered field → direction
+     *                map (1, -1, or 0 for text/geo keys)
+     */
+    public static List<Suggestion> suggest(List<ShapeSnapshot> observed, Map<String, List<Map<String, Integer>>> indexes) {
+        Map<String, Suggestion> byIndex = new LinkedHashMap<>();
+        for (ShapeSnapshot s : observed) {
+            QueryShape shape = s.shape();
+            if (shape.equality().isEmpty() && shape.sort().isEmpty() && shape.range().isEmpty()) {
+                continue;
+            }
+            List<Map<String, Integer>> existing = indexes.getOrDefault(shape.collection(), List.of());
+            if (existing.stream().anyMatch(index -> supports(index, shape))) {
+                continue;
+            }
+            Map<String, Integer> index = recommend(shape);
+            String key = shape.collection() + " " + format(index);
+            Suggestion previous = byIndex.get(key);
+            List<String> shapes = new ArrayList<>(previous != null ? previous.shapes() : List.of());
+            shapes.add(shape.describe());
+            byIndex.put(key, new Suggestion(shape.collection(), format(index), shapes,
+                    (previous != null ? previous.calls() : 0) + s.count(),
+                    (previous != null ? previous.totalMillis() : 0) + s.totalMillis()));
+        }
+        List<Suggestion> out = new ArrayList<>(byIndex.values());
+        out.sort((a, b) -> Double.compare(b.totalMillis(), a.totalMillis()));
+        return out;
+    }
+
+    static boolean supports(Map<String, Integer> index, QueryShape shape) {
+        List<String> keys = new ArrayList<>(index.keySet());
+        int pos = 0;
+        Set<String> equality = new HashSet<>(shape.equality());
+        while (pos < keys.size() && equality.remove(keys.get(pos))) {
+            pos++;
+        }
+        if (!equality.isEmpty()) {
+            return false;
+        }
+        int sign = 0;
+        for (Map.Entry<String, Integer> sortKey : shape.sort().entrySet()) {
+            if (pos >= keys.size() || !keys.get(pos).equals(sortKey.getKey())) {
+                return false;
+            }
+            int relative = index.get(keys.get(pos)) * sortKey.getValue();
+            if (relative == 0 || (sign != 0 && sign != relative)) {
+                return false;
+            }
+            sign = relative;
+            pos++;
+        }
+        if (pos == 0) {
+            return !keys.isEmpty() && shape.range().contains(keys.get(0));
+        }
+        return true;
+    }
+
+    static Map<String, Integer> recommend(QueryShape shape) {
+        Map<String, Integer> index = new LinkedHashMap<>();
+        shape.equality().forEach(f -> index.put(f, 1));
+        shape.sort().forEach(index::putIfAbsent);
+        shape.range().forEach(f -> index.putIfAbsent(f, 1));
+        return index;
+    }
+
+    static String format(Map<String, Integer> index) {
+        return index.entrySet().stream()
+                .map(e -> e.getKey() + ": " + e.getValue())
+                .collect(Collectors.joining(", ", "{ ", " }"));
+    }
+
+    public record Suggestion(String collection, String index, List<String> shapes, long calls, double totalMillis) {}
+}
@@ -0,0 +1,163 @@
+package com.tobyresume.backend.diagnostics;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import com.tobyresume.backend.config.MongoProfilerProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Mongo driver command listener that aggregates time per query shape and keeps the most recent slow
+ * commands. The shape is taken from the command in commandStarted (the document is only valid during
+ * the event) and matched to the outcome by request id. Registered on the client by MongoConfig when
+ * app.mongo-profiler.enabled is true. Only shapes are kept, never field values.
+ */
+@Component
+public class MongoCommandProfiler implements CommandListener {
+
+    private static final Logger log = LoggerFactory.getLogger(MongoCommandProfiler.class);
+
+    private final long slowThresholdNanos;
+    private final int maxShapes;
+    private final int maxSlowCommands;
+    private final ConcurrentMap<Integer, QueryShape> pending = new ConcurrentHashMap<>();
+    private final ConcurrentMap<QueryShape, ShapeStats> shapes = new ConcurrentHashMap<>();
+    private final Deque<SlowCommand> slowCommands = new ArrayDeque<>();
+    private final LongAdder untrackedShapes = new LongAdder();
+    private volatile Instant since = Instant.now();
+
+    public MongoCommandProfiler(MongoProfilerProperties properties) {
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+        this.maxShapes = properties.getMaxShapes();
+        this.maxSlowCommands = properties.getMaxSlowCommands();
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        QueryShape shape = QueryShape.from(event.getCommandName(), event.getCommand());
+        if (shape != null) {
+            pending.put(event.getRequestId(), shape);
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        complete(event.getRequestId(), event.getElapsedTime(TimeUnit.NANOSECONDS), false);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        complete(event.getRequestId(), event.getElapsedTime(TimeUnit.NANOSECONDS), true);
+    }
+
+    private void complete(int requestId, long nanos, boolean failed) {
+        QueryShape shape = pending.remove(requestId);
+        if (shape == null) {
+            return;
+        }
+        ShapeStats stats = shapes.get(shape);
+        if (stats == null) {
+            if (shapes.size() >= maxShapes) {
+                untrackedShapes.increment();
+            } else {
+                stats = shapes.computeIfAbsent(shape, s -> new ShapeStats());
+            }
+        }
+        boolean slow = nanos >= slowThresholdNanos;
+        if (stats != null) {
+            stats.record(nanos, slow, failed);
+        }
+        if (slow) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+            log.debug("Slow Mongo command {}ms: {}", millis, shape.describe());
+            synchronized (slowCommands) {
+                if (slowCommands.size() == maxSlowCommands) {
+                    slowCommands.removeFirst();
+                }
+                slowCommands.addLast(new SlowCommand(Instant.now(), shape, millis, failed));
+            }
+        }
+    }
+
+    /** Tracked shapes, most total time first. */
+    public List<ShapeSnapshot> shapes() {
+        List<ShapeSnapshot> out = new ArrayList<>(shapes.size());
+        shapes.forEach((shape, stats) -> out.add(stats.snapshot(shape)));
+        out.sort(Comparator.comparingDouble(ShapeSnapshot::totalMillis).reversed());
+        return out;
+    }
+
+    /** Recent slow commands, newest first. */
+    public List<SlowCommand> slowCommands() {
+        synchronized (slowCommands) {
+            List<SlowCommand> out = new ArrayList<>(slowCommands);
+            Collections.reverse(out);
+            return out;
+        }
+    }
+
+    public long untrackedShapes() {
+        return untrackedShapes.sum();
+    }
+
+    public Instant since() {
+        return since;
+    }
+
+    public void reset() {
+        shapes.clear();
+        synchronized (slowCommands) {
+            slowCommands.clear();
+        }
+        untrackedShapes.reset();
+        since = Instant.now();
+    }
+
+    private static final class ShapeStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LongAdder slow = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        void record(long nanos, boolean isSlow, boolean isFailed) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            if (isSlow) {
+                slow.increment();
+            }
+            if (isFailed) {
+                failed.increment();
+            }
+        }
+
+        ShapeSnapshot snapshot(QueryShape shape) {
+            long n = count.sum();
+            double total = totalNanos.sum() / 1_000_000.0;
+            return new ShapeSnapshot(shape, n, total, n == 0 ? 0 : total / n, maxNanos.get() / 1_000_000.0,
+                    slow.sum(), failed.sum());
+        }
+    }
+
+    public record ShapeSnapshot(QueryShape shape, long count, double totalMillis, double avgMillis,
+                                double maxMillis, long slowCount, long failedCount) {}
+
+    public record SlowCommand(Instant at, QueryShape shape, long millis, boolean failed) {}
+}
@@ -0,0 +1,68 @@
+package com.tobyresume.backend.diagnostics;
+
+import com.tobyresume.backend.diagnostics.MongoCommandProfiler.ShapeSnapshot;
+import com.tobyresume.backend.diagnostics.dto.IndexSuggestionResponse;
+import com.tobyresume.backend.diagnostics.dto.MongoProfileResponse;
+import com.tobyresume.backend.diagnostics.dto.QueryShapeResponse;
+import com.tobyresume.backend.diagnostics.dto.SlowCommandResponse;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the Mongo profile report: profiler snapshots plus index suggestions checked against the
+ * indexes that currently exist on each observed collection.
+ */
+@Service
+@Lazy
+public class MongoDiagnosticsService {
+
+    private final MongoCommandProfiler profiler;
+    private final MongoTemplate mongoTemplate;
+
+    public MongoDiagnosticsService(MongoCommandProfiler profiler, MongoTemplate mongoTemplate) {
+        this.profiler = profiler;
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public MongoProfileResponse report() {
+        List<ShapeSnapshot> shapes = profiler.shapes();
+        Map<String, List<Map<String, Integer>>> indexes = new HashMap<>();
+        for (ShapeSnapshot s : shapes) {
+            indexes.computeIfAbsent(s.shape().collection(), this::indexKeys);
+        }
+        MongoProfileResponse r = new MongoProfileResponse();
+        r.setSince(profiler.since());
+        r.setUntrackedShapes(profiler.untrackedShapes());
+        r.setShapes(shapes.stream().map(QueryShapeResponse::from).toList());
+        r.setSlowCommands(profiler.slowCommands().stream().map(SlowCommandResponse::from).toList());
+        r.setSuggestions(IndexAdvisor.suggest(shapes, indexes).stream().map(IndexSuggestionResponse::from).toList());
+        return r;
+    }
+
+    public void reset() {
+        profiler.reset();
+    }
+
+    private List<Map<String, Integer>> indexKeys(String collection) {
+        List<Map<String, Integer>> out = new ArrayList<>();
+        for (IndexInfo info : mongoTemplate.indexOps(collection).getIndexInfo()) {
+            Map<String, Integer> keys = new LinkedHashMap<>();
+            for (IndexField field : info.getIndexFields()) {
+                Sort.Direction direction = field.getDirection();
+                keys.put(field.getKey(), direction == null ? 0 : direction == Sort.Direction.ASC ? 1 : -1);
+            }
+            out.add(keys);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,191 @@
+package com.tobyresume.backend.diagnostics;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Normalized form of a Mongo command: collection, operation, and which fields are filtered by
+ * equality, range or other operators, plus the sort. Values are dropped, so queries that differ only
+ * in their parameters share a shape and no document data is kept.
+ */
+public record QueryShape(String collection,
+                         String operation,
+                         Set<String> equality,
+                         Set<String> range,
+                         Set<String> other,
+                         Map<String, Integer> sort) {
+
+    private static final Set<String> RANGE_OPERATORS = Set.of("$gt", "$gte", "$lt", "$lte");
+    private static final Set<String> EQUALITY_OPERATORS = Set.of("$eq", "$in");
+
+    /**
+     * Extracts the shape of a driver command, or returns null for commands that are not reads or
+     * writes on a collection (hello, getMore, endSessions, ...).
+     */
+    public static QueryShape from(String commandName, BsonDocument command) {
+        BsonDocument filter;
+        BsonDocument sort = null;
+        String collection;
+        switch (commandName) {
+            case "find" -> {
+                collection = string(command, "find");
+                filter = document(command, "filter");
+                sort = document(command, "sort");
+            }
+            case "count" -> {
+                collection = string(command, "count");
+                filter = document(command, "query");
+            }
+            case "distinct" -> {
+                collection = string(command, "distinct");
+                filter = document(command, "query");
+            }
+            case "findAndModify" -> {
+                collection = string(command, "findAndModify");
+                filter = document(command, "query");
+                sort = document(command, "sort");
+            }
+            case "update" -> {
+                collection = string(command, "update");
+                filter = firstStatement(command, "updates");
+            }
+            case "delete" -> {
+                collection = string(command, "delete");
+                filter = firstStatement(command, "deletes");
+            }
+            case "aggregate" -> {
+                collection = string(command, "aggregate");
+                filter = pipelineStage(command, "$match");
+                sort = pipelineStage(command, "$sort");
+            }
+            case "insert" -> {
+                collection = string(command, "insert");
+                filter = new BsonDocument();
+            }
+            default -> {
+                return null;
+            }
+        }
+        if (collection == null) {
+            return null;
+        }
+        Set<String> equality = new TreeSet<>();
+        Set<String> range = new TreeSet<>();
+        Set<String> other = new TreeSet<>();
+        classify(filter, equality, range, other);
+        Map<String, Integer> sortKeys = new LinkedHashMap<>();
+        if (sort != null) {
+            sort.forEach((field, dir) -> sortKeys.put(field, dir.isNumber() && dir.asNumber().intValue() < 0 ? -1 : 1));
+        }
+        return new QueryShape(collection, commandName, equality, range, other, sortKeys);
+    }
+
+    /** True when the command selects documents by some field (inserts and full scans do not). */
+    public boolean hasPredicate() {
+        return !equality.isEmpty() || !range.isEmpty() || !other.isEmpty() || !sort.isEmpty();
+    }
+
+    /** Compact description, e.g. {@code find version_snapshots {} sort {publishedAt: -1}}. */
+    public String describe() {
+        List<String> parts = new ArrayList<>();
+        equality.forEach(f -> parts.add(f + ": eq"));
+        range.forEach(f -> parts.add(f + ": range"));
+        other.forEach(f -> parts.add(f + ": other"));
+        StringBuilder sb = new StringBuilder(operation).append(' ').append(collection)
+                .append(" {").append(String.join(", ", parts)).append('}');
+        if (!sort.isEmpty()) {
+            List<String> keys = new ArrayList<>();
+            sort.forEach((f, d) -> keys.add(f + ": " + d));
+            sb.append(" sort {").append(String.join(", ", keys)).append('}');
+        }
+        return sb.toString();
+    }
+
+    private static void classify(BsonDocument filter, Set<String> equality, Set<String> range, Set<String> other) {
+        for (Map.Entry<String, BsonValue> entry : filter.entrySet()) {
+            String field = entry.getKey();
+            BsonValue value = entry.getValue();
+            if ("$and".equals(field) && value.isArray()) {
+                for (BsonValue clause : value.asArray()) {
+                    if (clause.isDocument()) {
+                        classify(clause.asDocument(), equality, range, other);
+                    }
+                }
+            } else if (field.startsWith("$")) {
+                // $or / $nor / $expr: each branch needs its own index; report the fields as "other".
+                collectFields(value, other);
+            } else if (value.isDocument() && isOperatorDocument(value.asDocument())) {
+                Set<String> operators = value.asDocument().keySet();
+                if (EQUALITY_OPERATORS.containsAll(operators)) {
+                    equality.add(field);
+                } else if (RANGE_OPERATORS.containsAll(operators)) {
+                    range.add(field);
+                } else {
+                    other.add(field);
+                }
+            } else {
+                equality.add(field);
+            }
+        }
+    }
+
+    private static void collectFields(BsonValue value, Set<String> out) {
+        if (value.isArray()) {
+            for (BsonValue v : value.asArray()) {
+                collectFields(v, out);
+            }
+        } else if (value.isDocument()) {
+            value.asDocument().forEach((k, v) -> {
+                if (k.startsWith("$")) {
+                    collectFields(v, out);
+                } else {
+                    out.add(k);
+                }
+            });
+        }
+    }
+
+    private static boolean isOperatorDocument(BsonDocument doc) {
+        return !doc.isEmpty() && doc.keySet().stream().allMatch(k -> k.startsWith("$"));
+    }
+
+    private static String string(BsonDocument command, String key) {
+        BsonValue v = command.get(key);
+        return v != null && v.isString() ? v.asString().getValue() : null;
+    }
+
+    private static BsonDocument document(BsonDocument command, String key) {
+        BsonValue v = command.get(key);
+        return v != null && v.isDocument() ? v.asDocument() : new BsonDocument();
+    }
+
+    private static BsonDocument firstStatement(BsonDocument command, String key) {
+        BsonValue v = command.get(key);
+        if (v != null && v.isArray() && !v.asArray().isEmpty() && v.asArray().get(0).isDocument()) {
+            return document(v.asArray().get(0).asDocument(), "q");
+        }
+        return new BsonDocument();
+    }
+
+    private static BsonDocument pipelineStage(BsonDocument command, String stage) {
+        BsonValue v = command.get("pipeline");
+        if (v == null || !v.isArray()) {
+            return stage.equals("$match") ? new BsonDocument() : null;
+        }
+        BsonArray pipeline = v.asArray();
+        for (BsonValue s : pipeline) {
+            if (s.isDocument() && s.asDocument().containsKey(stage) && s.asDocument().get(stage).isDocument()) {
+                return s.asDocument().getDocument(stage);
+            }
+        }
+        return stage.equals("$match") ? new BsonDocument() : null;
+    }
+}
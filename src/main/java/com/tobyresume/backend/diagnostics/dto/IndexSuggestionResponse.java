@@ -0,0 +1,67 @@
+package com.tobyresume.backend.diagnostics.dto;
+
+import com.tobyresume.backend.diagnostics.IndexAdvisor.Suggestion;
+
+import java.util.List;
+
+/**
+ * Suggested index in GET /api/v1/diagnostics/mongo; index is in createIndex key form.
+ */
+public class IndexSuggestionResponse {
+
+    private String collection;
+    private String index;
+    private List<String> shapes;
+    private long calls;
+    private double totalMillis;
+
+    public static IndexSuggestionResponse from(Suggestion s) {
+        IndexSuggestionResponse r = new IndexSuggestionResponse();
+        r.collection = s.collection();
+        r.index = s.index();
+        r.shapes = s.shapes();
+        r.calls = s.calls();
+        r.totalMillis = s.totalMillis();
+        return r;
+    }
+
+    public String getCollection() {
+        return collection;
+    }
+
+    public void setCollection(String collection) {
+        this.collection = collection;
+    }
+
+    public String getIndex() {
+        return index;
+    }
+
+    public void setIndex(String index) {
+        this.index = index;
+    }
+
+    public List<String> getShapes() {
+        return shapes;
+    }
+
+    public void setShapes(List<String> shapes) {
+        this.shapes = shapes;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    public void setCalls(long calls) {
+        this.calls = calls;
+    }
+
+    public double getTotalMillis() {
+        return totalMillis;
+    }
+
+    public void setTotalMillis(double totalMillis) {
+        this.totalMillis = totalMillis;
+    }
+}
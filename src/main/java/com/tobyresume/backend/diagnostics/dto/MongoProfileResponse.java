@@ -0,0 +1,57 @@
+package com.tobyresume.backend.diagnostics.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Response for GET /api/v1/diagnostics/mongo: per-shape timings since the last reset, recent slow
+ * commands and index suggestions for shapes no existing index supports.
+ */
+public class MongoProfileResponse {
+
+    private Instant since;
+    private long untrackedShapes;
+    private List<QueryShapeResponse> shapes;
+    private List<SlowCommandResponse> slowCommands;
+    private List<IndexSuggestionResponse> suggestions;
+
+    public Instant getSince() {
+        return since;
+    }
+
+    public void setSince(Instant since) {
+        this.since = since;
+    }
+
+    public long getUntrackedShapes() {
+        return untrackedShapes;
+    }
+
+    public void setUntrackedShapes(long untrackedShapes) {
+        this.untrackedShapes = untrackedShapes;
+    }
+
+    public List<QueryShapeResponse> getShapes() {
+        return shapes;
+    }
+
+    public void setShapes(List<QueryShapeResponse> shapes) {
+        this.shapes = shapes;
+    }
+
+    public List<SlowCommandResponse> getSlowCommands() {
+        return slowCommands;
+    }
+
+    public void setSlowCommands(List<SlowCommandResponse> slowCommands) {
+        this.slowCommands = slowCommands;
+    }
+
+    public List<IndexSuggestionResponse> getSuggestions() {
+        return suggestions;
+    }
+
+    public void setSuggestions(List<IndexSuggestionResponse> suggestions) {
+        this.suggestions = suggestions;
+    }
+}
@@ -0,0 +1,105 @@
+package com.tobyresume.backend.diagnostics.dto;
+
+import com.tobyresume.backend.diagnostics.MongoCommandProfiler.ShapeSnapshot;
+
+/**
+ * Per-shape timing item in GET /api/v1/diagnostics/mongo.
+ */
+public class QueryShapeResponse {
+
+    private String collection;
+    private String operation;
+    private String shape;
+    private long count;
+    private double totalMillis;
+    private double avgMillis;
+    private double maxMillis;
+    private long slowCount;
+    private long failedCount;
+
+    public static QueryShapeResponse from(ShapeSnapshot s) {
+        QueryShapeResponse r = new QueryShapeResponse();
+        r.collection = s.shape().collection();
+        r.operation = s.shape().operation();
+        r.shape = s.shape().describe();
+        r.count = s.count();
+        r.totalMillis = s.totalMillis();
+        r.avgMillis = s.avgMillis();
+        r.maxMillis = s.maxMillis();
+        r.slowCount = s.slowCount();
+        r.failedCount = s.failedCount();
+        return r;
+    }
+
+    public String getCollection() {
+        return collection;
+    }
+
+    public void setCollection(String collection) {
+        this.collection = collection;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public String getShape() {
+        return shape;
+    }
+
+    public void setShape(String shape) {
+        this.shape = shape;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public double getTotalMillis() {
+        return totalMillis;
+    }
+
+    public void setTotalMillis(double totalMillis) {
+        this.totalMillis = totalMillis;
+    }
+
+    public double getAvgMillis() {
+        return avgMillis;
+    }
+
+    public void setAvgMillis(double avgMillis) {
+        this.avgMillis = avgMillis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    public void setMaxMillis(double maxMillis) {
+        this.maxMillis = maxMillis;
+    }
+
+    public long getSlowCount() {
+        return slowCount;
+    }
+
+    public void setSlowCount(long slowCount) {
+        this.slowCount = slowCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(long failedCount) {
+        this.failedCount = failedCount;
+    }
+}
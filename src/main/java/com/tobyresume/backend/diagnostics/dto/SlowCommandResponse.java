@@ -0,0 +1,77 @@
+package com.tobyresume.backend.diagnostics.dto;
+
+import com.tobyresume.backend.diagnostics.MongoCommandProfiler.SlowCommand;
+
+import java.time.Instant;
+
+/**
+ * Recent slow command in GET /api/v1/diagnostics/mongo.
+ */
+public class SlowCommandResponse {
+
+    private Instant at;
+    private String collection;
+    private String operation;
+    private String shape;
+    private long millis;
+    private boolean failed;
+
+    public static SlowCommandResponse from(SlowCommand c) {
+        SlowCommandResponse r = new SlowCommandResponse();
+        r.at = c.at();
+        r.collection = c.shape().collection();
+        r.operation = c.shape().operation();
+        r.shape = c.shape().describe();
+        r.millis = c.millis();
+        r.failed = c.failed();
+        return r;
+    }
+
+    public Instant getAt() {
+        return at;
+    }
+
+    public void setAt(Instant at) {
+        this.at = at;
+    }
+
+    public String getCollection() {
+        return collection;
+    }
+
+    public void setCollection(String collection) {
+        this.collection = collection;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public String getShape() {
+        return shape;
+    }
+
+    public void setShape(String shape) {
+        this.shape = shape;
+    }
+
+    public long getMillis() {
+        return millis;
+    }
+
+    public void setMillis(long millis) {
+        this.millis = millis;
+    }
+
+    public boolean isFailed() {
+        return failed;
+    }
+
+    public void setFailed(boolean failed) {
+        this.failed = failed;
+    }
+}
@@ -16,6 +16,8 @@ import com.tobyresume.backend.content.skill.dto.SkillItemResponse;
 import com.tobyresume.backend.content.sociallink.SocialLinkService;
 import com.tobyresume.backend.content.sociallink.dto.SocialLinkItemResponse;
 import com.tobyresume.backend.graphql.model.*;
+import com.tobyresume.backend.media.MediaUrlResolver;
+import com.tobyresume.backend.media.MediaUrlResolver.ResolvedMedia;
 import com.tobyresume.backend.settings.SettingsService;
 import com.tobyresume.backend.settings.dto.SiteSettingsResponse;
 import org.springframework.graphql.data.method.annotation.Argument;
@@ -43,6 +45,7 @@ public class ContentGraphQLController {
     private final SocialLinkService socialLinkService;
     private final SkillService skillService;
     private final SettingsService settingsService;
+    private final MediaUrlResolver mediaUrlResolver;
 
     public ContentGraphQLController(HeroService heroService,
                                    ExperienceService experienceService,
@@ -51,7 +54,8 @@ public class ContentGraphQLController {
                                    CertificationService certificationService,
                                    SocialLinkService socialLinkService,
                                    SkillService skillService,
-                                   SettingsService settingsService) {
+                                   SettingsService settingsService,
+                                   MediaUrlResolver mediaUrlResolver) {
         this.heroService = heroService;
         this.experienceService = experienceService;
         this.projectService = projectService;
@@ -60,6 +64,7 @@ public class ContentGraphQLController {
         this.socialLinkService = socialLinkService;
         this.skillService = skillService;
         this.settingsService = settingsService;
+        this.mediaUrlResolver = mediaUrlResolver;
     }
 
     @QueryMapping
@@ -72,7 +77,11 @@ public class ContentGraphQLController {
         out.setBio(mapValue(r.getBio(), localeStr));
         out.setFullName(mapValue(r.getFullName(), localeStr));
         out.setTitle(mapValue(r.getTitle(), localeStr));
-        out.setProfilePhotoUrl(r.getProfilePhotoMediaId());
+        ResolvedMedia photo = mediaUrlResolver.resolve(r.getProfilePhotoMediaId());
+        if (photo != null) {
+            out.setProfilePhotoUrl(photo.url());
+            out.setProfilePhoto(toGraphQlMedia(photo));
+        }
         return out;
     }
 
@@ -100,6 +109,12 @@ public class ContentGraphQLController {
     public List<ProjectItem> projects(@Argument Locale locale) {
         String localeStr = resolveLocale(locale);
         List<ProjectItemResponse> list = projectService.listPublishedVisible();
+        // One batched lookup for the media of every project rather than one per item.
+        List<String> mediaIds = new ArrayList<>();
+        for (ProjectItemResponse r : list) {
+            if (r.getMediaIds() != null) mediaIds.addAll(r.getMediaIds());
+        }
+        Map<String, ResolvedMedia> resolved = mediaUrlResolver.resolveAll(mediaIds);
         List<ProjectItem> out = new ArrayList<>(list.size());
         for (ProjectItemResponse r : list) {
             ProjectItem item = new ProjectItem();
@@ -108,7 +123,15 @@ public class ContentGraphQLController {
             item.setDescription(mapValue(r.getDescription(), localeStr));
             item.setTechStack(r.getTechStack() != null ? r.getTechStack() : List.of());
             item.setLinks(toGraphQlLinks(r.getLinks()));
-            item.setMediaUrls(r.getMediaIds() != null ? r.getMediaIds() : List.of());
+            List<MediaImage> media = new ArrayList<>();
+            if (r.getMediaIds() != null) {
+                for (String id : r.getMediaIds()) {
+                    ResolvedMedia m = resolved.get(id);
+                    if (m != null) media.add(toGraphQlMedia(m));
+                }
+            }
+            item.setMedia(media);
+            item.setMediaUrls(media.stream().map(MediaImage::getUrl).collect(Collectors.toList()));
             item.setVisible(r.isVisible());
             item.setOrder(r.getOrder());
             out.add(item);
@@ -227,6 +250,24 @@ public class ContentGraphQLController {
         }).collect(Collectors.toList());
     }
 
+    private static MediaImage toGraphQlMedia(ResolvedMedia m) {
+        MediaImage gql = new MediaImage();
+        gql.setId(m.id());
+        gql.setUrl(m.url());
+        gql.setWidth(m.width());
+        gql.setHeight(m.height());
+        gql.setSrcset(m.srcset());
+        gql.setVariants(m.variants().stream().map(v -> {
+            MediaImageVariant variant = new MediaImageVariant();
+            variant.setName(v.name());
+            variant.setUrl(v.url());
+            variant.setWidth(v.width());
+            variant.setHeight(v.height());
+            return variant;
+        }).collect(Collectors.toList()));
+        return gql;
+    }
+
     private static List<SkillItem> toGraphQlSkillItems(List<SkillItemResponse> items) {
         if (items == null) return List.of();
         return items.stream().map(r -> {
@@ -10,6 +10,7 @@ public class Hero {
     private String fullName;
     private String title;
     private String profilePhotoUrl;
+    private MediaImage profilePhoto;
 
     public String getTagline() { return tagline; }
     public void setTagline(String tagline) { this.tagline = tagline; }
@@ -21,4 +22,6 @@ public class Hero {
     public void setTitle(String title) { this.title = title; }
     public String getProfilePhotoUrl() { return profilePhotoUrl; }
     public void setProfilePhotoUrl(String profilePhotoUrl) { this.profilePhotoUrl = profilePhotoUrl; }
+    public MediaImage getProfilePhoto() { return profilePhoto; }
+    public void setProfilePhoto(MediaImage profilePhoto) { this.profilePhoto = profilePhoto; }
 }
@@ -0,0 +1,29 @@
+package com.tobyresume.backend.graphql.model;
+
+import java.util.List;
+
+/**
+ * GraphQL type MediaImage — resolved media with resized variants and a ready-made srcset.
+ */
+public class MediaImage {
+
+    private String id;
+    private String url;
+    private Integer width;
+    private Integer height;
+    private String srcset;
+    private List<MediaImageVariant> variants;
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    public String getUrl() { return url; }
+    public void setUrl(String url) { this.url = url; }
+    public Integer getWidth() { return width; }
+    public void setWidth(Integer width) { this.width = width; }
+    public Integer getHeight() { return height; }
+    public void setHeight(Integer height) { this.height = height; }
+    public String getSrcset() { return srcset; }
+    public void setSrcset(String srcset) { this.srcset = srcset; }
+    public List<MediaImageVariant> getVariants() { return variants; }
+    public void setVariants(List<MediaImageVariant> variants) { this.variants = variants; }
+}
@@ -0,0 +1,21 @@
+package com.tobyresume.backend.graphql.model;
+
+/**
+ * GraphQL type MediaImageVariant — one resized copy (e.g. thumb, medium).
+ */
+public class MediaImageVariant {
+
+    private String name;
+    private String url;
+    private int width;
+    private int height;
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public String getUrl() { return url; }
+    public void setUrl(String url) { this.url = url; }
+    public int getWidth() { return width; }
+    public void setWidth(int width) { this.width = width; }
+    public int getHeight() { return height; }
+    public void setHeight(int height) { this.height = height; }
+}
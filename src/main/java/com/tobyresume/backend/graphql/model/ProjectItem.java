@@ -3,7 +3,7 @@ package com.tobyresume.backend.graphql.model;
 import java.util.List;
 
 /**
- * GraphQL type ProjectItem — single-locale view; mediaUrls are IDs until media service exists.
+ * GraphQL type ProjectItem — single-locale view; media ids resolved to public URLs.
  */
 public class ProjectItem {
 
@@ -13,6 +13,7 @@ public class ProjectItem {
     private List<String> techStack;
     private List<Link> links;
     private List<String> mediaUrls;
+    private List<MediaImage> media;
     private boolean visible;
     private int order;
 
@@ -28,6 +29,8 @@ public class ProjectItem {
     public void setLinks(List<Link> links) { this.links = links; }
     public List<String> getMediaUrls() { return mediaUrls; }
     public void setMediaUrls(List<String> mediaUrls) { this.mediaUrls = mediaUrls; }
+    public List<MediaImage> getMedia() { return media; }
+    public void setMedia(List<MediaImage> media) { this.media = media; }
     public boolean isVisible() { return visible; }
     public void setVisible(boolean visible) { this.visible = visible; }
     public int getOrder() { return order; }
@@ -0,0 +1,127 @@
+package com.tobyresume.backend.media;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes a file (or a single byte range of it). Handles If-None-Match, If-Range and single "bytes="
+ * ranges; multi-range requests get the full body (allowed by RFC 9110). Bodies of at least
+ * SENDFILE_MIN_SIZE are handed to Tomcat's sendfile when the connector supports it (the kernel copies
+ * file to socket); otherwise, and for small files, they are streamed with FileChannel.transferTo.
+ */
+final class ByteRangeResponder {
+
+    /** Same threshold as Tomcat's DefaultServlet: below it sendfile's setup costs more than it saves. */
+    static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    /** Exclusive end offset. */
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private ByteRangeResponder() {
+    }
+
+    static void send(Path file, String contentType, String etag, String cacheControl,
+                     HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String quotedEtag = "\"" + etag + "\"";
+        response.setHeader(HttpHeaders.ETAG, quotedEtag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (quotedEtag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long start = 0;
+            long end = size - 1;
+            String range = request.getHeader(HttpHeaders.RANGE);
+            String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+            if (range != null && (ifRange == null || ifRange.equals(quotedEtag))) {
+                long[] parsed = parseRange(range, size);
+                if (parsed == null) {
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    return;
+                }
+                if (parsed.length == 2) {
+                    start = parsed[0];
+                    end = parsed[1];
+                    response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+                }
+            }
+            long length = end - start + 1;
+            response.setContentType(contentType);
+            response.setContentLengthLong(length);
+            if (HttpMethod.HEAD.matches(request.getMethod())) {
+                return;
+            }
+            if (length >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+                // Media files are content-addressed and never rewritten, so Tomcat can open it later.
+                request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START, start);
+                request.setAttribute(SENDFILE_END, end + 1);
+                return;
+            }
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * Returns {start, end} for a satisfiable single range, an empty array to ignore the header
+     * (malformed or multi-range: send the full body), or null when unsatisfiable (416).
+     */
+    static long[] parseRange(String header, long size) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return new long[0];
+        }
+        String spec = header.substring(6).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                if (last.isEmpty()) {
+                    return new long[0];
+                }
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || size == 0) {
+                    return null;
+                }
+                return new long[] { Math.max(0, size - suffix), size - 1 };
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+            if (start >= size || start > end) {
+                return null;
+            }
+            return new long[] { start, end };
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+}
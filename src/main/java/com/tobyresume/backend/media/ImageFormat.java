@@ -0,0 +1,55 @@
+package com.tobyresume.backend.media;
+
+/**
+ * Accepted upload formats, detected from magic bytes rather than the client's Content-Type.
+ * SVG is deliberately not accepted (script content).
+ */
+public enum ImageFormat {
+
+    JPEG("image/jpeg", true),
+    PNG("image/png", true),
+    GIF("image/gif", true),
+    WEBP("image/webp", false);
+
+    /** Bytes needed by {@link #detect(byte[], int)}. */
+    static final int SNIFF_LENGTH = 12;
+
+    private final String contentType;
+    private final boolean resizable;
+
+    ImageFormat(String contentType, boolean resizable) {
+        this.contentType = contentType;
+        this.resizable = resizable;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    /** Whether ImageIO can decode it, so variants can be generated. */
+    public boolean isResizable() {
+        return resizable;
+    }
+
+    /**
+     * Returns the format for the leading bytes, or null when unsupported.
+     */
+    public static ImageFormat detect(byte[] head, int length) {
+        if (length >= 3 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xD8 && (head[2] & 0xFF) == 0xFF) {
+            return JPEG;
+        }
+        if (length >= 8 && (head[0] & 0xFF) == 0x89 && head[1] == 'P' && head[2] == 'N' && head[3] == 'G'
+                && head[4] == 0x0D && head[5] == 0x0A && head[6] == 0x1A && head[7] == 0x0A) {
+            return PNG;
+        }
+        if (length >= 6 && head[0] == 'G' && head[1] == 'I' && head[2] == 'F' && head[3] == '8'
+                && (head[4] == '7' || head[4] == '9') && head[5] == 'a') {
+            return GIF;
+        }
+        if (length >= 12 && head[0] == 'R' && head[1] == 'I' && head[2] == 'F' && head[3] == 'F'
+                && head[8] == 'W' && head[9] == 'E' && head[10] == 'B' && head[11] == 'P') {
+            return WEBP;
+        }
+        return null;
+    }
+}
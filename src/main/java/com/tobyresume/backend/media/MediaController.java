@@ -0,0 +1,66 @@
+package com.tobyresume.backend.media;
+
+import com.tobyresume.backend.common.dto.ApiResponse;
+import com.tobyresume.backend.media.dto.MediaResponse;
+import com.tobyresume.backend.media.model.MediaAsset;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Admin media upload. The request body is the raw file (Content-Type image/*), streamed straight to
+ * the storage volume; no multipart spooling. Returns the existing asset when the same bytes were
+ * uploaded before. JWT required (SecurityConfig /api/v1/**).
+ */
+@RestController
+@RequestMapping("/api/v1/media")
+public class MediaController {
+
+    private final MediaService mediaService;
+
+    public MediaController(MediaService mediaService) {
+        this.mediaService = mediaService;
+    }
+
+    /**
+     * POST /api/v1/media?filename=photo.jpg with the file as the request body.
+     */
+    @PostMapping(consumes = { "image/jpeg", "image/png", "image/gif", "image/webp", "application/octet-stream" })
+    public ResponseEntity<ApiResponse<MediaResponse>> upload(
+            @RequestParam(required = false) String filename,
+            HttpServletRequest request) throws IOException {
+        MediaAsset asset = mediaService.upload(request.getInputStream(), request.getContentLengthLong(), filename);
+        return ResponseEntity.ok(ApiResponse.success(toResponse(asset)));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<MediaResponse>> get(@PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.success(toResponse(mediaService.get(id))));
+    }
+
+    static MediaResponse toResponse(MediaAsset asset) {
+        MediaResponse r = new MediaResponse();
+        String url = PublicMediaController.PATH + "/" + asset.getId();
+        r.setId(asset.getId());
+        r.setUrl(url);
+        r.setContentType(asset.getContentType());
+        r.setSizeBytes(asset.getSizeBytes());
+        r.setOriginalFilename(asset.getOriginalFilename());
+        r.setWidth(asset.getWidth());
+        r.setHeight(asset.getHeight());
+        r.setStatus(asset.getStatus() != null ? asset.getStatus().name() : null);
+        Map<String, String> variantUrls = new LinkedHashMap<>();
+        asset.getVariants().keySet().forEach(name -> variantUrls.put(name, url + "?variant=" + name));
+        r.setVariantUrls(variantUrls);
+        return r;
+    }
+}
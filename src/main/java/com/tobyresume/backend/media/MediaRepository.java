@@ -0,0 +1,12 @@
+package com.tobyresume.backend.media;
+
+import com.tobyresume.backend.media.model.MediaAsset;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+/**
+ * Media assets; one document per distinct file content.
+ */
+public interface MediaRepository extends MongoRepository<MediaAsset, String> {
+
+    MediaAsset findBySha256(String sha256);
+}
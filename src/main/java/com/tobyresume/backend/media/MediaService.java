@@ -0,0 +1,140 @@
+package com.tobyresume.backend.media;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tobyresume.backend.common.exception.ResourceNotFoundException;
+import com.tobyresume.backend.common.exception.ValidationException;
+import com.tobyresume.backend.config.MediaProperties;
+import com.tobyresume.backend.media.model.MediaAsset;
+import com.tobyresume.backend.media.model.MediaStatus;
+import com.tobyresume.backend.media.model.MediaVariant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Media uploads and lookups. Uploads are streamed to disk and deduplicated by SHA-256: re-uploading
+ * the same bytes returns the existing asset. Resized variants are generated asynchronously by
+ * MediaVariantGenerator. READY asset metadata is cached in memory since it no longer changes.
+ */
+@Service
+public class MediaService {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaService.class);
+
+    private final MediaRepository repository;
+    private final MediaStorage storage;
+    private final MediaVariantGenerator variantGenerator;
+    private final long maxUploadBytes;
+    private final Cache<String, MediaAsset> readyAssets;
+
+    public MediaService(MediaRepository repository,
+                        MediaStorage storage,
+                        MediaVariantGenerator variantGenerator,
+                        MediaProperties properties) {
+        this.repository = repository;
+        this.storage = storage;
+        this.variantGenerator = variantGenerator;
+        this.maxUploadBytes = properties.getMaxUploadSize().toBytes();
+        this.readyAssets = Caffeine.newBuilder().maximumSize(properties.getCacheMaxEntries()).build();
+    }
+
+    /**
+     * Stores the uploaded bytes. contentLength is the declared request length (-1 if unknown); it is
+     * checked up front, and the actual byte count is enforced while streaming.
+     */
+    public MediaAsset upload(InputStream body, long contentLength, String filename) {
+        if (contentLength > maxUploadBytes) {
+            throw new ValidationException("Upload exceeds maximum size of " + maxUploadBytes + " bytes");
+        }
+        MediaStorage.StagedUpload staged;
+        try {
+            staged = storage.stage(body, maxUploadBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store upload", e);
+        }
+
+        MediaAsset existing = repository.findBySha256(staged.sha256());
+        if (existing != null) {
+            storage.discard(staged);
+            return existing;
+        }
+        try {
+            storage.commit(staged);
+        } catch (IOException e) {
+            storage.discard(staged);
+            throw new UncheckedIOException("Could not store upload", e);
+        }
+
+        MediaAsset asset = new MediaAsset();
+        asset.setSha256(staged.sha256());
+        asset.setContentType(staged.format().getContentType());
+        asset.setSizeBytes(staged.sizeBytes());
+        asset.setOriginalFilename(sanitizeFilename(filename));
+        asset.setStatus(staged.format().isResizable() ? MediaStatus.PROCESSING : MediaStatus.READY);
+        try {
+            asset = repository.save(asset);
+        } catch (DuplicateKeyException e) {
+            // Same content uploaded concurrently; both callers get the one asset.
+            return repository.findBySha256(staged.sha256());
+        }
+        log.info("Stored media {} ({} bytes, {})", asset.getId(), asset.getSizeBytes(), asset.getContentType());
+        if (asset.getStatus() == MediaStatus.PROCESSING) {
+            variantGenerator.submit(asset.getId());
+        }
+        return asset;
+    }
+
+    public MediaAsset get(String id) {
+        MediaAsset cached = readyAssets.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        MediaAsset asset = repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Media not found: " + id));
+        if (asset.getStatus() == MediaStatus.READY) {
+            readyAssets.put(id, asset);
+        }
+        return asset;
+    }
+
+    /**
+     * Resolves the file to serve. An unknown or not-yet-generated variant falls back to the original
+     * (exact() is then false, so callers should not mark the response immutable).
+     */
+    public MediaFile resolveFile(String id, String variant) {
+        MediaAsset asset = get(id);
+        if (variant != null && !variant.isBlank()) {
+            MediaVariant v = asset.getVariants().get(variant);
+            if (v != null) {
+                String extension = "image/png".equals(v.getContentType()) ? "png" : "jpg";
+                Path path = storage.variantPath(asset.getSha256(), variant, extension);
+                if (Files.isRegularFile(path)) {
+                    return new MediaFile(path, v.getContentType(), asset.getSha256() + "-" + variant, true);
+                }
+            }
+            return new MediaFile(storage.originalPath(asset.getSha256()), asset.getContentType(),
+                    asset.getSha256(), false);
+        }
+        return new MediaFile(storage.originalPath(asset.getSha256()), asset.getContentType(), asset.getSha256(), true);
+    }
+
+    private static String sanitizeFilename(String filename) {
+        if (filename == null || filename.isBlank()) {
+            return null;
+        }
+        String name = filename.replace('\\', '/');
+        name = name.substring(name.lastIndexOf('/') + 1).replaceAll("[\\p{Cntrl}\"]", "");
+        return name.length() > 255 ? name.substring(0, 255) : name;
+    }
+
+    /** A file on disk to serve; etag is stable for its content. */
+    public record MediaFile(Path path, String contentType, String etag, boolean exact) {}
+}
@@ -0,0 +1,144 @@
+package com.tobyresume.backend.media;
+
+import com.tobyresume.backend.common.exception.ValidationException;
+import com.tobyresume.backend.common.util.Hashing;
+import com.tobyresume.backend.config.MediaProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+/**
+ * Filesystem layout for media on the storage volume. Originals are content-addressed
+ * (originals/ab/abcdef…), variants live under variants/ab/abcdef…-name.ext. Uploads stream through a
+ * fixed-size buffer into a temp file on the same volume while the SHA-256 is computed, then are moved
+ * into place atomically, so whole files are never held on the heap.
+ */
+@Component
+public class MediaStorage {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaStorage.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path root;
+    private final Path tmpDir;
+
+    public MediaStorage(MediaProperties properties) {
+        this.root = Paths.get(properties.getStorageDir());
+        this.tmpDir = root.resolve("tmp");
+    }
+
+    /**
+     * Streams the upload to a temp file, enforcing maxBytes and detecting the format from the first
+     * bytes. Throws ValidationException for unsupported formats or oversized uploads.
+     */
+    public StagedUpload stage(InputStream in, long maxBytes) throws IOException {
+        Files.createDirectories(tmpDir);
+        Path tmp = Files.createTempFile(tmpDir, "upload-", ".part");
+        MessageDigest digest = Hashing.sha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long total = 0;
+        ImageFormat format = null;
+        boolean ok = false;
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            int n;
+            while ((n = in.readNBytes(buffer, 0, buffer.length)) > 0) {
+                if (format == null) {
+                    format = ImageFormat.detect(buffer, n);
+                    if (format == null) {
+                        throw new ValidationException("Unsupported media type; allowed: JPEG, PNG, GIF, WebP");
+                    }
+                }
+                total += n;
+                if (total > maxBytes) {
+                    throw new ValidationException("Upload exceeds maximum size of " + maxBytes + " bytes");
+                }
+                digest.update(buffer, 0, n);
+                out.write(buffer, 0, n);
+            }
+            if (total == 0) {
+                throw new ValidationException("Upload is empty");
+            }
+            ok = true;
+        } finally {
+            if (!ok) {
+                deleteQuietly(tmp);
+            }
+        }
+        return new StagedUpload(tmp, HexFormat.of().formatHex(digest.digest()), total, format);
+    }
+
+    /**
+     * Moves a staged upload to its content-addressed path. If the file already exists (same content),
+     * the staged copy is dropped.
+     */
+    public Path commit(StagedUpload staged) throws IOException {
+        Path target = originalPath(staged.sha256());
+        Files.createDirectories(target.getParent());
+        if (Files.exists(target)) {
+            discard(staged);
+            return target;
+        }
+        // A concurrent identical upload may win the race; the target then holds the same bytes.
+        Files.move(staged.tmpFile(), target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return target;
+    }
+
+    public void discard(StagedUpload staged) {
+        deleteQuietly(staged.tmpFile());
+    }
+
+    /**
+     * Writes a generated variant via a temp file and atomic move.
+     */
+    public Path writeVariant(String sha256, String variant, String extension, VariantWriter writer) throws IOException {
+        Path target = variantPath(sha256, variant, extension);
+        Files.createDirectories(target.getParent());
+        Files.createDirectories(tmpDir);
+        Path tmp = Files.createTempFile(tmpDir, "variant-", ".part");
+        try {
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                writer.write(out);
+            }
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return target;
+        } finally {
+            deleteQuietly(tmp);
+        }
+    }
+
+    public Path originalPath(String sha256) {
+        return root.resolve("originals").resolve(sha256.substring(0, 2)).resolve(sha256);
+    }
+
+    public Path variantPath(String sha256, String variant, String extension) {
+        return root.resolve("variants").resolve(sha256.substring(0, 2))
+                .resolve(sha256 + "-" + variant + "." + extension);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("Could not delete {}", path, e);
+        }
+    }
+
+    /** An upload written to a temp file, not yet in its final location. */
+    public record StagedUpload(Path tmpFile, String sha256, long sizeBytes, ImageFormat format) {}
+
+    @FunctionalInterface
+    public interface VariantWriter {
+        void write(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,112 @@
+package com.tobyresume.backend.media;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tobyresume.backend.config.MediaProperties;
+import com.tobyresume.backend.media.model.MediaAsset;
+import com.tobyresume.backend.media.model.MediaStatus;
+import com.tobyresume.backend.media.model.MediaVariant;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Turns media ids into public URLs with variant and srcset info. A whole set of ids is resolved with
+ * one cache pass and at most one findAllById for the misses, so a projects query costs one lookup
+ * regardless of item count. READY assets are cached (they no longer change); assets still generating
+ * variants are resolved fresh each time. URLs are absolute (app.media.public-base-url) because the
+ * public site is served from another origin. Values that are already URLs pass through unchanged.
+ */
+@Component
+public class MediaUrlResolver {
+
+    private final MediaRepository repository;
+    private final Cache<String, ResolvedMedia> cache;
+    private final String mediaBaseUrl;
+
+    public MediaUrlResolver(MediaRepository repository, MediaProperties properties) {
+        this.repository = repository;
+        this.mediaBaseUrl = properties.getPublicBaseUrl() + PublicMediaController.PATH + "/";
+        this.cache = Caffeine.newBuilder().maximumSize(properties.getCacheMaxEntries()).build();
+    }
+
+    /**
+     * Resolves all ids in one batch. Unknown ids are absent from the result.
+     */
+    public Map<String, ResolvedMedia> resolveAll(Collection<String> ids) {
+        Map<String, ResolvedMedia> resolved = new LinkedHashMap<>();
+        Set<String> misses = new LinkedHashSet<>();
+        for (String id : ids) {
+            if (id == null || id.isBlank() || resolved.containsKey(id)) {
+                continue;
+            }
+            if (isUrl(id)) {
+                resolved.put(id, new ResolvedMedia(id, id, null, null, List.of(), null));
+                continue;
+            }
+            ResolvedMedia hit = cache.getIfPresent(id);
+            if (hit != null) {
+                resolved.put(id, hit);
+            } else {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            for (MediaAsset asset : repository.findAllById(misses)) {
+                ResolvedMedia media = toResolved(asset);
+                if (asset.getStatus() == MediaStatus.READY) {
+                    cache.put(asset.getId(), media);
+                }
+                resolved.put(asset.getId(), media);
+            }
+        }
+        return resolved;
+    }
+
+    public ResolvedMedia resolve(String id) {
+        return id == null ? null : resolveAll(List.of(id)).get(id);
+    }
+
+    private ResolvedMedia toResolved(MediaAsset asset) {
+        String url = mediaBaseUrl + asset.getId();
+        List<ResolvedVariant> variants = new ArrayList<>();
+        if (asset.getVariants() != null) {
+            asset.getVariants().entrySet().stream()
+                    .sorted(Comparator.comparingInt(e -> e.getValue().getWidth()))
+                    .forEach(e -> {
+                        MediaVariant v = e.getValue();
+                        variants.add(new ResolvedVariant(e.getKey(), url + "?variant=" + e.getKey(),
+                                v.getWidth(), v.getHeight()));
+                    });
+        }
+        String srcset = null;
+        if (!variants.isEmpty()) {
+            List<String> candidates = variants.stream()
+                    .map(v -> v.url() + " " + v.width() + "w")
+                    .collect(Collectors.toCollection(ArrayList::new));
+            if (asset.getWidth() != null) {
+                candidates.add(url + " " + asset.getWidth() + "w");
+            }
+            srcset = String.join(", ", candidates);
+        }
+        return new ResolvedMedia(asset.getId(), url, asset.getWidth(), asset.getHeight(), List.copyOf(variants), srcset);
+    }
+
+    private static boolean isUrl(String value) {
+        return value.startsWith("https://") || value.startsWith("http://") || value.startsWith("/");
+    }
+
+    /** Public URL of an asset plus its resized variants (narrowest first). */
+    public record ResolvedMedia(String id, String url, Integer width, Integer height,
+                                List<ResolvedVariant> variants, String srcset) {}
+
+    public record ResolvedVariant(String name, String url, int width, int height) {}
+}
@@ -0,0 +1,182 @@
+package com.tobyresume.backend.media;
+
+import com.tobyresume.backend.config.MediaProperties;
+import com.tobyresume.backend.media.model.MediaAsset;
+import com.tobyresume.backend.media.model.MediaStatus;
+import com.tobyresume.backend.media.model.MediaVariant;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates resized variants (app.media.variants) off the upload request on a bounded pool. When the
+ * queue is full the uploading thread does the work itself, which throttles bulk uploads instead of
+ * growing memory. Large sources are decoded with subsampling so only about twice the widest variant's
+ * pixels are held in memory. Images over app.media.max-pixels are left without variants.
+ */
+@Component
+public class MediaVariantGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaVariantGenerator.class);
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private final MediaStorage storage;
+    private final MediaRepository repository;
+    private final MediaProperties properties;
+    private final ThreadPoolExecutor executor;
+
+    public MediaVariantGenerator(MediaStorage storage, MediaRepository repository, MediaProperties properties) {
+        this.storage = storage;
+        this.repository = repository;
+        this.properties = properties;
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.getWorkerThreads(), properties.getWorkerThreads(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                r -> {
+                    Thread t = new Thread(r, "media-variants-" + threads.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public void submit(String assetId) {
+        executor.execute(() -> generate(assetId));
+    }
+
+    void generate(String assetId) {
+        MediaAsset asset = repository.findById(assetId).orElse(null);
+        if (asset == null || asset.getStatus() == MediaStatus.READY) {
+            return;
+        }
+        Map<String, MediaVariant> variants = Collections.emptyMap();
+        try {
+            variants = render(asset);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Variant generation failed for media {}; serving original only", assetId, e);
+        }
+        asset.setVariants(variants);
+        asset.setStatus(MediaStatus.READY);
+        repository.save(asset);
+    }
+
+    private Map<String, MediaVariant> render(MediaAsset asset) throws IOException {
+        Path original = storage.originalPath(asset.getSha256());
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return Collections.emptyMap();
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                asset.setWidth(width);
+                asset.setHeight(height);
+                if ((long) width * height > properties.getMaxPixels()) {
+                    log.info("Media {} is {}x{}; over max-pixels, no variants", asset.getId(), width, height);
+                    return Collections.emptyMap();
+                }
+                int widest = properties.getVariants().values().stream().mapToInt(Integer::intValue).max().orElse(0);
+                if (widest <= 0) {
+                    return Collections.emptyMap();
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsample = Math.max(1, width / (widest * 2));
+                param.setSourceSubsampling(subsample, subsample, 0, 0);
+                BufferedImage source = reader.read(0, param);
+                return writeVariants(asset, source, width);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private Map<String, MediaVariant> writeVariants(MediaAsset asset, BufferedImage source, int originalWidth)
+            throws IOException {
+        boolean alpha = source.getColorModel().hasAlpha();
+        String contentType = alpha ? "image/png" : "image/jpeg";
+        String extension = alpha ? "png" : "jpg";
+        Map<String, MediaVariant> variants = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> spec : properties.getVariants().entrySet()) {
+            int targetWidth = spec.getValue();
+            if (targetWidth >= originalWidth) {
+                continue;
+            }
+            int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+            BufferedImage scaled = scale(source, targetWidth, targetHeight, alpha);
+            Path file = storage.writeVariant(asset.getSha256(), spec.getKey(), extension,
+                    out -> write(scaled, alpha, out));
+            variants.put(spec.getKey(), new MediaVariant(targetWidth, targetHeight, Files.size(file), contentType));
+        }
+        return variants;
+    }
+
+    private static BufferedImage scale(BufferedImage source, int width, int height, boolean alpha) {
+        BufferedImage target = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static void write(BufferedImage image, boolean alpha, OutputStream out) throws IOException {
+        if (alpha) {
+            ImageIO.write(image, "png", out);
+            return;
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.tobyresume.backend.media;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * Public media serving: GET/HEAD /api/public/media/{id}?variant=thumb. Files are content-addressed,
+ * so exact matches are cacheable for a year as immutable; Range requests are supported, and large
+ * bodies go through Tomcat sendfile (see ByteRangeResponder).
+ * A variant that is not generated yet falls back to the original with a short max-age.
+ */
+@RestController
+@RequestMapping(PublicMediaController.PATH)
+public class PublicMediaController {
+
+    static final String PATH = "/api/public/media";
+
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final String FALLBACK = "public, max-age=60";
+
+    private final MediaService mediaService;
+
+    public PublicMediaController(MediaService mediaService) {
+        this.mediaService = mediaService;
+    }
+
+    @GetMapping("/{id}")
+    public void serve(@PathVariable String id,
+                      @RequestParam(required = false) String variant,
+                      HttpServletRequest request,
+                      HttpServletResponse response) throws IOException {
+        MediaService.MediaFile file = mediaService.resolveFile(id, variant);
+        ByteRangeResponder.send(file.path(), file.contentType(), file.etag(),
+                file.exact() ? IMMUTABLE : FALLBACK, request, response);
+    }
+}
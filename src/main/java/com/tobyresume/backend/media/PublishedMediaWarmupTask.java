@@ -0,0 +1,51 @@
+package com.tobyresume.backend.media;
+
+import com.tobyresume.backend.content.hero.HeroService;
+import com.tobyresume.backend.content.hero.dto.HeroResponse;
+import com.tobyresume.backend.content.project.ProjectService;
+import com.tobyresume.backend.content.project.dto.ProjectItemResponse;
+import com.tobyresume.backend.publish.job.PostPublishTask;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Post-publish job: resolves every media id referenced by published content in one batch, so the
+ * first GraphQL reads after a publish are served from MediaUrlResolver's cache.
+ */
+@Component
+public class PublishedMediaWarmupTask implements PostPublishTask {
+
+    private final HeroService heroService;
+    private final ProjectService projectService;
+    private final MediaUrlResolver mediaUrlResolver;
+
+    public PublishedMediaWarmupTask(HeroService heroService,
+                                    ProjectService projectService,
+                                    MediaUrlResolver mediaUrlResolver) {
+        this.heroService = heroService;
+        this.projectService = projectService;
+        this.mediaUrlResolver = mediaUrlResolver;
+    }
+
+    @Override
+    public String name() {
+        return "media-urls";
+    }
+
+    @Override
+    public void run(String versionId) {
+        List<String> ids = new ArrayList<>();
+        HeroResponse hero = heroService.getPublished();
+        if (hero != null && hero.getProfilePhotoMediaId() != null) {
+            ids.add(hero.getProfilePhotoMediaId());
+        }
+        for (ProjectItemResponse item : projectService.listPublishedVisible()) {
+            if (item.getMediaIds() != null) {
+                ids.addAll(item.getMediaIds());
+            }
+        }
+        mediaUrlResolver.resolveAll(ids);
+    }
+}
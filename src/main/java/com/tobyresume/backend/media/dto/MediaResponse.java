@@ -0,0 +1,92 @@
+package com.tobyresume.backend.media.dto;
+
+import java.util.Map;
+
+/**
+ * Media asset metadata returned by POST /api/v1/media and GET /api/v1/media/{id}.
+ * URLs point at the public serving endpoint; variantUrls fills in once variants are generated.
+ */
+public class MediaResponse {
+
+    private String id;
+    private String url;
+    private String contentType;
+    private long sizeBytes;
+    private String originalFilename;
+    private Integer width;
+    private Integer height;
+    private String status;
+    private Map<String, String> variantUrls;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public void setSizeBytes(long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    public void setOriginalFilename(String originalFilename) {
+        this.originalFilename = originalFilename;
+    }
+
+    public Integer getWidth() {
+        return width;
+    }
+
+    public void setWidth(Integer width) {
+        this.width = width;
+    }
+
+    public Integer getHeight() {
+        return height;
+    }
+
+    public void setHeight(Integer height) {
+        this.height = height;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Map<String, String> getVariantUrls() {
+        return variantUrls;
+    }
+
+    public void setVariantUrls(Map<String, String> variantUrls) {
+        this.variantUrls = variantUrls;
+    }
+}
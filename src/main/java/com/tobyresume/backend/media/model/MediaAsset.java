@@ -0,0 +1,98 @@
+package com.tobyresume.backend.media.model;
+
+import com.tobyresume.backend.common.model.BaseDocument;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Uploaded media file. Content-addressed: sha256 is unique, so identical uploads share one asset and
+ * one file on disk. The id is what Hero.profilePhotoMediaId and ProjectItem.mediaIds reference.
+ */
+@Document(collection = "media_assets")
+public class MediaAsset extends BaseDocument {
+
+    @Indexed(unique = true)
+    private String sha256;
+
+    private String contentType;
+
+    private long sizeBytes;
+
+    private String originalFilename;
+
+    private Integer width;
+
+    private Integer height;
+
+    private MediaStatus status;
+
+    /** Variant name (e.g. thumb, medium) → resized copy. */
+    private Map<String, MediaVariant> variants = new LinkedHashMap<>();
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public void setSizeBytes(long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    public void setOriginalFilename(String originalFilename) {
+        this.originalFilename = originalFilename;
+    }
+
+    public Integer getWidth() {
+        return width;
+    }
+
+    public void setWidth(Integer width) {
+        this.width = width;
+    }
+
+    public Integer getHeight() {
+        return height;
+    }
+
+    public void setHeight(Integer height) {
+        this.height = height;
+    }
+
+    public MediaStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(MediaStatus status) {
+        this.status = status;
+    }
+
+    public Map<String, MediaVariant> getVariants() {
+        return variants;
+    }
+
+    public void setVariants(Map<String, MediaVariant> variants) {
+        this.variants = variants != null ? variants : new LinkedHashMap<>();
+    }
+}
@@ -0,0 +1,9 @@
+package com.tobyresume.backend.media.model;
+
+/**
+ * PROCESSING while resized variants are being generated; READY once done (or when the format has none).
+ */
+public enum MediaStatus {
+    PROCESSING,
+    READY
+}
@@ -0,0 +1,54 @@
+package com.tobyresume.backend.media.model;
+
+/**
+ * A resized copy of a media asset, stored next to the original.
+ */
+public class MediaVariant {
+
+    private int width;
+    private int height;
+    private long sizeBytes;
+    private String contentType;
+
+    public MediaVariant() {
+    }
+
+    public MediaVariant(int width, int height, long sizeBytes, String contentType) {
+        this.width = width;
+        this.height = height;
+        this.sizeBytes = sizeBytes;
+        this.contentType = contentType;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public void setWidth(int width) {
+        this.width = width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public void setHeight(int height) {
+        this.height = height;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public void setSizeBytes(long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+}
@@ -0,0 +1,82 @@
+package com.tobyresume.backend.pdf;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Public CV download. Streams the cached PDF with FileChannel.transferTo; the cache key is the
+ * ETag, so unchanged CVs revalidate with 304. No auth (public chain in SecurityConfig).
+ *
+ * @see docs/ai/design/database-design.md §5.8
+ */
+@RestController
+@RequestMapping("/api/public")
+public class CvPdfController {
+
+    private final CvPdfService cvPdfService;
+
+    public CvPdfController(CvPdfService cvPdfService) {
+        this.cvPdfService = cvPdfService;
+    }
+
+    /**
+     * GET /api/public/cv.pdf?locale=en — PDF of PUBLISHED content; locale defaults to settings.
+     */
+    @GetMapping("/cv.pdf")
+    public void download(@RequestParam(required = false) String locale,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        CvPdfService.CvFile cv = cvPdfService.getOrRender(locale);
+        String etag = "\"" + cv.key() + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=300");
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        try (FileChannel channel = open(cv, locale, response)) {
+            long size = channel.size();
+            response.setContentType(MediaType.APPLICATION_PDF_VALUE);
+            response.setContentLengthLong(size);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                    .filename("cv-" + cv.locale() + ".pdf")
+                    .build()
+                    .toString());
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, out);
+            }
+        }
+    }
+
+    /**
+     * Opens the cached file. If a publish evicted it between lookup and open, the next lookup renders
+     * the new version (same resolved locale) and its ETag replaces the one already set.
+     */
+    private FileChannel open(CvPdfService.CvFile cv, String locale, HttpServletResponse response) throws IOException {
+        try {
+            return FileChannel.open(cv.path(), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            CvPdfService.CvFile current = cvPdfService.getOrRender(locale);
+            response.setHeader(HttpHeaders.ETAG, "\"" + current.key() + "\"");
+            return FileChannel.open(current.path(), StandardOpenOption.READ);
+        }
+    }
+}
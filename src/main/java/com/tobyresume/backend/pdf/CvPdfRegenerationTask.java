@@ -0,0 +1,28 @@
+package com.tobyresume.backend.pdf;
+
+import com.tobyresume.backend.publish.job.PostPublishTask;
+import org.springframework.stereotype.Component;
+
+/**
+ * Post-publish job: renders the CV PDF for every supported locale and drops stale files.
+ * A failure (e.g. disk full) fails the job, which PublishJobRunner retries.
+ */
+@Component
+public class CvPdfRegenerationTask implements PostPublishTask {
+
+    private final CvPdfService cvPdfService;
+
+    public CvPdfRegenerationTask(CvPdfService cvPdfService) {
+        this.cvPdfService = cvPdfService;
+    }
+
+    @Override
+    public String name() {
+        return "cv-pdf";
+    }
+
+    @Override
+    public void run(String versionId) {
+        cvPdfService.prewarm(versionId);
+    }
+}
@@ -0,0 +1,290 @@
+package com.tobyresume.backend.pdf;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Font;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.pdf.BaseFont;
+import com.lowagie.text.pdf.PdfWriter;
+import com.tobyresume.backend.content.certification.CertificationService;
+import com.tobyresume.backend.content.certification.dto.CertificationItemResponse;
+import com.tobyresume.backend.content.education.EducationService;
+import com.tobyresume.backend.content.education.dto.EducationItemResponse;
+import com.tobyresume.backend.content.experience.ExperienceService;
+import com.tobyresume.backend.content.experience.dto.ExperienceItemResponse;
+import com.tobyresume.backend.content.hero.HeroService;
+import com.tobyresume.backend.content.hero.dto.HeroResponse;
+import com.tobyresume.backend.content.project.ProjectService;
+import com.tobyresume.backend.content.project.dto.ProjectItemResponse;
+import com.tobyresume.backend.content.skill.SkillService;
+import com.tobyresume.backend.content.skill.dto.SkillCategoryResponse;
+import com.tobyresume.backend.content.skill.dto.SkillItemResponse;
+import com.tobyresume.backend.content.sociallink.SocialLinkService;
+import com.tobyresume.backend.content.sociallink.dto.SocialLinkItemResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Renders the CV as an A4 PDF (OpenPDF) from PUBLISHED content for one locale. Sections are
+ * included according to SiteSettings.pdfSectionVisibility. Set app.pdf.font-path to a Unicode TTF
+ * to render Vietnamese text; the default Helvetica only covers Latin-1.
+ *
+ * @see docs/ai/design/database-design.md §5.8
+ */
+@Component
+public class CvPdfRenderer {
+
+    /** Bump when layout changes so cached files are re-rendered. */
+    static final String TEMPLATE_VERSION = "cv-a4-v1";
+
+    private static final String BULLET = "• ";
+
+    private final HeroService heroService;
+    private final ExperienceService experienceService;
+    private final ProjectService projectService;
+    private final EducationService educationService;
+    private final SkillService skillService;
+    private final CertificationService certificationService;
+    private final SocialLinkService socialLinkService;
+    private final String fontPath;
+    private volatile Fonts fonts;
+
+    public CvPdfRenderer(HeroService heroService,
+                         ExperienceService experienceService,
+                         ProjectService projectService,
+                         EducationService educationService,
+                         SkillService skillService,
+                         CertificationService certificationService,
+                         SocialLinkService socialLinkService,
+                         @Value("${app.pdf.font-path:}") String fontPath) {
+        this.heroService = heroService;
+        this.experienceService = experienceService;
+        this.projectService = projectService;
+        this.educationService = educationService;
+        this.skillService = skillService;
+        this.certificationService = certificationService;
+        this.socialLinkService = socialLinkService;
+        this.fontPath = fontPath;
+    }
+
+    /** Identifies the template and font; part of the CV cache key. */
+    public String templateId() {
+        return TEMPLATE_VERSION + (fontPath.isBlank() ? "" : "|" + fontPath);
+    }
+
+    /**
+     * Writes the PDF for the given locale to out. Does not close out.
+     */
+    public void render(String locale, Map<String, Boolean> visibility, OutputStream out) {
+        Fonts fonts = fonts();
+        Document document = new Document(PageSize.A4, 50, 50, 50, 50);
+        try {
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            writer.setCloseStream(false);
+            document.open();
+            HeroResponse hero = heroService.getPublished();
+            document.addTitle(hero != null && value(hero.getFullName(), locale) != null
+                    ? value(hero.getFullName(), locale) : "CV");
+            document.addCreator("Toby.Resume");
+
+            if (visible(visibility, "hero")) {
+                addHero(document, fonts, hero, locale);
+            }
+            if (visible(visibility, "experiences")) {
+                addExperiences(document, fonts, experienceService.listPublished(), locale);
+            }
+            if (visible(visibility, "projects")) {
+                addProjects(document, fonts, projectService.listPublishedVisible(), locale);
+            }
+            if (visible(visibility, "education")) {
+                addEducation(document, fonts, educationService.listPublished(), locale);
+            }
+            if (visible(visibility, "skills")) {
+                addSkills(document, fonts, skillService.listPublished(), locale);
+            }
+            if (visible(visibility, "certifications")) {
+                addCertifications(document, fonts, certificationService.listPublished(), locale);
+            }
+            if (visible(visibility, "socialLinks")) {
+                addSocialLinks(document, fonts, socialLinkService.listPublished());
+            }
+        } catch (DocumentException e) {
+            throw new IllegalStateException("CV PDF rendering failed", e);
+        } finally {
+            if (document.isOpen()) {
+                document.close();
+            }
+        }
+    }
+
+    private void addHero(Document document, Fonts fonts, HeroResponse hero, String locale) {
+        if (hero == null) {
+            return;
+        }
+        addIfPresent(document, value(hero.getFullName(), locale), fonts.title());
+        addIfPresent(document, value(hero.getTitle(), locale), fonts.subtitle());
+        addIfPresent(document, value(hero.getTagline(), locale), fonts.body());
+        addIfPresent(document, value(hero.getBio(), locale), fonts.body());
+    }
+
+    private void addExperiences(Document document, Fonts fonts, List<ExperienceItemResponse> items, String locale) {
+        if (items.isEmpty()) {
+            return;
+        }
+        addHeading(document, fonts, "Experience");
+        for (ExperienceItemResponse item : items) {
+            addIfPresent(document, join(" — ", value(item.getRole(), locale), value(item.getCompany(), locale)), fonts.itemTitle());
+            addIfPresent(document, dateRange(item.getStartDate(), item.getEndDate()), fonts.meta());
+            List<String> bullets = item.getBulletPoints() != null ? item.getBulletPoints().get(locale) : null;
+            if (bullets != null) {
+                for (String bullet : bullets) {
+                    addIfPresent(document, BULLET + bullet, fonts.body());
+                }
+            }
+            addIfPresent(document, joinList(item.getTechUsed()), fonts.meta());
+        }
+    }
+
+    private void addProjects(Document document, Fonts fonts, List<ProjectItemResponse> items, String locale) {
+        if (items.isEmpty()) {
+            return;
+        }
+        addHeading(document, fonts, "Projects");
+        for (ProjectItemResponse item : items) {
+            addIfPresent(document, value(item.getTitle(), locale), fonts.itemTitle());
+            addIfPresent(document, value(item.getDescription(), locale), fonts.body());
+            addIfPresent(document, joinList(item.getTechStack()), fonts.meta());
+            if (item.getLinks() != null) {
+                for (var link : item.getLinks()) {
+                    addIfPresent(document, join(": ", link.getLabel(), link.getUrl()), fonts.meta());
+                }
+            }
+        }
+    }
+
+    private void addEducation(Document document, Fonts fonts, List<EducationItemResponse> items, String locale) {
+        if (items.isEmpty()) {
+            return;
+        }
+        addHeading(document, fonts, "Education");
+        for (EducationItemResponse item : items) {
+            addIfPresent(document, item.getInstitution(), fonts.itemTitle());
+            addIfPresent(document, join(", ", item.getDegree(), item.getField()), fonts.body());
+            addIfPresent(document, dateRange(item.getStartDate(), item.getEndDate()), fonts.meta());
+            addIfPresent(document, value(item.getDetails(), locale), fonts.body());
+        }
+    }
+
+    private void addSkills(Document document, Fonts fonts, List<SkillCategoryResponse> categories, String locale) {
+        if (categories.isEmpty()) {
+            return;
+        }
+        addHeading(document, fonts, "Skills");
+        for (SkillCategoryResponse category : categories) {
+            String names = category.getItems() == null ? null : category.getItems().stream()
+                    .map(SkillItemResponse::getName)
+                    .filter(n -> n != null && !n.isBlank())
+                    .collect(Collectors.joining(", "));
+            addIfPresent(document, join(": ", value(category.getName(), locale), names), fonts.body());
+        }
+    }
+
+    private void addCertifications(Document document, Fonts fonts, List<CertificationItemResponse> items, String locale) {
+        if (items.isEmpty()) {
+            return;
+        }
+        addHeading(document, fonts, "Certifications");
+        for (CertificationItemResponse item : items) {
+            addIfPresent(document, join(" — ", item.getTitle(), item.getIssuer()), fonts.itemTitle());
+            addIfPresent(document, join(" · ", item.getDate(), item.getUrl()), fonts.meta());
+            addIfPresent(document, value(item.getDescription(), locale), fonts.body());
+        }
+    }
+
+    private void addSocialLinks(Document document, Fonts fonts, List<SocialLinkItemResponse> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        addHeading(document, fonts, "Links");
+        for (SocialLinkItemResponse item : items) {
+            addIfPresent(document, join(": ", item.getPlatform(), item.getUrl()), fonts.body());
+        }
+    }
+
+    private static void addHeading(Document document, Fonts fonts, String text) {
+        Paragraph heading = new Paragraph(text, fonts.heading());
+        heading.setSpacingBefore(12f);
+        heading.setSpacingAfter(4f);
+        document.add(heading);
+    }
+
+    private static void addIfPresent(Document document, String text, Font font) {
+        if (text != null && !text.isBlank()) {
+            document.add(new Paragraph(text, font));
+        }
+    }
+
+    private static boolean visible(Map<String, Boolean> visibility, String section) {
+        return visibility == null || Boolean.TRUE.equals(visibility.get(section));
+    }
+
+    private static String value(Map<String, String> map, String locale) {
+        return map != null ? map.get(locale) : null;
+    }
+
+    private static String dateRange(String start, String end) {
+        if (start == null && end == null) {
+            return null;
+        }
+        return (start != null ? start : "") + " – " + (end != null ? end : "Present");
+    }
+
+    private static String join(String separator, String first, String second) {
+        boolean hasFirst = first != null && !first.isBlank();
+        boolean hasSecond = second != null && !second.isBlank();
+        if (hasFirst && hasSecond) {
+            return first + separator + second;
+        }
+        return hasFirst ? first : (hasSecond ? second : null);
+    }
+
+    private static String joinList(List<String> values) {
+        return values == null || values.isEmpty() ? null : String.join(", ", values);
+    }
+
+    private Fonts fonts() {
+        Fonts loaded = fonts;
+        if (loaded == null) {
+            loaded = loadFonts();
+            fonts = loaded;
+        }
+        return loaded;
+    }
+
+    private Fonts loadFonts() {
+        try {
+            BaseFont base = fontPath.isBlank()
+                    ? BaseFont.createFont(BaseFont.HELVETICA, BaseFont.CP1252, BaseFont.NOT_EMBEDDED)
+                    : BaseFont.createFont(fontPath, BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+            return new Fonts(
+                    new Font(base, 20, Font.BOLD),
+                    new Font(base, 13, Font.NORMAL),
+                    new Font(base, 14, Font.BOLD),
+                    new Font(base, 11, Font.BOLD),
+                    new Font(base, 10, Font.NORMAL),
+                    new Font(base, 9, Font.ITALIC));
+        } catch (DocumentException | IOException e) {
+            throw new IllegalStateException("Could not load PDF font " + (fontPath.isBlank() ? "Helvetica" : fontPath), e);
+        }
+    }
+
+    private record Fonts(Font title, Font subtitle, Font heading, Font itemTitle, Font body, Font meta) {
+    }
+}
@@ -0,0 +1,209 @@
+package com.tobyresume.backend.pdf;
+
+import com.tobyresume.backend.common.exception.ResourceNotFoundException;
+import com.tobyresume.backend.common.exception.ValidationException;
+import com.tobyresume.backend.common.util.Hashing;
+import com.tobyresume.backend.publish.PublishRepository;
+import com.tobyresume.backend.publish.model.VersionSnapshot;
+import com.tobyresume.backend.settings.SettingsService;
+import com.tobyresume.backend.settings.dto.SiteSettingsResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Serves the CV PDF from a disk cache keyed by SHA-256 of (published version id, locale,
+ * pdfSectionVisibility, template). Unchanged content is never re-rendered; concurrent requests for
+ * the same key share one render. After each publish the job pipeline pre-warms every supported locale
+ * and removes files for older versions.
+ *
+ * @see docs/ai/design/database-design.md §5.8, §5.9
+ */
+@Service
+public class CvPdfService {
+
+    private static final Logger log = LoggerFactory.getLogger(CvPdfService.class);
+
+    /** Re-render attempts when a publish lands while rendering. */
+    private static final int MAX_RENDER_ATTEMPTS = 3;
+
+    private final CvPdfRenderer renderer;
+    private final PublishRepository publishRepository;
+    private final SettingsService settingsService;
+    private final Path cacheDir;
+    private final ConcurrentMap<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+    public CvPdfService(CvPdfRenderer renderer,
+                        PublishRepository publishRepository,
+                        SettingsService settingsService,
+                        @Value("${app.pdf.cache-dir:${java.io.tmpdir}/toby-resume/cv}") String cacheDir) {
+        this.renderer = renderer;
+        this.publishRepository = publishRepository;
+        this.settingsService = settingsService;
+        this.cacheDir = Paths.get(cacheDir);
+    }
+
+    /**
+     * Returns the cached PDF for the locale (default locale when null), rendering it on a miss.
+     * Throws ResourceNotFoundException when nothing has been published yet.
+     */
+    public CvFile getOrRender(String locale) {
+        SiteSettingsResponse settings = settingsService.getOrCreate();
+        String resolvedLocale = resolveLocale(locale, settings);
+        Map<String, Boolean> visibility = settings.getPdfSectionVisibility();
+
+        for (int attempt = 0; attempt < MAX_RENDER_ATTEMPTS; attempt++) {
+            String versionId = latestVersionId();
+            if (versionId == null) {
+                throw new ResourceNotFoundException("CV is not available until content is published");
+            }
+            String key = cacheKey(versionId, resolvedLocale, visibility);
+            Path file = cacheDir.resolve(key + ".pdf");
+            if (Files.isRegularFile(file)) {
+                return new CvFile(file, key, resolvedLocale);
+            }
+            Path rendered = renderCoalesced(key, file, versionId, resolvedLocale, visibility);
+            if (rendered != null) {
+                return new CvFile(rendered, key, resolvedLocale);
+            }
+        }
+        throw new IllegalStateException("Published content kept changing while rendering the CV");
+    }
+
+    /**
+     * Renders all supported locales so the first visitor gets a cached file, then removes files of
+     * older versions. Run after each publish by CvPdfRegenerationTask.
+     */
+    public void prewarm(String versionId) {
+        SiteSettingsResponse settings = settingsService.getOrCreate();
+        String[] locales = settings.getSupportedLocales() != null ? settings.getSupportedLocales() : new String[0];
+        Set<String> current = new HashSet<>();
+        for (String locale : locales) {
+            current.add(getOrRender(locale).path().getFileName().toString());
+        }
+        log.debug("CV pre-warmed for version {} locales {}", versionId, Arrays.toString(locales));
+        evictExcept(current);
+    }
+
+    String cacheKey(String versionId, String locale, Map<String, Boolean> visibility) {
+        Map<String, Boolean> canonical = visibility != null ? new TreeMap<>(visibility) : Map.of();
+        return Hashing.sha256Hex(versionId + '\n' + locale + '\n' + canonical + '\n' + renderer.templateId());
+    }
+
+    /**
+     * Renders once per key across concurrent callers. Returns null when a newer version was
+     * published during the render, so the caller retries with the new key.
+     */
+    private Path renderCoalesced(String key, Path file, String versionId, String locale,
+                                 Map<String, Boolean> visibility) {
+        CompletableFuture<Path> mine = new CompletableFuture<>();
+        CompletableFuture<Path> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+        try {
+            Path result = renderToCache(key, file, versionId, locale, visibility);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private Path renderToCache(String key, Path file, String versionId, String locale,
+                               Map<String, Boolean> visibility) {
+        Path tmp = null;
+        try {
+            Files.createDirectories(cacheDir);
+            tmp = Files.createTempFile(cacheDir, key, ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                renderer.render(locale, visibility, out);
+            }
+            if (!versionId.equals(latestVersionId())) {
+                return null;
+            }
+            Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            tmp = null;
+            log.info("Rendered CV PDF locale={} version={} size={}B", locale, versionId, Files.size(file));
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write CV PDF cache file", e);
+        } finally {
+            if (tmp != null) {
+                deleteQuietly(tmp);
+            }
+        }
+    }
+
+    private void evictExcept(Set<String> keep) {
+        if (!Files.isDirectory(cacheDir)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheDir, "*.pdf")) {
+            for (Path f : files) {
+                if (!keep.contains(f.getFileName().toString())) {
+                    deleteQuietly(f);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not clean CV PDF cache {}", cacheDir, e);
+        }
+    }
+
+    private String latestVersionId() {
+        List<VersionSnapshot> latest = publishRepository.findTop1ByOrderByPublishedAtDesc();
+        return latest.isEmpty() ? null : latest.get(0).getId();
+    }
+
+    private static String resolveLocale(String locale, SiteSettingsResponse settings) {
+        String defaultLocale = settings.getDefaultLocale() != null ? settings.getDefaultLocale() : "en";
+        if (locale == null || locale.isBlank()) {
+            return defaultLocale;
+        }
+        String normalized = locale.trim().toLowerCase();
+        String[] supported = settings.getSupportedLocales();
+        if (supported != null && !Arrays.asList(supported).contains(normalized)) {
+            throw new ValidationException("locale must be one of " + Arrays.toString(supported));
+        }
+        return normalized;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("Could not delete {}", path, e);
+        }
+    }
+
+    /** A cached CV file; key doubles as the ETag. */
+    public record CvFile(Path path, String key, String locale) {}
+}
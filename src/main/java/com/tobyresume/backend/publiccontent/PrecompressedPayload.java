@@ -0,0 +1,71 @@
+package com.tobyresume.backend.publiccontent;
+
+import com.tobyresume.backend.common.util.Hashing;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A serialized JSON response stored both as is and gzip-compressed at the highest level, so serving
+ * it costs no serialization or compression. stamp identifies the content it was built from.
+ */
+public record PrecompressedPayload(byte[] identity, byte[] gzip, String etag, String stamp) {
+
+    public static PrecompressedPayload of(byte[] json, String stamp) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (OutputStream out = new MaxLevelGzipOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new PrecompressedPayload(json, buffer.toByteArray(), Hashing.sha256Hex(json), stamp);
+    }
+
+    /**
+     * True when the Accept-Encoding header allows gzip with a non-zero q, either by name or through
+     * "*". An explicit gzip entry takes precedence over "*".
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double any = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim();
+            if (coding.equalsIgnoreCase("gzip")) {
+                gzip = quality(parts);
+            } else if (coding.equals("*")) {
+                any = quality(parts);
+            }
+        }
+        double q = gzip != null ? gzip : any != null ? any : 0;
+        return q > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static final class MaxLevelGzipOutputStream extends GZIPOutputStream {
+        MaxLevelGzipOutputStream(OutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.tobyresume.backend.publiccontent;
+
+import com.tobyresume.backend.common.util.VaryHeaders;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * Public PUBLISHED content as JSON: GET /api/public/content (landing page, all sections) and
+ * /api/public/content/{section}. Writes the stored bytes directly, gzip when Accept-Encoding allows;
+ * each encoding has its own ETag so unchanged content revalidates with 304. No auth.
+ */
+@RestController
+@RequestMapping("/api/public/content")
+public class PublicContentController {
+
+    private static final String CACHE_CONTROL = "public, max-age=60";
+
+    private final PublicContentService publicContentService;
+
+    public PublicContentController(PublicContentService publicContentService) {
+        this.publicContentService = publicContentService;
+    }
+
+    @GetMapping
+    public void landing(@RequestParam(required = false) String locale,
+                        HttpServletRequest request,
+                        HttpServletResponse response) throws IOException {
+        write(publicContentService.get(PublicContentService.LANDING, locale), request, response);
+    }
+
+    @GetMapping("/{section}")
+    public void section(@PathVariable String section,
+                        @RequestParam(required = false) String locale,
+                        HttpServletRequest request,
+                        HttpServletResponse response) throws IOException {
+        write(publicContentService.get(section, locale), request, response);
+    }
+
+    private static void write(PrecompressedPayload payload, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        boolean gzip = PrecompressedPayload.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = "\"" + payload.etag() + (gzip ? "-gz\"" : "\"");
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        VaryHeaders.merge(response, HttpHeaders.ACCEPT_ENCODING);
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+        byte[] body = gzip ? payload.gzip() : payload.identity();
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,28 @@
+package com.tobyresume.backend.publiccontent;
+
+import com.tobyresume.backend.publish.job.PostPublishTask;
+import org.springframework.stereotype.Component;
+
+/**
+ * Post-publish job: serializes and gzip-compresses the public content payloads for every locale, so
+ * the first visitors after a publish are served stored bytes.
+ */
+@Component
+public class PublicContentPrecompressTask implements PostPublishTask {
+
+    private final PublicContentService publicContentService;
+
+    public PublicContentPrecompressTask(PublicContentService publicContentService) {
+        this.publicContentService = publicContentService;
+    }
+
+    @Override
+    public String name() {
+        return "public-content";
+    }
+
+    @Override
+    public void run(String versionId) {
+        publicContentService.precompute(versionId);
+    }
+}
@@ -0,0 +1,182 @@
+package com.tobyresume.backend.publiccontent;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tobyresume.backend.common.dto.ApiResponse;
+import com.tobyresume.backend.common.exception.ResourceNotFoundException;
+import com.tobyresume.backend.common.exception.ValidationException;
+import com.tobyresume.backend.graphql.ContentGraphQLController;
+import com.tobyresume.backend.graphql.model.Locale;
+import com.tobyresume.backend.publish.ContentPublishedEvent;
+import com.tobyresume.backend.publish.PublishRepository;
+import com.tobyresume.backend.settings.SettingsChangedEvent;
+import com.tobyresume.backend.settings.SettingsService;
+import com.tobyresume.backend.settings.dto.SiteSettingsResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Serialized, pre-compressed public content: the landing page (all sections) and each section, per
+ * locale. Payloads are built by the GraphQL resolvers so both APIs return the same shapes. Each is
+ * tagged with a stamp of the latest published version and the settings' updatedAt; a payload whose
+ * stamp differs from the current one is rebuilt once. The current stamp is held in memory, so serving
+ * a payload does no database reads: it is dropped on ContentPublishedEvent and SettingsChangedEvent,
+ * and re-read after app.public-content.stamp-ttl to pick up publishes on other replicas. After each
+ * publish PublicContentPrecompressTask builds all payloads up front.
+ */
+@Service
+public class PublicContentService {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicContentService.class);
+
+    public static final String LANDING = "landing";
+
+    static final List<String> SECTIONS = List.of(
+            "hero", "experiences", "projects", "education", "skills", "certifications", "socialLinks",
+            "siteSettings");
+
+    private final ContentGraphQLController content;
+    private final PublishRepository publishRepository;
+    private final SettingsService settingsService;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMap<String, PrecompressedPayload> payloads = new ConcurrentHashMap<>();
+    private final long stampTtlNanos;
+    private volatile Stamp current;
+
+    public PublicContentService(ContentGraphQLController content,
+                                PublishRepository publishRepository,
+                                SettingsService settingsService,
+                                ObjectMapper objectMapper,
+                                @Value("${app.public-content.stamp-ttl:5s}") Duration stampTtl) {
+        this.content = content;
+        this.publishRepository = publishRepository;
+        this.settingsService = settingsService;
+        this.objectMapper = objectMapper;
+        this.stampTtlNanos = stampTtl.toNanos();
+    }
+
+    /**
+     * Returns the payload for LANDING or one of the sections; locale defaults to the settings'
+     * default. Throws ResourceNotFoundException for unknown sections, ValidationException for
+     * unsupported locales.
+     */
+    public PrecompressedPayload get(String section, String locale) {
+        if (!LANDING.equals(section) && !SECTIONS.contains(section)) {
+            throw new ResourceNotFoundException("Unknown section: " + section);
+        }
+        Stamp stamp = currentStamp();
+        Locale resolved = resolveLocale(locale, stamp.defaultLocale());
+        String key = section + ":" + resolved;
+        PrecompressedPayload cached = payloads.get(key);
+        if (cached != null && cached.stamp().equals(stamp.value())) {
+            return cached;
+        }
+        PrecompressedPayload built = build(section, resolved, stamp.value());
+        payloads.put(key, built);
+        return built;
+    }
+
+    /**
+     * Builds every payload for the current content. Run after each publish.
+     */
+    public void precompute(String versionId) {
+        current = null;
+        String stamp = currentStamp().value();
+        long start = System.nanoTime();
+        long bytes = 0;
+        long compressed = 0;
+        for (Locale locale : Locale.values()) {
+            PrecompressedPayload landing = build(LANDING, locale, stamp);
+            payloads.put(LANDING + ":" + locale, landing);
+            bytes += landing.identity().length;
+            compressed += landing.gzip().length;
+            for (String section : SECTIONS) {
+                payloads.put(section + ":" + locale, build(section, locale, stamp));
+            }
+        }
+        log.info("Public content pre-compressed for version {} in {} ms (landing {} B, gzip {} B)",
+                versionId, (System.nanoTime() - start) / 1_000_000, bytes, compressed);
+    }
+
+    private PrecompressedPayload build(String section, Locale locale, String stamp) {
+        Object data;
+        if (LANDING.equals(section)) {
+            Map<String, Object> landing = new LinkedHashMap<>();
+            for (String s : SECTIONS) {
+                landing.put(s, section(s, locale));
+            }
+            data = landing;
+        } else {
+            data = section(section, locale);
+        }
+        try {
+            return PrecompressedPayload.of(objectMapper.writeValueAsBytes(ApiResponse.success(data)), stamp);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize public content " + section, e);
+        }
+    }
+
+    private Object section(String section, Locale locale) {
+        return switch (section) {
+            case "hero" -> content.hero(locale);
+            case "experiences" -> content.experiences(locale);
+            case "projects" -> content.projects(locale);
+            case "education" -> content.education(locale);
+            case "skills" -> content.skills(locale);
+            case "certifications" -> content.certifications(locale);
+            case "socialLinks" -> content.socialLinks();
+            case "siteSettings" -> content.siteSettings();
+            default -> throw new ResourceNotFoundException("Unknown section: " + section);
+        };
+    }
+
+    @EventListener
+    public void onContentPublished(ContentPublishedEvent event) {
+        current = null;
+    }
+
+    @EventListener
+    public void onSettingsChanged(SettingsChangedEvent event) {
+        current = null;
+    }
+
+    /** The in-memory stamp; reloaded (two small reads) when invalidated or older than the TTL. */
+    private Stamp currentStamp() {
+        Stamp stamp = current;
+        long now = System.nanoTime();
+        if (stamp != null && now - stamp.loadedAtNanos() < stampTtlNanos) {
+            return stamp;
+        }
+        SiteSettingsResponse settings = settingsService.getOrCreate();
+        PublishRepository.VersionId latest = publishRepository.findFirstByOrderByPublishedAtDesc();
+        String value = (latest != null ? latest.getId() : "unpublished") + ":" + settings.getUpdatedAt();
+        stamp = new Stamp(value, settings.getDefaultLocale(), now);
+        current = stamp;
+        return stamp;
+    }
+
+    private static Locale resolveLocale(String locale, String defaultLocale) {
+        String value = locale == null || locale.isBlank()
+                ? (defaultLocale != null ? defaultLocale : "en")
+                : locale.trim();
+        try {
+            return Locale.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("locale must be one of " + Arrays.toString(Locale.values()).toLowerCase());
+        }
+    }
+
+    /** Version + settings stamp with the settings' default locale, as of loadedAtNanos. */
+    private record Stamp(String value, String defaultLocale, long loadedAtNanos) {}
+}
@@ -0,0 +1,168 @@
+package com.tobyresume.backend.publiccontent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tobyresume.backend.config.StaticExportProperties;
+import com.tobyresume.backend.graphql.model.Locale;
+import com.tobyresume.backend.publish.PublishRepository;
+import com.tobyresume.backend.publish.model.VersionSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes PUBLISHED content as static files for a CDN or nginx (app.static-export):
+ * {@code <dir>/<versionId>/<locale>/<section>.json} (and {@code .json.gz} for gzip_static), the same
+ * bytes as /api/public/content, plus {@code <dir>/manifest.json} naming the latest version and the
+ * files of each kept version. A version directory is staged and renamed into place before the
+ * manifest points at it; older versions beyond keep-versions are removed afterwards.
+ */
+@Service
+@RegisterReflectionForBinding({StaticExportService.Manifest.class, StaticExportService.ManifestVersion.class})
+public class StaticExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(StaticExportService.class);
+
+    static final String MANIFEST = "manifest.json";
+
+    private final PublicContentService publicContentService;
+    private final PublishRepository publishRepository;
+    private final StaticExportProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public StaticExportService(PublicContentService publicContentService,
+                               PublishRepository publishRepository,
+                               StaticExportProperties properties,
+                               ObjectMapper objectMapper) {
+        this.publicContentService = publicContentService;
+        this.publishRepository = publishRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Exports versionId if it is still the latest publish; otherwise does nothing (the newer
+     * version's job exports). Idempotent: a retried job replaces the version directory.
+     */
+    public synchronized void export(String versionId) {
+        if (!properties.isEnabled() || !isLatest(versionId)) {
+            return;
+        }
+        Path root = Paths.get(properties.getDir());
+        Path staging = root.resolve(".staging-" + versionId + "-" + System.nanoTime());
+        try {
+            Files.createDirectories(staging);
+            Map<String, Map<String, String>> files = new LinkedHashMap<>();
+            for (Locale locale : Locale.values()) {
+                String localeName = locale.name().toLowerCase();
+                Map<String, String> localeFiles = new LinkedHashMap<>();
+                List<String> sections = new ArrayList<>();
+                sections.add(PublicContentService.LANDING);
+                sections.addAll(PublicContentService.SECTIONS);
+                for (String section : sections) {
+                    PrecompressedPayload payload = publicContentService.get(section, localeName);
+                    Path dir = staging.resolve(localeName);
+                    Files.createDirectories(dir);
+                    Files.write(dir.resolve(section + ".json"), payload.identity());
+                    Files.write(dir.resolve(section + ".json.gz"), payload.gzip());
+                    localeFiles.put(section, versionId + "/" + localeName + "/" + section + ".json");
+                }
+                files.put(localeName, localeFiles);
+            }
+            if (!isLatest(versionId)) {
+                return;
+            }
+            Path target = root.resolve(versionId);
+            deleteRecursively(target);
+            Files.move(staging, target, StandardCopyOption.ATOMIC_MOVE);
+            List<ManifestVersion> kept = writeManifest(root, new ManifestVersion(versionId, publishedAt(versionId),
+                    Instant.now(), files));
+            removeUnlisted(root, kept.stream().map(ManifestVersion::versionId).collect(Collectors.toSet()));
+            log.info("Static export of version {} written to {}", versionId, target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write static export to " + root, e);
+        } finally {
+            deleteRecursively(staging);
+        }
+    }
+
+    private List<ManifestVersion> writeManifest(Path root, ManifestVersion latest) throws IOException {
+        List<ManifestVersion> versions = new ArrayList<>();
+        versions.add(latest);
+        Path manifest = root.resolve(MANIFEST);
+        if (Files.isRegularFile(manifest)) {
+            for (ManifestVersion v : objectMapper.readValue(manifest.toFile(), Manifest.class).versions()) {
+                if (!v.versionId().equals(latest.versionId()) && versions.size() < properties.getKeepVersions()
+                        && Files.isDirectory(root.resolve(v.versionId()))) {
+                    versions.add(v);
+                }
+            }
+        }
+        Path tmp = Files.createTempFile(root, ".manifest-", ".tmp");
+        try {
+            objectMapper.writeValue(tmp.toFile(), new Manifest(latest.versionId(), versions));
+            Files.move(tmp, manifest, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return versions;
+    }
+
+    /** Removes version directories the manifest no longer lists; dot-directories (staging) are left alone. */
+    private void removeUnlisted(Path root, Set<String> keep) throws IOException {
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(root, Files::isDirectory)) {
+            for (Path dir : entries) {
+                String name = dir.getFileName().toString();
+                if (!name.startsWith(".") && !keep.contains(name)) {
+                    deleteRecursively(dir);
+                }
+            }
+        }
+    }
+
+    private boolean isLatest(String versionId) {
+        PublishRepository.VersionId latest = publishRepository.findFirstByOrderByPublishedAtDesc();
+        return latest != null && versionId.equals(latest.getId());
+    }
+
+    private Instant publishedAt(String versionId) {
+        return publishRepository.findById(versionId).map(VersionSnapshot::getPublishedAt).orElse(null);
+    }
+
+    private static void deleteRecursively(Path path) {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> walk = Files.walk(path)) {
+            for (Path p : walk.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(p);
+            }
+        } catch (IOException e) {
+            log.warn("Could not delete {}", path, e);
+        }
+    }
+
+    /** manifest.json: the latest version and the files of every kept version, newest first. */
+    record Manifest(String latest, List<ManifestVersion> versions) {}
+
+    /** files: locale → section → path relative to the export directory. */
+    record ManifestVersion(String versionId, Instant publishedAt, Instant exportedAt,
+                           Map<String, Map<String, String>> files) {}
+}
@@ -0,0 +1,28 @@
+package com.tobyresume.backend.publiccontent;
+
+import com.tobyresume.backend.publish.job.PostPublishTask;
+import org.springframework.stereotype.Component;
+
+/**
+ * Post-publish job: writes the static export of the new version (no-op unless
+ * app.static-export.enabled). A failure fails the job, which PublishJobRunner retries.
+ */
+@Component
+public class StaticExportTask implements PostPublishTask {
+
+    private final StaticExportService staticExportService;
+
+    public StaticExportTask(StaticExportService staticExportService) {
+        this.staticExportService = staticExportService;
+    }
+
+    @Override
+    public String name() {
+        return "static-export";
+    }
+
+    @Override
+    public void run(String versionId) {
+        staticExportService.export(versionId);
+    }
+}
@@ -0,0 +1,12 @@
+package com.tobyresume.backend.publish;
+
+import java.time.Instant;
+
+/**
+ * Published by PublishService after a version snapshot is saved. Listeners run derived work
+ * (e.g. CV PDF pre-warm) off the publish request.
+ *
+ * @see docs/ai/design/api-design.md §5.2
+ */
+public record ContentPublishedEvent(String versionId, Instant publishedAt) {
+}
@@ -4,15 +4,21 @@ import com.tobyresume.backend.common.dto.ApiResponse;
 import com.tobyresume.backend.publish.dto.PublishRequest;
 import com.tobyresume.backend.publish.dto.PublishResponse;
 import com.tobyresume.backend.publish.dto.PublishStatusResponse;
+import com.tobyresume.backend.publish.job.PublishJobRunner;
+import com.tobyresume.backend.publish.job.dto.PublishJobResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * Publish pipeline: POST to copy DRAFT → PUBLISHED and create snapshot; GET status for last publish info.
+ * POST returns once content is committed; post-publish work runs as jobs (GET /jobs for their status).
  * JWT required (SecurityConfig /api/v1/**).
  *
  * @see docs/ai/design/api-design.md §5.2
@@ -22,9 +28,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class PublishController {
 
     private final PublishService publishService;
+    private final PublishJobRunner publishJobRunner;
 
-    public PublishController(PublishService publishService) {
+    public PublishController(PublishService publishService, PublishJobRunner publishJobRunner) {
         this.publishService = publishService;
+        this.publishJobRunner = publishJobRunner;
     }
 
     @PostMapping
@@ -49,4 +57,18 @@ public class PublishController {
         );
         return ResponseEntity.ok(ApiResponse.success(data));
     }
+
+    /**
+     * GET /api/v1/publish/jobs — post-publish jobs for the latest version.
+     * GET /api/v1/publish/jobs?versionId=... — jobs for a specific version.
+     */
+    @GetMapping("/jobs")
+    public ResponseEntity<ApiResponse<List<PublishJobResponse>>> jobs(
+            @RequestParam(required = false) String versionId) {
+        String id = versionId != null ? versionId : publishService.getLatestVersionId();
+        List<PublishJobResponse> data = id == null
+                ? List.of()
+                : publishJobRunner.findByVersion(id).stream().map(PublishJobResponse::from).toList();
+        return ResponseEntity.ok(ApiResponse.success(data));
+    }
 }
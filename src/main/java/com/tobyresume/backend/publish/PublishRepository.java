@@ -16,4 +16,13 @@ public interface PublishRepository extends MongoRepository<VersionSnapshot, Stri
      * Latest snapshot for status (last publish time, version count).
      */
     List<VersionSnapshot> findTop1ByOrderByPublishedAtDesc();
+
+    /**
+     * Id of the latest snapshot only (closed projection: the snapshot body is not loaded).
+     */
+    VersionId findFirstByOrderByPublishedAtDesc();
+
+    interface VersionId {
+        String getId();
+    }
 }
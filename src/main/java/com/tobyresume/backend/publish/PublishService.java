@@ -19,8 +19,11 @@ import com.tobyresume.backend.content.skill.model.Skill;
 import com.tobyresume.backend.content.sociallink.SocialLinkRepository;
 import com.tobyresume.backend.content.sociallink.model.SocialLink;
 import com.tobyresume.backend.publish.model.VersionSnapshot;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.lang.reflect.Method;
@@ -33,7 +36,9 @@ import java.util.Map;
 
 /**
  * Publish pipeline: copy DRAFT → PUBLISHED for all sections, then save a version snapshot.
- * Missing DRAFT is treated as empty PUBLISHED.
+ * Missing DRAFT is treated as empty PUBLISHED. Emits ContentPublishedEvent once the snapshot is saved.
+ * Each phase is observed as publish.phase (tag phase: section name, snapshot-content, snapshot-save),
+ * giving a timer and, when tracing is on, a child span of the publish call.
  *
  * @see docs/ai/design/database-design.md §8.2, §8.3
  * @see docs/ai/design/api-design.md §5.2
@@ -56,6 +61,8 @@ public class PublishService {
     private final SocialLinkRepository socialLinkRepository;
     private final PublishRepository publishRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObservationRegistry observationRegistry;
 
     public PublishService(HeroRepository heroRepository,
                            ExperienceRepository experienceRepository,
@@ -65,7 +72,9 @@ public class PublishService {
                            CertificationRepository certificationRepository,
                            SocialLinkRepository socialLinkRepository,
                            PublishRepository publishRepository,
-                           ObjectMapper objectMapper) {
+                           ObjectMapper objectMapper,
+                           ApplicationEventPublisher eventPublisher,
+                           ObservationRegistry observationRegistry) {
         this.heroRepository = heroRepository;
         this.experienceRepository = experienceRepository;
         this.projectRepository = projectRepository;
@@ -75,6 +84,8 @@ public class PublishService {
         this.socialLinkRepository = socialLinkRepository;
         this.publishRepository = publishRepository;
         this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.observationRegistry = observationRegistry;
     }
 
     /**
@@ -84,22 +95,23 @@ public class PublishService {
     public PublishResult publish(String label) {
         List<String> sectionsPublished = new ArrayList<>();
 
-        publishHero(sectionsPublished);
-        publishExperiences(sectionsPublished);
-        publishProjects(sectionsPublished);
-        publishEducation(sectionsPublished);
-        publishSkills(sectionsPublished);
-        publishCertifications(sectionsPublished);
-        publishSocialLinks(sectionsPublished);
+        phase("hero").observe(() -> publishHero(sectionsPublished));
+        phase("experiences").observe(() -> publishExperiences(sectionsPublished));
+        phase("projects").observe(() -> publishProjects(sectionsPublished));
+        phase("education").observe(() -> publishEducation(sectionsPublished));
+        phase("skills").observe(() -> publishSkills(sectionsPublished));
+        phase("certifications").observe(() -> publishCertifications(sectionsPublished));
+        phase("socialLinks").observe(() -> publishSocialLinks(sectionsPublished));
 
-        Map<String, Object> snapshotContent = buildSnapshotContent();
+        Map<String, Object> snapshotContent = phase("snapshot-content").observe(this::buildSnapshotContent);
         Instant publishedAt = Instant.now();
 
         VersionSnapshot snapshot = new VersionSnapshot();
         snapshot.setContent(snapshotContent);
         snapshot.setLabel(label);
         snapshot.setPublishedAt(publishedAt);
-        VersionSnapshot saved = publishRepository.save(snapshot);
+        VersionSnapshot saved = phase("snapshot-save").observe(() -> publishRepository.save(snapshot));
+        eventPublisher.publishEvent(new ContentPublishedEvent(saved.getId(), publishedAt));
 
         return new PublishResult(saved.getId(), publishedAt, sectionsPublished);
     }
@@ -114,6 +126,20 @@ public class PublishService {
         return new PublishStatus(lastPublishedAt, versionCount);
     }
 
+    /**
+     * Id of the latest version snapshot, or null if never published.
+     */
+    public String getLatestVersionId() {
+        List<VersionSnapshot> latest = publishRepository.findTop1ByOrderByPublishedAtDesc();
+        return latest.isEmpty() ? null : latest.get(0).getId();
+    }
+
+    private Observation phase(String name) {
+        return Observation.createNotStarted("publish.phase", observationRegistry)
+                .contextualName("publish " + name)
+                .lowCardinalityKeyValue("phase", name);
+    }
+
     private void publishHero(List<String> sectionsPublished) {
         Hero draft = heroRepository.findByContentState(ContentState.DRAFT);
         Hero published = heroRepository.findByContentState(ContentState.PUBLISHED);
@@ -191,8 +217,9 @@ public class PublishService {
         sectionsPublished.add("socialLinks");
     }
 
+    /** Package-private for PublishSnapshotBenchmark. */
     @SuppressWarnings("unchecked")
-    private <T> T cloneForPublish(T draft, Class<T> clazz) {
+    <T> T cloneForPublish(T draft, Class<T> clazz) {
         try {
             T clone = objectMapper.readValue(objectMapper.writeValueAsString(draft), clazz);
             BaseDocument base = (BaseDocument) clone;
@@ -266,8 +293,9 @@ public class PublishService {
         return content;
     }
 
+    /** Package-private for PublishSnapshotBenchmark. */
     @SuppressWarnings("unchecked")
-    private Map<String, Object> sectionToSnapshotMap(Object entity) {
+    Map<String, Object> sectionToSnapshotMap(Object entity) {
         if (entity == null) {
             return new LinkedHashMap<>();
         }
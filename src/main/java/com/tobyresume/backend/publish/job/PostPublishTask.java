@@ -0,0 +1,23 @@
+package com.tobyresume.backend.publish.job;
+
+import java.time.Duration;
+
+/**
+ * Work run after each publish by PublishJobRunner, off the request thread. Implementations are
+ * Spring beans and must be idempotent: a job can be retried after a failure or restart.
+ */
+public interface PostPublishTask {
+
+    /** Stable name stored on the job; must be unique across tasks. */
+    String name();
+
+    void run(String versionId) throws Exception;
+
+    /**
+     * How long after the publish the job first becomes due. Delayed jobs are started by the sweep, so
+     * they run up to app.publish.jobs.sweep-interval-ms later than this.
+     */
+    default Duration delay() {
+        return Duration.ZERO;
+    }
+}
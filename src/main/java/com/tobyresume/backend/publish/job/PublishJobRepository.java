@@ -0,0 +1,22 @@
+package com.tobyresume.backend.publish.job;
+
+import com.tobyresume.backend.publish.job.model.PublishJob;
+import com.tobyresume.backend.publish.job.model.PublishJobStatus;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Post-publish jobs, one per (version, task).
+ */
+public interface PublishJobRepository extends MongoRepository<PublishJob, String> {
+
+    List<PublishJob> findByVersionIdOrderByCreatedAtAsc(String versionId);
+
+    /** Jobs due for a (re)try. */
+    List<PublishJob> findByStatusAndNextAttemptAtLessThanEqual(PublishJobStatus status, Instant now);
+
+    /** RUNNING jobs whose worker likely died (e.g. restart mid-job). */
+    List<PublishJob> findByStatusAndStartedAtBefore(PublishJobStatus status, Instant cutoff);
+}
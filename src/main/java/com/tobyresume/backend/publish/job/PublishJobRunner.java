@@ -0,0 +1,271 @@
+package com.tobyresume.backend.publish.job;
+
+import com.tobyresume.backend.config.PublishJobProperties;
+import com.tobyresume.backend.publish.ContentPublishedEvent;
+import com.tobyresume.backend.publish.job.model.PublishJob;
+import com.tobyresume.backend.publish.job.model.PublishJobStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs every PostPublishTask for each published version on a bounded worker pool, so the publish
+ * request returns once content is committed. Jobs are persisted in publish_jobs: failures retry with
+ * exponential backoff, and a periodic sweep picks up jobs that were due, overflowed the queue, or were
+ * left RUNNING by a dead worker. Claiming a job uses optimistic locking, so a job runs on one worker.
+ *
+ * @see docs/ai/design/api-design.md §5.2
+ */
+@Service
+public class PublishJobRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PublishJobRunner.class);
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final PublishJobRepository repository;
+    private final PublishJobProperties properties;
+    private final Map<String, PostPublishTask> tasks;
+    private final ThreadPoolExecutor executor;
+    /** Job ids already handed to the executor, so the sweep does not queue them twice. */
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+    private final MeterRegistry meterRegistry;
+
+    public PublishJobRunner(PublishJobRepository repository,
+                            PublishJobProperties properties,
+                            List<PostPublishTask> tasks,
+                            MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        this.tasks = indexByName(tasks);
+        this.meterRegistry = meterRegistry;
+        this.executor = new ThreadPoolExecutor(
+                properties.getWorkerThreads(), properties.getWorkerThreads(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new WorkerThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        Gauge.builder("publish.jobs.queue.size", executor, e -> e.getQueue().size())
+                .description("Post-publish jobs waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("publish.jobs.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Post-publish jobs currently running")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Creates one PENDING job per task for the new version and queues them. Content is already
+     * committed at this point, so a failure here is logged rather than failing the publish.
+     */
+    @EventListener
+    public void onContentPublished(ContentPublishedEvent event) {
+        try {
+            enqueue(event.versionId());
+        } catch (DataAccessException e) {
+            log.error("Could not create post-publish jobs for version {}", event.versionId(), e);
+        }
+    }
+
+    /**
+     * Creates the jobs for versionId; jobs of tasks with a delay() are left for the sweep once due.
+     */
+    public List<PublishJob> enqueue(String versionId) {
+        Instant now = Instant.now();
+        List<PublishJob> jobs = new ArrayList<>(tasks.size());
+        for (PostPublishTask task : tasks.values()) {
+            PublishJob job = new PublishJob();
+            job.setVersionId(versionId);
+            job.setTask(task.name());
+            job.setStatus(PublishJobStatus.PENDING);
+            job.setMaxAttempts(properties.getMaxAttempts());
+            job.setCreatedAt(now);
+            job.setNextAttemptAt(now.plus(task.delay()));
+            jobs.add(job);
+        }
+        List<PublishJob> saved = repository.saveAll(jobs);
+        for (PublishJob job : saved) {
+            if (!job.getNextAttemptAt().isAfter(now)) {
+                submit(job);
+            }
+        }
+        return saved;
+    }
+
+    public List<PublishJob> findByVersion(String versionId) {
+        return repository.findByVersionIdOrderByCreatedAtAsc(versionId);
+    }
+
+    /**
+     * Re-queues due retries, jobs that did not fit in the queue, and RUNNING jobs abandoned by a
+     * dead worker. An abandoned job that has used all its attempts is marked FAILED instead, so a task
+     * that kills its worker is not retried forever.
+     */
+    @Scheduled(fixedDelayString = "${app.publish.jobs.sweep-interval-ms:30000}")
+    public void sweep() {
+        Instant now = Instant.now();
+        try {
+            for (PublishJob job : repository.findByStatusAndStartedAtBefore(
+                    PublishJobStatus.RUNNING, now.minus(properties.getStaleAfter()))) {
+                boolean exhausted = job.getAttempts() >= job.getMaxAttempts();
+                if (exhausted) {
+                    job.setStatus(PublishJobStatus.FAILED);
+                    job.setLastError("Abandoned while RUNNING after " + job.getAttempts() + " attempt(s)");
+                    job.setFinishedAt(now);
+                } else {
+                    job.setStatus(PublishJobStatus.PENDING);
+                    job.setNextAttemptAt(now);
+                }
+                try {
+                    repository.save(job);
+                    if (exhausted) {
+                        outcome(job.getTask(), "failed").increment();
+                        log.error("Publish job {} ({}) for version {} abandoned after {} attempt(s); marked FAILED",
+                                job.getId(), job.getTask(), job.getVersionId(), job.getAttempts());
+                    }
+                } catch (OptimisticLockingFailureException e) {
+                    // Finished or reclaimed meanwhile.
+                }
+            }
+            repository.findByStatusAndNextAttemptAtLessThanEqual(PublishJobStatus.PENDING, now)
+                    .forEach(this::submit);
+        } catch (DataAccessException e) {
+            log.warn("Publish job sweep failed; will retry", e);
+        }
+    }
+
+    void runJob(String jobId) {
+        queued.remove(jobId);
+        PublishJob job = repository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() != PublishJobStatus.PENDING) {
+            return;
+        }
+        job.setStatus(PublishJobStatus.RUNNING);
+        job.setAttempts(job.getAttempts() + 1);
+        job.setStartedAt(Instant.now());
+        try {
+            job = repository.save(job);
+        } catch (OptimisticLockingFailureException e) {
+            return;
+        }
+
+        PostPublishTask task = tasks.get(job.getTask());
+        long start = System.nanoTime();
+        try {
+            if (task == null) {
+                throw new IllegalStateException("No PostPublishTask named " + job.getTask());
+            }
+            task.run(job.getVersionId());
+            job.setStatus(PublishJobStatus.SUCCEEDED);
+            job.setLastError(null);
+            job.setFinishedAt(Instant.now());
+            outcome(job.getTask(), "succeeded").increment();
+        } catch (Exception e) {
+            handleFailure(job, task == null, e);
+        } finally {
+            Timer.builder("publish.jobs.duration")
+                    .tag("task", job.getTask())
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        try {
+            repository.save(job);
+        } catch (DataAccessException e) {
+            log.warn("Could not record result of publish job {} ({})", job.getId(), job.getTask(), e);
+        }
+    }
+
+    private void handleFailure(PublishJob job, boolean permanent, Exception e) {
+        job.setLastError(truncate(e.toString()));
+        if (permanent || job.getAttempts() >= job.getMaxAttempts()) {
+            job.setStatus(PublishJobStatus.FAILED);
+            job.setFinishedAt(Instant.now());
+            outcome(job.getTask(), "failed").increment();
+            log.error("Publish job {} ({}) for version {} failed after {} attempt(s)",
+                    job.getId(), job.getTask(), job.getVersionId(), job.getAttempts(), e);
+            return;
+        }
+        Duration delay = properties.getRetryBackoff().multipliedBy(1L << Math.min(job.getAttempts() - 1, 10));
+        job.setStatus(PublishJobStatus.PENDING);
+        job.setNextAttemptAt(Instant.now().plus(delay));
+        outcome(job.getTask(), "retried").increment();
+        log.warn("Publish job {} ({}) attempt {} failed; retrying in {}",
+                job.getId(), job.getTask(), job.getAttempts(), delay, e);
+    }
+
+    private void submit(PublishJob job) {
+        String id = job.getId();
+        if (!queued.add(id)) {
+            return;
+        }
+        try {
+            executor.execute(() -> runJob(id));
+        } catch (RejectedExecutionException e) {
+            queued.remove(id);
+            log.warn("Publish job queue full; job {} ({}) left for the next sweep", id, job.getTask());
+        }
+    }
+
+    private Counter outcome(String task, String outcome) {
+        return Counter.builder("publish.jobs")
+                .tag("task", task)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Map<String, PostPublishTask> indexByName(List<PostPublishTask> tasks) {
+        Map<String, PostPublishTask> byName = new LinkedHashMap<>();
+        for (PostPublishTask task : tasks) {
+            if (byName.putIfAbsent(task.name(), task) != null) {
+                throw new IllegalStateException("Duplicate PostPublishTask name: " + task.name());
+            }
+        }
+        return byName;
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "publish-job-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
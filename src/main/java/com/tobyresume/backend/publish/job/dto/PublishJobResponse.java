@@ -0,0 +1,127 @@
+package com.tobyresume.backend.publish.job.dto;
+
+import com.tobyresume.backend.publish.job.model.PublishJob;
+
+import java.time.Instant;
+
+/**
+ * Response item for GET /api/v1/publish/jobs.
+ */
+public class PublishJobResponse {
+
+    private String id;
+    private String versionId;
+    private String task;
+    private String status;
+    private int attempts;
+    private int maxAttempts;
+    private String lastError;
+    private Instant createdAt;
+    private Instant nextAttemptAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+
+    public static PublishJobResponse from(PublishJob job) {
+        PublishJobResponse r = new PublishJobResponse();
+        r.id = job.getId();
+        r.versionId = job.getVersionId();
+        r.task = job.getTask();
+        r.status = job.getStatus() != null ? job.getStatus().name() : null;
+        r.attempts = job.getAttempts();
+        r.maxAttempts = job.getMaxAttempts();
+        r.lastError = job.getLastError();
+        r.createdAt = job.getCreatedAt();
+        r.nextAttemptAt = job.getNextAttemptAt();
+        r.startedAt = job.getStartedAt();
+        r.finishedAt = job.getFinishedAt();
+        return r;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getVersionId() {
+        return versionId;
+    }
+
+    public void setVersionId(String versionId) {
+        this.versionId = versionId;
+    }
+
+    public String getTask() {
+        return task;
+    }
+
+    public void setTask(String task) {
+        this.task = task;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
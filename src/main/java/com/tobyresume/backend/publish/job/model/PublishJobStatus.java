@@ -0,0 +1,12 @@
+package com.tobyresume.backend.publish.job.model;
+
+/**
+ * Lifecycle of a post-publish job. PENDING jobs are picked up by the runner (immediately or on retry);
+ * FAILED means all attempts are used up.
+ */
+public enum PublishJobStatus {
+    PENDING,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
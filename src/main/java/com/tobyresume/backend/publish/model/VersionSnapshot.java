@@ -1,6 +1,7 @@
 package com.tobyresume.backend.publish.model;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -24,6 +25,7 @@ public class VersionSnapshot {
     /** Optional human-readable label. */
     private String label;
 
+    @Indexed
     @Field("publishedAt")
     private Instant publishedAt;
 
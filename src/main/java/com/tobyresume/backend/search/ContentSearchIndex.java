@@ -0,0 +1,320 @@
+package com.tobyresume.backend.search;
+
+import com.tobyresume.backend.common.model.BaseDocument;
+import com.tobyresume.backend.common.model.ContentState;
+import com.tobyresume.backend.common.util.TextAnalyzer;
+import com.tobyresume.backend.content.ContentChangedEvent;
+import com.tobyresume.backend.content.certification.model.Certification;
+import com.tobyresume.backend.content.education.model.Education;
+import com.tobyresume.backend.content.experience.model.WorkExperience;
+import com.tobyresume.backend.content.hero.model.Hero;
+import com.tobyresume.backend.content.project.model.Project;
+import com.tobyresume.backend.content.skill.model.Skill;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * In-memory inverted index over all localized fields of every section, DRAFT and PUBLISHED. Each
+ * section document is one immutable segment (sorted term dictionary → document → weight); a save
+ * rebuilds only that segment and swaps it in, so reads never lock. Query terms match exactly,
+ * by prefix, or within 1–2 edits (same first letter), and every query term must match. Writes bump a
+ * per-section generation; a section reload (read from Mongo outside the lock) is applied only if its
+ * section's generation did not move meanwhile, otherwise it re-reads. The last attempt is applied
+ * regardless, with the per-document writes made since its read started re-applied on top.
+ */
+@Component
+public class ContentSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentSearchIndex.class);
+
+    private static final List<Class<? extends BaseDocument>> SECTION_TYPES = List.of(
+            Hero.class, WorkExperience.class, Project.class, Education.class, Skill.class, Certification.class);
+
+    private static final float EXACT = 1f;
+    private static final float PREFIX = 0.7f;
+    private static final float FUZZY = 0.5f;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static final int MAX_RELOAD_ATTEMPTS = 3;
+
+    private final MongoTemplate mongoTemplate;
+
+    /** Mongo document id → segment. Replaced wholesale on every change (copy-on-write). */
+    private volatile Map<String, Segment> segments = Map.of();
+    /** Section → number of writes applied to it. Guarded by this. */
+    private final Map<String, Long> generations = new HashMap<>();
+    /** Section → reloads currently reading it. Guarded by this. */
+    private final Map<String, Integer> reloadsInFlight = new HashMap<>();
+    /** Section → document id → latest write while a reload of the section is in flight. Guarded by this. */
+    private final Map<String, Map<String, Write>> writesDuringReload = new HashMap<>();
+
+    public ContentSearchIndex(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        long start = System.nanoTime();
+        for (Class<? extends BaseDocument> type : SECTION_TYPES) {
+            reload(type);
+        }
+        log.info("Search index loaded: {} segments in {} ms", segments.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @EventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        if (SearchDocumentExtractor.section(event.documentType()) != null) {
+            reload(event.documentType());
+        }
+    }
+
+    /**
+     * Re-indexes all documents (both states) of one section type. If an update() or remove() of the
+     * section lands while Mongo is read, the result may predate it and is discarded for a re-read. The
+     * last attempt is kept (startup and bulk writes must not lose a reload); the writes that raced it
+     * are re-applied on top so they are not rolled back.
+     */
+    void reload(Class<?> type) {
+        String section = SearchDocumentExtractor.section(type);
+        synchronized (this) {
+            reloadsInFlight.merge(section, 1, Integer::sum);
+        }
+        try {
+            for (int attempt = 1; attempt <= MAX_RELOAD_ATTEMPTS; attempt++) {
+                long generation;
+                synchronized (this) {
+                    generation = generations.getOrDefault(section, 0L);
+                }
+                List<?> docs = mongoTemplate.findAll(type);
+                List<Segment> loaded = new ArrayList<>(docs.size());
+                for (Object doc : docs) {
+                    Segment segment = segment((BaseDocument) doc);
+                    if (segment != null) {
+                        loaded.add(segment);
+                    }
+                }
+                synchronized (this) {
+                    boolean raced = generations.getOrDefault(section, 0L) != generation;
+                    if (raced && attempt < MAX_RELOAD_ATTEMPTS) {
+                        continue;
+                    }
+                    Map<String, Segment> next = new HashMap<>(segments);
+                    next.values().removeIf(s -> s.section().equals(section));
+                    loaded.forEach(s -> next.put(s.documentId(), s));
+                    if (raced) {
+                        log.info("Search section {} raced updates on every reload; re-applying them on the last read",
+                                section);
+                        writesDuringReload.getOrDefault(section, Map.of()).forEach((documentId, write) -> {
+                            if (write.generation() > generation) {
+                                if (write.segment() == null) {
+                                    next.remove(documentId);
+                                } else {
+                                    next.put(documentId, write.segment());
+                                }
+                            }
+                        });
+                    }
+                    segments = Map.copyOf(next);
+                    bump(section);
+                    return;
+                }
+            }
+        } finally {
+            synchronized (this) {
+                if (reloadsInFlight.merge(section, -1, Integer::sum) <= 0) {
+                    reloadsInFlight.remove(section);
+                    writesDuringReload.remove(section);
+                }
+            }
+        }
+    }
+
+    /** Indexes a saved document; ignored if it is not searchable content. */
+    public void update(BaseDocument document) {
+        Segment segment = segment(document);
+        if (segment == null) {
+            return;
+        }
+        synchronized (this) {
+            Map<String, Segment> next = new HashMap<>(segments);
+            next.put(segment.documentId(), segment);
+            segments = Map.copyOf(next);
+            bump(segment.section());
+            recordWrite(segment.section(), segment.documentId(), segment);
+        }
+    }
+
+    public void remove(String documentId) {
+        if (!segments.containsKey(documentId)) {
+            return;
+        }
+        synchronized (this) {
+            Map<String, Segment> next = new HashMap<>(segments);
+            Segment removed = next.remove(documentId);
+            if (removed == null) {
+                return;
+            }
+            segments = Map.copyOf(next);
+            bump(removed.section());
+            recordWrite(removed.section(), documentId, null);
+        }
+    }
+
+    /** Caller holds the lock. */
+    private void bump(String section) {
+        generations.merge(section, 1L, Long::sum);
+    }
+
+    /** Remembers a write (null segment = removed) for reloads of the section in flight. Caller holds the lock. */
+    private void recordWrite(String section, String documentId, Segment segment) {
+        if (reloadsInFlight.containsKey(section)) {
+            writesDuringReload.computeIfAbsent(section, k -> new HashMap<>())
+                    .put(documentId, new Write(generations.get(section), segment));
+        }
+    }
+
+    /**
+     * Searches one content state. publicOnly drops hidden projects. Results are best first, then in
+     * section and display order.
+     */
+    List<Hit> search(String query, ContentState state, boolean publicOnly, int limit) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(TextAnalyzer.tokenize(query)));
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        List<Hit> hits = new ArrayList<>();
+        for (Segment segment : segments.values()) {
+            if (segment.state() != state) {
+                continue;
+            }
+            Map<String, Float> scores = null;
+            for (String token : tokens) {
+                Map<String, Float> matches = match(segment.terms(), token);
+                if (scores == null) {
+                    scores = matches;
+                } else {
+                    // AND: keep documents that matched every earlier token and this one.
+                    Map<String, Float> joined = new HashMap<>();
+                    for (Map.Entry<String, Float> e : scores.entrySet()) {
+                        Float s = matches.get(e.getKey());
+                        if (s != null) {
+                            joined.put(e.getKey(), e.getValue() + s);
+                        }
+                    }
+                    scores = joined;
+                }
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+            for (Map.Entry<String, Float> e : scores.entrySet()) {
+                SearchDocument doc = segment.docs().get(e.getKey());
+                if (!publicOnly || doc.visible()) {
+                    hits.add(new Hit(doc, e.getValue()));
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                .thenComparing(h -> h.document().section())
+                .thenComparingInt(h -> h.document().order()));
+        return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+    }
+
+    int size() {
+        return segments.values().stream().mapToInt(s -> s.docs().size()).sum();
+    }
+
+    /** Document key → best weight for one query token within a segment. */
+    private static Map<String, Float> match(NavigableMap<String, Map<String, Float>> terms, String token) {
+        Map<String, Float> out = new HashMap<>();
+        Map<String, Float> exact = terms.get(token);
+        if (exact != null) {
+            merge(out, exact, EXACT);
+        }
+        if (token.length() >= MIN_PREFIX_LENGTH) {
+            terms.subMap(token, false, token + Character.MAX_VALUE, false).values().forEach(p -> merge(out, p, PREFIX));
+        }
+        if (token.length() >= MIN_FUZZY_LENGTH) {
+            int maxEdits = token.length() >= 8 ? 2 : 1;
+            String first = token.substring(0, 1);
+            for (Map.Entry<String, Map<String, Float>> e : terms.subMap(first, true, first + Character.MAX_VALUE, false).entrySet()) {
+                String term = e.getKey();
+                if (!term.equals(token) && Math.abs(term.length() - token.length()) <= maxEdits
+                        && withinEdits(token, term, maxEdits)) {
+                    merge(out, e.getValue(), FUZZY);
+                }
+            }
+        }
+        return out;
+    }
+
+    private static void merge(Map<String, Float> out, Map<String, Float> postings, float weight) {
+        postings.forEach((doc, boost) -> out.merge(doc, boost * weight, Math::max));
+    }
+
+    /** Levenshtein distance ≤ max, abandoning a row as soon as every cell exceeds max. */
+    static boolean withinEdits(String a, String b, int max) {
+        int[] prev = new int[b.length() + 1];
+        int[] cur = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            prev[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            cur[0] = i;
+            int rowMin = cur[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                cur[j] = Math.min(Math.min(cur[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+                rowMin = Math.min(rowMin, cur[j]);
+            }
+            if (rowMin > max) {
+                return false;
+            }
+            int[] tmp = prev;
+            prev = cur;
+            cur = tmp;
+        }
+        return prev[b.length()] <= max;
+    }
+
+    private static Segment segment(BaseDocument document) {
+        List<SearchDocumentExtractor.Extracted> extracted = SearchDocumentExtractor.extract(document);
+        if (extracted == null || document.getId() == null) {
+            return null;
+        }
+        Map<String, SearchDocument> docs = new HashMap<>();
+        TreeMap<String, Map<String, Float>> terms = new TreeMap<>();
+        ContentState state = null; // stays null for a section with no items; such a segment never matches
+        for (SearchDocumentExtractor.Extracted e : extracted) {
+            SearchDocument doc = e.document();
+            state = doc.state();
+            docs.put(doc.key(), doc);
+            for (SearchDocumentExtractor.Field field : e.fields()) {
+                for (String term : TextAnalyzer.tokenize(field.text())) {
+                    terms.computeIfAbsent(term, t -> new HashMap<>()).merge(doc.key(), field.boost(), Math::max);
+                }
+            }
+        }
+        return new Segment(document.getId(), SearchDocumentExtractor.section(document.getClass()), state, docs, terms);
+    }
+
+    private record Segment(String documentId, String section, ContentState state,
+                           Map<String, SearchDocument> docs, NavigableMap<String, Map<String, Float>> terms) {}
+
+    private record Write(long generation, Segment segment) {}
+
+    record Hit(SearchDocument document, float score) {}
+}
@@ -0,0 +1,78 @@
+package com.tobyresume.backend.search;
+
+import com.tobyresume.backend.common.dto.ApiResponse;
+import com.tobyresume.backend.common.exception.ValidationException;
+import com.tobyresume.backend.common.model.ContentState;
+import com.tobyresume.backend.search.dto.SearchResultResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Content search. /api/v1/search is admin-only (JWT) and searches DRAFT by default; /api/public/search
+ * searches PUBLISHED content without hidden projects.
+ */
+@RestController
+public class SearchController {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 50;
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    private final ContentSearchIndex index;
+
+    public SearchController(ContentSearchIndex index) {
+        this.index = index;
+    }
+
+    @GetMapping("/api/v1/search")
+    public ResponseEntity<ApiResponse<List<SearchResultResponse>>> adminSearch(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String state,
+            @RequestParam(required = false) String locale,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(ApiResponse.success(
+                search(q, parseState(state), false, locale, limit)));
+    }
+
+    @GetMapping("/api/public/search")
+    public ResponseEntity<ApiResponse<List<SearchResultResponse>>> publicSearch(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String locale,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(ApiResponse.success(search(q, ContentState.PUBLISHED, true, locale, limit)));
+    }
+
+    private static ContentState parseState(String state) {
+        if (state == null || state.isBlank()) {
+            return ContentState.DRAFT;
+        }
+        try {
+            return ContentState.valueOf(state.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("state must be DRAFT or PUBLISHED");
+        }
+    }
+
+    private List<SearchResultResponse> search(String q, ContentState state, boolean publicOnly, String locale,
+                                              Integer limit) {
+        if (q == null || q.isBlank()) {
+            throw new ValidationException("q is required");
+        }
+        if (q.length() > MAX_QUERY_LENGTH) {
+            throw new ValidationException("q must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        int max = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        return index.search(q, state, publicOnly, max).stream().map(h -> {
+            SearchResultResponse r = new SearchResultResponse();
+            r.setSection(h.document().section());
+            r.setItemId(h.document().itemId());
+            r.setTitle(h.document().title(locale));
+            r.setScore(Math.round(h.score() * 1000) / 1000.0);
+            return r;
+        }).toList();
+    }
+}
@@ -0,0 +1,26 @@
+package com.tobyresume.backend.search;
+
+import com.tobyresume.backend.common.model.ContentState;
+
+import java.util.Map;
+
+/**
+ * One searchable unit: the hero, or one item of a list section (skills: one category).
+ *
+ * @param title   display title per locale
+ * @param visible false for hidden projects (excluded from public search)
+ */
+record SearchDocument(String key, String section, ContentState state, String itemId,
+                      Map<String, String> title, boolean visible, int order) {
+
+    String title(String locale) {
+        String value = locale != null ? title.get(locale) : null;
+        if (value == null || value.isBlank()) {
+            value = title.get("en");
+        }
+        if (value == null || value.isBlank()) {
+            value = title.values().stream().filter(v -> v != null && !v.isBlank()).findFirst().orElse(null);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,160 @@
+package com.tobyresume.backend.search;
+
+import com.tobyresume.backend.common.model.BaseDocument;
+import com.tobyresume.backend.common.model.ContentState;
+import com.tobyresume.backend.content.certification.model.Certification;
+import com.tobyresume.backend.content.certification.model.CertificationItem;
+import com.tobyresume.backend.content.education.model.Education;
+import com.tobyresume.backend.content.education.model.EducationItem;
+import com.tobyresume.backend.content.experience.model.ExperienceItem;
+import com.tobyresume.backend.content.experience.model.WorkExperience;
+import com.tobyresume.backend.content.hero.model.Hero;
+import com.tobyresume.backend.content.project.model.Project;
+import com.tobyresume.backend.content.project.model.ProjectItem;
+import com.tobyresume.backend.content.skill.model.Skill;
+import com.tobyresume.backend.content.skill.model.SkillCategory;
+import com.tobyresume.backend.content.skill.model.SkillItem;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns a section document into search documents with weighted text. Titles weigh most, tech and
+ * skill names next, prose least. Every locale is indexed, so a query matches in either language.
+ */
+final class SearchDocumentExtractor {
+
+    static final float TITLE = 3f;
+    static final float KEYWORD = 2f;
+    static final float TEXT = 1f;
+
+    /** Text of one field with its weight. */
+    record Field(String text, float boost) {}
+
+    record Extracted(SearchDocument document, List<Field> fields) {}
+
+    private SearchDocumentExtractor() {
+    }
+
+    /** Section name for a content document type, or null if the type is not searchable. */
+    static String section(Class<?> type) {
+        if (type == Hero.class) return "hero";
+        if (type == WorkExperience.class) return "experiences";
+        if (type == Project.class) return "projects";
+        if (type == Education.class) return "education";
+        if (type == Skill.class) return "skills";
+        if (type == Certification.class) return "certifications";
+        return null;
+    }
+
+    /** Returns null for documents that are not searchable content. */
+    static List<Extracted> extract(BaseDocument document) {
+        if (document instanceof Hero hero) {
+            return hero.getContentState() == null ? null : List.of(hero(hero));
+        }
+        if (document instanceof WorkExperience doc) {
+            return doc.getContentState() == null ? null : doc.getItems().stream().map(i -> experience(doc.getContentState(), i)).toList();
+        }
+        if (document instanceof Project doc) {
+            return doc.getContentState() == null ? null : doc.getItems().stream().map(i -> project(doc.getContentState(), i)).toList();
+        }
+        if (document instanceof Education doc) {
+            return doc.getContentState() == null ? null : doc.getItems().stream().map(i -> education(doc.getContentState(), i)).toList();
+        }
+        if (document instanceof Skill doc) {
+            return doc.getContentState() == null ? null : doc.getCategories().stream().map(c -> skill(doc.getContentState(), c)).toList();
+        }
+        if (document instanceof Certification doc) {
+            return doc.getContentState() == null ? null : doc.getItems().stream().map(i -> certification(doc.getContentState(), i)).toList();
+        }
+        return null;
+    }
+
+    private static Extracted hero(Hero hero) {
+        List<Field> fields = new ArrayList<>();
+        localized(fields, hero.getFullName(), TITLE);
+        localized(fields, hero.getTitle(), KEYWORD);
+        localized(fields, hero.getTagline(), TEXT);
+        localized(fields, hero.getBio(), TEXT);
+        return new Extracted(doc("hero", hero.getContentState(), null, nonNull(hero.getFullName()), true, 0), fields);
+    }
+
+    private static Extracted experience(ContentState state, ExperienceItem item) {
+        List<Field> fields = new ArrayList<>();
+        localized(fields, item.getRole(), TITLE);
+        localized(fields, item.getCompany(), TITLE);
+        if (item.getBulletPoints() != null) {
+            item.getBulletPoints().values().forEach(list -> list.forEach(b -> fields.add(new Field(b, TEXT))));
+        }
+        plain(fields, item.getTechUsed(), KEYWORD);
+        Map<String, String> title = new LinkedHashMap<>();
+        nonNull(item.getRole()).forEach((locale, role) -> {
+            String company = nonNull(item.getCompany()).get(locale);
+            title.put(locale, company == null || company.isBlank() ? role : role + " @ " + company);
+        });
+        return new Extracted(doc("experiences", state, item.getItemId(), title, true, item.getOrder()), fields);
+    }
+
+    private static Extracted project(ContentState state, ProjectItem item) {
+        List<Field> fields = new ArrayList<>();
+        localized(fields, item.getTitle(), TITLE);
+        localized(fields, item.getDescription(), TEXT);
+        plain(fields, item.getTechStack(), KEYWORD);
+        return new Extracted(doc("projects", state, item.getItemId(), nonNull(item.getTitle()), item.isVisible(), item.getOrder()), fields);
+    }
+
+    private static Extracted education(ContentState state, EducationItem item) {
+        List<Field> fields = new ArrayList<>();
+        fields.add(new Field(item.getInstitution(), TITLE));
+        fields.add(new Field(item.getDegree(), KEYWORD));
+        fields.add(new Field(item.getField(), KEYWORD));
+        localized(fields, item.getDetails(), TEXT);
+        String title = item.getDegree() == null ? item.getInstitution() : item.getDegree() + ", " + item.getInstitution();
+        return new Extracted(doc("education", state, item.getItemId(), plainTitle(title), true, item.getOrder()), fields);
+    }
+
+    private static Extracted skill(ContentState state, SkillCategory category) {
+        List<Field> fields = new ArrayList<>();
+        localized(fields, category.getName(), TITLE);
+        for (SkillItem item : category.getItems()) {
+            fields.add(new Field(item.getName(), KEYWORD));
+        }
+        return new Extracted(doc("skills", state, category.getCategoryId(), nonNull(category.getName()), true, category.getOrder()), fields);
+    }
+
+    private static Extracted certification(ContentState state, CertificationItem item) {
+        List<Field> fields = new ArrayList<>();
+        fields.add(new Field(item.getTitle(), TITLE));
+        fields.add(new Field(item.getIssuer(), KEYWORD));
+        localized(fields, item.getDescription(), TEXT);
+        return new Extracted(doc("certifications", state, item.getItemId(), plainTitle(item.getTitle()), true, item.getOrder()), fields);
+    }
+
+    private static SearchDocument doc(String section, ContentState state, String itemId, Map<String, String> title,
+                                      boolean visible, int order) {
+        String key = state + ":" + section + (itemId != null ? ":" + itemId : "");
+        return new SearchDocument(key, section, state, itemId, title, visible, order);
+    }
+
+    private static void localized(List<Field> fields, Map<String, String> value, float boost) {
+        if (value != null) {
+            value.values().forEach(v -> fields.add(new Field(v, boost)));
+        }
+    }
+
+    private static void plain(List<Field> fields, List<String> values, float boost) {
+        if (values != null) {
+            values.forEach(v -> fields.add(new Field(v, boost)));
+        }
+    }
+
+    private static Map<String, String> plainTitle(String title) {
+        return title == null ? Map.of() : Map.of("en", title);
+    }
+
+    private static Map<String, String> nonNull(Map<String, String> value) {
+        return value != null ? value : Map.of();
+    }
+}
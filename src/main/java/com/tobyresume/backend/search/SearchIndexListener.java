@@ -0,0 +1,34 @@
+package com.tobyresume.backend.search;
+
+import com.tobyresume.backend.common.model.BaseDocument;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps ContentSearchIndex in step with repository saves and deletes (every content service and the
+ * publish pipeline write through repositories). Non-content documents are ignored by the index.
+ */
+@Component
+class SearchIndexListener extends AbstractMongoEventListener<BaseDocument> {
+
+    private final ContentSearchIndex index;
+
+    SearchIndexListener(ContentSearchIndex index) {
+        this.index = index;
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<BaseDocument> event) {
+        index.update(event.getSource());
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<BaseDocument> event) {
+        Object id = event.getSource().get("_id");
+        if (id != null) {
+            index.remove(id.toString());
+        }
+    }
+}
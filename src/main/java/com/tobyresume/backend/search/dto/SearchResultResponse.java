@@ -0,0 +1,44 @@
+package com.tobyresume.backend.search.dto;
+
+/**
+ * One search match. itemId is null for the hero; for skills it is the category id.
+ */
+public class SearchResultResponse {
+
+    private String section;
+    private String itemId;
+    private String title;
+    private double score;
+
+    public String getSection() {
+        return section;
+    }
+
+    public void setSection(String section) {
+        this.section = section;
+    }
+
+    public String getItemId() {
+        return itemId;
+    }
+
+    public void setItemId(String itemId) {
+        this.itemId = itemId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+}
@@ -2,15 +2,25 @@ package com.tobyresume.backend.security;
 
 import com.tobyresume.backend.common.dto.ApiResponse;
 import com.tobyresume.backend.common.dto.ErrorBody;
+import com.tobyresume.backend.security.jwt.RefreshTokenCookie;
+import com.tobyresume.backend.security.jwt.RefreshTokenService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
- * Auth endpoints: current user (from JWT) and logout (client discards token).
+ * Auth endpoints: current user (from JWT), token refresh (rotating refresh token) and logout.
+ * Browsers hold the refresh token in the HttpOnly cookie set at login (RefreshTokenCookie), which is
+ * scoped to /api/v1/auth/refresh; clients without cookies may still send it in the request body and get
+ * the rotated one back in the response. POST /logout revokes the access token and the body token's session,
+ * or every session of the caller when no token is sent; DELETE /refresh ends only the cookie's session.
  *
  * @see docs/ai/design/api-design.md §3.3
  */
@@ -18,6 +28,14 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/v1/auth")
 public class AuthController {
 
+    private final RefreshTokenService refreshTokenService;
+    private final RefreshTokenCookie refreshTokenCookie;
+
+    public AuthController(RefreshTokenService refreshTokenService, RefreshTokenCookie refreshTokenCookie) {
+        this.refreshTokenService = refreshTokenService;
+        this.refreshTokenCookie = refreshTokenCookie;
+    }
+
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<AuthMeResponse>> me(Authentication authentication) {
         if (authentication == null || !(authentication.getPrincipal() instanceof AuthPrincipal principal)) {
@@ -32,11 +50,55 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.success(data));
     }
 
+    /**
+     * Public (no access token needed): exchanges a refresh token for a new access + refresh pair. With
+     * the cookie, the rotated token is set as the new cookie and left out of the body.
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<TokenResponse>> refresh(@RequestBody(required = false) RefreshRequest request,
+                                                              HttpServletRequest httpRequest,
+                                                              HttpServletResponse httpResponse) {
+        String fromBody = request != null ? request.refreshToken() : null;
+        boolean useCookie = fromBody == null || fromBody.isBlank();
+        RefreshTokenService.IssuedTokens tokens =
+                refreshTokenService.rotate(useCookie ? refreshTokenCookie.read(httpRequest) : fromBody);
+        if (useCookie) {
+            refreshTokenCookie.write(httpResponse, tokens.refreshToken());
+        }
+        TokenResponse data = new TokenResponse(tokens.accessToken(), useCookie ? null : tokens.refreshToken(),
+                tokens.expiresInMs());
+        return ResponseEntity.ok(ApiResponse.success(data));
+    }
+
+    /**
+     * Public: ends the session held in the refresh cookie (revokes its family) and clears the cookie.
+     * Lives on the cookie's path because the browser only sends the cookie there.
+     */
+    @DeleteMapping("/refresh")
+    public ResponseEntity<ApiResponse<Void>> endSession(HttpServletRequest httpRequest,
+                                                        HttpServletResponse httpResponse) {
+        refreshTokenService.logout(null, refreshTokenCookie.read(httpRequest));
+        refreshTokenCookie.clear(httpResponse);
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout() {
+    public ResponseEntity<ApiResponse<Void>> logout(Authentication authentication,
+                                                    @RequestBody(required = false) RefreshRequest request,
+                                                    HttpServletResponse httpResponse) {
+        AuthPrincipal principal = authentication != null && authentication.getPrincipal() instanceof AuthPrincipal p
+                ? p : null;
+        refreshTokenService.logout(principal, request != null ? request.refreshToken() : null);
+        refreshTokenCookie.clear(httpResponse);
         return ResponseEntity.ok(ApiResponse.success(null));
     }
 
     public record AuthMeResponse(String email, String name, String role, String provider) {
     }
+
+    public record RefreshRequest(String refreshToken) {
+    }
+
+    public record TokenResponse(String accessToken, String refreshToken, long expiresInMs) {
+    }
 }
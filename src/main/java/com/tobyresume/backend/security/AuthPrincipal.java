@@ -2,6 +2,7 @@ package com.tobyresume.backend.security;
 
 /**
  * Principal set in SecurityContext after JWT validation. Holds user identity for /api/v1/**.
+ * tokenId is the access token's jti (null for tokens issued without one); used for revocation on logout.
  */
-public record AuthPrincipal(String email, String name, String role, String provider) {
+public record AuthPrincipal(String email, String name, String role, String provider, String tokenId) {
 }
@@ -0,0 +1,190 @@
+package com.tobyresume.backend.security.cors;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tobyresume.backend.common.util.VaryHeaders;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsProcessor;
+import org.springframework.web.cors.CorsUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * CorsProcessor compiled once from the app-wide CorsConfiguration: allowed origins, methods and
+ * headers become hash-set lookups and the constant response header values are built up front.
+ * Preflight decisions for allowed origins are cached per origin/method/requested-headers, so repeated
+ * OPTIONS calls from the landing page do no list scanning or header splitting.
+ * Publishes cors.preflight and cors.requests counters tagged by result.
+ *
+ * @see docs/ai/design/api-design.md §1.2
+ */
+public class PrecomputedCorsProcessor implements CorsProcessor {
+
+    private static final String[] VARY_VALUES = {
+            HttpHeaders.ORIGIN,
+            HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD,
+            HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS };
+
+    private final Set<String> allowedOrigins;
+    private final Set<String> allowedMethods;
+    private final Set<String> allowedHeaders;
+    private final boolean anyHeader;
+    private final boolean allowCredentials;
+    private final String allowMethodsValue;
+    private final String allowHeadersValue;
+    private final String maxAgeValue;
+    private final Cache<String, Boolean> preflightDecisions;
+
+    private final Counter preflightAllowed;
+    private final Counter preflightRejected;
+    private final Counter preflightCacheHits;
+    private final Counter requestsAllowed;
+    private final Counter requestsRejected;
+
+    public PrecomputedCorsProcessor(CorsConfiguration config, long maxCachedPreflights, MeterRegistry meterRegistry) {
+        this.allowedOrigins = normalize(config.getAllowedOrigins(), PrecomputedCorsProcessor::normalizeOrigin);
+        this.allowedMethods = normalize(config.getAllowedMethods(), v -> v.toUpperCase(Locale.ROOT));
+        List<String> headers = config.getAllowedHeaders() != null ? config.getAllowedHeaders() : List.of();
+        this.anyHeader = headers.contains(CorsConfiguration.ALL);
+        this.allowedHeaders = normalize(headers, v -> v.toLowerCase(Locale.ROOT));
+        this.allowCredentials = Boolean.TRUE.equals(config.getAllowCredentials());
+        this.allowMethodsValue = String.join(", ", allowedMethods);
+        this.allowHeadersValue = String.join(", ", headers);
+        this.maxAgeValue = config.getMaxAge() != null ? config.getMaxAge().toString() : null;
+        this.preflightDecisions = Caffeine.newBuilder().maximumSize(maxCachedPreflights).build();
+
+        this.preflightAllowed = counter(meterRegistry, "cors.preflight", "allowed");
+        this.preflightRejected = counter(meterRegistry, "cors.preflight", "rejected");
+        this.preflightCacheHits = Counter.builder("cors.preflight.cache.hits")
+                .description("Preflight decisions served from the per origin/method/headers cache")
+                .register(meterRegistry);
+        this.requestsAllowed = counter(meterRegistry, "cors.requests", "allowed");
+        this.requestsRejected = counter(meterRegistry, "cors.requests", "rejected");
+        Gauge.builder("cors.preflight.cache.size", preflightDecisions, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean processRequest(CorsConfiguration config, HttpServletRequest request,
+                                  HttpServletResponse response) throws IOException {
+        if (config == null) {
+            return true;
+        }
+        // Also on same-origin requests: a cached response without CORS headers must not be reused
+        // for a cross-origin one. Merged, since controllers add their own Vary values.
+        VaryHeaders.merge(response, VARY_VALUES);
+        if (!CorsUtils.isCorsRequest(request)) {
+            return true;
+        }
+        if (response.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN) != null) {
+            return true;
+        }
+
+        String origin = request.getHeader(HttpHeaders.ORIGIN);
+        boolean preflight = CorsUtils.isPreFlightRequest(request);
+        if (!allowedOrigins.contains(normalizeOrigin(origin))) {
+            return reject(response, preflight);
+        }
+        if (preflight && !isPreflightAllowed(origin, request)) {
+            return reject(response, true);
+        }
+
+        response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, origin);
+        if (allowCredentials) {
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS, "true");
+        }
+        if (preflight) {
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS, allowMethodsValue);
+            if (anyHeader) {
+                String requested = request.getHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS);
+                if (requested != null && !requested.isBlank()) {
+                    response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS, requested);
+                }
+            } else if (!allowHeadersValue.isEmpty()) {
+                response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS, allowHeadersValue);
+            }
+            if (maxAgeValue != null) {
+                response.setHeader(HttpHeaders.ACCESS_CONTROL_MAX_AGE, maxAgeValue);
+            }
+            preflightAllowed.increment();
+        } else {
+            requestsAllowed.increment();
+        }
+        return true;
+    }
+
+    private boolean isPreflightAllowed(String origin, HttpServletRequest request) {
+        String method = request.getHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD);
+        String headers = request.getHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS);
+        String key = origin + '\n' + method + '\n' + (headers != null ? headers : "");
+        Boolean cached = preflightDecisions.getIfPresent(key);
+        if (cached != null) {
+            preflightCacheHits.increment();
+            return cached;
+        }
+        boolean allowed = method != null
+                && allowedMethods.contains(method.toUpperCase(Locale.ROOT))
+                && headersAllowed(headers);
+        preflightDecisions.put(key, allowed);
+        return allowed;
+    }
+
+    private boolean headersAllowed(String requestedHeaders) {
+        if (anyHeader || requestedHeaders == null || requestedHeaders.isBlank()) {
+            return true;
+        }
+        for (String header : requestedHeaders.split(",")) {
+            String name = header.trim().toLowerCase(Locale.ROOT);
+            if (!name.isEmpty() && !allowedHeaders.contains(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean reject(HttpServletResponse response, boolean preflight) throws IOException {
+        (preflight ? preflightRejected : requestsRejected).increment();
+        response.setStatus(HttpStatus.FORBIDDEN.value());
+        response.getOutputStream().write("Invalid CORS request".getBytes(StandardCharsets.UTF_8));
+        response.flushBuffer();
+        return false;
+    }
+
+    private static Counter counter(MeterRegistry registry, String name, String result) {
+        return Counter.builder(name).tag("result", result).register(registry);
+    }
+
+    private static Set<String> normalize(List<String> values, UnaryOperator<String> normalizer) {
+        if (values == null) {
+            return Set.of();
+        }
+        return values.stream()
+                .map(String::trim)
+                .filter(v -> !v.isEmpty())
+                .map(normalizer)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /** Origins compare case-insensitively and without a trailing slash. */
+    private static String normalizeOrigin(String origin) {
+        if (origin == null) {
+            return null;
+        }
+        String lower = origin.trim().toLowerCase(Locale.ROOT);
+        return lower.endsWith("/") ? lower.substring(0, lower.length() - 1) : lower;
+    }
+}
@@ -19,6 +19,8 @@ import java.util.Collections;
 /**
  * Extracts Bearer token from Authorization header, validates via JwtTokenProvider,
  * and sets SecurityContext with AuthPrincipal. Runs before UsernamePasswordAuthenticationFilter.
+ * Verified tokens are remembered in JwtPrincipalCache until exp, so repeat requests skip verification.
+ * Tokens revoked on logout (TokenRevocationList, in-memory) are treated as unauthenticated.
  *
  * @see docs/ai/design/phase1-mvp.md §7.3
  */
@@ -29,9 +31,16 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtPrincipalCache principalCache;
+    private final TokenRevocationList revocationList;
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
 
-    public JwtAuthFilter(JwtTokenProvider jwtTokenProvider) {
+    public JwtAuthFilter(JwtTokenProvider jwtTokenProvider,
+                         JwtPrincipalCache principalCache,
+                         TokenRevocationList revocationList) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.principalCache = principalCache;
+        this.revocationList = revocationList;
     }
 
     @Override
@@ -46,23 +55,39 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
 
         String token = authHeader.substring(BEARER_PREFIX.length()).trim();
-        Claims claims = jwtTokenProvider.parseAndValidate(token);
-        if (claims == null) {
+        AuthPrincipal principal = resolvePrincipal(token);
+        if (principal == null || revocationList.isRevoked(principal.tokenId())) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        String email = jwtTokenProvider.getSubject(claims);
-        String name = jwtTokenProvider.getName(claims);
-        String role = jwtTokenProvider.getRole(claims);
-        String provider = jwtTokenProvider.getProvider(claims);
-        AuthPrincipal principal = new AuthPrincipal(email, name, role, provider);
-
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(principal, null, Collections.emptyList());
-        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        authentication.setDetails(detailsSource.buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
         filterChain.doFilter(request, response);
     }
+
+    private AuthPrincipal resolvePrincipal(String token) {
+        if (token.isEmpty()) {
+            return null;
+        }
+        AuthPrincipal cached = principalCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = jwtTokenProvider.parseAndValidate(token);
+        if (claims == null) {
+            return null;
+        }
+        AuthPrincipal principal = new AuthPrincipal(
+                jwtTokenProvider.getSubject(claims),
+                jwtTokenProvider.getName(claims),
+                jwtTokenProvider.getRole(claims),
+                jwtTokenProvider.getProvider(claims),
+                jwtTokenProvider.getTokenId(claims));
+        principalCache.put(token, principal, claims.getExpiration());
+        return principal;
+    }
 }
@@ -0,0 +1,81 @@
+package com.tobyresume.backend.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.tobyresume.backend.common.util.Hashing;
+import com.tobyresume.backend.config.AppSecurityProperties;
+import com.tobyresume.backend.security.AuthPrincipal;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of already-verified tokens → AuthPrincipal, keyed by SHA-256 of the token (the raw
+ * token is never held). Each entry expires at the token's exp claim, so a cached hit is never
+ * accepted after the JWT itself would be rejected. Lets repeated admin requests skip HMAC
+ * verification and claim parsing.
+ *
+ * @see docs/ai/design/phase1-mvp.md §7.3
+ */
+@Component
+public class JwtPrincipalCache {
+
+    private final Cache<String, Entry> cache;
+
+    public JwtPrincipalCache(AppSecurityProperties securityProperties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(securityProperties.getJwt().getCacheMaxEntries())
+                .expireAfter(new ExpireAtTokenExp())
+                .build();
+    }
+
+    /**
+     * Returns the cached principal for this token, or null on miss or after exp.
+     */
+    public AuthPrincipal get(String token) {
+        Entry entry = cache.getIfPresent(hash(token));
+        if (entry == null || entry.expiresAtMillis() <= System.currentTimeMillis()) {
+            return null;
+        }
+        return entry.principal();
+    }
+
+    public void put(String token, AuthPrincipal principal, Date expiresAt) {
+        if (expiresAt == null) {
+            return;
+        }
+        cache.put(hash(token), new Entry(principal, expiresAt.getTime()));
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(hash(token));
+    }
+
+    private static String hash(String token) {
+        return Hashing.sha256Base64Url(token);
+    }
+
+    private record Entry(AuthPrincipal principal, long expiresAtMillis) {
+    }
+
+    private static final class ExpireAtTokenExp implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry value, long currentTime) {
+            long remainingMs = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMs));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,19 +1,27 @@
 package com.tobyresume.backend.security.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import com.tobyresume.backend.common.util.IdGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Generates and validates JWT tokens (HS256). Used after OAuth2 success and on each REST request.
  * JWT secret must be at least 32 bytes (256 bits) per RFC 7518 §3.2 for HMAC-SHA algorithms.
+ * The parser is built once; JwtParser is immutable and thread-safe. Validation is timed as
+ * jwt.validation (outcome: valid, expired, invalid).
  *
  * @see docs/ai/design/api-design.md §3.2, phase1-mvp §7.2
  */
@@ -28,11 +36,16 @@ public class JwtTokenProvider {
     private static final String CLAIM_ROLE = "role";
 
     private final SecretKey key;
+    private final JwtParser parser;
     private final long expirationMs;
+    private final Timer validTimer;
+    private final Timer expiredTimer;
+    private final Timer invalidTimer;
 
     public JwtTokenProvider(
             @Value("${app.security.jwt.secret}") String secret,
-            @Value("${app.security.jwt.expiration-ms:86400000}") long expirationMs) {
+            @Value("${app.security.jwt.expiration-ms:900000}") long expirationMs,
+            MeterRegistry meterRegistry) {
         byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
         if (secretBytes.length < MIN_SECRET_BYTES) {
             throw new IllegalStateException(
@@ -41,16 +54,25 @@ public class JwtTokenProvider {
                             + "Set JWT_SECRET to a longer value in your environment or application config.");
         }
         this.key = Keys.hmacShaKeyFor(secretBytes);
+        this.parser = Jwts.parser().verifyWith(key).build();
         this.expirationMs = expirationMs;
+        this.validTimer = validationTimer(meterRegistry, "valid");
+        this.expiredTimer = validationTimer(meterRegistry, "expired");
+        this.invalidTimer = validationTimer(meterRegistry, "invalid");
+    }
+
+    private static Timer validationTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("jwt.validation").tag("outcome", outcome).register(registry);
     }
 
     /**
-     * Builds a JWT with sub, name, provider, role, iat, exp.
+     * Builds a short-lived access JWT with jti, sub, name, provider, role, iat, exp.
      */
     public String generateToken(String sub, String name, String provider, String role) {
         Date now = new Date();
         Date exp = new Date(now.getTime() + expirationMs);
         return Jwts.builder()
+                .id(IdGenerator.uuid())
                 .subject(sub)
                 .claim(CLAIM_NAME, name)
                 .claim(CLAIM_PROVIDER, provider)
@@ -68,17 +90,30 @@ public class JwtTokenProvider {
         if (token == null || token.isBlank()) {
             return null;
         }
+        long start = System.nanoTime();
+        Timer outcome = invalidTimer;
         try {
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            outcome = validTimer;
+            return claims;
+        } catch (ExpiredJwtException e) {
+            outcome = expiredTimer;
+            return null;
         } catch (JwtException | IllegalArgumentException e) {
             return null;
+        } finally {
+            outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
     }
 
+    public long getExpirationMs() {
+        return expirationMs;
+    }
+
+    public String getTokenId(Claims claims) {
+        return claims.getId();
+    }
+
     public String getSubject(Claims claims) {
         return claims.getSubject();
     }
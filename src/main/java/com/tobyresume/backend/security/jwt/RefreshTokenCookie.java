@@ -0,0 +1,65 @@
+package com.tobyresume.backend.security.jwt;
+
+import com.tobyresume.backend.config.AppSecurityProperties;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Carries the refresh token in an HttpOnly cookie scoped to /api/v1/auth/refresh, so it never appears
+ * in URLs (history, proxy logs, Referer) and is not readable by scripts. Only the short-lived access
+ * token is handed to the admin panel directly.
+ */
+@Component
+public class RefreshTokenCookie {
+
+    public static final String NAME = "refresh_token";
+    public static final String PATH = "/api/v1/auth/refresh";
+
+    private final boolean secure;
+    private final String sameSite;
+    private final Duration maxAge;
+
+    public RefreshTokenCookie(AppSecurityProperties appSecurity) {
+        this.secure = appSecurity.getJwt().isRefreshCookieSecure();
+        this.sameSite = appSecurity.getJwt().getRefreshCookieSameSite();
+        this.maxAge = Duration.ofMillis(appSecurity.getJwt().getRefreshExpirationMs());
+    }
+
+    public void write(HttpServletResponse response, String refreshToken) {
+        response.addHeader(HttpHeaders.SET_COOKIE, build(refreshToken, maxAge).toString());
+    }
+
+    public void clear(HttpServletResponse response) {
+        response.addHeader(HttpHeaders.SET_COOKIE, build("", Duration.ZERO).toString());
+    }
+
+    /** The refresh token sent by the browser, or null. */
+    public String read(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (NAME.equals(cookie.getName()) && !cookie.getValue().isBlank()) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private ResponseCookie build(String value, Duration age) {
+        return ResponseCookie.from(NAME, value)
+                .httpOnly(true)
+                .secure(secure)
+                .sameSite(sameSite)
+                .path(PATH)
+                .maxAge(age)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.tobyresume.backend.security.jwt;
+
+import com.tobyresume.backend.security.jwt.model.RefreshToken;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+/**
+ * Refresh tokens, looked up by token hash. Expired documents are removed by the expiresAt TTL index.
+ */
+public interface RefreshTokenRepository extends MongoRepository<RefreshToken, String> {
+
+    RefreshToken findByTokenHash(String tokenHash);
+
+    List<RefreshToken> findByFamilyIdAndRevokedAtIsNull(String familyId);
+
+    List<RefreshToken> findBySubjectAndRevokedAtIsNull(String subject);
+}
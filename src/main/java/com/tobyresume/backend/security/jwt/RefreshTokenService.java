@@ -0,0 +1,141 @@
+package com.tobyresume.backend.security.jwt;
+
+import com.tobyresume.backend.common.exception.UnauthorizedException;
+import com.tobyresume.backend.common.util.Hashing;
+import com.tobyresume.backend.common.util.IdGenerator;
+import com.tobyresume.backend.config.AppSecurityProperties;
+import com.tobyresume.backend.security.AuthPrincipal;
+import com.tobyresume.backend.security.jwt.model.RefreshToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Issues access + refresh token pairs, rotates refresh tokens and revokes sessions on logout.
+ * Refresh tokens are opaque random strings; Mongo stores only their SHA-256. Reusing an already-rotated
+ * refresh token revokes the whole family (stolen-token detection).
+ *
+ * @see docs/ai/design/api-design.md §3
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository repository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList revocationList;
+    private final long refreshExpirationMs;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository repository,
+                               JwtTokenProvider jwtTokenProvider,
+                               TokenRevocationList revocationList,
+                               AppSecurityProperties appSecurity) {
+        this.repository = repository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.revocationList = revocationList;
+        this.refreshExpirationMs = appSecurity.getJwt().getRefreshExpirationMs();
+    }
+
+    /**
+     * Starts a new session (token family) after OAuth2 login.
+     */
+    public IssuedTokens issue(String sub, String name, String provider, String role) {
+        return issueInFamily(IdGenerator.uuid(), sub, name, provider, role);
+    }
+
+    /**
+     * Exchanges a valid refresh token for a new access + refresh pair; the presented token is revoked.
+     */
+    public IssuedTokens rotate(String rawRefreshToken) {
+        if (rawRefreshToken == null || rawRefreshToken.isBlank()) {
+            throw new UnauthorizedException("Missing refresh token");
+        }
+        RefreshToken current = repository.findByTokenHash(Hashing.sha256Base64Url(rawRefreshToken));
+        Instant now = Instant.now();
+        if (current == null || current.getExpiresAt() == null || !current.getExpiresAt().isAfter(now)) {
+            throw new UnauthorizedException("Invalid or expired refresh token");
+        }
+        if (current.getRevokedAt() != null) {
+            log.warn("Refresh token reuse detected; revoking session family {}", current.getFamilyId());
+            revokeFamily(current.getFamilyId(), now);
+            throw new UnauthorizedException("Invalid or expired refresh token");
+        }
+        current.setRevokedAt(now);
+        try {
+            repository.save(current);
+        } catch (OptimisticLockingFailureException e) {
+            throw new UnauthorizedException("Refresh token already used");
+        }
+        return issueInFamily(current.getFamilyId(), current.getSubject(), current.getName(),
+                current.getProvider(), current.getRole());
+    }
+
+    /**
+     * Revokes the caller's access token (until it would expire) and the refresh token's family. Browsers
+     * never send the refresh cookie here (it is scoped to the refresh path), so without a raw token every
+     * active refresh token of the caller is revoked instead.
+     */
+    public void logout(AuthPrincipal principal, String rawRefreshToken) {
+        Instant now = Instant.now();
+        if (principal != null && principal.tokenId() != null) {
+            revocationList.revoke(principal.tokenId(), now.plusMillis(jwtTokenProvider.getExpirationMs()));
+        }
+        if (rawRefreshToken != null && !rawRefreshToken.isBlank()) {
+            RefreshToken token = repository.findByTokenHash(Hashing.sha256Base64Url(rawRefreshToken));
+            if (token != null) {
+                revokeFamily(token.getFamilyId(), now);
+            }
+        } else if (principal != null && principal.email() != null) {
+            revoke(repository.findBySubjectAndRevokedAtIsNull(principal.email()), now);
+        }
+    }
+
+    private IssuedTokens issueInFamily(String familyId, String sub, String name, String provider, String role) {
+        String accessToken = jwtTokenProvider.generateToken(sub, name, provider, role);
+        String rawRefreshToken = newOpaqueToken();
+        Instant now = Instant.now();
+
+        RefreshToken refresh = new RefreshToken();
+        refresh.setTokenHash(Hashing.sha256Base64Url(rawRefreshToken));
+        refresh.setFamilyId(familyId);
+        refresh.setSubject(sub);
+        refresh.setName(name);
+        refresh.setProvider(provider);
+        refresh.setRole(role);
+        refresh.setCreatedAt(now);
+        refresh.setExpiresAt(now.plusMillis(refreshExpirationMs));
+        repository.save(refresh);
+
+        return new IssuedTokens(accessToken, rawRefreshToken, jwtTokenProvider.getExpirationMs());
+    }
+
+    private void revokeFamily(String familyId, Instant now) {
+        revoke(repository.findByFamilyIdAndRevokedAtIsNull(familyId), now);
+    }
+
+    private void revoke(List<RefreshToken> active, Instant now) {
+        if (active.isEmpty()) {
+            return;
+        }
+        active.forEach(t -> t.setRevokedAt(now));
+        repository.saveAll(active);
+    }
+
+    private String newOpaqueToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public record IssuedTokens(String accessToken, String refreshToken, long expiresInMs) {}
+}
@@ -0,0 +1,15 @@
+package com.tobyresume.backend.security.jwt;
+
+import com.tobyresume.backend.security.jwt.model.RevokedAccessToken;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Revoked access-token ids. Expired documents are removed by the expiresAt TTL index.
+ */
+public interface RevokedAccessTokenRepository extends MongoRepository<RevokedAccessToken, String> {
+
+    List<RevokedAccessToken> findByRevokedAtAfter(Instant since);
+}
@@ -0,0 +1,79 @@
+package com.tobyresume.backend.security.jwt;
+
+import com.tobyresume.backend.security.jwt.model.RevokedAccessToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory set of revoked access-token ids (jti → expiry) checked by JwtAuthFilter on every request
+ * without touching Mongo. Entries are dropped once the token would have expired anyway, so the set only
+ * holds logouts from the last access-token lifetime. Mongo (revoked_access_tokens, TTL index) is the
+ * durable copy; a periodic sync picks up revocations made by other replicas.
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationList.class);
+
+    /** Overlap between syncs so clock skew between replicas cannot skip a revocation. */
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(5);
+
+    private final RevokedAccessTokenRepository repository;
+    private final ConcurrentMap<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    public TokenRevocationList(RevokedAccessTokenRepository repository) {
+        this.repository = repository;
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        Long expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * Revokes the access token until expiresAt. Takes effect locally at once; other replicas on next sync.
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || expiresAt == null) {
+            return;
+        }
+        revoked.put(tokenId, expiresAt.toEpochMilli());
+        repository.save(new RevokedAccessToken(tokenId, Instant.now(), expiresAt));
+    }
+
+    /**
+     * Pulls revocations recorded since the last sync (all unexpired ones on first run) and prunes expired entries.
+     */
+    @Scheduled(fixedDelayString = "${app.security.jwt.revocation-sync-ms:30000}")
+    public void sync() {
+        Instant now = Instant.now();
+        try {
+            for (RevokedAccessToken r : repository.findByRevokedAtAfter(lastSync.minus(SYNC_OVERLAP))) {
+                if (r.getExpiresAt() != null) {
+                    revoked.put(r.getTokenId(), r.getExpiresAt().toEpochMilli());
+                }
+            }
+            lastSync = now;
+        } catch (DataAccessException e) {
+            log.warn("Revocation list sync failed; keeping local entries: {}", e.getMessage());
+        }
+        long nowMs = now.toEpochMilli();
+        revoked.values().removeIf(expiresAt -> expiresAt <= nowMs);
+    }
+
+    int size() {
+        return revoked.size();
+    }
+}
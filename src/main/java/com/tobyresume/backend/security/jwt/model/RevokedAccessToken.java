@@ -0,0 +1,58 @@
+package com.tobyresume.backend.security.jwt.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Revoked access token id (jti). Kept only until the token would have expired anyway (TTL index).
+ * Durable copy of TokenRevocationList so revocations survive restarts and reach other replicas.
+ */
+@Document(collection = "revoked_access_tokens")
+public class RevokedAccessToken {
+
+    /** The access token's jti. */
+    @Id
+    private String tokenId;
+
+    @Indexed
+    private Instant revokedAt;
+
+    @Indexed(expireAfterSeconds = 0)
+    private Instant expiresAt;
+
+    public RevokedAccessToken() {
+    }
+
+    public RevokedAccessToken(String tokenId, Instant revokedAt, Instant expiresAt) {
+        this.tokenId = tokenId;
+        this.revokedAt = revokedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public void setTokenId(String tokenId) {
+        this.tokenId = tokenId;
+    }
+
+    public Instant getRevokedAt() {
+        return revokedAt;
+    }
+
+    public void setRevokedAt(Instant revokedAt) {
+        this.revokedAt = revokedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -1,7 +1,8 @@
 package com.tobyresume.backend.security.oauth2;
 
 import com.tobyresume.backend.config.AppSecurityProperties;
-import com.tobyresume.backend.security.jwt.JwtTokenProvider;
+import com.tobyresume.backend.security.jwt.RefreshTokenCookie;
+import com.tobyresume.backend.security.jwt.RefreshTokenService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.core.Authentication;
@@ -15,20 +16,25 @@ import java.io.IOException;
 import java.util.List;
 
 /**
- * After OAuth2 callback: if user is in allowed-admins, generate JWT and redirect to Admin Panel with token.
- * Otherwise redirect with error=forbidden.
+ * After OAuth2 callback: if user is in allowed-admins, issue a short-lived access JWT plus a rotating
+ * refresh token and redirect to Admin Panel with the access token. The refresh token is set as an
+ * HttpOnly cookie (RefreshTokenCookie), never put in the URL. Otherwise redirect with error=forbidden.
  *
  * @see docs/ai/design/api-design.md §3.1, phase1-mvp §7.1
  */
 @Component
 public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final RefreshTokenCookie refreshTokenCookie;
     private final List<String> allowedAdmins;
     private final String redirectUri;
 
-    public OAuth2SuccessHandler(JwtTokenProvider jwtTokenProvider, AppSecurityProperties appSecurity) {
-        this.jwtTokenProvider = jwtTokenProvider;
+    public OAuth2SuccessHandler(RefreshTokenService refreshTokenService,
+                                RefreshTokenCookie refreshTokenCookie,
+                                AppSecurityProperties appSecurity) {
+        this.refreshTokenService = refreshTokenService;
+        this.refreshTokenCookie = refreshTokenCookie;
         this.allowedAdmins = appSecurity.getAllowedAdmins();
         this.redirectUri = appSecurity.getOauth2().getRedirectUri();
     }
@@ -71,9 +77,10 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
             return;
         }
 
-        String token = jwtTokenProvider.generateToken(sub, name, registrationId, "ADMIN");
+        RefreshTokenService.IssuedTokens tokens = refreshTokenService.issue(sub, name, registrationId, "ADMIN");
+        refreshTokenCookie.write(response, tokens.refreshToken());
         String targetUrl = UriComponentsBuilder.fromUriString(redirectUri)
-                .queryParam("token", token)
+                .queryParam("token", tokens.accessToken())
                 .build()
                 .toUriString();
         getRedirectStrategy().sendRedirect(request, response, targetUrl);
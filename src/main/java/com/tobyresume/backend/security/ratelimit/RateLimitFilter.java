@@ -0,0 +1,67 @@
+package com.tobyresume.backend.security.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tobyresume.backend.common.dto.ApiResponse;
+import com.tobyresume.backend.common.dto.ErrorBody;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies RateLimiter per client IP before authentication. Over-limit requests get 429 with
+ * the REST error envelope (RATE_LIMITED) and a Retry-After header. CORS preflights are not counted.
+ * Client IP is request.getRemoteAddr(); behind a reverse proxy enable server.forward-headers-strategy.
+ *
+ * @see docs/ai/requirements/feature-api-conventions.md — Rate Limiting
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RateLimiter.Decision decision = rateLimiter.check(request.getRequestURI(), request.getRemoteAddr());
+        if (decision == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        response.setHeader("X-RateLimit-Limit", Long.toString(decision.limit()));
+        response.setHeader("X-RateLimit-Remaining", Long.toString(decision.remaining()));
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(decision.retryAfterNanos() + 999_999_999L));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        ErrorBody error = new ErrorBody("RATE_LIMITED", "Too many requests; retry after " + retryAfterSeconds + "s", null);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(error));
+    }
+}
@@ -0,0 +1,116 @@
+package com.tobyresume.backend.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tobyresume.backend.config.RateLimitProperties;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds token buckets per (rule, client IP) and per rule (route-wide). Client buckets live in a
+ * bounded Caffeine cache that evicts idle clients, so memory stays flat under scraper traffic.
+ * Rules are compiled once at startup; the first matching rule wins.
+ *
+ * @see docs/ai/requirements/feature-api-conventions.md — Rate Limiting
+ */
+@Component
+public class RateLimiter {
+
+    private final boolean enabled;
+    private final List<CompiledRule> rules;
+    private final Cache<String, TokenBucket> clientBuckets;
+    private final ConcurrentMap<String, TokenBucket> routeBuckets = new ConcurrentHashMap<>();
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.rules = compile(properties.getRules());
+        this.clientBuckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedClients())
+                .expireAfterAccess(properties.getIdleEviction())
+                .build();
+    }
+
+    /**
+     * Consumes one token for the given path and client (and the route, if the rule has a route budget).
+     * A request the route budget rejects keeps the client's token. Returns null when no rule applies.
+     */
+    public Decision check(String path, String clientKey) {
+        if (!enabled || path == null) {
+            return null;
+        }
+        CompiledRule rule = match(path);
+        if (rule == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        TokenBucket bucket = clientBuckets.get(rule.name + '|' + clientKey,
+                k -> new TokenBucket(rule.capacity, rule.refillPeriodNanos, now));
+        long wait = bucket.tryConsume(now);
+        if (wait > 0) {
+            return new Decision(rule.name, false, rule.capacity, 0L, wait);
+        }
+        // Only requests within their client's limit draw on the route budget, so one client cannot
+        // exhaust it for everyone.
+        if (rule.routeCapacity > 0) {
+            TokenBucket route = routeBuckets.computeIfAbsent(rule.name,
+                    k -> new TokenBucket(rule.routeCapacity, rule.refillPeriodNanos, now));
+            long routeWait = route.tryConsume(now);
+            if (routeWait > 0) {
+                // The request is not served, so it must not count against the client's own limit.
+                bucket.refund(now);
+                return new Decision(rule.name, false, rule.routeCapacity, 0L, routeWait);
+            }
+        }
+        return new Decision(rule.name, true, rule.capacity, bucket.available(now), 0L);
+    }
+
+    /** Approximate number of client buckets currently held. */
+    public long trackedClients() {
+        return clientBuckets.estimatedSize();
+    }
+
+    private CompiledRule match(String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (CompiledRule rule : rules) {
+            for (PathPattern pattern : rule.patterns) {
+                if (pattern.matches(container)) {
+                    return rule;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<CompiledRule> compile(List<RateLimitProperties.Rule> configured) {
+        List<CompiledRule> compiled = new ArrayList<>(configured.size());
+        for (RateLimitProperties.Rule r : configured) {
+            if (r.getPaths().isEmpty() || r.getCapacity() <= 0) {
+                continue;
+            }
+            List<PathPattern> patterns = r.getPaths().stream()
+                    .map(PathPatternParser.defaultInstance::parse)
+                    .toList();
+            String name = r.getName() != null ? r.getName() : r.getPaths().get(0);
+            compiled.add(new CompiledRule(name, patterns, r.getCapacity(),
+                    r.getRefillPeriod().toNanos(), r.getRouteCapacity()));
+        }
+        return List.copyOf(compiled);
+    }
+
+    private record CompiledRule(String name, List<PathPattern> patterns, long capacity,
+                                long refillPeriodNanos, long routeCapacity) {
+    }
+
+    /**
+     * Outcome of a rate-limit check. retryAfterNanos is 0 when allowed.
+     */
+    public record Decision(String rule, boolean allowed, long limit, long remaining, long retryAfterNanos) {
+    }
+}
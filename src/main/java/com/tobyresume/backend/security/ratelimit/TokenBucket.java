@@ -0,0 +1,81 @@
+package com.tobyresume.backend.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket. Holds capacity tokens and refills one token every refillPeriod / capacity.
+ * State is a single "theoretical arrival time" (GCRA form of the token bucket) updated with CAS,
+ * so concurrent requests on the same bucket never block each other.
+ *
+ * @see docs/ai/requirements/feature-api-conventions.md — Rate Limiting
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final long emissionIntervalNanos;
+    private final long burstWindowNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(long capacity, long refillPeriodNanos, long nowNanos) {
+        if (capacity <= 0 || refillPeriodNanos <= 0) {
+            throw new IllegalArgumentException("capacity and refill period must be positive");
+        }
+        this.capacity = capacity;
+        this.emissionIntervalNanos = Math.max(1L, refillPeriodNanos / capacity);
+        this.burstWindowNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes one token if available. Returns 0 when allowed, otherwise the nanoseconds to wait
+     * until the next token becomes available.
+     */
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long base = tat - nowNanos > 0 ? tat : nowNanos;
+            long next = base + emissionIntervalNanos;
+            long ahead = next - nowNanos;
+            if (ahead > burstWindowNanos) {
+                return ahead - burstWindowNanos;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * Gives back one token taken by {@link #tryConsume} when the request was rejected by a later check.
+     * Never fills the bucket beyond capacity.
+     */
+    public void refund(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            if (tat - nowNanos <= 0) {
+                return;
+            }
+            long previous = tat - emissionIntervalNanos;
+            long restored = previous - nowNanos > 0 ? previous : nowNanos;
+            if (theoreticalArrival.compareAndSet(tat, restored)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Tokens currently available (approximate under contention). Used for X-RateLimit-Remaining.
+     */
+    public long available(long nowNanos) {
+        long tat = theoreticalArrival.get();
+        long used = tat - nowNanos;
+        if (used <= 0) {
+            return capacity;
+        }
+        return Math.max(0L, (burstWindowNanos - used) / emissionIntervalNanos);
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+}
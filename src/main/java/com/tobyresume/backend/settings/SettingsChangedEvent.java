@@ -0,0 +1,8 @@
+package com.tobyresume.backend.settings;
+
+/**
+ * Published by SettingsService after the site settings are saved. Listeners drop data derived from
+ * the previous settings (e.g. the public content stamp).
+ */
+public record SettingsChangedEvent() {
+}
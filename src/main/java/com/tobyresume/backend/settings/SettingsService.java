@@ -4,6 +4,7 @@ import com.tobyresume.backend.common.exception.ValidationException;
 import com.tobyresume.backend.settings.dto.SiteSettingsRequest;
 import com.tobyresume.backend.settings.dto.SiteSettingsResponse;
 import com.tobyresume.backend.settings.model.SiteSettings;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.Arrays;
@@ -32,10 +33,13 @@ public class SettingsService {
 
     private final SettingsRepository repository;
     private final SettingsMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public SettingsService(SettingsRepository repository, SettingsMapper mapper) {
+    public SettingsService(SettingsRepository repository, SettingsMapper mapper,
+                           ApplicationEventPublisher eventPublisher) {
         this.repository = repository;
         this.mapper = mapper;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -67,6 +71,7 @@ public class SettingsService {
         entity.setPdfSectionVisibility(request.getPdfSectionVisibility());
 
         repository.save(entity);
+        eventPublisher.publishEvent(new SettingsChangedEvent());
         return mapper.toResponse(entity);
     }
 
@@ -0,0 +1,133 @@
+package com.tobyresume.backend.tailoring;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable inverted index over draft experience items, project items and skills, scored with BM25
+ * (k1 = 1.2, b = 0.75). IDF is computed over all documents; length normalisation uses the average
+ * length of each kind, since a skill name and an experience entry differ in length by design.
+ */
+final class DraftIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    enum Kind { EXPERIENCE, PROJECT, SKILL }
+
+    /**
+     * An indexed item. id is the itemId; skill items have none, so theirs is "categoryId:index" (the
+     * item's position in its category). label is shown to the admin.
+     */
+    record Doc(Kind kind, String id, String label, int length) {}
+
+    record Hit(Doc doc, double score, List<String> matchedTerms) {}
+
+    private record Postings(int[] docs, int[] freqs) {}
+
+    private final List<Doc> docs;
+    private final Map<String, Postings> postings;
+    private final Map<Kind, Double> avgLength;
+
+    private DraftIndex(List<Doc> docs, Map<String, Postings> postings, Map<Kind, Double> avgLength) {
+        this.docs = docs;
+        this.postings = postings;
+        this.avgLength = avgLength;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    int size() {
+        return docs.size();
+    }
+
+    boolean contains(String term) {
+        return postings.containsKey(term);
+    }
+
+    double idf(String term) {
+        Postings p = postings.get(term);
+        int df = p == null ? 0 : p.docs().length;
+        return Math.log(1 + (docs.size() - df + 0.5) / (df + 0.5));
+    }
+
+    /**
+     * Scores every document against the query terms (term → weight). Each kind's list holds all its
+     * documents, best first; unmatched documents keep score 0 in their original order.
+     */
+    Map<Kind, List<Hit>> search(Map<String, Double> query) {
+        double[] scores = new double[docs.size()];
+        List<List<String>> matched = new ArrayList<>(docs.size());
+        for (int i = 0; i < docs.size(); i++) {
+            matched.add(new ArrayList<>());
+        }
+        for (Map.Entry<String, Double> q : query.entrySet()) {
+            Postings p = postings.get(q.getKey());
+            if (p == null) {
+                continue;
+            }
+            double idf = idf(q.getKey()) * q.getValue();
+            for (int j = 0; j < p.docs().length; j++) {
+                Doc doc = docs.get(p.docs()[j]);
+                double tf = p.freqs()[j];
+                double norm = K1 * (1 - B + B * doc.length() / avgLength.get(doc.kind()));
+                scores[p.docs()[j]] += idf * tf * (K1 + 1) / (tf + norm);
+                matched.get(p.docs()[j]).add(q.getKey());
+            }
+        }
+        Map<Kind, List<Hit>> out = new EnumMap<>(Kind.class);
+        for (Kind kind : Kind.values()) {
+            out.put(kind, new ArrayList<>());
+        }
+        for (int i = 0; i < docs.size(); i++) {
+            out.get(docs.get(i).kind()).add(new Hit(docs.get(i), scores[i], matched.get(i)));
+        }
+        // Stable sort: ties (including all-zero) keep draft order.
+        out.values().forEach(hits -> hits.sort(Comparator.comparingDouble(Hit::score).reversed()));
+        return out;
+    }
+
+    static final class Builder {
+
+        private final List<Doc> docs = new ArrayList<>();
+        private final Map<String, List<int[]>> postings = new HashMap<>();
+
+        /** Adds a document from its analyzed tokens; repeated tokens raise the term frequency. */
+        Builder add(Kind kind, String id, String label, List<String> tokens) {
+            int docIndex = docs.size();
+            docs.add(new Doc(kind, id, label, tokens.size()));
+            Map<String, Integer> freqs = new LinkedHashMap<>();
+            for (String token : tokens) {
+                freqs.merge(token, 1, Integer::sum);
+            }
+            freqs.forEach((term, tf) -> postings.computeIfAbsent(term, t -> new ArrayList<>()).add(new int[] { docIndex, tf }));
+            return this;
+        }
+
+        DraftIndex build() {
+            Map<String, Postings> compact = new HashMap<>(postings.size() * 2);
+            postings.forEach((term, list) -> {
+                int[] ids = new int[list.size()];
+                int[] tfs = new int[list.size()];
+                for (int i = 0; i < list.size(); i++) {
+                    ids[i] = list.get(i)[0];
+                    tfs[i] = list.get(i)[1];
+                }
+                compact.put(term, new Postings(ids, tfs));
+            });
+            Map<Kind, Double> avg = new EnumMap<>(Kind.class);
+            for (Kind kind : Kind.values()) {
+                avg.put(kind, Math.max(1.0, docs.stream().filter(d -> d.kind() == kind)
+                        .mapToInt(Doc::length).average().orElse(1.0)));
+            }
+            return new DraftIndex(List.copyOf(docs), compact, avg);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.tobyresume.backend.tailoring;
+
+import com.tobyresume.backend.common.model.BaseDocument;
+import com.tobyresume.backend.common.model.ContentState;
+import com.tobyresume.backend.common.util.TextAnalyzer;
+import com.tobyresume.backend.content.experience.ExperienceRepository;
+import com.tobyresume.backend.content.experience.model.ExperienceItem;
+import com.tobyresume.backend.content.experience.model.WorkExperience;
+import com.tobyresume.backend.content.project.ProjectRepository;
+import com.tobyresume.backend.content.project.model.Project;
+import com.tobyresume.backend.content.project.model.ProjectItem;
+import com.tobyresume.backend.content.skill.SkillRepository;
+import com.tobyresume.backend.content.skill.model.Skill;
+import com.tobyresume.backend.content.skill.model.SkillCategory;
+import com.tobyresume.backend.content.skill.model.SkillItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Keeps the DraftIndex for the current draft. Each call first reads only id and updatedAt of the
+ * experience, project and skill drafts; the full documents are loaded and re-indexed only when one
+ * of them changed since the last build.
+ */
+@Component
+@Lazy
+class DraftIndexProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(DraftIndexProvider.class);
+
+    private final ExperienceRepository experienceRepository;
+    private final ProjectRepository projectRepository;
+    private final SkillRepository skillRepository;
+    private final MongoTemplate mongoTemplate;
+
+    private volatile Snapshot current;
+
+    DraftIndexProvider(ExperienceRepository experienceRepository,
+                       ProjectRepository projectRepository,
+                       SkillRepository skillRepository,
+                       MongoTemplate mongoTemplate) {
+        this.experienceRepository = experienceRepository;
+        this.projectRepository = projectRepository;
+        this.skillRepository = skillRepository;
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    DraftIndex get() {
+        String stamp = stamp(draftStamp(WorkExperience.class), draftStamp(Project.class), draftStamp(Skill.class));
+        Snapshot snapshot = current;
+        if (snapshot != null && snapshot.stamp().equals(stamp)) {
+            return snapshot.index();
+        }
+        synchronized (this) {
+            snapshot = current;
+            if (snapshot != null && snapshot.stamp().equals(stamp)) {
+                return snapshot.index();
+            }
+            snapshot = build();
+            current = snapshot;
+            return snapshot.index();
+        }
+    }
+
+    private Snapshot build() {
+        long start = System.nanoTime();
+        WorkExperience experience = experienceRepository.findByContentState(ContentState.DRAFT);
+        Project project = projectRepository.findByContentState(ContentState.DRAFT);
+        Skill skill = skillRepository.findByContentState(ContentState.DRAFT);
+        DraftIndex.Builder builder = DraftIndex.builder();
+
+        if (experience != null && experience.getItems() != null) {
+            for (ExperienceItem item : sorted(experience.getItems(), ExperienceItem::getOrder)) {
+                List<String> tokens = new ArrayList<>();
+                addLocalized(tokens, item.getRole());
+                addLocalized(tokens, item.getCompany());
+                if (item.getBulletPoints() != null) {
+                    item.getBulletPoints().values().forEach(bullets -> bullets.forEach(b -> tokens.addAll(TextAnalyzer.tokenize(b))));
+                }
+                addTech(tokens, item.getTechUsed());
+                builder.add(DraftIndex.Kind.EXPERIENCE, item.getItemId(), label(item.getRole(), item.getCompany()), tokens);
+            }
+        }
+        if (project != null && project.getItems() != null) {
+            for (ProjectItem item : sorted(project.getItems(), ProjectItem::getOrder)) {
+                List<String> tokens = new ArrayList<>();
+                addLocalized(tokens, item.getTitle());
+                addLocalized(tokens, item.getDescription());
+                addTech(tokens, item.getTechStack());
+                builder.add(DraftIndex.Kind.PROJECT, item.getItemId(), label(item.getTitle(), null), tokens);
+            }
+        }
+        if (skill != null && skill.getCategories() != null) {
+            for (SkillCategory category : sorted(skill.getCategories(), SkillCategory::getOrder)) {
+                List<SkillItem> items = category.getItems();
+                for (int i = 0; i < items.size(); i++) {
+                    SkillItem item = items.get(i);
+                    builder.add(DraftIndex.Kind.SKILL, category.getCategoryId() + ":" + i, item.getName(),
+                            TextAnalyzer.tokenize(item.getName()));
+                }
+            }
+        }
+        DraftIndex index = builder.build();
+        log.debug("Built draft tailoring index: {} documents in {} ms", index.size(), (System.nanoTime() - start) / 1_000_000);
+        return new Snapshot(stamp(stampOf(experience), stampOf(project), stampOf(skill)), index);
+    }
+
+    private String draftStamp(Class<? extends BaseDocument> type) {
+        Query query = Query.query(Criteria.where("contentState").is(ContentState.DRAFT));
+        query.fields().include("updatedAt");
+        return stampOf(mongoTemplate.findOne(query, type));
+    }
+
+    private static String stampOf(BaseDocument doc) {
+        return doc == null ? "-" : doc.getId() + "@" + doc.getUpdatedAt();
+    }
+
+    private static String stamp(String... parts) {
+        return String.join("|", parts);
+    }
+
+    private static void addLocalized(List<String> tokens, Map<String, String> value) {
+        if (value != null) {
+            value.values().forEach(v -> tokens.addAll(TextAnalyzer.tokenize(v)));
+        }
+    }
+
+    /** Tech lists are explicit signals; counted twice so they outweigh incidental mentions in prose. */
+    private static void addTech(List<String> tokens, List<String> tech) {
+        if (tech != null) {
+            for (String t : tech) {
+                List<String> terms = TextAnalyzer.tokenize(t);
+                tokens.addAll(terms);
+                tokens.addAll(terms);
+            }
+        }
+    }
+
+    private static String label(Map<String, String> primary, Map<String, String> secondary) {
+        String first = firstValue(primary);
+        String second = firstValue(secondary);
+        if (first == null) {
+            return second;
+        }
+        return second == null ? first : first + " @ " + second;
+    }
+
+    private static String firstValue(Map<String, String> value) {
+        if (value == null) {
+            return null;
+        }
+        String en = value.get("en");
+        return en != null && !en.isBlank() ? en : value.values().stream().filter(v -> v != null && !v.isBlank()).findFirst().orElse(null);
+    }
+
+    private static <T> List<T> sorted(List<T> items, ToIntFunction<T> order) {
+        return items.stream().sorted(Comparator.comparingInt(order)).toList();
+    }
+
+    private record Snapshot(String stamp, DraftIndex index) {}
+}
@@ -0,0 +1,14 @@
+package com.tobyresume.backend.tailoring;
+
+import com.tobyresume.backend.tailoring.model.JobDescription;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+/**
+ * Saved job descriptions, newest first for the admin list.
+ */
+public interface JobDescriptionRepository extends MongoRepository<JobDescription, String> {
+
+    List<JobDescription> findAllByOrderByCreatedAtDesc();
+}
@@ -0,0 +1,61 @@
+package com.tobyresume.backend.tailoring;
+
+import com.tobyresume.backend.common.dto.ApiResponse;
+import com.tobyresume.backend.tailoring.dto.JobDescriptionRequest;
+import com.tobyresume.backend.tailoring.dto.JobDescriptionResponse;
+import com.tobyresume.backend.tailoring.dto.TailoringAnalysisResponse;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Job descriptions and local tailoring analysis. JWT required (SecurityConfig).
+ *
+ * @see docs/ai/requirements/feature-ai-services.md "AI Resume Tailoring"
+ */
+@RestController
+@Lazy
+@RequestMapping("/api/v1")
+public class TailoringController {
+
+    private final TailoringService tailoringService;
+
+    public TailoringController(TailoringService tailoringService) {
+        this.tailoringService = tailoringService;
+    }
+
+    @GetMapping("/job-descriptions")
+    public ResponseEntity<ApiResponse<List<JobDescriptionResponse>>> list() {
+        return ResponseEntity.ok(ApiResponse.success(tailoringService.list()));
+    }
+
+    @PostMapping("/job-descriptions")
+    public ResponseEntity<ApiResponse<JobDescriptionResponse>> create(@Valid @RequestBody JobDescriptionRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(tailoringService.create(request)));
+    }
+
+    @GetMapping("/job-descriptions/{id}")
+    public ResponseEntity<ApiResponse<JobDescriptionResponse>> get(@PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.success(tailoringService.get(id)));
+    }
+
+    @DeleteMapping("/job-descriptions/{id}")
+    public ResponseEntity<ApiResponse<Void>> delete(@PathVariable String id) {
+        tailoringService.delete(id);
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+
+    @PostMapping("/job-descriptions/{id}/analysis")
+    public ResponseEntity<ApiResponse<TailoringAnalysisResponse>> analyze(@PathVariable String id) {
+        return ResponseEntity.ok(ApiResponse.success(tailoringService.analyze(id)));
+    }
+}
@@ -0,0 +1,113 @@
+package com.tobyresume.backend.tailoring;
+
+import com.tobyresume.backend.common.exception.ResourceNotFoundException;
+import com.tobyresume.backend.common.util.TextAnalyzer;
+import com.tobyresume.backend.tailoring.dto.JobDescriptionRequest;
+import com.tobyresume.backend.tailoring.dto.JobDescriptionResponse;
+import com.tobyresume.backend.tailoring.dto.RankedItemResponse;
+import com.tobyresume.backend.tailoring.dto.TailoringAnalysisResponse;
+import com.tobyresume.backend.tailoring.model.JobDescription;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Job description store and the local first-pass tailoring analysis. The JD is tokenized with the
+ * same analyzer as the draft and scored against the precomputed DraftIndex, so ranking takes
+ * milliseconds and needs no model call; the LLM is only needed for rewrites.
+ *
+ * @see docs/ai/requirements/feature-ai-services.md "AI Resume Tailoring"
+ */
+@Service
+@Lazy
+public class TailoringService {
+
+    private static final int MAX_KEYWORDS = 20;
+    private static final int MAX_MISSING_KEYWORDS = 15;
+
+    private final JobDescriptionRepository jobDescriptionRepository;
+    private final DraftIndexProvider draftIndexProvider;
+
+    public TailoringService(JobDescriptionRepository jobDescriptionRepository, DraftIndexProvider draftIndexProvider) {
+        this.jobDescriptionRepository = jobDescriptionRepository;
+        this.draftIndexProvider = draftIndexProvider;
+    }
+
+    public JobDescriptionResponse create(JobDescriptionRequest request) {
+        JobDescription jd = new JobDescription();
+        jd.setLabel(request.getLabel() != null && !request.getLabel().isBlank() ? request.getLabel().trim() : null);
+        jd.setRawText(request.getRawText());
+        return JobDescriptionResponse.from(jobDescriptionRepository.save(jd));
+    }
+
+    public List<JobDescriptionResponse> list() {
+        return jobDescriptionRepository.findAllByOrderByCreatedAtDesc().stream().map(JobDescriptionResponse::from).toList();
+    }
+
+    public JobDescriptionResponse get(String id) {
+        return JobDescriptionResponse.from(find(id));
+    }
+
+    public void delete(String id) {
+        jobDescriptionRepository.delete(find(id));
+    }
+
+    /**
+     * Ranks draft experiences, projects and skills against the saved JD.
+     */
+    public TailoringAnalysisResponse analyze(String id) {
+        JobDescription jd = find(id);
+        long start = System.nanoTime();
+        DraftIndex index = draftIndexProvider.get();
+
+        Map<String, Integer> termFreqs = new HashMap<>();
+        for (String term : TextAnalyzer.tokenize(jd.getRawText())) {
+            termFreqs.merge(term, 1, Integer::sum);
+        }
+        // Sub-linear: a term repeated ten times in a JD matters more, but not ten times more.
+        Map<String, Double> query = new HashMap<>();
+        termFreqs.forEach((term, tf) -> query.put(term, 1 + Math.log(tf)));
+
+        Map<DraftIndex.Kind, List<DraftIndex.Hit>> hits = index.search(query);
+
+        TailoringAnalysisResponse out = new TailoringAnalysisResponse();
+        out.setJobDescriptionId(jd.getId());
+        out.setKeywords(query.keySet().stream()
+                .filter(index::contains)
+                .sorted(Comparator.comparingDouble((String t) -> query.get(t) * index.idf(t)).reversed()
+                        .thenComparing(Comparator.naturalOrder()))
+                .limit(MAX_KEYWORDS)
+                .toList());
+        out.setMissingKeywords(termFreqs.entrySet().stream()
+                .filter(e -> e.getValue() >= 2 && !index.contains(e.getKey()))
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(MAX_MISSING_KEYWORDS)
+                .map(Map.Entry::getKey)
+                .toList());
+        out.setExperiences(toResponses(hits.get(DraftIndex.Kind.EXPERIENCE)));
+        out.setProjects(toResponses(hits.get(DraftIndex.Kind.PROJECT)));
+        out.setSkills(toResponses(hits.get(DraftIndex.Kind.SKILL)));
+        out.setTookMs((System.nanoTime() - start) / 1_000_000);
+        return out;
+    }
+
+    private JobDescription find(String id) {
+        return jobDescriptionRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Job description not found: " + id));
+    }
+
+    private static List<RankedItemResponse> toResponses(List<DraftIndex.Hit> hits) {
+        return hits.stream().map(h -> {
+            RankedItemResponse r = new RankedItemResponse();
+            r.setId(h.doc().id());
+            r.setLabel(h.doc().label());
+            r.setScore(Math.round(h.score() * 1000) / 1000.0);
+            r.setMatchedTerms(h.matchedTerms());
+            return r;
+        }).toList();
+    }
+}
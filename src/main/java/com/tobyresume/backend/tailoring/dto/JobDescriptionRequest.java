@@ -0,0 +1,33 @@
+package com.tobyresume.backend.tailoring.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Request body for POST /api/v1/job-descriptions.
+ */
+public class JobDescriptionRequest {
+
+    @Size(max = 200, message = "label must be at most 200 characters")
+    private String label;
+
+    @NotBlank(message = "rawText is required")
+    @Size(max = 50000, message = "rawText must be at most 50000 characters")
+    private String rawText;
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    public String getRawText() {
+        return rawText;
+    }
+
+    public void setRawText(String rawText) {
+        this.rawText = rawText;
+    }
+}
@@ -0,0 +1,57 @@
+package com.tobyresume.backend.tailoring.dto;
+
+import com.tobyresume.backend.tailoring.model.JobDescription;
+
+import java.time.Instant;
+
+/**
+ * A saved job description.
+ */
+public class JobDescriptionResponse {
+
+    private String id;
+    private String label;
+    private String rawText;
+    private Instant createdAt;
+
+    public static JobDescriptionResponse from(JobDescription jd) {
+        JobDescriptionResponse r = new JobDescriptionResponse();
+        r.setId(jd.getId());
+        r.setLabel(jd.getLabel());
+        r.setRawText(jd.getRawText());
+        r.setCreatedAt(jd.getCreatedAt());
+        return r;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    public String getRawText() {
+        return rawText;
+    }
+
+    public void setRawText(String rawText) {
+        this.rawText = rawText;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,46 @@
+package com.tobyresume.backend.tailoring.dto;
+
+import java.util.List;
+
+/**
+ * One draft item scored against a job description. For skills, id is the category id.
+ */
+public class RankedItemResponse {
+
+    private String id;
+    private String label;
+    private double score;
+    private List<String> matchedTerms;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public List<String> getMatchedTerms() {
+        return matchedTerms;
+    }
+
+    public void setMatchedTerms(List<String> matchedTerms) {
+        this.matchedTerms = matchedTerms;
+    }
+}
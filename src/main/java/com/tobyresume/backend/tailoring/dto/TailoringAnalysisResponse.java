@@ -0,0 +1,76 @@
+package com.tobyresume.backend.tailoring.dto;
+
+import java.util.List;
+
+/**
+ * Local (no LLM) analysis of a job description against the draft. Each ranked list is a suggested
+ * order, best match first.
+ */
+public class TailoringAnalysisResponse {
+
+    private String jobDescriptionId;
+    /** JD terms found in the draft, most significant first. */
+    private List<String> keywords;
+    /** Repeated JD terms that appear nowhere in the draft: candidates for new bullets or skills. */
+    private List<String> missingKeywords;
+    private List<RankedItemResponse> experiences;
+    private List<RankedItemResponse> projects;
+    private List<RankedItemResponse> skills;
+    private long tookMs;
+
+    public String getJobDescriptionId() {
+        return jobDescriptionId;
+    }
+
+    public void setJobDescriptionId(String jobDescriptionId) {
+        this.jobDescriptionId = jobDescriptionId;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    public void setKeywords(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    public List<String> getMissingKeywords() {
+        return missingKeywords;
+    }
+
+    public void setMissingKeywords(List<String> missingKeywords) {
+        this.missingKeywords = missingKeywords;
+    }
+
+    public List<RankedItemResponse> getExperiences() {
+        return experiences;
+    }
+
+    public void setExperiences(List<RankedItemResponse> experiences) {
+        this.experiences = experiences;
+    }
+
+    public List<RankedItemResponse> getProjects() {
+        return projects;
+    }
+
+    public void setProjects(List<RankedItemResponse> projects) {
+        this.projects = projects;
+    }
+
+    public List<RankedItemResponse> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(List<RankedItemResponse> skills) {
+        this.skills = skills;
+    }
+
+    public long getTookMs() {
+        return tookMs;
+    }
+
+    public void setTookMs(long tookMs) {
+        this.tookMs = tookMs;
+    }
+}
@@ -0,0 +1,33 @@
+package com.tobyresume.backend.tailoring.model;
+
+import com.tobyresume.backend.common.model.BaseDocument;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * A saved job description used for resume tailoring. label is optional (e.g. company name).
+ *
+ * @see docs/ai/requirements/feature-ai-services.md "JD Storage"
+ */
+@Document(collection = "job_descriptions")
+public class JobDescription extends BaseDocument {
+
+    private String label;
+
+    private String rawText;
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    public String getRawText() {
+        return rawText;
+    }
+
+    public void setRawText(String rawText) {
+        this.rawText = rawText;
+    }
+}
@@ -0,0 +1,24 @@
+package com.tobyresume.backend.translation;
+
+import com.tobyresume.backend.common.exception.TranslationFailedException;
+
+import java.util.List;
+
+/**
+ * Used when app.translation.provider is unset outside dev and test. The application starts normally;
+ * only a translation request fails (TRANSLATION_FAILED), so an unconfigured optional feature never
+ * blocks startup or serves placeholder translations.
+ */
+public class DisabledTranslationProvider implements TranslationProvider {
+
+    @Override
+    public String name() {
+        return "disabled";
+    }
+
+    @Override
+    public List<String> translate(List<String> texts, String sourceLocale, String targetLocale) {
+        throw new TranslationFailedException(
+                "Translation is disabled; set app.translation.provider (TRANSLATION_PROVIDER) to stub or gemini");
+    }
+}
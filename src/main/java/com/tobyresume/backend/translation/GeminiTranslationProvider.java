@@ -0,0 +1,108 @@
+package com.tobyresume.backend.translation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tobyresume.backend.common.exception.TranslationFailedException;
+import com.tobyresume.backend.config.TranslationProperties;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Google Gemini provider. A batch is sent as one JSON array in a single generateContent call, and
+ * the model is asked to answer with a JSON array of the same length (JSON response mode). Selected by
+ * TranslationConfig when app.translation.provider=gemini.
+ *
+ * @see docs/ai/requirements/feature-ai-services.md "Prompt Engineering & Model"
+ */
+public class GeminiTranslationProvider implements TranslationProvider {
+
+    static final String PROMPT_VERSION = "translate-v1";
+
+    private static final String PROMPT = """
+            You translate resume content from %s to %s.
+            The input is a JSON array of strings. Reply with a JSON array of exactly %d strings: the
+            translation of each input, in the same order. Preserve Markdown, HTML tags, URLs, placeholders
+            and technology names unchanged. Do not add commentary.
+
+            %s""";
+
+    private final RestClient restClient;
+    private final ObjectMapper objectMapper;
+    private final String model;
+    private final String apiKey;
+
+    public GeminiTranslationProvider(TranslationProperties properties, ObjectMapper objectMapper) {
+        if (properties.getGeminiApiKey() == null || properties.getGeminiApiKey().isBlank()) {
+            throw new IllegalStateException("app.translation.gemini-api-key is required for the gemini provider");
+        }
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) Math.min(properties.getTimeout().toMillis(), 10_000));
+        requestFactory.setReadTimeout((int) properties.getTimeout().toMillis());
+        this.restClient = RestClient.builder()
+                .baseUrl(properties.getGeminiBaseUrl())
+                .requestFactory(requestFactory)
+                .build();
+        this.objectMapper = objectMapper;
+        this.model = properties.getGeminiModel();
+        this.apiKey = properties.getGeminiApiKey();
+    }
+
+    @Override
+    public String name() {
+        return "gemini:" + model + ":" + PROMPT_VERSION;
+    }
+
+    @Override
+    public List<String> translate(List<String> texts, String sourceLocale, String targetLocale) {
+        String prompt;
+        try {
+            prompt = PROMPT.formatted(sourceLocale, targetLocale, texts.size(), objectMapper.writeValueAsString(texts));
+        } catch (JsonProcessingException e) {
+            throw new TranslationFailedException("Could not build translation request", e);
+        }
+        Map<String, Object> body = Map.of(
+                "contents", List.of(Map.of("role", "user", "parts", List.of(Map.of("text", prompt)))),
+                "generationConfig", Map.of("temperature", 0, "responseMimeType", "application/json"));
+        JsonNode response;
+        try {
+            response = restClient.post()
+                    .uri("/models/{model}:generateContent", model)
+                    .header("x-goog-api-key", apiKey)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body)
+                    .retrieve()
+                    .body(JsonNode.class);
+        } catch (RestClientException e) {
+            throw new TranslationFailedException("Translation provider request failed: " + e.getMessage(), e);
+        }
+        return parse(response, texts.size());
+    }
+
+    private List<String> parse(JsonNode response, int expected) {
+        JsonNode text = response == null ? null
+                : response.path("candidates").path(0).path("content").path("parts").path(0).path("text");
+        if (text == null || !text.isTextual()) {
+            throw new TranslationFailedException("Translation provider returned no content");
+        }
+        JsonNode array;
+        try {
+            array = objectMapper.readTree(text.asText());
+        } catch (JsonProcessingException e) {
+            throw new TranslationFailedException("Translation provider returned invalid JSON", e);
+        }
+        if (!array.isArray() || array.size() != expected) {
+            throw new TranslationFailedException("Translation provider returned "
+                    + (array.isArray() ? array.size() : 0) + " results for " + expected + " inputs");
+        }
+        List<String> out = new ArrayList<>(expected);
+        array.forEach(n -> out.add(n.asText()));
+        return out;
+    }
+}
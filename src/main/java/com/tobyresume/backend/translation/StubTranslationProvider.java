@@ -0,0 +1,21 @@
+package com.tobyresume.backend.translation;
+
+import java.util.List;
+
+/**
+ * Local provider for development and tests: prefixes each string with the target locale
+ * ("[vi] text"). No network calls. The default in the dev and test profiles when
+ * app.translation.provider is unset.
+ */
+public class StubTranslationProvider implements TranslationProvider {
+
+    @Override
+    public String name() {
+        return "stub";
+    }
+
+    @Override
+    public List<String> translate(List<String> texts, String sourceLocale, String targetLocale) {
+        return texts.stream().map(t -> "[" + targetLocale + "] " + t).toList();
+    }
+}
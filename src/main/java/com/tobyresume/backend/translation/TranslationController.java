@@ -0,0 +1,79 @@
+package com.tobyresume.backend.translation;
+
+import com.tobyresume.backend.common.dto.ApiResponse;
+import com.tobyresume.backend.translation.bulk.DraftTranslationJob;
+import com.tobyresume.backend.translation.bulk.DraftTranslationRunner;
+import com.tobyresume.backend.translation.dto.DraftTranslateRequest;
+import com.tobyresume.backend.translation.dto.DraftTranslationJobResponse;
+import com.tobyresume.backend.translation.dto.TranslateRequest;
+import com.tobyresume.backend.translation.dto.TranslateResponse;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * AI translation. POST /translate returns translations of arbitrary strings without writing them;
+ * POST /translate/draft fills every missing target-locale field of the draft in a background job whose
+ * progress is streamed over SSE. JWT required (SecurityConfig). Admin-only, so this controller and
+ * its services are @Lazy and created on the first request rather than at startup.
+ *
+ * @see docs/ai/requirements/feature-ai-services.md "AI Auto-Translate"
+ */
+@RestController
+@Lazy
+@RequestMapping("/api/v1")
+public class TranslationController {
+
+    /** SSE connections are closed after this; clients reconnect and get the current state. */
+    private static final long SSE_TIMEOUT_MS = 10 * 60 * 1000L;
+
+    private final TranslationService translationService;
+    private final DraftTranslationRunner draftTranslationRunner;
+
+    public TranslationController(TranslationService translationService,
+                                 DraftTranslationRunner draftTranslationRunner) {
+        this.translationService = translationService;
+        this.draftTranslationRunner = draftTranslationRunner;
+    }
+
+    @PostMapping("/translate")
+    public ResponseEntity<ApiResponse<TranslateResponse>> translate(@Valid @RequestBody TranslateRequest request) {
+        TranslationService.TranslationResult result = translationService.translate(
+                request.getTexts(), request.getSourceLocale(), request.getTargetLocale());
+        TranslateResponse data = new TranslateResponse();
+        data.setTranslations(result.translations());
+        data.setFromMemory(result.fromMemory());
+        data.setFromProvider(result.fromProvider());
+        return ResponseEntity.ok(ApiResponse.success(data));
+    }
+
+    @PostMapping("/translate/draft")
+    public ResponseEntity<ApiResponse<DraftTranslationJobResponse>> translateDraft(
+            @Valid @RequestBody DraftTranslateRequest request) {
+        DraftTranslationJob job = draftTranslationRunner.start(request.getSourceLocale(), request.getTargetLocale());
+        return ResponseEntity.ok(ApiResponse.success(job.snapshot()));
+    }
+
+    @GetMapping("/translate/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<DraftTranslationJobResponse>> job(@PathVariable String jobId) {
+        return ResponseEntity.ok(ApiResponse.success(draftTranslationRunner.get(jobId).snapshot()));
+    }
+
+    /**
+     * Events: "progress" on every change, then "succeeded" or "failed"; each carries the job snapshot.
+     */
+    @GetMapping("/translate/jobs/{jobId}/events")
+    public SseEmitter jobEvents(@PathVariable String jobId) {
+        DraftTranslationJob job = draftTranslationRunner.get(jobId);
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MS);
+        job.subscribe(emitter);
+        return emitter;
+    }
+}
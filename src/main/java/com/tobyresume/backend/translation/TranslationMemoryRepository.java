@@ -0,0 +1,10 @@
+package com.tobyresume.backend.translation;
+
+import com.tobyresume.backend.translation.model.TranslationMemoryEntry;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+/**
+ * Translation memory, looked up in batches by id (hash of provider, locales and source text).
+ */
+public interface TranslationMemoryRepository extends MongoRepository<TranslationMemoryEntry, String> {
+}
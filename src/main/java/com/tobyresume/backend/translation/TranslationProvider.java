@@ -0,0 +1,18 @@
+package com.tobyresume.backend.translation;
+
+import java.util.List;
+
+/**
+ * Backend that translates a batch of strings. Implementations must return one result per input, in
+ * order. Selected by app.translation.provider.
+ */
+public interface TranslationProvider {
+
+    /**
+     * Identifies the provider and model; part of the translation memory key, so switching model does
+     * not reuse another model's output.
+     */
+    String name();
+
+    List<String> translate(List<String> texts, String sourceLocale, String targetLocale);
+}
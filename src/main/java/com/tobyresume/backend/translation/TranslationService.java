@@ -0,0 +1,232 @@
+package com.tobyresume.backend.translation;
+
+import com.tobyresume.backend.common.exception.TranslationFailedException;
+import com.tobyresume.backend.common.exception.ValidationException;
+import com.tobyresume.backend.common.util.Hashing;
+import com.tobyresume.backend.config.TranslationProperties;
+import com.tobyresume.backend.translation.model.TranslationMemoryEntry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Translates strings between content locales. Each distinct string is looked up in the translation
+ * memory first (one batched query); only misses go to the provider, packed into as few calls as the
+ * batch limits allow. Identical strings requested concurrently are translated once and shared. Since
+ * memory is keyed by source-text hash, re-translating a section only pays for strings that changed.
+ *
+ * @see docs/ai/requirements/feature-ai-services.md "AI Auto-Translate"
+ */
+@Service
+@Lazy
+public class TranslationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TranslationService.class);
+
+    static final Set<String> SUPPORTED_LOCALES = Set.of("en", "vi");
+
+    private final TranslationProvider provider;
+    private final TranslationMemoryRepository memoryRepository;
+    private final TranslationProperties properties;
+    private final ConcurrentMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final Counter memoryHits;
+    private final Counter providerStrings;
+    private final Counter providerCalls;
+
+    public TranslationService(TranslationProvider provider,
+                              TranslationMemoryRepository memoryRepository,
+                              TranslationProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.provider = provider;
+        this.memoryRepository = memoryRepository;
+        this.properties = properties;
+        this.memoryHits = Counter.builder("translation.strings").tag("source", "memory")
+                .description("Strings translated, by where the translation came from").register(meterRegistry);
+        this.providerStrings = Counter.builder("translation.strings").tag("source", "provider")
+                .description("Strings translated, by where the translation came from").register(meterRegistry);
+        this.providerCalls = Counter.builder("translation.provider.calls")
+                .description("Batched calls made to the translation provider").register(meterRegistry);
+    }
+
+    /**
+     * Returns one translation per input, in order. Blank strings are returned unchanged. Throws
+     * TranslationFailedException when the provider fails or times out; nothing partial is returned.
+     */
+    public TranslationResult translate(List<String> texts, String sourceLocale, String targetLocale) {
+        validateLocales(sourceLocale, targetLocale);
+        // Distinct non-blank strings by memory key, in first-seen order.
+        Map<String, String> pending = new LinkedHashMap<>();
+        for (String text : texts) {
+            if (text != null && !text.isBlank()) {
+                pending.putIfAbsent(memoryKey(sourceLocale, targetLocale, text), text);
+            }
+        }
+
+        Map<String, String> translated = new HashMap<>();
+        if (!pending.isEmpty()) {
+            for (TranslationMemoryEntry entry : memoryRepository.findAllById(pending.keySet())) {
+                translated.put(entry.getId(), entry.getTranslatedText());
+            }
+        }
+        int fromMemory = translated.size();
+        memoryHits.increment(fromMemory);
+        pending.keySet().removeAll(translated.keySet());
+
+        int fromProvider = 0;
+        if (!pending.isEmpty()) {
+            fromProvider = translateMisses(pending, sourceLocale, targetLocale, translated);
+        }
+
+        List<String> out = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            out.add(text == null || text.isBlank() ? text
+                    : translated.get(memoryKey(sourceLocale, targetLocale, text)));
+        }
+        return new TranslationResult(out, fromMemory, fromProvider);
+    }
+
+    /**
+     * Claims each miss; strings already in flight for another caller are awaited instead of sent
+     * again. Returns how many strings this call sent to the provider.
+     */
+    private int translateMisses(Map<String, String> misses, String sourceLocale, String targetLocale,
+                                Map<String, String> translated) {
+        Map<String, CompletableFuture<String>> mine = new LinkedHashMap<>();
+        Map<String, CompletableFuture<String>> awaited = new HashMap<>();
+        for (String key : misses.keySet()) {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            CompletableFuture<String> existing = inFlight.putIfAbsent(key, future);
+            if (existing != null) {
+                awaited.put(key, existing);
+            } else {
+                mine.put(key, future);
+            }
+        }
+
+        try {
+            for (List<String> batch : batches(mine.keySet(), misses)) {
+                List<String> sources = batch.stream().map(misses::get).toList();
+                List<String> results = callProvider(sources, sourceLocale, targetLocale);
+                List<TranslationMemoryEntry> entries = new ArrayList<>(batch.size());
+                Instant now = Instant.now();
+                for (int i = 0; i < batch.size(); i++) {
+                    entries.add(entry(batch.get(i), sources.get(i), results.get(i), sourceLocale, targetLocale, now));
+                }
+                memoryRepository.saveAll(entries);
+                for (int i = 0; i < batch.size(); i++) {
+                    translated.put(batch.get(i), results.get(i));
+                    mine.get(batch.get(i)).complete(results.get(i));
+                }
+            }
+        } catch (RuntimeException e) {
+            mine.values().forEach(f -> f.completeExceptionally(e));
+            throw e instanceof TranslationFailedException tfe ? tfe
+                    : new TranslationFailedException("Translation failed: " + e.getMessage(), e);
+        } finally {
+            mine.forEach(inFlight::remove);
+        }
+        providerStrings.increment(mine.size());
+
+        long deadline = System.nanoTime() + properties.getTimeout().toNanos();
+        for (Map.Entry<String, CompletableFuture<String>> e : awaited.entrySet()) {
+            translated.put(e.getKey(), await(e.getValue(), deadline));
+        }
+        return mine.size();
+    }
+
+    private List<String> callProvider(List<String> sources, String sourceLocale, String targetLocale) {
+        providerCalls.increment();
+        List<String> results = provider.translate(sources, sourceLocale, targetLocale);
+        if (results == null || results.size() != sources.size()) {
+            throw new TranslationFailedException("Translation provider returned "
+                    + (results == null ? 0 : results.size()) + " results for " + sources.size() + " inputs");
+        }
+        log.debug("Translated {} strings {}→{} via {}", sources.size(), sourceLocale, targetLocale, provider.name());
+        return results;
+    }
+
+    /** Splits keys into provider calls bounded by max-batch-size strings and max-batch-chars characters. */
+    private List<List<String>> batches(Iterable<String> keys, Map<String, String> texts) {
+        List<List<String>> batches = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        int chars = 0;
+        for (String key : keys) {
+            int length = texts.get(key).length();
+            if (!current.isEmpty() && (current.size() >= properties.getMaxBatchSize()
+                    || chars + length > properties.getMaxBatchChars())) {
+                batches.add(current);
+                current = new ArrayList<>();
+                chars = 0;
+            }
+            current.add(key);
+            chars += length;
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    private static String await(CompletableFuture<String> future, long deadlineNanos) {
+        try {
+            return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof TranslationFailedException tfe ? tfe
+                    : new TranslationFailedException("Translation failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new TranslationFailedException("Translation timed out", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TranslationFailedException("Translation interrupted", e);
+        }
+    }
+
+    String memoryKey(String sourceLocale, String targetLocale, String text) {
+        return Hashing.sha256Hex(provider.name() + '\n' + sourceLocale + '\n' + targetLocale + '\n' + text);
+    }
+
+    private TranslationMemoryEntry entry(String key, String source, String translation,
+                                         String sourceLocale, String targetLocale, Instant now) {
+        TranslationMemoryEntry entry = new TranslationMemoryEntry();
+        entry.setId(key);
+        entry.setProvider(provider.name());
+        entry.setSourceLocale(sourceLocale);
+        entry.setTargetLocale(targetLocale);
+        entry.setSourceText(source);
+        entry.setTranslatedText(translation);
+        entry.setCreatedAt(now);
+        return entry;
+    }
+
+    /**
+     * Throws ValidationException unless both locales are supported and differ.
+     */
+    public static void validateLocales(String sourceLocale, String targetLocale) {
+        if (!SUPPORTED_LOCALES.contains(sourceLocale) || !SUPPORTED_LOCALES.contains(targetLocale)) {
+            throw new ValidationException("sourceLocale and targetLocale must be one of " + SUPPORTED_LOCALES);
+        }
+        if (sourceLocale.equals(targetLocale)) {
+            throw new ValidationException("sourceLocale and targetLocale must differ");
+        }
+    }
+
+    /** Translations in input order, with how many came from memory vs. the provider. */
+    public record TranslationResult(List<String> translations, int fromMemory, int fromProvider) {}
+}
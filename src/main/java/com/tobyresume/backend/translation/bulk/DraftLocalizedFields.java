@@ -0,0 +1,185 @@
+package com.tobyresume.backend.translation.bulk;
+
+import com.tobyresume.backend.common.model.ContentState;
+import com.tobyresume.backend.content.certification.CertificationRepository;
+import com.tobyresume.backend.content.certification.model.Certification;
+import com.tobyresume.backend.content.certification.model.CertificationItem;
+import com.tobyresume.backend.content.education.EducationRepository;
+import com.tobyresume.backend.content.education.model.Education;
+import com.tobyresume.backend.content.education.model.EducationItem;
+import com.tobyresume.backend.content.experience.ExperienceRepository;
+import com.tobyresume.backend.content.experience.model.ExperienceItem;
+import com.tobyresume.backend.content.experience.model.WorkExperience;
+import com.tobyresume.backend.content.hero.HeroRepository;
+import com.tobyresume.backend.content.hero.model.Hero;
+import com.tobyresume.backend.content.project.ProjectRepository;
+import com.tobyresume.backend.content.project.model.Project;
+import com.tobyresume.backend.content.project.model.ProjectItem;
+import com.tobyresume.backend.content.skill.SkillRepository;
+import com.tobyresume.backend.content.skill.model.Skill;
+import com.tobyresume.backend.content.skill.model.SkillCategory;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds localized fields in the DRAFT sections that have source-locale text but no target-locale
+ * text, and writes translations back. Writes are one unordered bulk per section; each update only
+ * sets the target locale if it is still empty, so edits made while the job ran are never overwritten.
+ */
+@Component
+class DraftLocalizedFields {
+
+    private final HeroRepository heroRepository;
+    private final ExperienceRepository experienceRepository;
+    private final ProjectRepository projectRepository;
+    private final EducationRepository educationRepository;
+    private final SkillRepository skillRepository;
+    private final CertificationRepository certificationRepository;
+    private final MongoTemplate mongoTemplate;
+
+    DraftLocalizedFields(HeroRepository heroRepository,
+                         ExperienceRepository experienceRepository,
+                         ProjectRepository projectRepository,
+                         EducationRepository educationRepository,
+                         SkillRepository skillRepository,
+                         CertificationRepository certificationRepository,
+                         MongoTemplate mongoTemplate) {
+        this.heroRepository = heroRepository;
+        this.experienceRepository = experienceRepository;
+        this.projectRepository = projectRepository;
+        this.educationRepository = educationRepository;
+        this.skillRepository = skillRepository;
+        this.certificationRepository = certificationRepository;
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Fields missing the target locale, grouped in section order (hero, experiences, projects,
+     * education, skills, certifications).
+     */
+    List<LocalizedField> findMissing(String source, String target) {
+        List<LocalizedField> out = new ArrayList<>();
+
+        Hero hero = heroRepository.findByContentState(ContentState.DRAFT);
+        if (hero != null) {
+            Collector c = new Collector(out, "hero", Hero.class, hero.getId(), null, null, null, source, target);
+            c.text("tagline", hero.getTagline());
+            c.text("bio", hero.getBio());
+            c.text("fullName", hero.getFullName());
+            c.text("title", hero.getTitle());
+        }
+
+        WorkExperience experience = experienceRepository.findByContentState(ContentState.DRAFT);
+        if (experience != null && experience.getItems() != null) {
+            for (ExperienceItem item : experience.getItems()) {
+                Collector c = new Collector(out, "experiences", WorkExperience.class, experience.getId(),
+                        "items", "itemId", item.getItemId(), source, target);
+                c.text("company", item.getCompany());
+                c.text("role", item.getRole());
+                c.list("bulletPoints", item.getBulletPoints());
+            }
+        }
+
+        Project project = projectRepository.findByContentState(ContentState.DRAFT);
+        if (project != null && project.getItems() != null) {
+            for (ProjectItem item : project.getItems()) {
+                Collector c = new Collector(out, "projects", Project.class, project.getId(),
+                        "items", "itemId", item.getItemId(), source, target);
+                c.text("title", item.getTitle());
+                c.text("description", item.getDescription());
+            }
+        }
+
+        Education education = educationRepository.findByContentState(ContentState.DRAFT);
+        if (education != null && education.getItems() != null) {
+            for (EducationItem item : education.getItems()) {
+                new Collector(out, "education", Education.class, education.getId(),
+                        "items", "itemId", item.getItemId(), source, target).text("details", item.getDetails());
+            }
+        }
+
+        Skill skill = skillRepository.findByContentState(ContentState.DRAFT);
+        if (skill != null && skill.getCategories() != null) {
+            for (SkillCategory category : skill.getCategories()) {
+                new Collector(out, "skills", Skill.class, skill.getId(),
+                        "categories", "categoryId", category.getCategoryId(), source, target).text("name", category.getName());
+            }
+        }
+
+        Certification certification = certificationRepository.findByContentState(ContentState.DRAFT);
+        if (certification != null && certification.getItems() != null) {
+            for (CertificationItem item : certification.getItems()) {
+                new Collector(out, "certifications", Certification.class, certification.getId(),
+                        "items", "itemId", item.getItemId(), source, target).text("description", item.getDescription());
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Writes translations for one section's fields (all of the same document type) in one bulk.
+     * translations.get(i) belongs to fields.get(i). Returns the number of fields actually updated.
+     */
+    int write(List<LocalizedField> fields, List<List<String>> translations, String target) {
+        if (fields.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, fields.get(0).documentType());
+        Instant now = Instant.now();
+        for (int i = 0; i < fields.size(); i++) {
+            LocalizedField f = fields.get(i);
+            Object value = f.list() ? translations.get(i) : translations.get(i).get(0);
+            String localePath = f.field() + "." + target;
+            Object[] empty = f.list() ? new Object[] { null, List.of() } : new Object[] { null, "" };
+            Criteria criteria = Criteria.where("_id").is(f.documentId());
+            Update update = new Update().set("updatedAt", now);
+            if (f.arrayField() == null) {
+                criteria.and(localePath).in(empty);
+                update.set(localePath, value);
+            } else {
+                criteria.and(f.arrayField()).elemMatch(Criteria.where(f.idField()).is(f.elementId()).and(localePath).in(empty));
+                update.set(f.arrayField() + ".$." + localePath, value);
+            }
+            bulk.updateOne(new Query(criteria), update);
+        }
+        return bulk.execute().getModifiedCount();
+    }
+
+    /** Adds fields of one element (or the top-level document) that need translating. */
+    private record Collector(List<LocalizedField> out, String section, Class<?> type, String documentId,
+                             String arrayField, String idField, String elementId, String source, String target) {
+
+        void text(String field, Map<String, String> value) {
+            if (value == null) {
+                return;
+            }
+            String src = value.get(source);
+            String existing = value.get(target);
+            if (src != null && !src.isBlank() && (existing == null || existing.isBlank())) {
+                out.add(new LocalizedField(section, type, documentId, arrayField, idField, elementId,
+                        field, List.of(src), false));
+            }
+        }
+
+        void list(String field, Map<String, List<String>> value) {
+            if (value == null) {
+                return;
+            }
+            List<String> src = value.get(source);
+            List<String> existing = value.get(target);
+            if (src != null && !src.isEmpty() && (existing == null || existing.isEmpty())) {
+                out.add(new LocalizedField(section, type, documentId, arrayField, idField, elementId,
+                        field, new ArrayList<>(src), true));
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.tobyresume.backend.translation.bulk;
+
+import com.tobyresume.backend.translation.dto.DraftTranslationJobResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory state of one whole-draft translation, plus the SSE subscribers following it. Every state
+ * change is pushed to all subscribers; a subscriber that has gone away is dropped.
+ */
+public class DraftTranslationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(DraftTranslationJob.class);
+
+    private final String id;
+    private final String sourceLocale;
+    private final String targetLocale;
+    private final Instant startedAt = Instant.now();
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+
+    private volatile String status = "RUNNING";
+    private volatile String section;
+    private volatile int totalFields;
+    private volatile int translatedFields;
+    private volatile int writtenFields;
+    private volatile String error;
+    private volatile Instant finishedAt;
+
+    DraftTranslationJob(String id, String sourceLocale, String targetLocale) {
+        this.id = id;
+        this.sourceLocale = sourceLocale;
+        this.targetLocale = targetLocale;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public synchronized DraftTranslationJobResponse snapshot() {
+        DraftTranslationJobResponse r = new DraftTranslationJobResponse();
+        r.setJobId(id);
+        r.setSourceLocale(sourceLocale);
+        r.setTargetLocale(targetLocale);
+        r.setStatus(status);
+        r.setSection(section);
+        r.setTotalFields(totalFields);
+        r.setTranslatedFields(translatedFields);
+        r.setWrittenFields(writtenFields);
+        r.setError(error);
+        r.setStartedAt(startedAt);
+        r.setFinishedAt(finishedAt);
+        return r;
+    }
+
+    /**
+     * Adds an SSE subscriber and sends it the current state; a finished job completes it right away.
+     */
+    public void subscribe(SseEmitter emitter) {
+        subscribers.add(emitter);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(e -> subscribers.remove(emitter));
+        boolean finished = isFinished();
+        send(emitter, finished ? status.toLowerCase() : "progress", snapshot());
+        if (finished) {
+            subscribers.remove(emitter);
+            emitter.complete();
+        }
+    }
+
+    synchronized void start(int totalFields) {
+        this.totalFields = totalFields;
+        publish("progress");
+    }
+
+    synchronized void section(String section) {
+        this.section = section;
+        publish("progress");
+    }
+
+    synchronized void translated(int fields) {
+        this.translatedFields += fields;
+        publish("progress");
+    }
+
+    synchronized void written(int fields) {
+        this.writtenFields += fields;
+        publish("progress");
+    }
+
+    synchronized void succeed() {
+        finish("SUCCEEDED", null);
+    }
+
+    synchronized void fail(String error) {
+        finish("FAILED", error);
+    }
+
+    private void finish(String status, String error) {
+        this.status = status;
+        this.error = error;
+        this.section = null;
+        this.finishedAt = Instant.now();
+        publish(status.toLowerCase());
+        for (SseEmitter emitter : subscribers) {
+            emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    private void publish(String event) {
+        DraftTranslationJobResponse data = snapshot();
+        for (SseEmitter emitter : subscribers) {
+            send(emitter, event, data);
+        }
+    }
+
+    private void send(SseEmitter emitter, String event, DraftTranslationJobResponse data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping translation job subscriber for {}", id, e);
+            subscribers.remove(emitter);
+            emitter.completeWithError(e);
+        }
+    }
+}
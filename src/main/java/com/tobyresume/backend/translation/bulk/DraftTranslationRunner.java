@@ -0,0 +1,222 @@
+package com.tobyresume.backend.translation.bulk;
+
+import com.tobyresume.backend.common.exception.ResourceNotFoundException;
+import com.tobyresume.backend.common.exception.ValidationException;
+import com.tobyresume.backend.common.util.IdGenerator;
+import com.tobyresume.backend.config.TranslationProperties;
+import com.tobyresume.backend.content.ContentChangedEvent;
+import com.tobyresume.backend.translation.TranslationService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Translates every localized field of the draft that is missing the target locale. One job runs at
+ * a time. Fields are walked section by section; within a section, strings go to TranslationService
+ * in provider-sized chunks on a pool of app.translation.bulk-concurrency workers. A semaphore caps
+ * chunks in flight, so the walker blocks instead of queueing the whole draft (back-pressure). Each
+ * section is written back in one bulk update once all its chunks are done. A failed chunk fails the
+ * job; sections already written stay written, and nothing of the failed section is applied.
+ *
+ * @see docs/ai/requirements/feature-ai-services.md "Full-site translate"
+ */
+@Service
+@Lazy
+public class DraftTranslationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DraftTranslationRunner.class);
+
+    /** Finished jobs stay queryable this long. */
+    private static final Duration RETENTION = Duration.ofHours(1);
+
+    private final DraftLocalizedFields draftFields;
+    private final TranslationService translationService;
+    private final TranslationProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService coordinator;
+    private final ThreadPoolExecutor workers;
+    private final Semaphore inFlight;
+    private final Map<String, DraftTranslationJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicReference<DraftTranslationJob> running = new AtomicReference<>();
+
+    DraftTranslationRunner(DraftLocalizedFields draftFields,
+                           TranslationService translationService,
+                           TranslationProperties properties,
+                           ApplicationEventPublisher eventPublisher) {
+        this.draftFields = draftFields;
+        this.translationService = translationService;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        int concurrency = properties.getBulkConcurrency();
+        AtomicInteger threads = new AtomicInteger();
+        this.coordinator = Executors.newSingleThreadExecutor(r -> daemon(r, "draft-translate"));
+        this.workers = new ThreadPoolExecutor(concurrency, concurrency, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(concurrency),
+                r -> daemon(r, "draft-translate-" + threads.incrementAndGet()));
+        this.inFlight = new Semaphore(concurrency);
+    }
+
+    /**
+     * Starts a job. Throws ValidationException for unsupported locales or when a job is already running.
+     */
+    public DraftTranslationJob start(String sourceLocale, String targetLocale) {
+        TranslationService.validateLocales(sourceLocale, targetLocale);
+        DraftTranslationJob job = new DraftTranslationJob(IdGenerator.uuid(), sourceLocale, targetLocale);
+        if (!running.compareAndSet(null, job)) {
+            throw new ValidationException("A draft translation is already running");
+        }
+        evictFinished();
+        jobs.put(job.getId(), job);
+        coordinator.execute(() -> run(job, sourceLocale, targetLocale));
+        return job;
+    }
+
+    public DraftTranslationJob get(String jobId) {
+        DraftTranslationJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Translation job not found: " + jobId);
+        }
+        return job;
+    }
+
+    void run(DraftTranslationJob job, String source, String target) {
+        try {
+            List<LocalizedField> missing = draftFields.findMissing(source, target);
+            job.start(missing.size());
+            Map<String, List<LocalizedField>> bySection = new LinkedHashMap<>();
+            for (LocalizedField f : missing) {
+                bySection.computeIfAbsent(f.section(), s -> new ArrayList<>()).add(f);
+            }
+            for (Map.Entry<String, List<LocalizedField>> section : bySection.entrySet()) {
+                job.section(section.getKey());
+                List<List<String>> translations = translateSection(job, section.getValue(), source, target);
+                job.written(draftFields.write(section.getValue(), translations, target));
+                eventPublisher.publishEvent(new ContentChangedEvent(section.getValue().get(0).documentType()));
+            }
+            job.succeed();
+            log.info("Draft translation {} {}→{} done: {} fields", job.getId(), source, target, missing.size());
+        } catch (RuntimeException e) {
+            log.warn("Draft translation {} failed", job.getId(), e);
+            job.fail(e.getMessage());
+        } finally {
+            running.compareAndSet(job, null);
+        }
+    }
+
+    /**
+     * Translates the fields of one section; result i holds the translation of fields.get(i).
+     */
+    private List<List<String>> translateSection(DraftTranslationJob job, List<LocalizedField> fields,
+                                                String source, String target) {
+        List<List<LocalizedField>> chunks = chunk(fields, properties.getMaxBatchSize());
+        List<Future<List<List<String>>>> futures = new ArrayList<>(chunks.size());
+        try {
+            for (List<LocalizedField> chunk : chunks) {
+                inFlight.acquire();
+                try {
+                    futures.add(workers.submit(() -> {
+                        try {
+                            List<List<String>> result = translateChunk(chunk, source, target);
+                            job.translated(chunk.size());
+                            return result;
+                        } finally {
+                            inFlight.release();
+                        }
+                    }));
+                } catch (RuntimeException e) {
+                    inFlight.release();
+                    throw e;
+                }
+            }
+            List<List<String>> out = new ArrayList<>(fields.size());
+            for (Future<List<List<String>>> future : futures) {
+                out.addAll(future.get());
+            }
+            return out;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Draft translation interrupted", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException re ? re : new IllegalStateException(e.getCause());
+        } finally {
+            futures.forEach(f -> f.cancel(true));
+        }
+    }
+
+    /** One TranslationService call for all strings of the chunk (bullet lists are flattened). */
+    private List<List<String>> translateChunk(List<LocalizedField> chunk, String source, String target) {
+        List<String> texts = new ArrayList<>();
+        for (LocalizedField f : chunk) {
+            texts.addAll(f.source());
+        }
+        List<String> translated = translationService.translate(texts, source, target).translations();
+        List<List<String>> out = new ArrayList<>(chunk.size());
+        int offset = 0;
+        for (LocalizedField f : chunk) {
+            out.add(translated.subList(offset, offset + f.source().size()));
+            offset += f.source().size();
+        }
+        return out;
+    }
+
+    /** Groups fields so each chunk holds at most maxStrings strings (a longer single field gets its own chunk). */
+    private static List<List<LocalizedField>> chunk(List<LocalizedField> fields, int maxStrings) {
+        List<List<LocalizedField>> chunks = new ArrayList<>();
+        List<LocalizedField> current = new ArrayList<>();
+        int strings = 0;
+        for (LocalizedField f : fields) {
+            if (!current.isEmpty() && strings + f.source().size() > maxStrings) {
+                chunks.add(current);
+                current = new ArrayList<>();
+                strings = 0;
+            }
+            current.add(f);
+            strings += f.source().size();
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+
+    private void evictFinished() {
+        Instant cutoff = Instant.now().minus(RETENTION);
+        jobs.values().removeIf(j -> j.isFinished() && j.getFinishedAt().isBefore(cutoff));
+    }
+
+    private static Thread daemon(Runnable r, String name) {
+        Thread t = new Thread(r, name);
+        t.setDaemon(true);
+        return t;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        coordinator.shutdownNow();
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.tobyresume.backend.translation.bulk;
+
+import java.util.List;
+
+/**
+ * One localized field of a draft document that is missing the target locale.
+ *
+ * @param section      section name, for progress reporting
+ * @param documentType Mongo document class of the section
+ * @param documentId   draft document id
+ * @param arrayField   array holding the element ("items", "categories"), or null for top-level fields
+ * @param idField      element id field ("itemId", "categoryId")
+ * @param elementId    element id value
+ * @param field        localized map field (e.g. "bio", "bulletPoints")
+ * @param source       source-locale text; one entry unless list is true
+ * @param list         true for Map&lt;String, List&lt;String&gt;&gt; fields
+ */
+record LocalizedField(String section, Class<?> documentType, String documentId,
+                      String arrayField, String idField, String elementId,
+                      String field, List<String> source, boolean list) {
+}
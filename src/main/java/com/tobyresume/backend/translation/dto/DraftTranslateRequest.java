@@ -0,0 +1,31 @@
+package com.tobyresume.backend.translation.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Request body for POST /api/v1/translate/draft.
+ */
+public class DraftTranslateRequest {
+
+    @NotBlank(message = "sourceLocale is required")
+    private String sourceLocale;
+
+    @NotBlank(message = "targetLocale is required")
+    private String targetLocale;
+
+    public String getSourceLocale() {
+        return sourceLocale;
+    }
+
+    public void setSourceLocale(String sourceLocale) {
+        this.sourceLocale = sourceLocale;
+    }
+
+    public String getTargetLocale() {
+        return targetLocale;
+    }
+
+    public void setTargetLocale(String targetLocale) {
+        this.targetLocale = targetLocale;
+    }
+}
@@ -0,0 +1,111 @@
+package com.tobyresume.backend.translation.dto;
+
+import java.time.Instant;
+
+/**
+ * Snapshot of a whole-draft translation job; also the payload of each SSE event.
+ */
+public class DraftTranslationJobResponse {
+
+    private String jobId;
+    private String sourceLocale;
+    private String targetLocale;
+    /** RUNNING, SUCCEEDED or FAILED. */
+    private String status;
+    /** Section currently being translated. */
+    private String section;
+    private int totalFields;
+    private int translatedFields;
+    private int writtenFields;
+    private String error;
+    private Instant startedAt;
+    private Instant finishedAt;
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getSourceLocale() {
+        return sourceLocale;
+    }
+
+    public void setSourceLocale(String sourceLocale) {
+        this.sourceLocale = sourceLocale;
+    }
+
+    public String getTargetLocale() {
+        return targetLocale;
+    }
+
+    public void setTargetLocale(String targetLocale) {
+        this.targetLocale = targetLocale;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getSection() {
+        return section;
+    }
+
+    public void setSection(String section) {
+        this.section = section;
+    }
+
+    public int getTotalFields() {
+        return totalFields;
+    }
+
+    public void setTotalFields(int totalFields) {
+        this.totalFields = totalFields;
+    }
+
+    public int getTranslatedFields() {
+        return translatedFields;
+    }
+
+    public void setTranslatedFields(int translatedFields) {
+        this.translatedFields = translatedFields;
+    }
+
+    public int getWrittenFields() {
+        return writtenFields;
+    }
+
+    public void setWrittenFields(int writtenFields) {
+        this.writtenFields = writtenFields;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
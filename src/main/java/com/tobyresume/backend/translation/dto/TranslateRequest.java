@@ -0,0 +1,47 @@
+package com.tobyresume.backend.translation.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request body for POST /api/v1/translate.
+ */
+public class TranslateRequest {
+
+    @NotBlank(message = "sourceLocale is required")
+    private String sourceLocale;
+
+    @NotBlank(message = "targetLocale is required")
+    private String targetLocale;
+
+    @NotNull(message = "texts is required")
+    @Size(max = 500, message = "texts must have at most 500 entries")
+    private List<@Size(max = 5000, message = "each text must be at most 5000 characters") String> texts;
+
+    public String getSourceLocale() {
+        return sourceLocale;
+    }
+
+    public void setSourceLocale(String sourceLocale) {
+        this.sourceLocale = sourceLocale;
+    }
+
+    public String getTargetLocale() {
+        return targetLocale;
+    }
+
+    public void setTargetLocale(String targetLocale) {
+        this.targetLocale = targetLocale;
+    }
+
+    public List<String> getTexts() {
+        return texts;
+    }
+
+    public void setTexts(List<String> texts) {
+        this.texts = texts;
+    }
+}
@@ -0,0 +1,39 @@
+package com.tobyresume.backend.translation.dto;
+
+import java.util.List;
+
+/**
+ * Response for POST /api/v1/translate. translations[i] is the translation of texts[i].
+ */
+public class TranslateResponse {
+
+    private List<String> translations;
+    /** Strings served from the translation memory. */
+    private int fromMemory;
+    /** Strings sent to the provider by this request. */
+    private int fromProvider;
+
+    public List<String> getTranslations() {
+        return translations;
+    }
+
+    public void setTranslations(List<String> translations) {
+        this.translations = translations;
+    }
+
+    public int getFromMemory() {
+        return fromMemory;
+    }
+
+    public void setFromMemory(int fromMemory) {
+        this.fromMemory = fromMemory;
+    }
+
+    public int getFromProvider() {
+        return fromProvider;
+    }
+
+    public void setFromProvider(int fromProvider) {
+        this.fromProvider = fromProvider;
+    }
+}
@@ -0,0 +1,85 @@
+package com.tobyresume.backend.translation.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * One remembered translation. The id is SHA-256 of (provider, source locale, target locale, source
+ * text), so unchanged strings are never sent to the provider twice.
+ */
+@Document(collection = "translation_memory")
+public class TranslationMemoryEntry {
+
+    @Id
+    private String id;
+
+    private String provider;
+
+    private String sourceLocale;
+
+    private String targetLocale;
+
+    private String sourceText;
+
+    private String translatedText;
+
+    private Instant createdAt;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    public void setProvider(String provider) {
+        this.provider = provider;
+    }
+
+    public String getSourceLocale() {
+        return sourceLocale;
+    }
+
+    public void setSourceLocale(String sourceLocale) {
+        this.sourceLocale = sourceLocale;
+    }
+
+    public String getTargetLocale() {
+        return targetLocale;
+    }
+
+    public void setTargetLocale(String targetLocale) {
+        this.targetLocale = targetLocale;
+    }
+
+    public String getSourceText() {
+        return sourceText;
+    }
+
+    public void setSourceText(String sourceText) {
+        this.sourceText = sourceText;
+    }
+
+    public String getTranslatedText() {
+        return translatedText;
+    }
+
+    public void setTranslatedText(String translatedText) {
+        this.translatedText = translatedText;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
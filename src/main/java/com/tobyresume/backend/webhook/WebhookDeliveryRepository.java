@@ -0,0 +1,10 @@
+package com.tobyresume.backend.webhook;
+
+import com.tobyresume.backend.webhook.model.WebhookDelivery;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+/**
+ * Per-receiver delivery records (webhook_deliveries), keyed by versionId:endpoint.
+ */
+public interface WebhookDeliveryRepository extends MongoRepository<WebhookDelivery, String> {
+}
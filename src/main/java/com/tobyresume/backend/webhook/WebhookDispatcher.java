@@ -0,0 +1,126 @@
+package com.tobyresume.backend.webhook;
+
+import com.tobyresume.backend.config.WebhookProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * POSTs one event body to a set of receivers in parallel on a bounded pool (app.webhooks.concurrency)
+ * with connect/read timeouts, so one slow receiver does not hold up the others. A 2xx response is a
+ * delivery; anything else is reported as a failure for the caller to retry.
+ */
+@Component
+public class WebhookDispatcher {
+
+    static final String EVENT_HEADER = "X-Webhook-Event";
+    static final String DELIVERY_HEADER = "X-Webhook-Delivery";
+    static final String SIGNATURE_HEADER = "X-Webhook-Signature";
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final RestClient restClient;
+    private final ThreadPoolExecutor executor;
+
+    public WebhookDispatcher(WebhookProperties properties) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout((int) properties.getConnectTimeout().toMillis());
+        requestFactory.setReadTimeout((int) properties.getReadTimeout().toMillis());
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.getConcurrency(), properties.getConcurrency(),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(64),
+                r -> {
+                    Thread t = new Thread(r, "webhook-" + threads.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Sends body to every endpoint and waits for all of them. deliveryId is sent as X-Webhook-Delivery
+     * so receivers can drop duplicates after a retry. Results are keyed by endpoint name.
+     */
+    public Map<String, Result> dispatch(List<WebhookProperties.Endpoint> endpoints, String event,
+                                        String deliveryId, String body) {
+        Map<String, CompletableFuture<Result>> futures = new LinkedHashMap<>();
+        for (WebhookProperties.Endpoint endpoint : endpoints) {
+            futures.put(endpoint.getName(),
+                    CompletableFuture.supplyAsync(() -> send(endpoint, event, deliveryId, body), executor));
+        }
+        Map<String, Result> results = new LinkedHashMap<>();
+        futures.forEach((name, future) -> results.put(name, future.join()));
+        return results;
+    }
+
+    Result send(WebhookProperties.Endpoint endpoint, String event, String deliveryId, String body) {
+        try {
+            RestClient.RequestBodySpec request = restClient.post()
+                    .uri(endpoint.getUrl())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(EVENT_HEADER, event)
+                    .header(DELIVERY_HEADER, deliveryId);
+            if (endpoint.getSecret() != null && !endpoint.getSecret().isBlank()) {
+                request.header(SIGNATURE_HEADER, "sha256=" + sign(endpoint.getSecret(), body));
+            }
+            int status = request.body(body).retrieve().toBodilessEntity().getStatusCode().value();
+            return new Result(status, null);
+        } catch (RestClientResponseException e) {
+            return new Result(e.getStatusCode().value(), truncate("HTTP " + e.getStatusCode().value()));
+        } catch (RestClientException | IllegalArgumentException e) {
+            return new Result(0, truncate(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName()));
+        }
+    }
+
+    /** HMAC-SHA256 of the UTF-8 body, lowercase hex. */
+    static String sign(String secret, String body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(mac.doFinal(body.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Outcome for one endpoint; status is 0 when no response was received. */
+    public record Result(int status, String error) {
+
+        public boolean delivered() {
+            return error == null && status >= 200 && status < 300;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.tobyresume.backend.webhook;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tobyresume.backend.config.WebhookProperties;
+import com.tobyresume.backend.publish.PublishRepository;
+import com.tobyresume.backend.publish.job.PostPublishTask;
+import com.tobyresume.backend.webhook.model.WebhookDelivery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Post-publish job: notifies app.webhooks.endpoints of the new version. The job is delayed by the
+ * coalesce window and skipped when a newer version exists, so back-to-back publishes lead to one
+ * delivery of the latest version. Receivers that already got the version are not called again; if any
+ * receiver fails the job fails, and PublishJobRunner retries it with exponential backoff.
+ */
+@Component
+public class WebhookPublishTask implements PostPublishTask {
+
+    static final String EVENT = "content.published";
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookPublishTask.class);
+
+    private final WebhookProperties properties;
+    private final WebhookDispatcher dispatcher;
+    private final WebhookDeliveryRepository deliveryRepository;
+    private final PublishRepository publishRepository;
+    private final ObjectMapper objectMapper;
+
+    public WebhookPublishTask(WebhookProperties properties,
+                              WebhookDispatcher dispatcher,
+                              WebhookDeliveryRepository deliveryRepository,
+                              PublishRepository publishRepository,
+                              ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.dispatcher = dispatcher;
+        this.deliveryRepository = deliveryRepository;
+        this.publishRepository = publishRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String name() {
+        return "webhooks";
+    }
+
+    @Override
+    public Duration delay() {
+        return properties.getCoalesceWindow();
+    }
+
+    @Override
+    public void run(String versionId) throws JsonProcessingException {
+        if (properties.getEndpoints().isEmpty()) {
+            return;
+        }
+        PublishRepository.VersionId latest = publishRepository.findFirstByOrderByPublishedAtDesc();
+        if (latest == null || !versionId.equals(latest.getId())) {
+            log.debug("Webhooks for version {} coalesced into a newer publish", versionId);
+            return;
+        }
+
+        Map<String, WebhookDelivery> deliveries = new LinkedHashMap<>();
+        List<WebhookProperties.Endpoint> pending = new ArrayList<>();
+        for (WebhookProperties.Endpoint endpoint : properties.getEndpoints()) {
+            String id = WebhookDelivery.id(versionId, endpoint.getName());
+            WebhookDelivery delivery = deliveryRepository.findById(id).orElseGet(() -> newDelivery(id, versionId, endpoint));
+            if (!delivery.isDelivered()) {
+                deliveries.put(endpoint.getName(), delivery);
+                pending.add(endpoint);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        String body = objectMapper.writeValueAsString(Map.of(
+                "event", EVENT,
+                "versionId", versionId,
+                "sentAt", Instant.now().toString()));
+        Map<String, WebhookDispatcher.Result> results = dispatcher.dispatch(pending, EVENT, versionId, body);
+
+        List<String> failed = new ArrayList<>();
+        Instant now = Instant.now();
+        results.forEach((name, result) -> {
+            WebhookDelivery delivery = deliveries.get(name);
+            delivery.setAttempts(delivery.getAttempts() + 1);
+            delivery.setLastStatus(result.status());
+            delivery.setLastError(result.error());
+            if (result.delivered()) {
+                delivery.setDelivered(true);
+                delivery.setDeliveredAt(now);
+            } else {
+                failed.add(name + " (" + result.error() + ")");
+            }
+        });
+        deliveryRepository.saveAll(deliveries.values());
+        if (!failed.isEmpty()) {
+            throw new IllegalStateException("Webhook delivery failed for " + String.join(", ", failed));
+        }
+        log.info("Delivered {} webhook(s) for version {}", results.size(), versionId);
+    }
+
+    private static WebhookDelivery newDelivery(String id, String versionId, WebhookProperties.Endpoint endpoint) {
+        WebhookDelivery delivery = new WebhookDelivery();
+        delivery.setId(id);
+        delivery.setVersionId(versionId);
+        delivery.setEndpoint(endpoint.getName());
+        delivery.setCreatedAt(Instant.now());
+        return delivery;
+    }
+}
@@ -0,0 +1,112 @@
+package com.tobyresume.backend.webhook.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Outcome of sending one published version to one receiver. The id is versionId:endpoint, so a
+ * retried publish job skips receivers that already got the version. Kept 30 days (TTL on createdAt).
+ */
+@Document(collection = "webhook_deliveries")
+public class WebhookDelivery {
+
+    @Id
+    private String id;
+
+    private String versionId;
+
+    private String endpoint;
+
+    private boolean delivered;
+
+    private int attempts;
+
+    /** HTTP status of the last attempt; 0 when no response (timeout, connection refused). */
+    private int lastStatus;
+
+    private String lastError;
+
+    @Indexed(expireAfterSeconds = 2592000)
+    private Instant createdAt;
+
+    private Instant deliveredAt;
+
+    public static String id(String versionId, String endpoint) {
+        return versionId + ":" + endpoint;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getVersionId() {
+        return versionId;
+    }
+
+    public void setVersionId(String versionId) {
+        this.versionId = versionId;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public boolean isDelivered() {
+        return delivered;
+    }
+
+    public void setDelivered(boolean delivered) {
+        this.delivered = delivered;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public int getLastStatus() {
+        return lastStatus;
+    }
+
+    public void setLastStatus(int lastStatus) {
+        this.lastStatus = lastStatus;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getDeliveredAt() {
+        return deliveredAt;
+    }
+
+    public void setDeliveredAt(Instant deliveredAt) {
+        this.deliveredAt = deliveredAt;
+    }
+}
@@ -0,0 +1,116 @@
+package com.tobyresume.backend.analytics;
+
+import com.tobyresume.backend.analytics.PageViewAggregator.RollupKey;
+import com.tobyresume.backend.analytics.model.RollupDimension;
+import com.tobyresume.backend.config.AnalyticsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PageViewAggregatorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 19);
+
+    private PageViewAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        AnalyticsProperties properties = new AnalyticsProperties();
+        properties.setMaxPendingKeys(100);
+        aggregator = new PageViewAggregator(mock(MongoTemplate.class), properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void drain_countsEveryDimensionAndResets() {
+        aggregator.record(TODAY, "/", "google.com", "en");
+        aggregator.record(TODAY, "/projects", "(direct)", "en");
+
+        Map<RollupKey, Long> batch = aggregator.drain(TODAY);
+
+        assertThat(batch).containsEntry(new RollupKey(TODAY, RollupDimension.TOTAL, ""), 2L)
+                .containsEntry(new RollupKey(TODAY, RollupDimension.PAGE, "/"), 1L)
+                .containsEntry(new RollupKey(TODAY, RollupDimension.PAGE, "/projects"), 1L)
+                .containsEntry(new RollupKey(TODAY, RollupDimension.REFERRER, "google.com"), 1L)
+                .containsEntry(new RollupKey(TODAY, RollupDimension.LOCALE, "en"), 2L);
+        assertThat(aggregator.drain(TODAY)).isEmpty();
+    }
+
+    @Test
+    void drain_removesIdleCountersOfPastDaysOnly() {
+        LocalDate yesterday = TODAY.minusDays(1);
+        aggregator.record(yesterday, "/", "(direct)", "en");
+        aggregator.record(TODAY, "/", "(direct)", "en");
+        aggregator.drain(TODAY);
+
+        aggregator.drain(TODAY);
+
+        assertThat(aggregator.pendingKeys()).isEqualTo(4);
+    }
+
+    @Test
+    void record_concurrentHitsAreAllCounted() throws Exception {
+        int threads = 8;
+        int hitsPerThread = 5_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        long drained = 0;
+        try {
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < hitsPerThread; i++) {
+                        aggregator.record(TODAY, "/", "(direct)", "en");
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            // Drain while writers are running: no increment may be lost between flushes.
+            while (futures.stream().anyMatch(f -> !f.isDone())) {
+                drained += aggregator.drain(TODAY).getOrDefault(new RollupKey(TODAY, RollupDimension.TOTAL, ""), 0L);
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        drained += aggregator.drain(TODAY).getOrDefault(new RollupKey(TODAY, RollupDimension.TOTAL, ""), 0L);
+
+        assertThat(drained).isEqualTo((long) threads * hitsPerThread);
+    }
+
+    @Test
+    void record_dropsNewKeysBeyondLimit() {
+        for (int i = 0; i < 200; i++) {
+            aggregator.record(TODAY, "/page-" + i, "(direct)", "en");
+        }
+
+        assertThat(aggregator.pendingKeys()).isLessThanOrEqualTo(100);
+        assertThat(aggregator.drain(TODAY)).containsEntry(new RollupKey(TODAY, RollupDimension.TOTAL, ""), 200L);
+    }
+
+    @Test
+    void normalize_keepsKeysLowCardinalityAndFreeOfPii() {
+        assertThat(AnalyticsService.normalizePath("/projects/?utm_source=x#top")).isEqualTo("/projects");
+        assertThat(AnalyticsService.normalizePath("https://toby.dev/blog?id=1")).isEqualTo("/blog");
+        assertThat(AnalyticsService.normalizeReferrer("https://www.Google.com/search?q=toby")).isEqualTo("google.com");
+        assertThat(AnalyticsService.normalizeReferrer("")).isEqualTo(AnalyticsService.DIRECT);
+        assertThat(AnalyticsService.normalizeLocale("en_US")).isEqualTo("en-us");
+        assertThat(AnalyticsService.normalizeLocale("<script>")).isEqualTo(AnalyticsService.UNKNOWN);
+    }
+}
@@ -0,0 +1,38 @@
+package com.tobyresume.backend.common.dto;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiResponseTest {
+
+    @AfterEach
+    void clearMdc() {
+        MDC.clear();
+    }
+
+    @Test
+    void error_carriesCurrentTraceId() {
+        MDC.put("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+
+        ApiResponse<Void> response = ApiResponse.error(new ErrorBody("NOT_FOUND", "missing", null));
+
+        assertThat(response.getTraceId()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+    }
+
+    @Test
+    void error_withoutTracing_hasNoTraceId() {
+        ApiResponse<Void> response = ApiResponse.error(new ErrorBody("NOT_FOUND", "missing", null));
+
+        assertThat(response.getTraceId()).isNull();
+    }
+
+    @Test
+    void success_neverCarriesTraceId() {
+        MDC.put("traceId", "4bf92f3577b34da6a3ce929d0e0e4736");
+
+        assertThat(ApiResponse.success("ok").getTraceId()).isNull();
+    }
+}
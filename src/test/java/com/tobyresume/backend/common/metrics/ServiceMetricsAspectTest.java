@@ -0,0 +1,77 @@
+package com.tobyresume.backend.common.metrics;
+
+import com.tobyresume.backend.common.exception.ValidationException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ServiceMetricsAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private GreetingService service;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(registry));
+        AspectJProxyFactory factory = new AspectJProxyFactory(new GreetingService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceMetricsAspect(observationRegistry));
+        service = factory.getProxy();
+    }
+
+    @Test
+    void publicServiceMethod_isTimedWithClassAndMethodTags() {
+        service.greet("Toby");
+        service.greet("Ann");
+
+        Timer timer = registry.find(ServiceMetricsAspect.METRIC)
+                .tags("class", "GreetingService", "method", "greet", "exception", "none")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    void failingCall_isTaggedWithExceptionAndRethrown() {
+        assertThatThrownBy(() -> service.greet(""))
+                .isInstanceOf(ValidationException.class);
+
+        Timer timer = registry.find(ServiceMetricsAspect.METRIC)
+                .tags("method", "greet", "exception", "ValidationException")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void selfInvocation_isTimedOnceAtEntryPoint() {
+        service.greetTwice("Toby");
+
+        assertThat(registry.find(ServiceMetricsAspect.METRIC).tag("method", "greetTwice").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.find(ServiceMetricsAspect.METRIC).tag("method", "greet").timer()).isNull();
+    }
+}
+
+class GreetingService {
+
+    public String greet(String name) {
+        if (name.isEmpty()) {
+            throw new ValidationException("name is required");
+        }
+        return "Hello " + name;
+    }
+
+    public String greetTwice(String name) {
+        return greet(name) + " " + greet(name);
+    }
+}
@@ -0,0 +1,45 @@
+package com.tobyresume.backend.config;
+
+import com.tobyresume.backend.common.dto.ApiResponse;
+import com.tobyresume.backend.common.model.ContentState;
+import com.tobyresume.backend.content.hero.model.Hero;
+import com.tobyresume.backend.content.skill.model.Skill;
+import com.tobyresume.backend.publish.job.dto.PublishJobResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AppRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void register() {
+        new AppRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registersDtosAndModelsForBinding() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(ApiResponse.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(PublishJobResponse.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Hero.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ContentState.class)).accepts(hints);
+    }
+
+    @Test
+    void registersReflectiveSetContentStateForPublish() throws NoSuchMethodException {
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onMethod(Skill.class.getMethod("setContentState", ContentState.class))).accepts(hints);
+    }
+
+    @Test
+    void registersGraphQlSchemaAndJjwt() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("graphql/schema.graphqls")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtParserBuilder"))).accepts(hints);
+    }
+}
@@ -0,0 +1,91 @@
+package com.tobyresume.backend.config;
+
+import com.tobyresume.backend.security.jwt.JwtAuthFilter;
+import com.tobyresume.backend.security.ratelimit.RateLimitFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.oauth2.client.web.OAuth2LoginAuthenticationFilter;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.ExceptionTranslationFilter;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
+import org.springframework.security.web.authentication.AnonymousAuthenticationFilter;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.filter.CorsFilter;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies which filters each security chain runs: public read paths get the lightweight chain
+ * (CORS and rate limiting only), everything else the full admin chain.
+ */
+@SpringBootTest
+@Testcontainers
+@TestPropertySource(properties = {
+        "app.security.jwt.secret=test-jwt-secret-at-least-32-characters-long",
+        "app.security.oauth2.redirect-uri=http://localhost:3000/auth/callback"
+})
+class SecurityFilterChainTest {
+
+    @Container
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7");
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongo::getReplicaSetUrl);
+    }
+
+    @Autowired
+    private FilterChainProxy filterChainProxy;
+
+    @Test
+    void publicReadPaths_useChainWithoutAuthenticationFilters() {
+        for (String path : List.of("/graphql", "/api/public/content/hero")) {
+            List<Class<?>> filters = filterTypes(request("GET", path));
+
+            assertThat(filters).as(path).contains(CorsFilter.class, RateLimitFilter.class);
+            assertThat(filters).as(path).doesNotContain(JwtAuthFilter.class, OAuth2LoginAuthenticationFilter.class,
+                    SecurityContextHolderFilter.class, AnonymousAuthenticationFilter.class,
+                    ExceptionTranslationFilter.class, AuthorizationFilter.class);
+            assertThat(filters.indexOf(RateLimitFilter.class)).isGreaterThan(filters.indexOf(CorsFilter.class));
+        }
+    }
+
+    @Test
+    void adminPaths_useFullChain() {
+        List<Class<?>> filters = filterTypes(request("GET", "/api/v1/hero"));
+
+        assertThat(filters).contains(CorsFilter.class, RateLimitFilter.class, JwtAuthFilter.class,
+                OAuth2LoginAuthenticationFilter.class, ExceptionTranslationFilter.class, AuthorizationFilter.class);
+        assertThat(filters.indexOf(RateLimitFilter.class)).isLessThan(filters.indexOf(JwtAuthFilter.class));
+        assertThat(filters.size()).isGreaterThan(filterTypes(request("POST", "/graphql")).size());
+    }
+
+    private List<Class<?>> filterTypes(MockHttpServletRequest request) {
+        return filterChainProxy.getFilterChains().stream()
+                .filter(chain -> chain.matches(request))
+                .findFirst()
+                .map(SecurityFilterChain::getFilters)
+                .orElse(List.of())
+                .stream()
+                .<Class<?>>map(ClassUtils::getUserClass)
+                .toList();
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+}
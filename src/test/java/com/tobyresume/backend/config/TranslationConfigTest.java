@@ -0,0 +1,81 @@
+package com.tobyresume.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tobyresume.backend.common.exception.TranslationFailedException;
+import com.tobyresume.backend.translation.DisabledTranslationProvider;
+import com.tobyresume.backend.translation.GeminiTranslationProvider;
+import com.tobyresume.backend.translation.StubTranslationProvider;
+import com.tobyresume.backend.translation.TranslationProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TranslationConfigTest {
+
+    private final TranslationConfig config = new TranslationConfig();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MockEnvironment environment = new MockEnvironment();
+
+    @Test
+    void unsetProviderDefaultsToStubInDev() {
+        environment.setActiveProfiles("dev");
+
+        assertThat(config.translationProvider(new TranslationProperties(), objectMapper, environment))
+                .isInstanceOf(StubTranslationProvider.class);
+    }
+
+    @Test
+    void unsetProviderDisablesTranslationOutsideDevAndTest() {
+        environment.setActiveProfiles("prod");
+
+        TranslationProvider provider = config.translationProvider(new TranslationProperties(), objectMapper, environment);
+
+        assertThat(provider).isInstanceOf(DisabledTranslationProvider.class);
+        assertThatThrownBy(() -> provider.translate(List.of("Hello"), "en", "vi"))
+                .isInstanceOf(TranslationFailedException.class)
+                .hasMessageContaining("TRANSLATION_PROVIDER");
+    }
+
+    @Test
+    void explicitStubIsAllowedEverywhere() {
+        environment.setActiveProfiles("prod");
+        TranslationProperties properties = new TranslationProperties();
+        properties.setProvider("stub");
+
+        assertThat(config.translationProvider(properties, objectMapper, environment))
+                .isInstanceOf(StubTranslationProvider.class);
+    }
+
+    @Test
+    void selectsGeminiAtRuntime() {
+        TranslationProperties properties = new TranslationProperties();
+        properties.setProvider("gemini");
+        properties.setGeminiApiKey("test-key");
+
+        assertThat(config.translationProvider(properties, objectMapper, environment))
+                .isInstanceOf(GeminiTranslationProvider.class);
+    }
+
+    @Test
+    void geminiWithoutApiKeyFailsFast() {
+        TranslationProperties properties = new TranslationProperties();
+        properties.setProvider("gemini");
+
+        assertThatThrownBy(() -> config.translationProvider(properties, objectMapper, environment))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void rejectsUnknownProvider() {
+        TranslationProperties properties = new TranslationProperties();
+        properties.setProvider("deepl");
+
+        assertThatThrownBy(() -> config.translationProvider(properties, objectMapper, environment))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("deepl");
+    }
+}
@@ -0,0 +1,160 @@
+package com.tobyresume.backend.contact;
+
+import com.tobyresume.backend.config.ContactProperties;
+import com.tobyresume.backend.contact.model.ContactMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContactNotifierTest {
+
+    private SmtpStub smtp;
+    private ContactNotifier notifier;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        smtp = new SmtpStub();
+        ContactProperties properties = new ContactProperties();
+        properties.setSmtpHost("127.0.0.1");
+        properties.setSmtpPort(smtp.port());
+        properties.setSmtpStarttls(false);
+        properties.setSmtpTimeout(Duration.ofSeconds(2));
+        properties.setNotifyTo("admin@example.com");
+        properties.setRetryBackoff(Duration.ofMillis(10));
+        notifier = new ContactNotifier(properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        notifier.shutdown();
+        smtp.close();
+    }
+
+    @Test
+    void send_batchUsesOneConnection() {
+        List<ContactMessage> failed = notifier.send(List.of(message("1"), message("2"), message("3")));
+
+        assertThat(failed).isEmpty();
+        assertThat(smtp.connections.get()).isEqualTo(1);
+        assertThat(smtp.messages).hasSize(3);
+        assertThat(smtp.messages.get(0))
+                .contains("To: admin@example.com")
+                .contains("Reply-To: visitor1@example.com")
+                .contains("Subject: [Contact] Hello 1");
+    }
+
+    @Test
+    void enqueue_deliversInBackground() throws InterruptedException {
+        assertThat(notifier.enqueue(message("4"))).isTrue();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (smtp.messages.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(smtp.messages).hasSize(1);
+        assertThat(smtp.messages.get(0)).contains("Hi from visitor 4");
+    }
+
+    @Test
+    void enqueue_withoutSmtpHost_isDisabled() throws InterruptedException {
+        ContactNotifier disabled = new ContactNotifier(new ContactProperties(), new SimpleMeterRegistry());
+
+        assertThat(disabled.enqueue(message("5"))).isFalse();
+        disabled.shutdown();
+    }
+
+    private static ContactMessage message(String n) {
+        ContactMessage m = new ContactMessage();
+        m.setId(n);
+        m.setName("Visitor " + n);
+        m.setEmail("visitor" + n + "@example.com");
+        m.setSubject("Hello " + n);
+        m.setMessage("Hi from visitor " + n);
+        m.setCreatedAt(Instant.now());
+        return m;
+    }
+
+    /** Minimal SMTP server: accepts every command and records each DATA payload. */
+    private static final class SmtpStub implements AutoCloseable {
+
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        final AtomicInteger connections = new AtomicInteger();
+        private final ServerSocket server;
+        private final Thread acceptor;
+
+        SmtpStub() throws IOException {
+            server = new ServerSocket(0, 10, InetAddress.getLoopbackAddress());
+            acceptor = new Thread(() -> {
+                while (!server.isClosed()) {
+                    try (Socket socket = server.accept()) {
+                        connections.incrementAndGet();
+                        handle(socket);
+                    } catch (IOException e) {
+                        // closed
+                    }
+                }
+            }, "smtp-stub");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        int port() {
+            return server.getLocalPort();
+        }
+
+        private void handle(Socket socket) throws IOException {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+            reply(out, "220 localhost ESMTP stub");
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase() : line.toUpperCase();
+                switch (command) {
+                    case "EHLO", "HELO" -> reply(out, "250 localhost");
+                    case "DATA" -> {
+                        reply(out, "354 end with .");
+                        StringBuilder data = new StringBuilder();
+                        String d;
+                        while ((d = in.readLine()) != null && !d.equals(".")) {
+                            data.append(d).append('\n');
+                        }
+                        messages.add(data.toString());
+                        reply(out, "250 OK");
+                    }
+                    case "QUIT" -> {
+                        reply(out, "221 bye");
+                        return;
+                    }
+                    default -> reply(out, "250 OK");
+                }
+            }
+        }
+
+        private static void reply(PrintWriter out, String line) {
+            out.print(line + "\r\n");
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            server.close();
+        }
+    }
+}
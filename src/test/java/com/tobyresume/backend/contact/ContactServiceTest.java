@@ -0,0 +1,54 @@
+package com.tobyresume.backend.contact;
+
+import com.tobyresume.backend.common.util.Hashing;
+import com.tobyresume.backend.config.ContactProperties;
+import com.tobyresume.backend.contact.dto.ContactRequest;
+import com.tobyresume.backend.contact.model.ContactMessage;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ContactServiceTest {
+
+    private final ContactMessageRepository repository = mock(ContactMessageRepository.class);
+    private final ContactNotifier notifier = mock(ContactNotifier.class);
+    private final ContactProperties properties = new ContactProperties();
+    private final ContactService service = new ContactService(repository, notifier, properties);
+
+    @Test
+    void submit_storesKeyedIpHash() {
+        properties.setIpHashSecret("pepper");
+
+        ContactMessage saved = submit("203.0.113.7");
+
+        assertThat(saved.getIpHash())
+                .isEqualTo(Hashing.hmacSha256Hex("pepper", "203.0.113.7"))
+                .isNotEqualTo(Hashing.sha256Hex("203.0.113.7"));
+    }
+
+    @Test
+    void submit_withoutSecret_storesNoIp() {
+        ContactMessage saved = submit("203.0.113.7");
+
+        assertThat(saved.getIpHash()).isNull();
+    }
+
+    private ContactMessage submit(String ip) {
+        when(repository.save(any(ContactMessage.class))).thenAnswer(inv -> inv.getArgument(0));
+        ContactRequest request = new ContactRequest();
+        request.setName("Visitor");
+        request.setEmail("visitor@example.com");
+        request.setMessage("Hello");
+
+        service.submit(request, ip);
+
+        ArgumentCaptor<ContactMessage> captor = ArgumentCaptor.forClass(ContactMessage.class);
+        verify(repository).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,99 @@
+package com.tobyresume.backend.diagnostics;
+
+import com.tobyresume.backend.diagnostics.MongoCommandProfiler.ShapeSnapshot;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexAdvisorTest {
+
+    @Test
+    void shapeKeepsFieldsNotValues() {
+        QueryShape a = QueryShape.from("find", BsonDocument.parse(
+                "{find: 'media_assets', filter: {sha256: 'abc', size: {$gt: 10}}, sort: {createdAt: -1}}"));
+        QueryShape b = QueryShape.from("find", BsonDocument.parse(
+                "{find: 'media_assets', filter: {sha256: 'def', size: {$gt: 99}}, sort: {createdAt: -1}}"));
+
+        assertThat(a).isEqualTo(b);
+        assertThat(a.equality()).containsExactly("sha256");
+        assertThat(a.range()).containsExactly("size");
+        assertThat(a.describe()).doesNotContain("abc");
+    }
+
+    @Test
+    void ignoresNonCollectionCommands() {
+        assertThat(QueryShape.from("hello", BsonDocument.parse("{hello: 1}"))).isNull();
+    }
+
+    @Test
+    void suggestsEqualitySortRangeIndexWhenNoneSupportsShape() {
+        QueryShape shape = QueryShape.from("find", BsonDocument.parse(
+                "{find: 'publish_jobs', filter: {status: 'PENDING', nextAttemptAt: {$lte: 1}}, sort: {createdAt: 1}}"));
+
+        List<IndexAdvisor.Suggestion> suggestions = IndexAdvisor.suggest(
+                List.of(snapshot(shape, 10, 50.0)), Map.of("publish_jobs", List.of(index("_id", 1))));
+
+        assertThat(suggestions).hasSize(1);
+        assertThat(suggestions.get(0).index()).isEqualTo("{ status: 1, createdAt: 1, nextAttemptAt: 1 }");
+        assertThat(suggestions.get(0).calls()).isEqualTo(10);
+    }
+
+    @Test
+    void reversedSortIsSupportedByExistingIndex() {
+        QueryShape shape = QueryShape.from("find", BsonDocument.parse(
+                "{find: 'version_snapshots', filter: {}, sort: {publishedAt: 1}, limit: 1}"));
+
+        assertThat(IndexAdvisor.supports(index("publishedAt", -1), shape)).isTrue();
+        assertThat(IndexAdvisor.suggest(List.of(snapshot(shape, 3, 9.0)),
+                Map.of("version_snapshots", List.of(index("publishedAt", -1))))).isEmpty();
+    }
+
+    @Test
+    void equalityFieldsMustBeIndexPrefix() {
+        QueryShape shape = QueryShape.from("find", BsonDocument.parse(
+                "{find: 'c', filter: {a: 1, b: {$in: [1, 2]}}}"));
+
+        assertThat(IndexAdvisor.supports(index("b", 1, "a", 1, "z", 1), shape)).isTrue();
+        assertThat(IndexAdvisor.supports(index("a", 1, "z", 1, "b", 1), shape)).isFalse();
+    }
+
+    @Test
+    void skipsShapesWithoutIndexableFilter() {
+        QueryShape insert = QueryShape.from("insert", BsonDocument.parse("{insert: 'c', documents: [{a: 1}]}"));
+        QueryShape regex = QueryShape.from("find", BsonDocument.parse("{find: 'c', filter: {a: {$regex: 'x'}}}"));
+
+        assertThat(IndexAdvisor.suggest(List.of(snapshot(insert, 1, 1.0), snapshot(regex, 1, 1.0)), Map.of()))
+                .isEmpty();
+    }
+
+    @Test
+    void mergesShapesNeedingTheSameIndex() {
+        QueryShape find = QueryShape.from("find", BsonDocument.parse("{find: 'c', filter: {a: 1}}"));
+        QueryShape count = QueryShape.from("count", BsonDocument.parse("{count: 'c', query: {a: 2}}"));
+
+        List<IndexAdvisor.Suggestion> suggestions = IndexAdvisor.suggest(
+                List.of(snapshot(find, 2, 4.0), snapshot(count, 3, 6.0)), Map.of());
+
+        assertThat(suggestions).hasSize(1);
+        assertThat(suggestions.get(0).calls()).isEqualTo(5);
+        assertThat(suggestions.get(0).totalMillis()).isEqualTo(10.0);
+        assertThat(suggestions.get(0).shapes()).hasSize(2);
+    }
+
+    private static ShapeSnapshot snapshot(QueryShape shape, long count, double totalMillis) {
+        return new ShapeSnapshot(shape, count, totalMillis, totalMillis / count, totalMillis, 0, 0);
+    }
+
+    private static Map<String, Integer> index(Object... keysAndDirections) {
+        Map<String, Integer> index = new LinkedHashMap<>();
+        for (int i = 0; i < keysAndDirections.length; i += 2) {
+            index.put((String) keysAndDirections[i], (Integer) keysAndDirections[i + 1]);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,44 @@
+package com.tobyresume.backend.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies and error count for one endpoint. Samples are kept raw (a run records at most a few
+ * hundred thousand) so percentiles are exact.
+ */
+final class LatencyStats {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+
+    synchronized void record(long nanos, boolean error) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        if (error) {
+            errors++;
+        }
+    }
+
+    synchronized Summary summarize(double durationSeconds) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return new Summary(count, errors, durationSeconds > 0 ? count / durationSeconds : 0,
+                percentileMs(sorted, 0.50), percentileMs(sorted, 0.90), percentileMs(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+    }
+
+    /** Nearest-rank percentile in milliseconds; 0 when there are no samples. */
+    static double percentileMs(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+
+    record Summary(long count, long errors, double throughput, double p50Ms, double p90Ms, double p99Ms,
+                   double maxMs) {}
+}
@@ -0,0 +1,80 @@
+package com.tobyresume.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load-test result as JSON (one file per run, named by label, e.g. the commit), plus comparison
+ * against an earlier result. Throughput regresses when it drops, p99 when it grows.
+ */
+final class LoadReport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final String label;
+    private final int concurrency;
+    private final double durationSeconds;
+    private final Map<String, LatencyStats.Summary> endpoints;
+
+    LoadReport(String label, int concurrency, double durationSeconds, Map<String, LatencyStats.Summary> endpoints) {
+        this.label = label;
+        this.concurrency = concurrency;
+        this.durationSeconds = durationSeconds;
+        this.endpoints = endpoints;
+    }
+
+    Path write(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("label", label);
+        root.put("recordedAt", Instant.now().toString());
+        root.put("concurrency", concurrency);
+        root.put("durationSeconds", durationSeconds);
+        root.put("endpoints", endpoints);
+        Path file = dir.resolve("loadtest-" + label + ".json");
+        MAPPER.writeValue(file.toFile(), root);
+        return file;
+    }
+
+    String table() {
+        StringBuilder sb = new StringBuilder(String.format("%-22s %8s %7s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms"));
+        endpoints.forEach((name, s) -> sb.append(String.format("%-22s %8d %7d %9.1f %9.2f %9.2f %9.2f%n",
+                name, s.count(), s.errors(), s.throughput(), s.p50Ms(), s.p99Ms(), s.maxMs())));
+        return sb.toString();
+    }
+
+    /**
+     * Returns one line per endpoint whose throughput or p99 regressed by more than maxRegression
+     * relative to the baseline file. Endpoints missing from the baseline are skipped.
+     */
+    List<String> compare(Path baselineFile, double maxRegression) throws IOException {
+        JsonNode baseline = MAPPER.readTree(baselineFile.toFile()).path("endpoints");
+        List<String> regressions = new ArrayList<>();
+        endpoints.forEach((name, now) -> {
+            JsonNode before = baseline.path(name);
+            if (before.isMissingNode()) {
+                return;
+            }
+            double rps = before.path("throughput").asDouble();
+            double p99 = before.path("p99Ms").asDouble();
+            if (rps > 0 && now.throughput() < rps * (1 - maxRegression)) {
+                regressions.add(String.format("%s throughput %.1f -> %.1f req/s", name, rps, now.throughput()));
+            }
+            if (p99 > 0 && now.p99Ms() > p99 * (1 + maxRegression)) {
+                regressions.add(String.format("%s p99 %.2f -> %.2f ms", name, p99, now.p99Ms()));
+            }
+        });
+        return regressions;
+    }
+}
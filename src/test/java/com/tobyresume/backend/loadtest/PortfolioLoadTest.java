@@ -0,0 +1,242 @@
+package com.tobyresume.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tobyresume.backend.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load test: boots the app on a random port against a throwaway Mongo container, seeds
+ * bilingual content through the admin API, publishes, then drives a weighted mix of public GraphQL
+ * and search traffic with admin reads and writes from loadtest.concurrency client threads. Logs
+ * p50/p90/p99 and throughput per endpoint and writes loadtest-&lt;label&gt;.json to loadtest.out.
+ *
+ * Run: mvn test -Dtest=PortfolioLoadTest -Dloadtest=true -Dloadtest.label=$(git rev-parse --short HEAD)
+ * Compare: add -Dloadtest.baseline=target/loadtest/loadtest-&lt;older&gt;.json (and optionally
+ * -Dloadtest.maxRegression=0.3 to fail on regressions). Rate limiting is disabled for the run.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@TestPropertySource(properties = {
+        "app.security.jwt.secret=test-jwt-secret-at-least-32-characters-long",
+        "app.security.oauth2.redirect-uri=http://localhost:3000/auth/callback",
+        "app.rate-limit.enabled=false",
+        "logging.level.com.tobyresume=WARN",
+        "logging.level.com.tobyresume.backend.loadtest=INFO"
+})
+class PortfolioLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PortfolioLoadTest.class);
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 16);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmupSeconds", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.durationSeconds", 30);
+    private static final int ITEMS = Integer.getInteger("loadtest.items", 20);
+    private static final String LABEL = System.getProperty("loadtest.label", "local");
+    private static final Path OUT = Paths.get(System.getProperty("loadtest.out", "target/loadtest"));
+
+    private static final String HOME_QUERY = "{\"query\":\"query($l: Locale) { hero(locale: $l) { fullName title tagline }"
+            + " experiences(locale: $l) { id company role bulletPoints techUsed }"
+            + " projects(locale: $l) { id title description techStack mediaUrls }"
+            + " skills(locale: $l) { name items { name level } } siteSettings { defaultLocale } }\","
+            + "\"variables\":{\"l\":\"%s\"}}";
+
+    @Container
+    static MongoDBContainer mongo = new MongoDBContainer("mongo:7");
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongo::getReplicaSetUrl);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private HttpClient client;
+    private String token;
+
+    @Test
+    void mixedPublicAndAdminWorkload() throws Exception {
+        client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        token = jwtTokenProvider.generateToken("loadtest", "Load Test", "github", "ADMIN");
+        seed();
+
+        Map<String, Endpoint> mix = new LinkedHashMap<>();
+        add(mix, "graphql-home-en", 35, () -> post("/graphql", HOME_QUERY.formatted("EN"), false));
+        add(mix, "graphql-home-vi", 15, () -> post("/graphql", HOME_QUERY.formatted("VI"), false));
+        add(mix, "public-search", 10, () -> get("/api/public/search?q=spring&locale=en", false));
+        add(mix, "admin-preview", 10, () -> get("/api/v1/preview?locale=vi", true));
+        add(mix, "admin-experiences", 10, () -> get("/api/v1/experiences", true));
+        add(mix, "admin-publish-status", 8, () -> get("/api/v1/publish/status", true));
+        add(mix, "admin-search", 7, () -> get("/api/v1/search?q=java&state=DRAFT", true));
+        add(mix, "admin-hero-update", 5, () -> put("/api/v1/hero", json(hero())));
+
+        run(mix, WARMUP_SECONDS, false);
+        double seconds = run(mix, DURATION_SECONDS, true);
+
+        Map<String, LatencyStats.Summary> summaries = new LinkedHashMap<>();
+        mix.forEach((name, e) -> summaries.put(name, e.stats().summarize(seconds)));
+        LoadReport report = new LoadReport(LABEL, CONCURRENCY, seconds, summaries);
+        log.info("Load test '{}' ({} clients, {}s):{}{}", LABEL, CONCURRENCY, Math.round(seconds),
+                System.lineSeparator(), report.table());
+        log.info("Result written to {}", report.write(OUT));
+
+        summaries.forEach((name, s) -> assertThat(s.errors()).as("errors on " + name).isZero());
+        String baseline = System.getProperty("loadtest.baseline");
+        if (baseline != null) {
+            List<String> regressions = report.compare(Paths.get(baseline),
+                    Double.parseDouble(System.getProperty("loadtest.maxRegression", "1e9")));
+            regressions.forEach(r -> log.warn("Regression: {}", r));
+            assertThat(regressions).isEmpty();
+        }
+    }
+
+    /** Runs the mix for the given time; records only when measure is true. Returns elapsed seconds. */
+    private double run(Map<String, Endpoint> mix, int seconds, boolean measure) throws InterruptedException {
+        List<Endpoint> endpoints = new ArrayList<>(mix.values());
+        int totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+        long start = System.nanoTime();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            workers.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    Endpoint e = pick(endpoints, totalWeight);
+                    long t0 = System.nanoTime();
+                    boolean error;
+                    try {
+                        error = client.send(e.request().get(), HttpResponse.BodyHandlers.discarding()).statusCode() >= 400;
+                    } catch (Exception ex) {
+                        error = true;
+                    }
+                    if (measure) {
+                        e.stats().record(System.nanoTime() - t0, error);
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+        return (System.nanoTime() - start) / 1e9;
+    }
+
+    private static Endpoint pick(List<Endpoint> endpoints, int totalWeight) {
+        int r = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Endpoint e : endpoints) {
+            r -= e.weight();
+            if (r < 0) {
+                return e;
+            }
+        }
+        return endpoints.get(endpoints.size() - 1);
+    }
+
+    private void seed() throws Exception {
+        send(put("/api/v1/hero", json(hero())));
+        for (int i = 0; i < ITEMS; i++) {
+            send(post("/api/v1/experiences", json(Map.of(
+                    "company", bilingual("Company " + i, "Công ty " + i),
+                    "role", bilingual("Java Spring developer", "Lập trình viên Java Spring"),
+                    "startDate", "2020-01",
+                    "bulletPoints", Map.of(
+                            "en", List.of("Built REST and GraphQL APIs on Spring Boot", "Tuned MongoDB queries"),
+                            "vi", List.of("Xây dựng API REST và GraphQL với Spring Boot", "Tối ưu truy vấn MongoDB")),
+                    "techUsed", List.of("Java", "Spring Boot", "MongoDB"))), true));
+            send(post("/api/v1/projects", json(Map.of(
+                    "title", bilingual("Project " + i, "Dự án " + i),
+                    "description", bilingual("Portfolio CMS with Spring and React", "CMS hồ sơ với Spring và React"),
+                    "techStack", List.of("Java", "React"))), true));
+            send(post("/api/v1/skills", json(Map.of(
+                    "name", bilingual("Category " + i, "Nhóm " + i),
+                    "items", List.of(Map.of("name", "Spring", "level", "Expert"), Map.of("name", "Java"))
+            )), true));
+        }
+        send(post("/api/v1/publish", "{\"label\":\"loadtest\"}", true));
+    }
+
+    private Map<String, Object> hero() {
+        return Map.of(
+                "fullName", bilingual("Toby", "Toby"),
+                "title", bilingual("Backend engineer", "Kỹ sư backend"),
+                "tagline", bilingual("Building reliable systems", "Xây dựng hệ thống tin cậy"),
+                "bio", bilingual("Java and Spring developer.", "Lập trình viên Java và Spring."));
+    }
+
+    private static Map<String, String> bilingual(String en, String vi) {
+        return Map.of("en", en, "vi", vi);
+    }
+
+    private void send(HttpRequest request) throws Exception {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).as(request.method() + " " + request.uri() + ": " + response.body())
+                .isLessThan(400);
+    }
+
+    private HttpRequest get(String path, boolean admin) {
+        return builder(path, admin).GET().build();
+    }
+
+    private HttpRequest post(String path, String body, boolean admin) {
+        return builder(path, admin).POST(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private HttpRequest put(String path, String body) {
+        return builder(path, true).PUT(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    private HttpRequest.Builder builder(String path, boolean admin) {
+        HttpRequest.Builder b = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+        return admin ? b.header("Authorization", "Bearer " + token) : b;
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void add(Map<String, Endpoint> mix, String name, int weight, Supplier<HttpRequest> request) {
+        mix.put(name, new Endpoint(weight, request, new LatencyStats()));
+    }
+
+    private record Endpoint(int weight, Supplier<HttpRequest> request, LatencyStats stats) {}
+}
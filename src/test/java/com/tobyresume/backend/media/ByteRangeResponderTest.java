@@ -0,0 +1,58 @@
+package com.tobyresume.backend.media;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ByteRangeResponderTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void largeRange_isHandedToSendfileWhenSupported() throws IOException {
+        Path file = write((int) ByteRangeResponder.SENDFILE_MIN_SIZE * 2);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/public/media/x");
+        request.setAttribute(ByteRangeResponder.SENDFILE_SUPPORT, Boolean.TRUE);
+        request.addHeader("Range", "bytes=100-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ByteRangeResponder.send(file, "image/png", "abc", "public", request, response);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentLengthLong()).isEqualTo(ByteRangeResponder.SENDFILE_MIN_SIZE * 2 - 100);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute(ByteRangeResponder.SENDFILE_FILENAME)).isEqualTo(file.toAbsolutePath().toString());
+        assertThat(request.getAttribute(ByteRangeResponder.SENDFILE_START)).isEqualTo(100L);
+        assertThat(request.getAttribute(ByteRangeResponder.SENDFILE_END)).isEqualTo(ByteRangeResponder.SENDFILE_MIN_SIZE * 2);
+    }
+
+    @Test
+    void withoutSendfileSupport_bodyIsStreamed() throws IOException {
+        Path file = write((int) ByteRangeResponder.SENDFILE_MIN_SIZE * 2);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/public/media/x");
+        request.addHeader("Range", "bytes=0-9");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ByteRangeResponder.send(file, "image/png", "abc", "public", request, response);
+
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOf(Files.readAllBytes(file), 10));
+        assertThat(request.getAttribute(ByteRangeResponder.SENDFILE_FILENAME)).isNull();
+    }
+
+    private Path write(int size) throws IOException {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) i;
+        }
+        return Files.write(dir.resolve("media.bin"), bytes);
+    }
+}
@@ -0,0 +1,94 @@
+package com.tobyresume.backend.media;
+
+import com.tobyresume.backend.common.exception.ValidationException;
+import com.tobyresume.backend.config.MediaProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MediaStorageTest {
+
+    private static final byte[] PNG_HEADER = { (byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 13 };
+
+    @TempDir
+    Path root;
+
+    private MediaStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        MediaProperties properties = new MediaProperties();
+        properties.setStorageDir(root.toString());
+        storage = new MediaStorage(properties);
+    }
+
+    @Test
+    void stage_detectsFormat_andHashesContent() throws Exception {
+        byte[] content = png(200_000);
+
+        MediaStorage.StagedUpload staged = storage.stage(new ByteArrayInputStream(content), 1_000_000);
+
+        assertThat(staged.format()).isEqualTo(ImageFormat.PNG);
+        assertThat(staged.sizeBytes()).isEqualTo(content.length);
+        assertThat(staged.sha256()).hasSize(64);
+        assertThat(Files.readAllBytes(staged.tmpFile())).isEqualTo(content);
+    }
+
+    @Test
+    void commit_sameContentTwice_keepsOneFile() throws Exception {
+        byte[] content = png(1_000);
+        MediaStorage.StagedUpload first = storage.stage(new ByteArrayInputStream(content), 10_000);
+        MediaStorage.StagedUpload second = storage.stage(new ByteArrayInputStream(content), 10_000);
+
+        Path a = storage.commit(first);
+        Path b = storage.commit(second);
+
+        assertThat(a).isEqualTo(b).exists();
+        assertThat(second.tmpFile()).doesNotExist();
+        assertThat(a.toString()).contains("originals").endsWith(first.sha256());
+    }
+
+    @Test
+    void stage_rejectsUnknownFormat_andCleansUp() throws Exception {
+        byte[] svg = "<svg xmlns=\"http://www.w3.org/2000/svg\"/>".getBytes();
+
+        assertThatThrownBy(() -> storage.stage(new ByteArrayInputStream(svg), 10_000))
+                .isInstanceOf(ValidationException.class);
+        try (var files = Files.list(root.resolve("tmp"))) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void stage_rejectsOversizedUpload() {
+        assertThatThrownBy(() -> storage.stage(new ByteArrayInputStream(png(200_000)), 100_000))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("maximum size");
+    }
+
+    @Test
+    void parseRange_handlesSingleSuffixAndInvalidRanges() {
+        assertThat(ByteRangeResponder.parseRange("bytes=0-99", 1000)).containsExactly(0, 99);
+        assertThat(ByteRangeResponder.parseRange("bytes=900-", 1000)).containsExactly(900, 999);
+        assertThat(ByteRangeResponder.parseRange("bytes=-100", 1000)).containsExactly(900, 999);
+        assertThat(ByteRangeResponder.parseRange("bytes=0-5000", 1000)).containsExactly(0, 999);
+        assertThat(ByteRangeResponder.parseRange("bytes=1000-", 1000)).isNull();
+        assertThat(ByteRangeResponder.parseRange("bytes=0-1,5-9", 1000)).isEmpty();
+        assertThat(ByteRangeResponder.parseRange("items=0-1", 1000)).isEmpty();
+    }
+
+    private static byte[] png(int size) {
+        byte[] content = new byte[size];
+        Arrays.fill(content, (byte) 7);
+        System.arraycopy(PNG_HEADER, 0, content, 0, PNG_HEADER.length);
+        return content;
+    }
+}
@@ -0,0 +1,108 @@
+package com.tobyresume.backend.media;
+
+import com.tobyresume.backend.config.MediaProperties;
+import com.tobyresume.backend.media.MediaUrlResolver.ResolvedMedia;
+import com.tobyresume.backend.media.model.MediaAsset;
+import com.tobyresume.backend.media.model.MediaStatus;
+import com.tobyresume.backend.media.model.MediaVariant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MediaUrlResolverTest {
+
+    @Mock
+    private MediaRepository repository;
+
+    private MediaUrlResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new MediaUrlResolver(repository, new MediaProperties());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void resolveAll_usesOneBatchedLookup_andCachesReadyAssets() {
+        when(repository.findAllById(any())).thenReturn(List.of(
+                asset("a", MediaStatus.READY), asset("b", MediaStatus.READY)));
+
+        Map<String, ResolvedMedia> first = resolver.resolveAll(List.of("a", "b", "a", "missing"));
+        Map<String, ResolvedMedia> second = resolver.resolveAll(List.of("b", "a"));
+
+        ArgumentCaptor<Iterable<String>> ids = ArgumentCaptor.forClass(Iterable.class);
+        verify(repository, times(1)).findAllById(ids.capture());
+        assertThat(ids.getValue()).containsExactly("a", "b", "missing");
+        assertThat(first).containsOnlyKeys("a", "b");
+        assertThat(second.get("a")).isSameAs(first.get("a"));
+    }
+
+    @Test
+    void resolveAll_buildsUrlVariantsAndSrcset() {
+        MediaAsset asset = asset("a", MediaStatus.READY);
+        asset.getVariants().put("medium", new MediaVariant(1024, 768, 100, "image/jpeg"));
+        asset.getVariants().put("thumb", new MediaVariant(320, 240, 10, "image/jpeg"));
+        when(repository.findAllById(any())).thenReturn(List.of(asset));
+
+        ResolvedMedia media = resolver.resolve("a");
+
+        assertThat(media.url()).isEqualTo("http://localhost:8080/api/public/media/a");
+        assertThat(media.variants()).extracting(MediaUrlResolver.ResolvedVariant::name).containsExactly("thumb", "medium");
+        assertThat(media.srcset()).isEqualTo("http://localhost:8080/api/public/media/a?variant=thumb 320w, "
+                + "http://localhost:8080/api/public/media/a?variant=medium 1024w, "
+                + "http://localhost:8080/api/public/media/a 2048w");
+    }
+
+    @Test
+    void resolveAll_buildsUrlsOnConfiguredPublicBaseUrl() {
+        MediaProperties properties = new MediaProperties();
+        properties.setPublicBaseUrl("https://api.example.com/");
+        MediaUrlResolver configured = new MediaUrlResolver(repository, properties);
+        when(repository.findAllById(any())).thenReturn(List.of(asset("a", MediaStatus.READY)));
+
+        assertThat(configured.resolve("a").url()).isEqualTo("https://api.example.com/api/public/media/a");
+    }
+
+    @Test
+    void resolveAll_processingAssetsAreNotCached() {
+        when(repository.findAllById(any())).thenReturn(List.of(asset("a", MediaStatus.PROCESSING)));
+
+        resolver.resolve("a");
+        resolver.resolve("a");
+
+        verify(repository, times(2)).findAllById(any());
+    }
+
+    @Test
+    void resolveAll_passesThroughUrls_withoutLookup() {
+        Map<String, ResolvedMedia> resolved = resolver.resolveAll(List.of("https://cdn.example.com/p.png"));
+
+        assertThat(resolved.get("https://cdn.example.com/p.png").url()).isEqualTo("https://cdn.example.com/p.png");
+        verifyNoMoreInteractions(repository);
+    }
+
+    private static MediaAsset asset(String id, MediaStatus status) {
+        MediaAsset asset = new MediaAsset();
+        asset.setId(id);
+        asset.setSha256("ab" + id);
+        asset.setContentType("image/jpeg");
+        asset.setWidth(2048);
+        asset.setHeight(1536);
+        asset.setStatus(status);
+        return asset;
+    }
+}
@@ -0,0 +1,140 @@
+package com.tobyresume.backend.pdf;
+
+import com.tobyresume.backend.common.exception.ResourceNotFoundException;
+import com.tobyresume.backend.common.exception.ValidationException;
+import com.tobyresume.backend.publish.PublishRepository;
+import com.tobyresume.backend.publish.model.VersionSnapshot;
+import com.tobyresume.backend.settings.SettingsService;
+import com.tobyresume.backend.settings.dto.SiteSettingsResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CvPdfServiceTest {
+
+    @Mock
+    private CvPdfRenderer renderer;
+
+    @Mock
+    private PublishRepository publishRepository;
+
+    @Mock
+    private SettingsService settingsService;
+
+    @TempDir
+    Path cacheDir;
+
+    private CvPdfService service;
+
+    @BeforeEach
+    void setUp() {
+        SiteSettingsResponse settings = new SiteSettingsResponse();
+        settings.setSupportedLocales(new String[] { "en", "vi" });
+        settings.setDefaultLocale("en");
+        settings.setPdfSectionVisibility(Map.of("hero", true, "socialLinks", false));
+        lenient().when(settingsService.getOrCreate()).thenReturn(settings);
+        lenient().when(renderer.templateId()).thenReturn("test-template");
+        lenient().doAnswer(inv -> {
+            OutputStream out = inv.getArgument(2);
+            out.write(("%PDF " + inv.getArgument(0)).getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(renderer).render(any(), anyMap(), any());
+        service = new CvPdfService(renderer, publishRepository, settingsService, cacheDir.toString());
+    }
+
+    @Test
+    void getOrRender_rendersOnce_thenServesFromDisk() throws Exception {
+        publishedVersion("v1");
+
+        CvPdfService.CvFile first = service.getOrRender("en");
+        CvPdfService.CvFile second = service.getOrRender("en");
+
+        assertThat(second.path()).isEqualTo(first.path());
+        assertThat(Files.readString(first.path())).isEqualTo("%PDF en");
+        verify(renderer, times(1)).render(eq("en"), anyMap(), any());
+    }
+
+    @Test
+    void getOrRender_newVersion_changesKey() {
+        publishedVersion("v1");
+        String v1Key = service.getOrRender(null).key();
+        publishedVersion("v2");
+
+        CvPdfService.CvFile v2 = service.getOrRender(null);
+
+        assertThat(v2.key()).isNotEqualTo(v1Key);
+        assertThat(v2.locale()).isEqualTo("en");
+        verify(renderer, times(2)).render(eq("en"), anyMap(), any());
+    }
+
+    @Test
+    void getOrRender_beforeFirstPublish_throwsNotFound() {
+        when(publishRepository.findTop1ByOrderByPublishedAtDesc()).thenReturn(List.of());
+
+        assertThatThrownBy(() -> service.getOrRender("en")).isInstanceOf(ResourceNotFoundException.class);
+        verify(renderer, never()).render(any(), anyMap(), any());
+    }
+
+    @Test
+    void getOrRender_unsupportedLocale_throwsValidation() {
+        assertThatThrownBy(() -> service.getOrRender("fr")).isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void prewarm_rendersAllLocales_andEvictsOldVersions() throws Exception {
+        Path stale = Files.writeString(cacheDir.resolve("stale.pdf"), "old");
+        publishedVersion("v3");
+
+        service.prewarm("v3");
+
+        verify(renderer).render(eq("en"), anyMap(), any());
+        verify(renderer).render(eq("vi"), anyMap(), any());
+        assertThat(stale).doesNotExist();
+        try (var files = Files.list(cacheDir)) {
+            assertThat(files.filter(f -> f.toString().endsWith(".pdf")).count()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void cacheKey_ignoresVisibilityMapOrder() {
+        Map<String, Boolean> original = new LinkedHashMap<>();
+        original.put("hero", true);
+        original.put("skills", false);
+        Map<String, Boolean> reordered = new LinkedHashMap<>();
+        reordered.put("skills", false);
+        reordered.put("hero", true);
+
+        assertThat(service.cacheKey("v1", "en", reordered)).isEqualTo(service.cacheKey("v1", "en", original));
+        assertThat(service.cacheKey("v1", "vi", original)).isNotEqualTo(service.cacheKey("v1", "en", original));
+    }
+
+    private void publishedVersion(String id) {
+        VersionSnapshot snapshot = new VersionSnapshot();
+        snapshot.setId(id);
+        lenient().when(publishRepository.findTop1ByOrderByPublishedAtDesc()).thenReturn(List.of(snapshot));
+    }
+}
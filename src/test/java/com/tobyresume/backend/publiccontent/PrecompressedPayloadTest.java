@@ -0,0 +1,48 @@
+package com.tobyresume.backend.publiccontent;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrecompressedPayloadTest {
+
+    @Test
+    void gzipRoundTripsToIdentity() throws IOException {
+        byte[] json = "{\"success\":true,\"data\":{\"items\":[\"a\",\"a\",\"a\",\"a\",\"a\",\"a\"]}}"
+                .repeat(20).getBytes(StandardCharsets.UTF_8);
+
+        PrecompressedPayload payload = PrecompressedPayload.of(json, "v1:t1");
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(payload.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(json);
+        }
+        assertThat(payload.gzip().length).isLessThan(json.length);
+        assertThat(payload.stamp()).isEqualTo("v1:t1");
+    }
+
+    @Test
+    void etagDependsOnContent() {
+        byte[] a = "{\"a\":1}".getBytes(StandardCharsets.UTF_8);
+        byte[] b = "{\"a\":2}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(PrecompressedPayload.of(a, "s").etag()).isEqualTo(PrecompressedPayload.of(a, "other").etag());
+        assertThat(PrecompressedPayload.of(a, "s").etag()).isNotEqualTo(PrecompressedPayload.of(b, "s").etag());
+    }
+
+    @Test
+    void acceptsGzipHonoursQualityAndWildcard() {
+        assertThat(PrecompressedPayload.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(PrecompressedPayload.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(PrecompressedPayload.acceptsGzip("*")).isTrue();
+        assertThat(PrecompressedPayload.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(PrecompressedPayload.acceptsGzip("*;q=0, gzip")).isTrue();
+        assertThat(PrecompressedPayload.acceptsGzip("br, deflate")).isFalse();
+        assertThat(PrecompressedPayload.acceptsGzip("identity")).isFalse();
+        assertThat(PrecompressedPayload.acceptsGzip(null)).isFalse();
+    }
+}
@@ -0,0 +1,77 @@
+package com.tobyresume.backend.publiccontent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tobyresume.backend.graphql.ContentGraphQLController;
+import com.tobyresume.backend.publish.ContentPublishedEvent;
+import com.tobyresume.backend.publish.PublishRepository;
+import com.tobyresume.backend.settings.SettingsChangedEvent;
+import com.tobyresume.backend.settings.SettingsService;
+import com.tobyresume.backend.settings.dto.SiteSettingsResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PublicContentServiceTest {
+
+    private final ContentGraphQLController content = mock(ContentGraphQLController.class);
+    private final PublishRepository publishRepository = mock(PublishRepository.class);
+    private final SettingsService settingsService = mock(SettingsService.class);
+
+    @BeforeEach
+    void setUp() {
+        SiteSettingsResponse settings = new SiteSettingsResponse();
+        settings.setDefaultLocale("en");
+        settings.setUpdatedAt(Instant.parse("2026-01-01T00:00:00Z"));
+        when(settingsService.getOrCreate()).thenReturn(settings);
+        when(publishRepository.findFirstByOrderByPublishedAtDesc()).thenReturn(() -> "v1");
+    }
+
+    private PublicContentService service(Duration ttl) {
+        return new PublicContentService(content, publishRepository, settingsService, new ObjectMapper(), ttl);
+    }
+
+    @Test
+    void repeatedGets_readStampOnce() {
+        PublicContentService service = service(Duration.ofMinutes(5));
+
+        PrecompressedPayload first = service.get("hero", "en");
+        PrecompressedPayload second = service.get("hero", null);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.stamp()).isEqualTo("v1:2026-01-01T00:00:00Z");
+        verify(settingsService, times(1)).getOrCreate();
+        verify(publishRepository, times(1)).findFirstByOrderByPublishedAtDesc();
+    }
+
+    @Test
+    void publishAndSettingsEvents_invalidateStamp() {
+        PublicContentService service = service(Duration.ofMinutes(5));
+        service.get("hero", "en");
+
+        when(publishRepository.findFirstByOrderByPublishedAtDesc()).thenReturn(() -> "v2");
+        service.onContentPublished(new ContentPublishedEvent("v2", Instant.now()));
+        assertThat(service.get("hero", "en").stamp()).startsWith("v2:");
+
+        service.onSettingsChanged(new SettingsChangedEvent());
+        service.get("hero", "en");
+        verify(settingsService, times(3)).getOrCreate();
+    }
+
+    @Test
+    void expiredStamp_isReloaded() {
+        PublicContentService service = service(Duration.ZERO);
+
+        service.get("hero", "en");
+        service.get("hero", "en");
+
+        verify(publishRepository, times(2)).findFirstByOrderByPublishedAtDesc();
+    }
+}
@@ -0,0 +1,89 @@
+package com.tobyresume.backend.publiccontent;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tobyresume.backend.config.StaticExportProperties;
+import com.tobyresume.backend.publish.PublishRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StaticExportServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private final PublicContentService publicContentService = mock(PublicContentService.class);
+    private final PublishRepository publishRepository = mock(PublishRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private StaticExportService service;
+
+    @BeforeEach
+    void setUp() {
+        StaticExportProperties properties = new StaticExportProperties();
+        properties.setEnabled(true);
+        properties.setDir(dir.toString());
+        properties.setKeepVersions(2);
+        service = new StaticExportService(publicContentService, publishRepository, properties, objectMapper);
+        when(publicContentService.get(anyString(), anyString())).thenAnswer(inv -> PrecompressedPayload.of(
+                ("{\"section\":\"" + inv.getArgument(0) + "\"}").getBytes(StandardCharsets.UTF_8), "s"));
+        when(publishRepository.findById(anyString())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void writesVersionFilesAndManifest() throws IOException {
+        latest("v1");
+
+        service.export("v1");
+
+        assertThat(Files.readString(dir.resolve("v1/en/hero.json"))).isEqualTo("{\"section\":\"hero\"}");
+        assertThat(dir.resolve("v1/vi/landing.json.gz")).isRegularFile();
+        JsonNode manifest = objectMapper.readTree(dir.resolve("manifest.json").toFile());
+        assertThat(manifest.get("latest").asText()).isEqualTo("v1");
+        assertThat(manifest.at("/versions/0/files/en/landing").asText()).isEqualTo("v1/en/landing.json");
+    }
+
+    @Test
+    void keepsOnlyConfiguredNumberOfVersions() throws IOException {
+        for (String version : new String[] {"v1", "v2", "v3"}) {
+            latest(version);
+            service.export(version);
+        }
+
+        JsonNode manifest = objectMapper.readTree(dir.resolve("manifest.json").toFile());
+        assertThat(manifest.get("latest").asText()).isEqualTo("v3");
+        assertThat(manifest.get("versions")).hasSize(2);
+        assertThat(manifest.at("/versions/1/versionId").asText()).isEqualTo("v2");
+        assertThat(dir.resolve("v1")).doesNotExist();
+        assertThat(dir.resolve("v2")).isDirectory();
+    }
+
+    @Test
+    void skipsVersionThatIsNoLongerLatest() {
+        latest("v2");
+
+        service.export("v1");
+
+        assertThat(dir.resolve("v1")).doesNotExist();
+        assertThat(dir.resolve("manifest.json")).doesNotExist();
+        verify(publicContentService, never()).get(anyString(), anyString());
+    }
+
+    private void latest(String versionId) {
+        when(publishRepository.findFirstByOrderByPublishedAtDesc()).thenReturn(() -> versionId);
+    }
+}
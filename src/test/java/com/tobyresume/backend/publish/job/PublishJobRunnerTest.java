@@ -0,0 +1,158 @@
+package com.tobyresume.backend.publish.job;
+
+import com.tobyresume.backend.config.PublishJobProperties;
+import com.tobyresume.backend.publish.job.model.PublishJob;
+import com.tobyresume.backend.publish.job.model.PublishJobStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PublishJobRunnerTest {
+
+    @Mock
+    private PublishJobRepository repository;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final FlakyTask task = new FlakyTask();
+    private PublishJobRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        PublishJobProperties properties = new PublishJobProperties();
+        properties.setMaxAttempts(2);
+        properties.setRetryBackoff(Duration.ofSeconds(10));
+        runner = new PublishJobRunner(repository, properties, List.of(task), registry);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        runner.shutdown();
+    }
+
+    @Test
+    void runJob_success_marksSucceeded() {
+        PublishJob job = pendingJob();
+        when(repository.findById("job-1")).thenReturn(Optional.of(job));
+        when(repository.save(any(PublishJob.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        runner.runJob("job-1");
+
+        assertThat(job.getStatus()).isEqualTo(PublishJobStatus.SUCCEEDED);
+        assertThat(job.getAttempts()).isEqualTo(1);
+        assertThat(job.getFinishedAt()).isNotNull();
+        assertThat(task.runs.get()).isEqualTo(1);
+        assertThat(registry.counter("publish.jobs", "task", "flaky", "outcome", "succeeded").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void runJob_failure_schedulesRetryWithBackoff_thenFailsAfterMaxAttempts() {
+        task.failuresLeft.set(5);
+        PublishJob job = pendingJob();
+        when(repository.findById("job-1")).thenReturn(Optional.of(job));
+        when(repository.save(any(PublishJob.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        runner.runJob("job-1");
+
+        assertThat(job.getStatus()).isEqualTo(PublishJobStatus.PENDING);
+        assertThat(job.getNextAttemptAt()).isAfter(Instant.now().plusSeconds(5));
+        assertThat(job.getLastError()).contains("boom");
+
+        runner.runJob("job-1");
+
+        assertThat(job.getStatus()).isEqualTo(PublishJobStatus.FAILED);
+        assertThat(job.getAttempts()).isEqualTo(2);
+        assertThat(registry.counter("publish.jobs", "task", "flaky", "outcome", "retried").count()).isEqualTo(1.0);
+        assertThat(registry.counter("publish.jobs", "task", "flaky", "outcome", "failed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void runJob_skipsJobsNotPending() {
+        PublishJob job = pendingJob();
+        job.setStatus(PublishJobStatus.SUCCEEDED);
+        when(repository.findById("job-1")).thenReturn(Optional.of(job));
+
+        runner.runJob("job-1");
+
+        assertThat(task.runs.get()).isZero();
+    }
+
+    @Test
+    void sweep_staleRunningJob_isRequeuedOrFailedByAttempts() {
+        PublishJob retryable = staleRunningJob("job-1", 1);
+        PublishJob exhausted = staleRunningJob("job-2", 2);
+        when(repository.findByStatusAndStartedAtBefore(eq(PublishJobStatus.RUNNING), any(Instant.class)))
+                .thenReturn(List.of(retryable, exhausted));
+        when(repository.save(any(PublishJob.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        runner.sweep();
+
+        assertThat(retryable.getStatus()).isEqualTo(PublishJobStatus.PENDING);
+        assertThat(exhausted.getStatus()).isEqualTo(PublishJobStatus.FAILED);
+        assertThat(exhausted.getFinishedAt()).isNotNull();
+        assertThat(exhausted.getLastError()).contains("Abandoned");
+        assertThat(registry.counter("publish.jobs", "task", "flaky", "outcome", "failed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void duplicateTaskNames_areRejected() {
+        assertThatThrownBy(() -> new PublishJobRunner(repository, new PublishJobProperties(),
+                List.of(task, new FlakyTask()), new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static PublishJob staleRunningJob(String id, int attempts) {
+        PublishJob job = pendingJob();
+        job.setId(id);
+        job.setStatus(PublishJobStatus.RUNNING);
+        job.setAttempts(attempts);
+        job.setStartedAt(Instant.now().minus(Duration.ofHours(1)));
+        return job;
+    }
+
+    private static PublishJob pendingJob() {
+        PublishJob job = new PublishJob();
+        job.setId("job-1");
+        job.setVersionId("v1");
+        job.setTask("flaky");
+        job.setStatus(PublishJobStatus.PENDING);
+        job.setMaxAttempts(2);
+        job.setCreatedAt(Instant.now());
+        job.setNextAttemptAt(Instant.now());
+        return job;
+    }
+
+    private static final class FlakyTask implements PostPublishTask {
+        final AtomicInteger runs = new AtomicInteger();
+        final AtomicInteger failuresLeft = new AtomicInteger();
+
+        @Override
+        public String name() {
+            return "flaky";
+        }
+
+        @Override
+        public void run(String versionId) {
+            if (failuresLeft.getAndDecrement() > 0) {
+                throw new IllegalStateException("boom");
+            }
+            runs.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.tobyresume.backend.search;
+
+import com.tobyresume.backend.common.model.ContentState;
+import com.tobyresume.backend.content.experience.model.ExperienceItem;
+import com.tobyresume.backend.content.experience.model.WorkExperience;
+import com.tobyresume.backend.content.project.model.Project;
+import com.tobyresume.backend.content.project.model.ProjectItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ContentSearchIndexTest {
+
+    private ContentSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ContentSearchIndex(null);
+        index.update(projects("p-draft", ContentState.DRAFT,
+                project("graphql", "GraphQL gateway", "Schema stitching for microservices", List.of("Kotlin"), true),
+                project("hidden", "Kubernetes operator", "Internal tooling", List.of("Go"), false)));
+        index.update(projects("p-pub", ContentState.PUBLISHED,
+                project("graphql", "GraphQL gateway", "Schema stitching", List.of("Kotlin"), true),
+                project("hidden", "Kubernetes operator", "Internal tooling", List.of("Go"), false)));
+        WorkExperience experience = new WorkExperience();
+        experience.setId("e-draft");
+        experience.setContentState(ContentState.DRAFT);
+        ExperienceItem item = new ExperienceItem();
+        item.setItemId("acme");
+        item.setRole(Map.of("en", "Backend engineer", "vi", "Kỹ sư backend"));
+        item.setCompany(Map.of("en", "Acme"));
+        item.setBulletPoints(Map.of("en", List.of("Migrated payments to Kotlin")));
+        experience.setItems(List.of(item));
+        index.update(experience);
+    }
+
+    @Test
+    void search_matchesExactPrefixAndFuzzy() {
+        assertThat(ids(index.search("graphql", ContentState.DRAFT, false, 10))).containsExactly("graphql");
+        assertThat(ids(index.search("kube", ContentState.DRAFT, false, 10))).containsExactly("hidden");
+        assertThat(ids(index.search("kubernets", ContentState.DRAFT, false, 10))).containsExactly("hidden");
+        assertThat(ids(index.search("ky su", ContentState.DRAFT, false, 10))).containsExactly("acme");
+    }
+
+    @Test
+    void search_requiresEveryTerm_andRanksTitlesFirst() {
+        assertThat(ids(index.search("kotlin", ContentState.DRAFT, false, 10))).containsExactly("graphql", "acme");
+        assertThat(ids(index.search("kotlin payments", ContentState.DRAFT, false, 10))).containsExactly("acme");
+    }
+
+    @Test
+    void search_isScopedToState_andPublicDropsHiddenProjects() {
+        assertThat(ids(index.search("microservices", ContentState.PUBLISHED, false, 10))).isEmpty();
+        assertThat(ids(index.search("kubernetes", ContentState.PUBLISHED, false, 10))).containsExactly("hidden");
+        assertThat(ids(index.search("kubernetes", ContentState.PUBLISHED, true, 10))).isEmpty();
+    }
+
+    @Test
+    void update_replacesSegment_andRemoveDropsIt() {
+        index.update(projects("p-draft", ContentState.DRAFT,
+                project("graphql", "REST gateway", "Rewritten", List.of(), true)));
+
+        assertThat(index.search("graphql", ContentState.DRAFT, false, 10)).isEmpty();
+        assertThat(ids(index.search("rest", ContentState.DRAFT, false, 10))).containsExactly("graphql");
+
+        index.remove("p-draft");
+        assertThat(index.search("rest", ContentState.DRAFT, false, 10)).isEmpty();
+    }
+
+    @Test
+    void reload_discardsReadThatRacedAnUpdate_andReReads() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        ContentSearchIndex racing = new ContentSearchIndex(mongoTemplate);
+        Project stale = projects("p-draft", ContentState.DRAFT, project("graphql", "GraphQL gateway", "Old", List.of(), true));
+        Project fresh = projects("p-draft", ContentState.DRAFT, project("graphql", "REST gateway", "New", List.of(), true));
+        AtomicInteger reads = new AtomicInteger();
+        when(mongoTemplate.findAll(Project.class)).thenAnswer(inv -> {
+            if (reads.incrementAndGet() == 1) {
+                racing.update(fresh); // saved while the first read was in flight
+                return List.of(stale);
+            }
+            return List.of(fresh);
+        });
+
+        racing.reload(Project.class);
+
+        assertThat(reads.get()).isEqualTo(2);
+        assertThat(racing.search("graphql", ContentState.DRAFT, false, 10)).isEmpty();
+        assertThat(ids(racing.search("rest", ContentState.DRAFT, false, 10))).containsExactly("graphql");
+    }
+
+    @Test
+    void reload_racedOnEveryAttempt_appliesLastRead_andKeepsTheRacingUpdates() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        ContentSearchIndex racing = new ContentSearchIndex(mongoTemplate);
+        Project stale = projects("p-draft", ContentState.DRAFT, project("graphql", "GraphQL gateway", "Old", List.of(), true));
+        Project fresh = projects("p-draft", ContentState.DRAFT, project("graphql", "REST gateway", "New", List.of(), true));
+        Project published = projects("p-pub", ContentState.PUBLISHED, project("cli", "Resume CLI", "Bulk", List.of(), true));
+        AtomicInteger reads = new AtomicInteger();
+        when(mongoTemplate.findAll(Project.class)).thenAnswer(inv -> {
+            reads.incrementAndGet();
+            racing.update(fresh); // a save lands during every read
+            return List.of(stale, published);
+        });
+
+        racing.reload(Project.class);
+
+        assertThat(reads.get()).isEqualTo(3);
+        assertThat(ids(racing.search("cli", ContentState.PUBLISHED, false, 10))).containsExactly("cli");
+        assertThat(racing.search("graphql", ContentState.DRAFT, false, 10)).isEmpty();
+        assertThat(ids(racing.search("rest", ContentState.DRAFT, false, 10))).containsExactly("graphql");
+    }
+
+    @Test
+    void withinEdits_boundsLevenshteinDistance() {
+        assertThat(ContentSearchIndex.withinEdits("kotlin", "kotlon", 1)).isTrue();
+        assertThat(ContentSearchIndex.withinEdits("kotlin", "kolton", 1)).isFalse();
+        assertThat(ContentSearchIndex.withinEdits("typescript", "typscrpt", 2)).isTrue();
+    }
+
+    private static List<String> ids(List<ContentSearchIndex.Hit> hits) {
+        return hits.stream().map(h -> h.document().itemId()).toList();
+    }
+
+    private static Project projects(String id, ContentState state, ProjectItem... items) {
+        Project project = new Project();
+        project.setId(id);
+        project.setContentState(state);
+        project.setItems(List.of(items));
+        return project;
+    }
+
+    private static ProjectItem project(String id, String title, String description, List<String> tech, boolean visible) {
+        ProjectItem item = new ProjectItem();
+        item.setItemId(id);
+        item.setTitle(Map.of("en", title));
+        item.setDescription(Map.of("en", description));
+        item.setTechStack(tech);
+        item.setVisible(visible);
+        return item;
+    }
+}
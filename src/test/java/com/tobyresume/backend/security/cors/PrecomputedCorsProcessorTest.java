@@ -0,0 +1,117 @@
+package com.tobyresume.backend.security.cors;
+
+import com.tobyresume.backend.common.util.VaryHeaders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.cors.CorsConfiguration;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrecomputedCorsProcessorTest {
+
+    private CorsConfiguration config;
+    private SimpleMeterRegistry registry;
+    private PrecomputedCorsProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        config = new CorsConfiguration();
+        config.setAllowedOrigins(List.of("http://localhost:3000", "http://localhost:3001/"));
+        config.setAllowedMethods(List.of("GET", "POST", "OPTIONS"));
+        config.setAllowedHeaders(List.of("Content-Type", "Authorization"));
+        config.setAllowCredentials(true);
+        config.setMaxAge(3600L);
+        registry = new SimpleMeterRegistry();
+        processor = new PrecomputedCorsProcessor(config, 100, registry);
+    }
+
+    @Test
+    void preflight_fromAllowedOrigin_setsPrecomputedHeaders() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean allowed = processor.processRequest(config, preflight("http://localhost:3001", "POST", "content-type"), response);
+
+        assertThat(allowed).isTrue();
+        assertThat(response.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN)).isEqualTo("http://localhost:3001");
+        assertThat(response.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS)).isEqualTo("GET, POST, OPTIONS");
+        assertThat(response.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS)).isEqualTo("Content-Type, Authorization");
+        assertThat(response.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS)).isEqualTo("true");
+        assertThat(response.getHeader(HttpHeaders.ACCESS_CONTROL_MAX_AGE)).isEqualTo("3600");
+        assertThat(registry.counter("cors.preflight", "result", "allowed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void preflight_repeated_isServedFromCache() throws Exception {
+        processor.processRequest(config, preflight("http://localhost:3000", "GET", null), new MockHttpServletResponse());
+        processor.processRequest(config, preflight("http://localhost:3000", "GET", null), new MockHttpServletResponse());
+
+        assertThat(registry.counter("cors.preflight.cache.hits").count()).isEqualTo(1.0);
+        assertThat(registry.counter("cors.preflight", "result", "allowed").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void preflight_withDisallowedMethodOrHeader_isRejected() throws Exception {
+        MockHttpServletResponse methodResponse = new MockHttpServletResponse();
+        MockHttpServletResponse headerResponse = new MockHttpServletResponse();
+
+        assertThat(processor.processRequest(config, preflight("http://localhost:3000", "DELETE", null), methodResponse)).isFalse();
+        assertThat(processor.processRequest(config, preflight("http://localhost:3000", "GET", "X-Custom"), headerResponse)).isFalse();
+
+        assertThat(methodResponse.getStatus()).isEqualTo(403);
+        assertThat(headerResponse.getStatus()).isEqualTo(403);
+        assertThat(registry.counter("cors.preflight", "result", "rejected").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void request_fromUnknownOrigin_isRejected() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/graphql");
+        request.addHeader(HttpHeaders.ORIGIN, "https://evil.example");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(processor.processRequest(config, request, response)).isFalse();
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(response.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN)).isNull();
+        assertThat(registry.counter("cors.requests", "result", "rejected").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void sameOriginRequest_isPassedThroughWithVary() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/graphql");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(processor.processRequest(config, request, response)).isTrue();
+        assertThat(response.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN)).isNull();
+        assertThat(response.getHeader(HttpHeaders.VARY))
+                .isEqualTo("Origin, Access-Control-Request-Method, Access-Control-Request-Headers");
+    }
+
+    @Test
+    void varyValues_areMergedWithExistingOnes() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/public/content");
+        request.addHeader(HttpHeaders.ORIGIN, "http://localhost:3001");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setHeader(HttpHeaders.VARY, "Accept-Encoding");
+
+        processor.processRequest(config, request, response);
+        VaryHeaders.merge(response, HttpHeaders.ACCEPT_ENCODING, HttpHeaders.ORIGIN);
+
+        assertThat(response.getHeaders(HttpHeaders.VARY)).containsExactly(
+                "Accept-Encoding, Origin, Access-Control-Request-Method, Access-Control-Request-Headers");
+    }
+
+    private static MockHttpServletRequest preflight(String origin, String method, String headers) {
+        MockHttpServletRequest request = new MockHttpServletRequest("OPTIONS", "/graphql");
+        request.addHeader(HttpHeaders.ORIGIN, origin);
+        request.addHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, method);
+        if (headers != null) {
+            request.addHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS, headers);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,65 @@
+package com.tobyresume.backend.security.jwt;
+
+import com.tobyresume.backend.config.AppSecurityProperties;
+import com.tobyresume.backend.security.AuthPrincipal;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtPrincipalCacheTest {
+
+    private static final String SECRET = "test-jwt-secret-at-least-32-characters-long";
+
+    private final JwtTokenProvider provider = new JwtTokenProvider(SECRET, 3600000L, new SimpleMeterRegistry());
+    private final JwtPrincipalCache cache = new JwtPrincipalCache(properties(100));
+
+    @Test
+    void get_returnsPrincipal_afterPutWithFutureExp() {
+        String token = provider.generateToken("a@b.c", "Toby", "google", "ADMIN");
+        Claims claims = provider.parseAndValidate(token);
+        AuthPrincipal principal = new AuthPrincipal("a@b.c", "Toby", "ADMIN", "google", "jti-1");
+
+        cache.put(token, principal, claims.getExpiration());
+
+        assertThat(cache.get(token)).isEqualTo(principal);
+        assertThat(cache.get(token + "x")).isNull();
+    }
+
+    @Test
+    void get_returnsNull_whenTokenAlreadyExpired() {
+        AuthPrincipal principal = new AuthPrincipal("a@b.c", "Toby", "ADMIN", "google", "jti-1");
+
+        cache.put("expired-token", principal, new Date(System.currentTimeMillis() - 1000));
+
+        assertThat(cache.get("expired-token")).isNull();
+    }
+
+    @Test
+    void invalidate_removesEntry() {
+        AuthPrincipal principal = new AuthPrincipal("a@b.c", "Toby", "ADMIN", "google", "jti-1");
+        cache.put("token", principal, new Date(System.currentTimeMillis() + 60000));
+
+        cache.invalidate("token");
+
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    void parseAndValidate_reusesParser_acrossCalls() {
+        String token = provider.generateToken("a@b.c", "Toby", "github", null);
+
+        assertThat(provider.getRole(provider.parseAndValidate(token))).isEqualTo("ADMIN");
+        assertThat(provider.getProvider(provider.parseAndValidate(token))).isEqualTo("github");
+        assertThat(provider.parseAndValidate(token + "tampered")).isNull();
+    }
+
+    private static AppSecurityProperties properties(long maxEntries) {
+        AppSecurityProperties properties = new AppSecurityProperties();
+        properties.getJwt().setCacheMaxEntries(maxEntries);
+        return properties;
+    }
+}
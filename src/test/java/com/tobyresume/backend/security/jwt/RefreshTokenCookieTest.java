@@ -0,0 +1,44 @@
+package com.tobyresume.backend.security.jwt;
+
+import com.tobyresume.backend.config.AppSecurityProperties;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RefreshTokenCookieTest {
+
+    private final RefreshTokenCookie cookie = new RefreshTokenCookie(new AppSecurityProperties());
+
+    @Test
+    void write_setsHttpOnlySecureStrictCookieOnRefreshPath() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        cookie.write(response, "opaque");
+
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE))
+                .startsWith("refresh_token=opaque")
+                .contains("Path=/api/v1/auth/refresh", "HttpOnly", "Secure", "SameSite=Strict", "Max-Age=1209600");
+    }
+
+    @Test
+    void clear_expiresCookie() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        cookie.clear(response);
+
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).contains("Max-Age=0", "Path=/api/v1/auth/refresh");
+    }
+
+    @Test
+    void read_returnsCookieValueOrNull() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        assertThat(cookie.read(request)).isNull();
+
+        request.setCookies(new Cookie("other", "x"), new Cookie(RefreshTokenCookie.NAME, "opaque"));
+        assertThat(cookie.read(request)).isEqualTo("opaque");
+    }
+}
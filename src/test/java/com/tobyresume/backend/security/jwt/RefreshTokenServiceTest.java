@@ -0,0 +1,134 @@
+package com.tobyresume.backend.security.jwt;
+
+import com.tobyresume.backend.common.exception.UnauthorizedException;
+import com.tobyresume.backend.common.util.Hashing;
+import com.tobyresume.backend.config.AppSecurityProperties;
+import com.tobyresume.backend.security.AuthPrincipal;
+import com.tobyresume.backend.security.jwt.model.RefreshToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository repository;
+
+    @Mock
+    private TokenRevocationList revocationList;
+
+    private RefreshTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        JwtTokenProvider provider = new JwtTokenProvider("test-jwt-secret-at-least-32-characters-long", 900000L,
+                new SimpleMeterRegistry());
+        service = new RefreshTokenService(repository, provider, revocationList, new AppSecurityProperties());
+    }
+
+    @Test
+    void issue_storesOnlyHashOfRefreshToken() {
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+
+        RefreshTokenService.IssuedTokens tokens = service.issue("a@b.c", "Toby", "google", "ADMIN");
+
+        verify(repository).save(captor.capture());
+        RefreshToken saved = captor.getValue();
+        assertThat(tokens.accessToken()).isNotBlank();
+        assertThat(saved.getTokenHash()).isEqualTo(Hashing.sha256Base64Url(tokens.refreshToken()));
+        assertThat(saved.getTokenHash()).isNotEqualTo(tokens.refreshToken());
+        assertThat(saved.getExpiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    void rotate_revokesPresentedToken_andIssuesNewPairInSameFamily() {
+        RefreshToken current = activeToken("raw-1", "family-1");
+        when(repository.findByTokenHash(Hashing.sha256Base64Url("raw-1"))).thenReturn(current);
+
+        RefreshTokenService.IssuedTokens tokens = service.rotate("raw-1");
+
+        assertThat(current.getRevokedAt()).isNotNull();
+        assertThat(tokens.refreshToken()).isNotEqualTo("raw-1");
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(repository, times(2)).save(captor.capture());
+        assertThat(captor.getAllValues().get(1).getFamilyId()).isEqualTo("family-1");
+    }
+
+    @Test
+    void rotate_withAlreadyRotatedToken_revokesFamily() {
+        RefreshToken reused = activeToken("raw-1", "family-1");
+        reused.setRevokedAt(Instant.now().minusSeconds(10));
+        RefreshToken sibling = activeToken("raw-2", "family-1");
+        when(repository.findByTokenHash(Hashing.sha256Base64Url("raw-1"))).thenReturn(reused);
+        when(repository.findByFamilyIdAndRevokedAtIsNull("family-1")).thenReturn(List.of(sibling));
+
+        assertThatThrownBy(() -> service.rotate("raw-1")).isInstanceOf(UnauthorizedException.class);
+
+        assertThat(sibling.getRevokedAt()).isNotNull();
+        verify(repository).saveAll(List.of(sibling));
+    }
+
+    @Test
+    void rotate_throws_whenTokenUnknown() {
+        assertThatThrownBy(() -> service.rotate("nope")).isInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    void logout_revokesAccessTokenId() {
+        service.logout(new AuthPrincipal("a@b.c", "Toby", "ADMIN", "google", "jti-1"), null);
+
+        verify(revocationList).revoke(eq("jti-1"), any(Instant.class));
+    }
+
+    @Test
+    void logout_withoutRefreshToken_revokesAllSessionsOfCaller() {
+        RefreshToken browser = activeToken("raw-1", "family-1");
+        RefreshToken phone = activeToken("raw-2", "family-2");
+        when(repository.findBySubjectAndRevokedAtIsNull("a@b.c")).thenReturn(List.of(browser, phone));
+
+        service.logout(new AuthPrincipal("a@b.c", "Toby", "ADMIN", "google", "jti-1"), null);
+
+        assertThat(browser.getRevokedAt()).isNotNull();
+        assertThat(phone.getRevokedAt()).isNotNull();
+        verify(repository).saveAll(List.of(browser, phone));
+    }
+
+    @Test
+    void logout_withRefreshToken_revokesOnlyItsFamily() {
+        RefreshToken current = activeToken("raw-1", "family-1");
+        when(repository.findByTokenHash(Hashing.sha256Base64Url("raw-1"))).thenReturn(current);
+        when(repository.findByFamilyIdAndRevokedAtIsNull("family-1")).thenReturn(List.of(current));
+
+        service.logout(new AuthPrincipal("a@b.c", "Toby", "ADMIN", "google", "jti-1"), "raw-1");
+
+        assertThat(current.getRevokedAt()).isNotNull();
+        verify(repository, never()).findBySubjectAndRevokedAtIsNull(any());
+    }
+
+    private static RefreshToken activeToken(String raw, String familyId) {
+        RefreshToken token = new RefreshToken();
+        token.setTokenHash(Hashing.sha256Base64Url(raw));
+        token.setFamilyId(familyId);
+        token.setSubject("a@b.c");
+        token.setRole("ADMIN");
+        token.setExpiresAt(Instant.now().plusSeconds(3600));
+        return token;
+    }
+}
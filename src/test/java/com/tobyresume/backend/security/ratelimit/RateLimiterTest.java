@@ -0,0 +1,67 @@
+package com.tobyresume.backend.security.ratelimit;
+
+import com.tobyresume.backend.config.RateLimitProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private static RateLimiter limiter(long capacity, long routeCapacity) {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setName("contact");
+        rule.setPaths(List.of("/api/public/contact"));
+        rule.setCapacity(capacity);
+        rule.setRouteCapacity(routeCapacity);
+        rule.setRefillPeriod(Duration.ofHours(1));
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rule));
+        return new RateLimiter(properties);
+    }
+
+    @Test
+    void check_clientOverItsLimitDoesNotDrainRouteBudget() {
+        RateLimiter limiter = limiter(5, 10);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.check("/api/public/contact", "10.0.0.1");
+        }
+
+        RateLimiter.Decision other = limiter.check("/api/public/contact", "10.0.0.2");
+        assertThat(other.allowed()).isTrue();
+    }
+
+    @Test
+    void check_routeRejectionReportsRouteCapacity() {
+        RateLimiter limiter = limiter(5, 2);
+        limiter.check("/api/public/contact", "10.0.0.1");
+        limiter.check("/api/public/contact", "10.0.0.2");
+
+        RateLimiter.Decision decision = limiter.check("/api/public/contact", "10.0.0.3");
+
+        assertThat(decision.allowed()).isFalse();
+        assertThat(decision.limit()).isEqualTo(2);
+        assertThat(decision.retryAfterNanos()).isPositive();
+    }
+
+    @Test
+    void check_routeRejectionDoesNotSpendClientToken() {
+        RateLimiter limiter = limiter(3, 1);
+        limiter.check("/api/public/contact", "10.0.0.1");
+
+        // Without the refund the fourth attempt would hit the client's own limit of 3 instead.
+        for (int i = 0; i < 10; i++) {
+            RateLimiter.Decision decision = limiter.check("/api/public/contact", "10.0.0.2");
+            assertThat(decision.allowed()).isFalse();
+            assertThat(decision.limit()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void check_unmatchedPath_returnsNull() {
+        assertThat(limiter(5, 0).check("/api/public/other", "10.0.0.1")).isNull();
+    }
+}
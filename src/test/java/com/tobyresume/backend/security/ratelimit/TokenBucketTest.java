@@ -0,0 +1,74 @@
+package com.tobyresume.backend.security.ratelimit;
+
+import com.tobyresume.backend.config.RateLimitProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    @Test
+    void tryConsume_allowsBurstUpToCapacity_thenRejects() {
+        TokenBucket bucket = new TokenBucket(3, MINUTE, 0L);
+
+        assertThat(bucket.tryConsume(0L)).isZero();
+        assertThat(bucket.tryConsume(0L)).isZero();
+        assertThat(bucket.tryConsume(0L)).isZero();
+        assertThat(bucket.tryConsume(0L)).isPositive();
+        assertThat(bucket.available(0L)).isZero();
+    }
+
+    @Test
+    void tryConsume_refillsOneTokenPerInterval() {
+        TokenBucket bucket = new TokenBucket(2, MINUTE, 0L);
+        bucket.tryConsume(0L);
+        bucket.tryConsume(0L);
+
+        long wait = bucket.tryConsume(0L);
+        assertThat(wait).isEqualTo(MINUTE / 2);
+
+        assertThat(bucket.tryConsume(MINUTE / 2)).isZero();
+        assertThat(bucket.tryConsume(MINUTE / 2)).isPositive();
+        assertThat(bucket.available(MINUTE * 5)).isEqualTo(2);
+    }
+
+    @Test
+    void refund_returnsOneToken_butNeverBeyondCapacity() {
+        TokenBucket bucket = new TokenBucket(2, MINUTE, 0L);
+        bucket.tryConsume(0L);
+        bucket.tryConsume(0L);
+
+        bucket.refund(0L);
+        assertThat(bucket.available(0L)).isEqualTo(1);
+
+        bucket.refund(0L);
+        bucket.refund(0L);
+        assertThat(bucket.available(0L)).isEqualTo(2);
+        assertThat(bucket.tryConsume(0L)).isZero();
+        assertThat(bucket.tryConsume(0L)).isZero();
+        assertThat(bucket.tryConsume(0L)).isPositive();
+    }
+
+    @Test
+    void rateLimiter_keepsSeparateBucketsPerClient_andIgnoresUnmatchedPaths() {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setName("graphql");
+        rule.setPaths(List.of("/graphql"));
+        rule.setCapacity(1);
+        rule.setRefillPeriod(Duration.ofMinutes(1));
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rule));
+        RateLimiter limiter = new RateLimiter(properties);
+
+        assertThat(limiter.check("/graphql", "1.1.1.1").allowed()).isTrue();
+        assertThat(limiter.check("/graphql", "1.1.1.1").allowed()).isFalse();
+        assertThat(limiter.check("/graphql", "2.2.2.2").allowed()).isTrue();
+        assertThat(limiter.check("/api/v1/hero", "1.1.1.1")).isNull();
+    }
+}
@@ -10,6 +10,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -29,6 +30,9 @@ class SettingsServiceTest {
     @Mock
     private SettingsMapper mapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private SettingsService settingsService;
 
@@ -118,6 +122,7 @@ class SettingsServiceTest {
 
         assertThat(result).isSameAs(response);
         verify(repository).save(entity);
+        verify(eventPublisher).publishEvent(any(SettingsChangedEvent.class));
         assertThat(entity.getDefaultLocale()).isEqualTo("vi");
     }
 }
@@ -0,0 +1,64 @@
+package com.tobyresume.backend.tailoring;
+
+import com.tobyresume.backend.common.util.TextAnalyzer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DraftIndexTest {
+
+    @Test
+    void tokenize_keepsTechNames_dropsStopWordsAndAccents() {
+        assertThat(TextAnalyzer.tokenize("Experience with C++, C#, Node.js and .NET; 5 years in the Đà Nẵng office."))
+                .containsExactly("experience", "c++", "c#", "node.js", ".net", "da", "nang", "office");
+    }
+
+    @Test
+    void search_ranksByBm25_withinEachKind() {
+        DraftIndex index = DraftIndex.builder()
+                .add(DraftIndex.Kind.EXPERIENCE, "backend", "Backend engineer",
+                        TextAnalyzer.tokenize("Built Kafka pipelines in Java and Spring Boot services on Kubernetes"))
+                .add(DraftIndex.Kind.EXPERIENCE, "frontend", "Frontend engineer",
+                        TextAnalyzer.tokenize("React and TypeScript dashboards with design system components"))
+                .add(DraftIndex.Kind.PROJECT, "cli", "CLI", TextAnalyzer.tokenize("A Rust command line tool"))
+                .add(DraftIndex.Kind.SKILL, "lang:0", "Java", TextAnalyzer.tokenize("Java"))
+                .add(DraftIndex.Kind.SKILL, "lang:1", "React", TextAnalyzer.tokenize("React"))
+                .build();
+
+        Map<DraftIndex.Kind, List<DraftIndex.Hit>> hits = index.search(Map.of("java", 1.0, "kafka", 1.0, "spring", 1.0));
+
+        assertThat(hits.get(DraftIndex.Kind.EXPERIENCE)).extracting(h -> h.doc().id()).containsExactly("backend", "frontend");
+        assertThat(hits.get(DraftIndex.Kind.EXPERIENCE).get(0).matchedTerms()).containsExactlyInAnyOrder("java", "kafka", "spring");
+        assertThat(hits.get(DraftIndex.Kind.EXPERIENCE).get(1).score()).isZero();
+        assertThat(hits.get(DraftIndex.Kind.SKILL)).extracting(h -> h.doc().label()).containsExactly("Java", "React");
+        assertThat(hits.get(DraftIndex.Kind.PROJECT)).hasSize(1);
+    }
+
+    @Test
+    void idf_isHigherForRarerTerms() {
+        DraftIndex index = DraftIndex.builder()
+                .add(DraftIndex.Kind.PROJECT, "a", "A", List.of("java", "graphql"))
+                .add(DraftIndex.Kind.PROJECT, "b", "B", List.of("java"))
+                .add(DraftIndex.Kind.PROJECT, "c", "C", List.of("java"))
+                .build();
+
+        assertThat(index.idf("graphql")).isGreaterThan(index.idf("java"));
+        assertThat(index.contains("python")).isFalse();
+    }
+
+    @Test
+    void search_longerDocumentWithSameTf_scoresLower() {
+        DraftIndex index = DraftIndex.builder()
+                .add(DraftIndex.Kind.PROJECT, "short", "Short", List.of("graphql", "api"))
+                .add(DraftIndex.Kind.PROJECT, "long", "Long", List.of("graphql", "api", "x1", "x2", "x3", "x4", "x5", "x6"))
+                .build();
+
+        List<DraftIndex.Hit> hits = index.search(Map.of("graphql", 1.0)).get(DraftIndex.Kind.PROJECT);
+
+        assertThat(hits.get(0).doc().id()).isEqualTo("short");
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+}
@@ -0,0 +1,152 @@
+package com.tobyresume.backend.translation;
+
+import com.tobyresume.backend.common.exception.TranslationFailedException;
+import com.tobyresume.backend.common.exception.ValidationException;
+import com.tobyresume.backend.config.TranslationProperties;
+import com.tobyresume.backend.translation.TranslationService.TranslationResult;
+import com.tobyresume.backend.translation.model.TranslationMemoryEntry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TranslationServiceTest {
+
+    @Mock
+    private TranslationMemoryRepository memoryRepository;
+
+    private final Map<String, TranslationMemoryEntry> memory = new ConcurrentHashMap<>();
+    private final RecordingProvider provider = new RecordingProvider();
+    private TranslationProperties properties;
+    private TranslationService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(memoryRepository.findAllById(anyIterable())).thenAnswer(inv -> {
+            Iterable<String> ids = inv.getArgument(0);
+            return StreamSupport.stream(ids.spliterator(), false)
+                    .map(memory::get).filter(e -> e != null).toList();
+        });
+        when(memoryRepository.saveAll(any(Iterable.class))).thenAnswer(inv -> {
+            Iterable<TranslationMemoryEntry> entries = inv.getArgument(0);
+            entries.forEach(e -> memory.put(e.getId(), e));
+            return entries;
+        });
+        properties = new TranslationProperties();
+        service = new TranslationService(provider, memoryRepository, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void translate_batchesDistinctStrings_andKeepsInputOrder() {
+        TranslationResult result = service.translate(List.of("Hello", "", "World", "Hello"), "en", "vi");
+
+        assertThat(result.translations()).containsExactly("[vi] Hello", "", "[vi] World", "[vi] Hello");
+        assertThat(provider.calls).containsExactly(List.of("Hello", "World"));
+        assertThat(result.fromProvider()).isEqualTo(2);
+    }
+
+    @Test
+    void translate_onlySendsChangedStrings_onRetranslate() {
+        service.translate(List.of("Led a team", "Built the API"), "en", "vi");
+
+        TranslationResult result = service.translate(List.of("Led a team", "Built the new API"), "en", "vi");
+
+        assertThat(provider.calls).hasSize(2);
+        assertThat(provider.calls.get(1)).containsExactly("Built the new API");
+        assertThat(result.fromMemory()).isEqualTo(1);
+        assertThat(result.fromProvider()).isEqualTo(1);
+    }
+
+    @Test
+    void translate_splitsBatchesBySizeAndChars() {
+        properties.setMaxBatchSize(2);
+        properties.setMaxBatchChars(10);
+
+        service.translate(List.of("a", "b", "c", "0123456789"), "en", "vi");
+
+        assertThat(provider.calls).containsExactly(List.of("a", "b"), List.of("c"), List.of("0123456789"));
+    }
+
+    @Test
+    void translate_coalescesConcurrentIdenticalRequests() throws Exception {
+        provider.gate = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<TranslationResult> first = pool.submit(() -> service.translate(List.of("Same"), "en", "vi"));
+            assertThat(provider.entered.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<TranslationResult> second = pool.submit(() -> service.translate(List.of("Same"), "en", "vi"));
+            Thread.sleep(100);
+            provider.gate.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS).translations()).containsExactly("[vi] Same");
+            assertThat(second.get(5, TimeUnit.SECONDS).translations()).containsExactly("[vi] Same");
+            assertThat(provider.calls).hasSize(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void translate_providerFailure_throwsAndRemembersNothing() {
+        provider.fail = true;
+
+        assertThatThrownBy(() -> service.translate(List.of("Hello"), "en", "vi"))
+                .isInstanceOf(TranslationFailedException.class);
+        assertThat(memory).isEmpty();
+    }
+
+    @Test
+    void translate_rejectsUnsupportedOrSameLocale() {
+        assertThatThrownBy(() -> service.translate(List.of("x"), "en", "fr")).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> service.translate(List.of("x"), "en", "en")).isInstanceOf(ValidationException.class);
+    }
+
+    private static class RecordingProvider extends StubTranslationProvider {
+        final List<List<String>> calls = new CopyOnWriteArrayList<>();
+        final CountDownLatch entered = new CountDownLatch(1);
+        volatile CountDownLatch gate;
+        volatile boolean fail;
+
+        @Override
+        public List<String> translate(List<String> texts, String sourceLocale, String targetLocale) {
+            calls.add(new ArrayList<>(texts));
+            entered.countDown();
+            if (gate != null) {
+                try {
+                    gate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (fail) {
+                throw new IllegalStateException("provider down");
+            }
+            return super.translate(texts, sourceLocale, targetLocale);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.tobyresume.backend.translation.bulk;
+
+import com.tobyresume.backend.common.exception.TranslationFailedException;
+import com.tobyresume.backend.common.exception.ValidationException;
+import com.tobyresume.backend.config.TranslationProperties;
+import com.tobyresume.backend.content.ContentChangedEvent;
+import com.tobyresume.backend.content.experience.model.WorkExperience;
+import com.tobyresume.backend.content.hero.model.Hero;
+import com.tobyresume.backend.translation.TranslationService;
+import com.tobyresume.backend.translation.TranslationService.TranslationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DraftTranslationRunnerTest {
+
+    @Mock
+    private DraftLocalizedFields draftFields;
+
+    @Mock
+    private TranslationService translationService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TranslationProperties properties;
+    private DraftTranslationRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TranslationProperties();
+        properties.setMaxBatchSize(2);
+        properties.setBulkConcurrency(2);
+        runner = new DraftTranslationRunner(draftFields, translationService, properties, eventPublisher);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        runner.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void run_translatesInBoundedChunks_andWritesEachSectionOnce() {
+        LocalizedField bio = heroField("bio", "Hello");
+        LocalizedField tagline = heroField("tagline", "Builder");
+        LocalizedField bullets = new LocalizedField("experiences", WorkExperience.class, "exp", "items", "itemId", "i1",
+                "bulletPoints", List.of("Led", "Built"), true);
+        LocalizedField role = new LocalizedField("experiences", WorkExperience.class, "exp", "items", "itemId", "i1",
+                "role", List.of("Engineer"), false);
+        when(draftFields.findMissing("en", "vi")).thenReturn(List.of(bio, tagline, bullets, role));
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        when(translationService.translate(anyList(), eq("en"), eq("vi"))).thenAnswer(inv -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            concurrent.decrementAndGet();
+            List<String> texts = inv.getArgument(0);
+            return new TranslationResult(texts.stream().map(t -> "vi:" + t).toList(), 0, texts.size());
+        });
+        when(draftFields.write(anyList(), anyList(), eq("vi"))).thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+
+        DraftTranslationJob job = new DraftTranslationJob("job-1", "en", "vi");
+        runner.run(job, "en", "vi");
+
+        ArgumentCaptor<List<LocalizedField>> fields = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<List<String>>> values = ArgumentCaptor.forClass(List.class);
+        verify(draftFields, times(2)).write(fields.capture(), values.capture(), eq("vi"));
+        assertThat(fields.getAllValues().get(0)).containsExactly(bio, tagline);
+        assertThat(values.getAllValues().get(0)).containsExactly(List.of("vi:Hello"), List.of("vi:Builder"));
+        assertThat(fields.getAllValues().get(1)).containsExactly(bullets, role);
+        assertThat(values.getAllValues().get(1)).containsExactly(List.of("vi:Led", "vi:Built"), List.of("vi:Engineer"));
+        // bullets (2 strings) and role go in separate chunks of at most 2 strings
+        verify(translationService, times(3)).translate(anyList(), eq("en"), eq("vi"));
+        assertThat(maxConcurrent.get()).isLessThanOrEqualTo(2);
+        verify(eventPublisher).publishEvent(new ContentChangedEvent(Hero.class));
+        verify(eventPublisher).publishEvent(new ContentChangedEvent(WorkExperience.class));
+        assertThat(job.snapshot().getStatus()).isEqualTo("SUCCEEDED");
+        assertThat(job.snapshot().getTranslatedFields()).isEqualTo(4);
+        assertThat(job.snapshot().getWrittenFields()).isEqualTo(4);
+    }
+
+    @Test
+    void run_providerFailure_failsJob_withoutWritingThatSection() {
+        when(draftFields.findMissing("en", "vi")).thenReturn(List.of(heroField("bio", "Hello")));
+        when(translationService.translate(anyList(), any(), any()))
+                .thenThrow(new TranslationFailedException("provider down"));
+
+        DraftTranslationJob job = new DraftTranslationJob("job-2", "en", "vi");
+        runner.run(job, "en", "vi");
+
+        verify(draftFields, never()).write(anyList(), anyList(), any());
+        assertThat(job.snapshot().getStatus()).isEqualTo("FAILED");
+        assertThat(job.snapshot().getError()).isEqualTo("provider down");
+    }
+
+    @Test
+    void start_rejectsSameLocale() {
+        assertThatThrownBy(() -> runner.start("en", "en")).isInstanceOf(ValidationException.class);
+    }
+
+    private static LocalizedField heroField(String field, String text) {
+        return new LocalizedField("hero", Hero.class, "hero", null, null, null, field, new ArrayList<>(List.of(text)), false);
+    }
+}
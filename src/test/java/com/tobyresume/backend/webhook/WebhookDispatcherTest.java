@@ -0,0 +1,99 @@
+package com.tobyresume.backend.webhook;
+
+import com.sun.net.httpserver.HttpServer;
+import com.tobyresume.backend.config.WebhookProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebhookDispatcherTest {
+
+    private HttpServer server;
+    private WebhookDispatcher dispatcher;
+    private final Map<String, String> signatures = new ConcurrentHashMap<>();
+    private final Map<String, String> bodies = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> {
+            bodies.put("ok", new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            String signature = exchange.getRequestHeaders().getFirst(WebhookDispatcher.SIGNATURE_HEADER);
+            if (signature != null) {
+                signatures.put("ok", signature);
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.createContext("/fail", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        server.start();
+
+        WebhookProperties properties = new WebhookProperties();
+        properties.setConnectTimeout(Duration.ofSeconds(2));
+        properties.setReadTimeout(Duration.ofSeconds(2));
+        properties.setConcurrency(2);
+        dispatcher = new WebhookDispatcher(properties);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        server.stop(0);
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void dispatch_signsBodyAndReportsEachEndpoint() {
+        String body = "{\"event\":\"content.published\",\"versionId\":\"v1\"}";
+        Map<String, WebhookDispatcher.Result> results = dispatcher.dispatch(
+                List.of(endpoint("ok", "/ok", "s3cret"), endpoint("fail", "/fail", null)),
+                "content.published", "v1", body);
+
+        assertThat(results.get("ok").delivered()).isTrue();
+        assertThat(results.get("fail").delivered()).isFalse();
+        assertThat(results.get("fail").status()).isEqualTo(500);
+        assertThat(bodies.get("ok")).isEqualTo(body);
+        assertThat(signatures.get("ok")).isEqualTo("sha256=" + WebhookDispatcher.sign("s3cret", body));
+    }
+
+    @Test
+    void dispatch_unreachableEndpoint_isFailureWithoutStatus() {
+        WebhookProperties.Endpoint endpoint = new WebhookProperties.Endpoint();
+        endpoint.setUrl("http://127.0.0.1:1/hook");
+
+        WebhookDispatcher.Result result = dispatcher.dispatch(List.of(endpoint), "content.published", "v1", "{}")
+                .get("http://127.0.0.1:1/hook");
+
+        assertThat(result.delivered()).isFalse();
+        assertThat(result.status()).isZero();
+        assertThat(result.error()).isNotBlank();
+    }
+
+    @Test
+    void sign_matchesKnownHmac() {
+        // RFC 4231 test case 2
+        assertThat(WebhookDispatcher.sign("Jefe", "what do ya want for nothing?"))
+                .isEqualTo("5bdcc146bf60754e6a042426089575c75a003f089d2739839dec58b964ec3843");
+    }
+
+    private WebhookProperties.Endpoint endpoint(String name, String path, String secret) {
+        WebhookProperties.Endpoint endpoint = new WebhookProperties.Endpoint();
+        endpoint.setName(name);
+        endpoint.setUrl("http://127.0.0.1:" + server.getAddress().getPort() + path);
+        endpoint.setSecret(secret);
+        return endpoint;
+    }
+}